@@ -5,11 +5,19 @@ import core.petri.grammar.GitHubActionsParser;
 import core.petri.grammar.IntentToPetriMapper;
 import core.petri.grammar.RuleEngine;
 import core.petri.simulation.PetriTokenSimulator;
+import core.petri.simulation.SimulationSessionRegistry;
+import core.petri.validation.IncrementalValidator;
 import core.petri.validation.PetriNetValidator;
 import core.petri.validation.SimplePetriNetValidator;
+import core.petri.validation.ValidationResultCache;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 /**
  * Spring configuration for Petri Net components.
  *
@@ -18,7 +26,9 @@ import org.springframework.context.annotation.Configuration;
  * - IntentToPetriMapper: Maps intent steps to Petri net elements
  * - RuleEngine: Applies transformation rules for complex patterns
  * - PetriNetValidator: Validates Petri net structural integrity
+ * - IncrementalValidator: Re-validates nets after editor changes, reusing unaffected results
  * - PetriTokenSimulator: Simulates token flow through Petri nets
+ * - SimulationSessionRegistry: Keeps concurrent simulation sessions addressable by ID
  */
 @Configuration
 public class PetriConfiguration {
@@ -48,11 +58,40 @@ public class PetriConfiguration {
     }
 
     /**
-     * Petri Net validator using PetriNetValidator implementation
+     * Cache of validation results keyed by net content and validation config,
+     * with an optional shared second tier (Redis)
+     */
+    @Bean
+    @ConditionalOnProperty(name = "obvian.petri.validation-cache.enabled", havingValue = "true", matchIfMissing = true)
+    public ValidationResultCache validationResultCache(
+            @Value("${obvian.petri.validation-cache.maximum-size:10000}") long maximumSize,
+            @Value("${obvian.petri.validation-cache.ttl:PT1H}") Duration ttl,
+            ObjectProvider<ValidationResultCache.SecondTier> secondTier) {
+        return new ValidationResultCache(maximumSize, ttl, secondTier.getIfAvailable());
+    }
+
+    /**
+     * Petri Net validator using PetriNetValidator implementation, cached when the result cache is enabled.
+     * Bitstate tables live on the heap, so requests for larger tables than the maximum are rejected,
+     * and so are requests while concurrent validations already hold the total.
+     */
+    @Bean
+    public PetriNetValidator petriNetValidator(
+            ObjectProvider<ValidationResultCache> resultCache,
+            @Value("${obvian.validation.bitstate.max-memory-mb:256}") int maxBitstateMemoryMb,
+            @Value("${obvian.validation.bitstate.total-memory-mb:1024}") int totalBitstateMemoryMb) {
+        return new PetriNetValidator(resultCache.getIfAvailable(), maxBitstateMemoryMb, totalBitstateMemoryMb);
+    }
+
+    /**
+     * Incremental validator keeping recently validated nets as bases for editor changes
      */
     @Bean
-    public PetriNetValidator petriNetValidator() {
-        return new PetriNetValidator();
+    public IncrementalValidator incrementalValidator(
+            PetriNetValidator petriNetValidator,
+            @Value("${obvian.petri.incremental-validation.maximum-size:1000}") long maximumSize,
+            @Value("${obvian.petri.incremental-validation.ttl:PT30M}") Duration ttl) {
+        return new IncrementalValidator(petriNetValidator, maximumSize, ttl);
     }
 
     /**
@@ -63,6 +102,18 @@ public class PetriConfiguration {
         return new PetriTokenSimulator();
     }
 
+    /**
+     * Registry of open simulation sessions, each with its own state, seed and controls,
+     * stopped and dropped when unused for the time to live
+     */
+    @Bean
+    public SimulationSessionRegistry simulationSessionRegistry(
+            PetriTokenSimulator petriTokenSimulator,
+            @Value("${obvian.petri.simulation-sessions.maximum-size:1000}") int maximumSize,
+            @Value("${obvian.petri.simulation-sessions.ttl:PT30M}") Duration ttl) {
+        return new SimulationSessionRegistry(petriTokenSimulator, maximumSize, ttl);
+    }
+
     /**
      * GitHub Actions parser for workflow YAML parsing
      */
@@ -1,16 +1,24 @@
 package api.controller;
 
 import api.dto.*;
+import api.service.SimulationPlaybackService;
 import core.PromptParser;
 import core.DAG;
 import core.TaskNode;
 import core.petri.*;
 import core.petri.grammar.AutomationGrammar;
 import core.petri.projection.PetriToDagProjector;
+import core.petri.simulation.NdjsonTraceSink;
 import core.petri.simulation.PetriTokenSimulator;
 import core.petri.simulation.SimulationConfig;
 import core.petri.simulation.SimulationResult;
+import core.petri.simulation.SimulationSession;
+import core.petri.simulation.SimulationSessionRegistry;
+import core.petri.simulation.SimulationStatistics;
+import core.petri.simulation.SimulationStepResult;
+import core.petri.simulation.TimedSimulationResult;
 import core.petri.simulation.TraceEvent;
+import core.petri.validation.IncrementalValidator;
 import core.petri.validation.PetriNetValidator;
 // Temporarily disabled: import core.petri.execution.P3NetExecutionService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -21,9 +29,15 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 
 /**
@@ -37,23 +51,34 @@ public class PetriController {
 
     private static final Logger logger = LoggerFactory.getLogger(PetriController.class);
     private static final String SCHEMA_VERSION = "1.0";
+    private static final int DEFAULT_BATCH_RUNS = 1000;
+    private static final int MAX_BATCH_RUNS = 100_000;
 
     private final PromptParser promptParser;
     private final AutomationGrammar automationGrammar;
     private final PetriNetValidator petriNetValidator;
+    private final IncrementalValidator incrementalValidator;
     private final PetriTokenSimulator petriTokenSimulator;
+    private final SimulationSessionRegistry simulationSessionRegistry;
     private final PetriToDagProjector petriToDagProjector;
+    private final SimulationPlaybackService simulationPlaybackService;
     // Temporarily disabled: private final P3NetExecutionService p3NetExecutionService;
 
     public PetriController(AutomationGrammar automationGrammar,
                           PetriNetValidator petriNetValidator,
+                          IncrementalValidator incrementalValidator,
                           PetriTokenSimulator petriTokenSimulator,
-                          PetriToDagProjector petriToDagProjector) {
+                          SimulationSessionRegistry simulationSessionRegistry,
+                          PetriToDagProjector petriToDagProjector,
+                          SimulationPlaybackService simulationPlaybackService) {
         this.promptParser = new PromptParser();
         this.automationGrammar = automationGrammar;
         this.petriNetValidator = petriNetValidator;
+        this.incrementalValidator = incrementalValidator;
         this.petriTokenSimulator = petriTokenSimulator;
+        this.simulationSessionRegistry = simulationSessionRegistry;
         this.petriToDagProjector = petriToDagProjector;
+        this.simulationPlaybackService = simulationPlaybackService;
     }
 
     /**
@@ -269,6 +294,7 @@ public class PetriController {
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Validation completed (check result for pass/fail status)"),
         @ApiResponse(responseCode = "400", description = "Invalid Petri net structure"),
+        @ApiResponse(responseCode = "409", description = "Bitstate memory budget in use by concurrent validations"),
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     public ResponseEntity<?> validatePetriNet(
@@ -319,6 +345,15 @@ public class PetriController {
                 "message", "Invalid request: " + e.getMessage()
             ));
             return ResponseEntity.badRequest().body(errorResponse);
+        } catch (IllegalStateException e) {
+            logger.warn("Validation rejected: {}", e.getMessage());
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("schemaVersion", SCHEMA_VERSION);
+            errorResponse.put("error", Map.of(
+                "code", "BITSTATE_BUDGET_EXHAUSTED",
+                "message", e.getMessage()
+            ));
+            return ResponseEntity.status(409).body(errorResponse);
         } catch (Exception e) {
             logger.error("Error during Petri net validation", e);
             Map<String, Object> errorResponse = new HashMap<>();
@@ -331,6 +366,99 @@ public class PetriController {
         }
     }
 
+    /**
+     * Re-validate a Petri net after editor changes
+     * POST /api/v1/petri/validate/incremental
+     */
+    @PostMapping("/validate/incremental")
+    @Operation(summary = "Incrementally validate an edited Petri net",
+               description = "Validates a full Petri net, or applies edits to a previously validated net and reuses the results the edits cannot change")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Validation completed (check result for pass/fail status)"),
+        @ApiResponse(responseCode = "400", description = "Invalid Petri net or edit"),
+        @ApiResponse(responseCode = "404", description = "Base net not found or evicted; send the full net"),
+        @ApiResponse(responseCode = "409", description = "Bitstate memory budget in use by concurrent validations"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<?> validatePetriNetIncrementally(
+            @Parameter(description = "Either a full Petri net, or a base net ID with a list of edits", required = true)
+            @Valid @RequestBody Map<String, Object> request) {
+
+        logger.info("Incrementally validating Petri net");
+
+        try {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> configMap = (Map<String, Object>) request.get("config");
+            core.petri.validation.PetriNetValidationResult.ValidationConfig config =
+                    configMap != null ? convertMapToValidationConfig(configMap) : null;
+
+            @SuppressWarnings("unchecked")
+            Map<String, Object> petriNetMap = (Map<String, Object>) request.get("petriNet");
+            IncrementalValidator.Result result;
+            if (petriNetMap != null) {
+                result = incrementalValidator.validate(reconstructPetriNetFromMap(petriNetMap), config);
+            } else {
+                String baseNetId = (String) request.get("baseNetId");
+                @SuppressWarnings("unchecked")
+                List<Map<String, Object>> editMaps = (List<Map<String, Object>>) request.get("edits");
+                if (baseNetId == null || editMaps == null) {
+                    throw new IllegalArgumentException("Either a Petri net or a base net ID with edits is required");
+                }
+                result = incrementalValidator.validate(baseNetId, convertMapsToPetriNetDelta(editMaps), config);
+            }
+
+            core.petri.validation.PetriNetValidationResult validationResult = result.getValidationResult();
+            Map<String, Object> response = new HashMap<>();
+            response.put("schemaVersion", SCHEMA_VERSION);
+            response.put("success", validationResult.isValid());
+            response.put("netId", result.getNetId());
+            response.put("reusedChecks", result.getReusedChecks().stream().map(Enum::name).sorted().toList());
+            response.put("validationResult", convertValidationResultToMap(validationResult));
+
+            logger.info("Incremental validation completed for Petri net: {} - Status: {}, reused checks: {}",
+                    result.getNetId(), validationResult.getPetriStatus(), result.getReusedChecks());
+
+            return ResponseEntity.ok(response);
+
+        } catch (NoSuchElementException e) {
+            logger.warn("Unknown base net for incremental validation: {}", e.getMessage());
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("schemaVersion", SCHEMA_VERSION);
+            errorResponse.put("error", Map.of(
+                "code", "BASE_NET_NOT_FOUND",
+                "message", e.getMessage()
+            ));
+            return ResponseEntity.status(404).body(errorResponse);
+        } catch (IllegalArgumentException e) {
+            logger.error("Invalid incremental validation request", e);
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("schemaVersion", SCHEMA_VERSION);
+            errorResponse.put("error", Map.of(
+                "code", "VALIDATION_ERROR",
+                "message", "Invalid request: " + e.getMessage()
+            ));
+            return ResponseEntity.badRequest().body(errorResponse);
+        } catch (IllegalStateException e) {
+            logger.warn("Incremental validation rejected: {}", e.getMessage());
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("schemaVersion", SCHEMA_VERSION);
+            errorResponse.put("error", Map.of(
+                "code", "BITSTATE_BUDGET_EXHAUSTED",
+                "message", e.getMessage()
+            ));
+            return ResponseEntity.status(409).body(errorResponse);
+        } catch (Exception e) {
+            logger.error("Error during incremental Petri net validation", e);
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("schemaVersion", SCHEMA_VERSION);
+            errorResponse.put("error", Map.of(
+                "code", "VALIDATION_ERROR",
+                "message", "Failed to validate Petri net: " + e.getMessage()
+            ));
+            return ResponseEntity.status(500).body(errorResponse);
+        }
+    }
+
     /**
      * Simulate token flow through Petri net
      * POST /api/v1/petri/simulate
@@ -402,6 +530,396 @@ public class PetriController {
         }
     }
 
+    /**
+     * Run a Monte Carlo batch of seeded simulations and return aggregate statistics
+     * POST /api/v1/petri/simulate/batch
+     */
+    @PostMapping("/simulate/batch")
+    @Operation(summary = "Run a Monte Carlo batch of Petri net simulations",
+               description = "Runs many seeded simulations across cores and returns deadlock probability, step-count percentiles and per-transition firing frequencies")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Batch completed"),
+        @ApiResponse(responseCode = "400", description = "Invalid Petri net, simulation config or run count"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<?> simulatePetriNetBatch(
+            @Parameter(description = "Batch request with Petri net, config, runs and parallelism", required = true)
+            @Valid @RequestBody Map<String, Object> request) {
+
+        logger.info("Starting Petri net batch simulation");
+
+        try {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> petriNetMap = (Map<String, Object>) request.get("petriNet");
+
+            if (petriNetMap == null) {
+                throw new IllegalArgumentException("Petri net is required");
+            }
+
+            PetriNet petriNet = reconstructPetriNetFromMap(petriNetMap);
+
+            @SuppressWarnings("unchecked")
+            Map<String, Object> configMap = (Map<String, Object>) request.get("config");
+            SimulationConfig config = configMap != null ?
+                    convertMapToSimulationConfig(configMap) :
+                    SimulationConfig.defaultDeterministic();
+
+            // Extract run count and worker count (null uses every available core)
+            int runs = request.get("runs") instanceof Number ?
+                    ((Number) request.get("runs")).intValue() : DEFAULT_BATCH_RUNS;
+            if (runs < 1 || runs > MAX_BATCH_RUNS) {
+                throw new IllegalArgumentException("Runs must be between 1 and " + MAX_BATCH_RUNS);
+            }
+            int parallelism = request.get("parallelism") instanceof Number ?
+                    ((Number) request.get("parallelism")).intValue() : Runtime.getRuntime().availableProcessors();
+
+            SimulationStatistics statistics =
+                    petriTokenSimulator.simulateBatch(petriNet, config, runs, parallelism);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("schemaVersion", SCHEMA_VERSION);
+            response.put("success", true);
+            response.put("statistics", convertSimulationStatisticsToMap(statistics));
+
+            logger.info("Batch simulation completed - Runs: {}, Deadlock probability: {}",
+                    statistics.getRuns(), statistics.getDeadlockProbability());
+
+            return ResponseEntity.ok(response);
+
+        } catch (IllegalArgumentException e) {
+            logger.error("Invalid batch simulation request", e);
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("schemaVersion", SCHEMA_VERSION);
+            errorResponse.put("error", Map.of(
+                "code", "SIMULATION_ERROR",
+                "message", "Invalid request: " + e.getMessage()
+            ));
+            return ResponseEntity.badRequest().body(errorResponse);
+        } catch (Exception e) {
+            logger.error("Error during Petri net batch simulation", e);
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("schemaVersion", SCHEMA_VERSION);
+            errorResponse.put("error", Map.of(
+                "code", "SIMULATION_ERROR",
+                "message", "Failed to simulate Petri net batch: " + e.getMessage()
+            ));
+            return ResponseEntity.status(500).body(errorResponse);
+        }
+    }
+
+    /**
+     * Simulate the timing of a Petri net on a virtual clock
+     * POST /api/v1/petri/simulate/timed
+     */
+    @PostMapping("/simulate/timed")
+    @Operation(summary = "Run a timed Petri net simulation",
+               description = "Runs a discrete-event simulation of transition delays, timeouts and retry backoff on a virtual clock and returns makespan and latency estimates")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Timed simulation completed"),
+        @ApiResponse(responseCode = "400", description = "Invalid Petri net or simulation config"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<?> simulatePetriNetTimed(
+            @Parameter(description = "Simulation request with Petri net and config", required = true)
+            @Valid @RequestBody Map<String, Object> request) {
+
+        logger.info("Starting timed Petri net simulation");
+
+        try {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> petriNetMap = (Map<String, Object>) request.get("petriNet");
+
+            if (petriNetMap == null) {
+                throw new IllegalArgumentException("Petri net is required");
+            }
+
+            PetriNet petriNet = reconstructPetriNetFromMap(petriNetMap);
+
+            @SuppressWarnings("unchecked")
+            Map<String, Object> configMap = (Map<String, Object>) request.get("config");
+            SimulationConfig config = configMap != null ?
+                    convertMapToSimulationConfig(configMap) :
+                    SimulationConfig.defaultDeterministic();
+
+            TimedSimulationResult result = petriTokenSimulator.simulateTimed(petriNet, config);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("schemaVersion", SCHEMA_VERSION);
+            response.put("success", true);
+            response.put("timedSimulationResult", convertTimedSimulationResultToMap(result));
+
+            logger.info("Timed simulation completed - Status: {}, Makespan: {} ms",
+                    result.getStatus(), result.getMakespan().toMillis());
+
+            return ResponseEntity.ok(response);
+
+        } catch (IllegalArgumentException e) {
+            logger.error("Invalid timed simulation request", e);
+            return simulationErrorResponse(400, "Invalid request: " + e.getMessage());
+        } catch (Exception e) {
+            logger.error("Error during timed Petri net simulation", e);
+            return simulationErrorResponse(500, "Failed to simulate Petri net timing: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Run a simulation and stream its delta-encoded trace as newline-delimited JSON
+     * POST /api/v1/petri/simulate/trace
+     */
+    @PostMapping("/simulate/trace")
+    @Operation(summary = "Stream the trace of a Petri net simulation",
+               description = "Runs a simulation and streams one NDJSON line per fired transition with its token delta, plus periodic full-marking keyframes, while it runs")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Trace streamed"),
+        @ApiResponse(responseCode = "400", description = "Invalid Petri net or simulation config")
+    })
+    public ResponseEntity<?> streamSimulationTrace(
+            @Parameter(description = "Simulation request with Petri net and config", required = true)
+            @Valid @RequestBody Map<String, Object> request) {
+
+        try {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> petriNetMap = (Map<String, Object>) request.get("petriNet");
+
+            if (petriNetMap == null) {
+                throw new IllegalArgumentException("Petri net is required");
+            }
+
+            PetriNet petriNet = reconstructPetriNetFromMap(petriNetMap);
+
+            @SuppressWarnings("unchecked")
+            Map<String, Object> configMap = (Map<String, Object>) request.get("config");
+            SimulationConfig config = configMap != null ?
+                    convertMapToSimulationConfig(configMap) :
+                    SimulationConfig.defaultDeterministic();
+
+            // Steps are written to the response while the simulation runs
+            StreamingResponseBody body = outputStream -> {
+                Writer writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
+                try (NdjsonTraceSink sink = new NdjsonTraceSink(writer)) {
+                    SimulationResult result = petriTokenSimulator.run(
+                            petriTokenSimulator.openSession(petriNet, config, sink));
+                    logger.info("Streamed simulation trace - Status: {}, Steps: {}",
+                            result.getStatus(), result.getStepsExecuted());
+                }
+            };
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                    .body(body);
+
+        } catch (IllegalArgumentException e) {
+            logger.error("Invalid simulation trace request", e);
+            return simulationErrorResponse(400, "Invalid request: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Stream an animated playback of a simulation as Server-Sent Events
+     * POST /api/v1/petri/simulate/playback
+     */
+    @PostMapping("/simulate/playback")
+    @Operation(summary = "Stream an animated Petri net simulation",
+               description = "Computes a simulation, then sends one step event per interval (intervalMs, 1 to 60000 ms, default the config step delay or 100 ms). A client that falls behind skips to the latest step")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Playback streamed"),
+        @ApiResponse(responseCode = "400", description = "Invalid Petri net, simulation config or interval"),
+        @ApiResponse(responseCode = "409", description = "Too many simulation playbacks")
+    })
+    public ResponseEntity<?> streamSimulationPlayback(
+            @Parameter(description = "Playback request with Petri net, config and optional intervalMs", required = true)
+            @Valid @RequestBody Map<String, Object> request) {
+
+        try {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> petriNetMap = (Map<String, Object>) request.get("petriNet");
+
+            if (petriNetMap == null) {
+                throw new IllegalArgumentException("Petri net is required");
+            }
+
+            PetriNet petriNet = reconstructPetriNetFromMap(petriNetMap);
+
+            @SuppressWarnings("unchecked")
+            Map<String, Object> configMap = (Map<String, Object>) request.get("config");
+            SimulationConfig config = configMap != null ?
+                    convertMapToSimulationConfig(configMap) :
+                    SimulationConfig.defaultDeterministic();
+
+            Object interval = request.get("intervalMs");
+            long intervalMs = interval instanceof Number ?
+                    ((Number) interval).longValue() :
+                    config.getStepDelayMs() > 0 ?
+                            Math.min(config.getStepDelayMs(), SimulationPlaybackService.MAX_INTERVAL_MS) : 100;
+
+            SseEmitter emitter = simulationPlaybackService.start(petriNet, config, intervalMs);
+            return ResponseEntity.ok()
+                    .contentType(MediaType.TEXT_EVENT_STREAM)
+                    .body(emitter);
+
+        } catch (IllegalArgumentException e) {
+            logger.error("Invalid simulation playback request", e);
+            return simulationErrorResponse(400, "Invalid request: " + e.getMessage());
+        } catch (IllegalStateException e) {
+            logger.warn("Simulation playback rejected: {}", e.getMessage());
+            return simulationErrorResponse(409, e.getMessage());
+        }
+    }
+
+    /**
+     * Open a simulation session that later requests can step, run, pause, resume or stop
+     * POST /api/v1/petri/simulate/sessions
+     */
+    @PostMapping("/simulate/sessions")
+    @Operation(summary = "Open a Petri net simulation session",
+               description = "Creates an independent simulation with its own seed and controls, addressed by its session ID")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Session opened"),
+        @ApiResponse(responseCode = "400", description = "Invalid Petri net or simulation config"),
+        @ApiResponse(responseCode = "409", description = "Too many open sessions")
+    })
+    public ResponseEntity<?> openSimulationSession(
+            @Parameter(description = "Session request with Petri net and config", required = true)
+            @Valid @RequestBody Map<String, Object> request) {
+
+        try {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> petriNetMap = (Map<String, Object>) request.get("petriNet");
+
+            if (petriNetMap == null) {
+                throw new IllegalArgumentException("Petri net is required");
+            }
+
+            PetriNet petriNet = reconstructPetriNetFromMap(petriNetMap);
+
+            @SuppressWarnings("unchecked")
+            Map<String, Object> configMap = (Map<String, Object>) request.get("config");
+            SimulationConfig config = configMap != null ?
+                    convertMapToSimulationConfig(configMap) :
+                    SimulationConfig.defaultDeterministic();
+
+            SimulationSession session = simulationSessionRegistry.open(petriNet, config);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("schemaVersion", SCHEMA_VERSION);
+            response.put("success", true);
+            response.put("session", convertSimulationSessionToMap(session));
+            return ResponseEntity.ok(response);
+
+        } catch (IllegalArgumentException e) {
+            logger.error("Invalid simulation session request", e);
+            return simulationErrorResponse(400, "Invalid request: " + e.getMessage());
+        } catch (IllegalStateException e) {
+            logger.warn("Simulation session rejected: {}", e.getMessage());
+            return simulationErrorResponse(409, e.getMessage());
+        }
+    }
+
+    /**
+     * Get the state of a simulation session
+     * GET /api/v1/petri/simulate/sessions/{sessionId}
+     */
+    @GetMapping("/simulate/sessions/{sessionId}")
+    @Operation(summary = "Get a Petri net simulation session",
+               description = "Returns the current marking, step count and control state of a session")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Session found"),
+        @ApiResponse(responseCode = "404", description = "No open session with this ID")
+    })
+    public ResponseEntity<?> getSimulationSession(@PathVariable String sessionId) {
+        Optional<SimulationSession> session = simulationSessionRegistry.getSession(sessionId);
+        if (session.isEmpty()) {
+            return simulationErrorResponse(404, "Simulation session not found: " + sessionId);
+        }
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("schemaVersion", SCHEMA_VERSION);
+        response.put("success", true);
+        response.put("session", convertSimulationSessionToMap(session.get()));
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Apply a control action to a simulation session: step, run, pause, resume or stop
+     * POST /api/v1/petri/simulate/sessions/{sessionId}/{action}
+     */
+    @PostMapping("/simulate/sessions/{sessionId}/{action}")
+    @Operation(summary = "Control a Petri net simulation session",
+               description = "Steps, runs to completion, pauses, resumes or stops one session without affecting others")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Action applied"),
+        @ApiResponse(responseCode = "400", description = "Unknown action"),
+        @ApiResponse(responseCode = "404", description = "No open session with this ID"),
+        @ApiResponse(responseCode = "409", description = "Session is stopped or already running")
+    })
+    public ResponseEntity<?> controlSimulationSession(@PathVariable String sessionId,
+                                                      @PathVariable String action) {
+        Optional<SimulationSession> found = simulationSessionRegistry.getSession(sessionId);
+        if (found.isEmpty()) {
+            return simulationErrorResponse(404, "Simulation session not found: " + sessionId);
+        }
+        SimulationSession session = found.get();
+
+        try {
+            Map<String, Object> response = new HashMap<>();
+            response.put("schemaVersion", SCHEMA_VERSION);
+            switch (action) {
+                case "step":
+                    SimulationStepResult stepResult = petriTokenSimulator.step(session);
+                    response.put("success", !stepResult.isError());
+                    response.put("stepResult", convertSimulationStepResultToMap(stepResult));
+                    break;
+                case "run":
+                    SimulationResult simulationResult = petriTokenSimulator.run(session);
+                    response.put("success", simulationResult.isSuccess());
+                    response.put("simulationResult", convertSimulationResultToMap(simulationResult));
+                    break;
+                case "pause":
+                    session.pause();
+                    response.put("success", true);
+                    break;
+                case "resume":
+                    session.resume();
+                    response.put("success", true);
+                    break;
+                case "stop":
+                    session.stop();
+                    response.put("success", true);
+                    break;
+                default:
+                    return simulationErrorResponse(400, "Unknown simulation action: " + action);
+            }
+            response.put("session", convertSimulationSessionToMap(session));
+            return ResponseEntity.ok(response);
+
+        } catch (IllegalStateException e) {
+            logger.warn("Simulation session action {} rejected: {}", action, e.getMessage());
+            return simulationErrorResponse(409, e.getMessage());
+        }
+    }
+
+    /**
+     * Stop and close a simulation session
+     * DELETE /api/v1/petri/simulate/sessions/{sessionId}
+     */
+    @DeleteMapping("/simulate/sessions/{sessionId}")
+    @Operation(summary = "Close a Petri net simulation session",
+               description = "Stops the session and releases it")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Session closed"),
+        @ApiResponse(responseCode = "404", description = "No open session with this ID")
+    })
+    public ResponseEntity<?> closeSimulationSession(@PathVariable String sessionId) {
+        if (!simulationSessionRegistry.close(sessionId)) {
+            return simulationErrorResponse(404, "Simulation session not found: " + sessionId);
+        }
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("schemaVersion", SCHEMA_VERSION);
+        response.put("success", true);
+        response.put("sessionId", sessionId);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Health check for Petri net service
      * GET /api/v1/petri/health
@@ -773,10 +1291,7 @@ public class PetriController {
         List<Place> places = new ArrayList<>();
         if (placeMaps != null) {
             for (Map<String, Object> placeMap : placeMaps) {
-                String id = (String) placeMap.get("id");
-                String placeName = (String) placeMap.get("name");
-                Integer capacity = (Integer) placeMap.getOrDefault("capacity", Integer.MAX_VALUE);
-                places.add(new Place(id, placeName, capacity));
+                places.add(convertMapToPlace(placeMap));
             }
         }
 
@@ -786,20 +1301,7 @@ public class PetriController {
         List<Transition> transitions = new ArrayList<>();
         if (transitionMaps != null) {
             for (Map<String, Object> transitionMap : transitionMaps) {
-                String id = (String) transitionMap.get("id");
-                String transitionName = (String) transitionMap.get("name");
-                String transitionDesc = (String) transitionMap.getOrDefault("description", "");
-                String action = (String) transitionMap.get("action");
-                String guard = (String) transitionMap.get("guard");
-                @SuppressWarnings("unchecked")
-                Map<String, Object> metadata = (Map<String, Object>) transitionMap.getOrDefault("metadata", new HashMap<>());
-                Long timeoutMs = transitionMap.get("timeoutMs") != null ? ((Number) transitionMap.get("timeoutMs")).longValue() : null;
-                Long delayMs = transitionMap.get("delayMs") != null ? ((Number) transitionMap.get("delayMs")).longValue() : null;
-                @SuppressWarnings("unchecked")
-                Map<String, Object> retryPolicy = (Map<String, Object>) transitionMap.get("retryPolicy");
-                @SuppressWarnings("unchecked")
-                Map<String, Object> inhibitorConditions = (Map<String, Object>) transitionMap.get("inhibitorConditions");
-                transitions.add(new Transition(id, transitionName, transitionDesc, action, guard, metadata, timeoutMs, delayMs, retryPolicy, inhibitorConditions));
+                transitions.add(convertMapToTransition(transitionMap));
             }
         }
 
@@ -809,10 +1311,7 @@ public class PetriController {
         List<Arc> arcs = new ArrayList<>();
         if (arcMaps != null) {
             for (Map<String, Object> arcMap : arcMaps) {
-                String from = (String) arcMap.get("from");
-                String to = (String) arcMap.get("to");
-                Integer weight = (Integer) arcMap.getOrDefault("weight", 1);
-                arcs.add(new Arc(from, to, weight));
+                arcs.add(convertMapToArc(arcMap));
             }
         }
 
@@ -842,6 +1341,62 @@ public class PetriController {
                            initialMarking, "1.0", new HashMap<>(), null);
     }
 
+    private Place convertMapToPlace(Map<String, Object> placeMap) {
+        String id = (String) placeMap.get("id");
+        String placeName = (String) placeMap.get("name");
+        Integer capacity = (Integer) placeMap.getOrDefault("capacity", Integer.MAX_VALUE);
+        return new Place(id, placeName, capacity);
+    }
+
+    private Transition convertMapToTransition(Map<String, Object> transitionMap) {
+        String id = (String) transitionMap.get("id");
+        String transitionName = (String) transitionMap.get("name");
+        String transitionDesc = (String) transitionMap.getOrDefault("description", "");
+        String action = (String) transitionMap.get("action");
+        String guard = (String) transitionMap.get("guard");
+        @SuppressWarnings("unchecked")
+        Map<String, Object> metadata = (Map<String, Object>) transitionMap.getOrDefault("metadata", new HashMap<>());
+        Long timeoutMs = transitionMap.get("timeoutMs") != null ? ((Number) transitionMap.get("timeoutMs")).longValue() : null;
+        Long delayMs = transitionMap.get("delayMs") != null ? ((Number) transitionMap.get("delayMs")).longValue() : null;
+        @SuppressWarnings("unchecked")
+        Map<String, Object> retryPolicy = (Map<String, Object>) transitionMap.get("retryPolicy");
+        @SuppressWarnings("unchecked")
+        Map<String, Object> inhibitorConditions = (Map<String, Object>) transitionMap.get("inhibitorConditions");
+        return new Transition(id, transitionName, transitionDesc, action, guard, metadata, timeoutMs, delayMs, retryPolicy, inhibitorConditions);
+    }
+
+    private Arc convertMapToArc(Map<String, Object> arcMap) {
+        String from = (String) arcMap.get("from");
+        String to = (String) arcMap.get("to");
+        Integer weight = (Integer) arcMap.getOrDefault("weight", 1);
+        return new Arc(from, to, weight);
+    }
+
+    /**
+     * Convert a list of edit maps to a PetriNetDelta
+     */
+    @SuppressWarnings("unchecked")
+    private PetriNetDelta convertMapsToPetriNetDelta(List<Map<String, Object>> editMaps) {
+        List<PetriNetDelta.Edit> edits = new ArrayList<>();
+        for (Map<String, Object> editMap : editMaps) {
+            if (!(editMap.get("operation") instanceof String)) {
+                throw new IllegalArgumentException("Edit operation is required");
+            }
+            PetriNetDelta.Operation operation = PetriNetDelta.Operation.valueOf((String) editMap.get("operation"));
+            Map<String, Object> placeMap = (Map<String, Object>) editMap.get("place");
+            Map<String, Object> transitionMap = (Map<String, Object>) editMap.get("transition");
+            Map<String, Object> arcMap = (Map<String, Object>) editMap.get("arc");
+            int tokens = editMap.get("tokens") instanceof Number ? ((Number) editMap.get("tokens")).intValue() : 0;
+            edits.add(new PetriNetDelta.Edit(operation,
+                    placeMap != null ? convertMapToPlace(placeMap) : null,
+                    transitionMap != null ? convertMapToTransition(transitionMap) : null,
+                    arcMap != null ? convertMapToArc(arcMap) : null,
+                    (String) editMap.get("elementId"),
+                    tokens));
+        }
+        return new PetriNetDelta(edits);
+    }
+
     /**
      * Convert DAG object to map for JSON response
      * Enhanced version for formal PetriToDagProjector output with cross-highlighting metadata
@@ -951,8 +1506,62 @@ public class PetriController {
             }
         }
 
-        return new core.petri.validation.PetriNetValidationResult.ValidationConfig(
-                kBound, maxTimeMs, enabledChecks);
+        core.petri.validation.PetriNetValidationResult.ValidationConfig.Builder builder =
+                core.petri.validation.PetriNetValidationResult.ValidationConfig.builder()
+                        .kBound(kBound)
+                        .maxTimeMs(maxTimeMs)
+                        .enabledChecks(enabledChecks);
+
+        // Extract exploration parallelism (unset keeps sequential exploration)
+        if (configMap.get("parallelism") instanceof Number) {
+            builder.parallelism(((Number) configMap.get("parallelism")).intValue());
+        }
+
+        // Extract stubborn-set reduction flag (unset keeps full exploration)
+        if (configMap.get("partialOrderReduction") instanceof Boolean) {
+            builder.partialOrderReduction((Boolean) configMap.get("partialOrderReduction"));
+        }
+
+        // Extract bitstate table size (unset keeps exact exploration)
+        if (configMap.get("bitstateMemoryMb") instanceof Number) {
+            builder.bitstateMemoryMb(((Number) configMap.get("bitstateMemoryMb")).intValue());
+        }
+
+        // Extract visited-state storage backend (unset keeps markings on the heap)
+        if (configMap.get("stateStorage") instanceof String) {
+            try {
+                builder.stateStorage(core.petri.validation.PetriNetValidationResult.StateStorage.valueOf(
+                        (String) configMap.get("stateStorage")));
+            } catch (IllegalArgumentException e) {
+                logger.warn("Unknown state storage: {}", configMap.get("stateStorage"));
+            }
+        }
+
+        // Extract net reduction flag (unset explores the net as given)
+        if (configMap.get("netReduction") instanceof Boolean) {
+            builder.netReduction((Boolean) configMap.get("netReduction"));
+        }
+
+        // Extract LTL/CTL properties (malformed formulas are rejected by the config)
+        if (configMap.get("properties") instanceof List) {
+            List<String> properties = new ArrayList<>();
+            for (Object property : (List<?>) configMap.get("properties")) {
+                properties.add(String.valueOf(property));
+            }
+            builder.properties(properties);
+        }
+
+        // Extract unfolding flag (unset explores interleavings)
+        if (configMap.get("unfolding") instanceof Boolean) {
+            builder.unfolding((Boolean) configMap.get("unfolding"));
+        }
+
+        // Extract symbolic flag (unset stores markings explicitly)
+        if (configMap.get("symbolic") instanceof Boolean) {
+            builder.symbolic((Boolean) configMap.get("symbolic"));
+        }
+
+        return builder.build();
     }
 
     /**
@@ -1060,18 +1669,7 @@ public class PetriController {
         if (result.getTrace() != null) {
             List<Map<String, Object>> traceMaps = new ArrayList<>();
             for (core.petri.simulation.TraceEvent event : result.getTrace()) {
-                Map<String, Object> eventMap = new HashMap<>();
-                eventMap.put("timestamp", event.getTimestamp().toString());
-                eventMap.put("type", event.getType().name());
-                eventMap.put("transitionId", event.getTransitionId());
-                eventMap.put("transition", event.getTransition());
-                eventMap.put("markingBefore", event.getMarkingBefore());
-                eventMap.put("markingAfter", event.getMarkingAfter());
-                eventMap.put("description", event.getDescription());
-                if (event.getSequenceNumber() != null) {
-                    eventMap.put("sequenceNumber", event.getSequenceNumber());
-                }
-                traceMaps.add(eventMap);
+                traceMaps.add(convertTraceEventToMap(event));
             }
             map.put("trace", traceMaps);
         }
@@ -1084,6 +1682,120 @@ public class PetriController {
         return map;
     }
 
+    /**
+     * Convert simulation TraceEvent to map for JSON response
+     */
+    private Map<String, Object> convertTraceEventToMap(core.petri.simulation.TraceEvent event) {
+        Map<String, Object> eventMap = new HashMap<>();
+        eventMap.put("timestamp", event.getTimestamp().toString());
+        eventMap.put("type", event.getType().name());
+        eventMap.put("transitionId", event.getTransitionId());
+        eventMap.put("transition", event.getTransition());
+        eventMap.put("markingBefore", event.getMarkingBefore());
+        eventMap.put("markingAfter", event.getMarkingAfter());
+        eventMap.put("description", event.getDescription());
+        if (event.getSequenceNumber() != null) {
+            eventMap.put("sequenceNumber", event.getSequenceNumber());
+        }
+        return eventMap;
+    }
+
+    /**
+     * Convert SimulationSession to map for JSON response
+     */
+    private Map<String, Object> convertSimulationSessionToMap(SimulationSession session) {
+        Map<String, Object> map = new HashMap<>();
+        map.put("sessionId", session.getId());
+        map.put("paused", session.isPaused());
+        map.put("stopped", session.isStopped());
+        map.put("running", session.isRunning());
+        SimulationSession.Progress progress = session.getProgress();
+        map.put("stepsExecuted", progress.getStepsExecuted());
+        map.put("currentMarking", progress.getCurrentMarking());
+        return map;
+    }
+
+    /**
+     * Convert SimulationStepResult to map for JSON response
+     */
+    private Map<String, Object> convertSimulationStepResultToMap(SimulationStepResult result) {
+        Map<String, Object> map = new HashMap<>();
+        map.put("status", result.getStatus().name());
+        if (result.getMessage() != null) {
+            map.put("message", result.getMessage());
+        }
+        if (result.getEvent() != null) {
+            map.put("event", convertTraceEventToMap(result.getEvent()));
+        }
+        if (result.getEnabledTransitions() != null) {
+            map.put("enabledTransitions", result.getEnabledTransitions());
+        }
+        return map;
+    }
+
+    /**
+     * Error response for simulation endpoints
+     */
+    private ResponseEntity<Map<String, Object>> simulationErrorResponse(int status, String message) {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("schemaVersion", SCHEMA_VERSION);
+        errorResponse.put("error", Map.of(
+            "code", "SIMULATION_ERROR",
+            "message", message
+        ));
+        return ResponseEntity.status(status).body(errorResponse);
+    }
+
+    /**
+     * Convert SimulationStatistics to map for JSON response
+     */
+    private Map<String, Object> convertSimulationStatisticsToMap(SimulationStatistics statistics) {
+        Map<String, Object> map = new HashMap<>();
+        map.put("runs", statistics.getRuns());
+        map.put("completed", statistics.getCompleted());
+        map.put("deadlocked", statistics.getDeadlocked());
+        map.put("maxStepsReached", statistics.getMaxStepsReached());
+        map.put("deadlockProbability", statistics.getDeadlockProbability());
+        map.put("meanSteps", statistics.getMeanSteps());
+
+        Map<String, Object> stepPercentiles = new LinkedHashMap<>();
+        stepPercentiles.put("min", statistics.getStepPercentile(0));
+        stepPercentiles.put("p50", statistics.getStepPercentile(50));
+        stepPercentiles.put("p90", statistics.getStepPercentile(90));
+        stepPercentiles.put("p99", statistics.getStepPercentile(99));
+        stepPercentiles.put("max", statistics.getStepPercentile(100));
+        map.put("stepPercentiles", stepPercentiles);
+
+        map.put("firingCounts", statistics.getFiringCounts());
+        map.put("firingFrequencies", statistics.getFiringFrequencies());
+        return map;
+    }
+
+    /**
+     * Convert TimedSimulationResult to Map for JSON response, durations in milliseconds
+     */
+    private Map<String, Object> convertTimedSimulationResultToMap(TimedSimulationResult result) {
+        Map<String, Object> map = new HashMap<>();
+        map.put("status", result.getStatus().toString());
+        map.put("makespanMs", result.getMakespan().toMillis());
+        map.put("computeTimeMs", result.getComputeTime().toMillis());
+        map.put("completedFirings", result.getCompletedFirings());
+        map.put("failedFirings", result.getFailedFirings());
+        map.put("timeouts", result.getTimeouts());
+        map.put("retries", result.getRetries());
+        map.put("finalMarking", result.getFinalMarking().getTokens());
+        map.put("firingCounts", result.getFiringCounts());
+        map.put("failureCounts", result.getFailureCounts());
+
+        Map<String, Object> meanLatencies = new LinkedHashMap<>();
+        result.getMeanLatencies().forEach((transition, latency) -> meanLatencies.put(transition, latency.toMillis()));
+        map.put("meanLatencyMs", meanLatencies);
+        Map<String, Object> maxLatencies = new LinkedHashMap<>();
+        result.getMaxLatencies().forEach((transition, latency) -> maxLatencies.put(transition, latency.toMillis()));
+        map.put("maxLatencyMs", maxLatencies);
+        return map;
+    }
+
     /**
      * Execute complete P3Net workflow with formal verification and plugin execution
      * POST /api/v1/petri/execute
@@ -0,0 +1,66 @@
+package api.service;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import core.petri.validation.PetriNetValidationResult;
+import core.petri.validation.ValidationResultCache;
+import java.io.IOException;
+import java.time.Duration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * Redis-backed second tier for the Petri net validation result cache.
+ *
+ * <p>Shares validation results across API instances so a workflow validated by one node is not
+ * re-validated by another. Results are stored as JSON with the same TTL as the local tier.
+ * Enabled with {@code obvian.petri.validation-cache.redis.enabled=true}.
+ */
+@Service
+@ConditionalOnProperty(name = "obvian.petri.validation-cache.redis.enabled", havingValue = "true")
+public class RedisValidationResultTier implements ValidationResultCache.SecondTier {
+
+  private static final String KEY_PREFIX = "obvian:petri:validation:";
+
+  private final StringRedisTemplate redisTemplate;
+  private final ObjectMapper objectMapper;
+
+  @SuppressWarnings("deprecation")
+  public RedisValidationResultTier(StringRedisTemplate redisTemplate, ObjectMapper objectMapper) {
+    this.redisTemplate = redisTemplate;
+    // Results carry derived getters (e.g. placesWithTokens) that must not be read back as properties
+    this.objectMapper =
+        objectMapper
+            .copy()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+            .configure(MapperFeature.USE_GETTERS_AS_SETTERS, false);
+  }
+
+  @Override
+  public PetriNetValidationResult get(String key) {
+    String json = redisTemplate.opsForValue().get(KEY_PREFIX + key);
+    if (json == null) {
+      return null;
+    }
+    try {
+      return objectMapper.readValue(json, PetriNetValidationResult.class);
+    } catch (IOException e) {
+      // Entry written by an incompatible version; treat as a miss and let it be overwritten
+      redisTemplate.delete(KEY_PREFIX + key);
+      return null;
+    }
+  }
+
+  @Override
+  public void put(String key, PetriNetValidationResult result, Duration ttl) {
+    try {
+      redisTemplate
+          .opsForValue()
+          .set(KEY_PREFIX + key, objectMapper.writeValueAsString(result), ttl);
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to serialize validation result", e);
+    }
+  }
+}
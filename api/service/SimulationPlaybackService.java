@@ -0,0 +1,243 @@
+package api.service;
+
+import core.petri.PetriNet;
+import core.petri.simulation.PetriTokenSimulator;
+import core.petri.simulation.SimulationConfig;
+import core.petri.simulation.SimulationPlayback;
+import core.petri.simulation.SimulationResult;
+import core.petri.simulation.TraceEvent;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Service for animated simulation playback over Server-Sent Events.
+ *
+ * <p>Each playback computes its simulation at full speed, then a fixed-rate task on the shared
+ * SSE scheduler paces one step per interval. A tick never writes to the client: it hands the
+ * send to the SSE send executor and returns, so a slow client cannot hold a scheduler thread.
+ * A playback has at most one send in flight; ticks that find it pending are skipped, and the
+ * next send jumps to the latest due step and reports the skipped steps. Events:
+ *
+ * <ul>
+ *   <li>start: status, step count, interval and initial marking
+ *   <li>step: sequence number, transition, marking after the step and steps skipped before it
+ *   <li>end: status, message, final marking and total skipped steps
+ * </ul>
+ */
+@Service
+public class SimulationPlaybackService {
+
+  private static final Logger logger = LoggerFactory.getLogger(SimulationPlaybackService.class);
+
+  /** Longest pacing between steps accepted for a playback */
+  public static final long MAX_INTERVAL_MS = 60_000L;
+
+  /** Time a client may stay connected beyond the paced length of its playback */
+  private static final Duration TIMEOUT_MARGIN = Duration.ofSeconds(30);
+
+  private final PetriTokenSimulator simulator;
+  private final TaskScheduler scheduler;
+  private final TaskExecutor sender;
+  private final int maximumSize;
+  private final AtomicInteger active = new AtomicInteger();
+
+  public SimulationPlaybackService(
+      PetriTokenSimulator simulator,
+      @Qualifier("sseTaskScheduler") TaskScheduler scheduler,
+      @Qualifier("sseSendExecutor") TaskExecutor sender,
+      @Value("${obvian.petri.simulation-playback.maximum-size:500}") int maximumSize) {
+    this.simulator = simulator;
+    this.scheduler = scheduler;
+    this.sender = sender;
+    this.maximumSize = maximumSize;
+  }
+
+  /**
+   * Compute a simulation and stream its steps paced by an interval.
+   *
+   * @param petriNet Petri net to simulate
+   * @param config Simulation config; its step delay is ignored while computing
+   * @param intervalMs Pacing between steps sent to the client, 1 to {@link #MAX_INTERVAL_MS}
+   * @return Emitter for the response, completed after the last step
+   * @throws IllegalArgumentException If the interval is out of range
+   * @throws IllegalStateException If the maximum number of playbacks is streaming
+   */
+  public SseEmitter start(PetriNet petriNet, SimulationConfig config, long intervalMs) {
+    if (intervalMs < 1 || intervalMs > MAX_INTERVAL_MS) {
+      throw new IllegalArgumentException(
+          "Playback interval must be between 1 and " + MAX_INTERVAL_MS + " ms");
+    }
+    if (active.incrementAndGet() > maximumSize) {
+      active.decrementAndGet();
+      throw new IllegalStateException(
+          "Too many simulation playbacks, the limit is " + maximumSize);
+    }
+
+    try {
+      SimulationResult result = simulator.simulate(petriNet, config.withStepDelayMs(0));
+      SimulationPlayback playback =
+          new SimulationPlayback(result, intervalMs, System.currentTimeMillis() + intervalMs);
+      // Both factors are bounded, an int step count and the capped interval, so this cannot overflow
+      SseEmitter emitter =
+          new SseEmitter(intervalMs * (playback.getStepCount() + 1L) + TIMEOUT_MARGIN.toMillis());
+      new Stream(playback, emitter).begin();
+      logger.info(
+          "Started simulation playback - Steps: {}, Interval: {} ms, Active: {}",
+          playback.getStepCount(),
+          intervalMs,
+          active.get());
+      return emitter;
+    } catch (RuntimeException e) {
+      active.decrementAndGet();
+      throw e;
+    }
+  }
+
+  /** Number of playbacks currently streaming */
+  public int getActivePlaybacks() {
+    return active.get();
+  }
+
+  /** One client's playback, driven by a fixed-rate task until it ends or the client leaves */
+  private final class Stream implements Runnable {
+
+    private final SimulationPlayback playback;
+    private final SseEmitter emitter;
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final AtomicBoolean sending = new AtomicBoolean();
+    private volatile ScheduledFuture<?> task;
+
+    Stream(SimulationPlayback playback, SseEmitter emitter) {
+      this.playback = playback;
+      this.emitter = emitter;
+    }
+
+    void begin() {
+      emitter.onCompletion(this::close);
+      emitter.onTimeout(this::close);
+      emitter.onError(error -> close());
+
+      if (!send("start", startData())) {
+        return;
+      }
+      task =
+          scheduler.scheduleAtFixedRate(
+              this,
+              Instant.ofEpochMilli(System.currentTimeMillis() + playback.getIntervalMs()),
+              Duration.ofMillis(playback.getIntervalMs()));
+      // The client may have left before the task was stored
+      if (closed.get()) {
+        task.cancel(false);
+      }
+    }
+
+    /** Tick of the scheduler: start a send unless one is still in flight */
+    @Override
+    public void run() {
+      if (closed.get() || !sending.compareAndSet(false, true)) {
+        return;
+      }
+      try {
+        sender.execute(this::deliver);
+      } catch (RejectedExecutionException e) {
+        // Busy sender, retry on a later tick
+        sending.set(false);
+      }
+    }
+
+    /** Send the latest due step, and the end event after the last one, on the send executor */
+    private void deliver() {
+      try {
+        if (closed.get()) {
+          return;
+        }
+        SimulationPlayback.Frame frame = playback.next(System.currentTimeMillis());
+        if (frame != null && !send("step", stepData(frame))) {
+          return;
+        }
+        if (playback.isFinished() && send("end", endData())) {
+          emitter.complete();
+          close();
+        }
+      } finally {
+        sending.set(false);
+      }
+    }
+
+    /** Send an event, ending the playback if the client is gone */
+    private boolean send(String name, Map<String, Object> data) {
+      try {
+        emitter.send(SseEmitter.event().name(name).data(data));
+        return true;
+      } catch (IOException | IllegalStateException e) {
+        logger.debug("Simulation playback client disconnected: {}", e.getMessage());
+        emitter.completeWithError(e);
+        close();
+        return false;
+      }
+    }
+
+    private void close() {
+      if (closed.compareAndSet(false, true)) {
+        ScheduledFuture<?> scheduled = task;
+        if (scheduled != null) {
+          scheduled.cancel(false);
+        }
+        active.decrementAndGet();
+        if (playback.getSkipped() > 0) {
+          logger.debug(
+              "Simulation playback ended with {} of {} steps skipped",
+              playback.getSkipped(),
+              playback.getStepCount());
+        }
+      }
+    }
+
+    private Map<String, Object> startData() {
+      SimulationResult result = playback.getResult();
+      Map<String, Object> data = new HashMap<>();
+      data.put("status", result.getStatus().name());
+      data.put("stepsExecuted", playback.getStepCount());
+      data.put("intervalMs", playback.getIntervalMs());
+      data.put("initialMarking", result.getInitialMarking());
+      return data;
+    }
+
+    private Map<String, Object> stepData(SimulationPlayback.Frame frame) {
+      TraceEvent event = frame.getEvent();
+      Map<String, Object> data = new HashMap<>();
+      data.put("sequenceNumber", event.getSequenceNumber());
+      data.put("transition", event.getTransition());
+      data.put("timestamp", event.getTimestamp().toString());
+      data.put("markingAfter", event.getMarkingAfter());
+      data.put("skippedSteps", frame.getSkippedSteps());
+      data.put("last", frame.isLast());
+      return data;
+    }
+
+    private Map<String, Object> endData() {
+      SimulationResult result = playback.getResult();
+      Map<String, Object> data = new HashMap<>();
+      data.put("status", result.getStatus().name());
+      data.put("message", result.getMessage());
+      data.put("finalMarking", result.getFinalMarking());
+      data.put("skippedSteps", playback.getSkipped());
+      return data;
+    }
+  }
+}
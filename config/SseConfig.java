@@ -3,6 +3,7 @@ package api.config;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
@@ -93,4 +94,21 @@ public class SseConfig implements WebMvcConfigurer {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * Executor for blocking SSE writes, so a slow client never holds a scheduler thread.
+     * Callers keep at most one write per stream in flight and skip work it rejects.
+     */
+    @Bean(name = "sseSendExecutor")
+    public TaskExecutor sseSendExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(16);
+        executor.setMaxPoolSize(64);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("sse-send-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,318 @@
+package core.petri;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Memory-compact, immutable marking over the place index of a {@link CompiledPetriNet}.
+ *
+ * Token counts are packed into a byte array using 1, 2 or 4 bytes per place; the width
+ * is always the smallest one that fits the marking, widening when a firing overflows it
+ * and narrowing when a firing drains the largest counts, so equal markings have equal
+ * bytes. Markings are only equal within one compiled net. The hash code is a linear
+ * combination of token counts with per-place seeds, computed once and updated
+ * incrementally on each firing, so probing a visited set never re-hashes the whole
+ * marking.
+ *
+ * Serializes through {@link Marking} so the API sees the same JSON shape.
+ *
+ * @author Obvian Labs
+ * @since POC Phase 1
+ */
+public final class CompactMarking {
+
+    private static final int BYTE_MAX = 0xFF;
+    private static final int SHORT_MAX = 0xFFFF;
+
+    private final CompiledPetriNet net;
+    private final byte[] data;
+    private final byte width;
+    private final int hash;
+
+    private CompactMarking(CompiledPetriNet net, byte[] data, int width, int hash) {
+        this.net = net;
+        this.data = data;
+        this.width = (byte) width;
+        this.hash = hash;
+    }
+
+    /**
+     * Create a compact marking from a token vector indexed by place
+     */
+    public static CompactMarking of(CompiledPetriNet net, int[] tokens) {
+        if (tokens.length != net.getPlaceCount()) {
+            throw new IllegalArgumentException("Token vector length " + tokens.length +
+                    " does not match place count " + net.getPlaceCount());
+        }
+        int width = 1;
+        for (int count : tokens) {
+            if (count < 0) {
+                throw new IllegalArgumentException("Token count must not be negative: " + count);
+            }
+            width = Math.max(width, widthFor(count));
+        }
+        byte[] data = new byte[tokens.length * width];
+        int hash = 0;
+        for (int place = 0; place < tokens.length; place++) {
+            write(data, width, place, tokens[place]);
+            hash += tokens[place] * seed(place);
+        }
+        return new CompactMarking(net, data, width, hash);
+    }
+
+    /**
+     * Create a compact marking from a string-keyed marking
+     */
+    public static CompactMarking of(CompiledPetriNet net, Marking marking) {
+        return of(net, net.toTokenVector(marking));
+    }
+
+    /**
+     * Initial marking of the compiled net
+     */
+    public static CompactMarking initial(CompiledPetriNet net) {
+        return of(net, net.initialTokenVector());
+    }
+
+    public CompiledPetriNet getNet() { return net; }
+
+    /**
+     * Get number of tokens at a place index
+     */
+    public int get(int place) {
+        return read(data, width, place);
+    }
+
+    /**
+     * Bytes used per place in the packed representation (1, 2 or 4)
+     */
+    public int getWidth() { return width; }
+
+    /**
+     * Decode token counts into the given buffer, which must hold one slot per place
+     */
+    public void copyInto(int[] buffer) {
+        int places = net.getPlaceCount();
+        switch (width) {
+            case 1:
+                for (int place = 0; place < places; place++) {
+                    buffer[place] = data[place] & BYTE_MAX;
+                }
+                break;
+            default:
+                for (int place = 0; place < places; place++) {
+                    buffer[place] = read(data, width, place);
+                }
+        }
+    }
+
+    /**
+     * Decode token counts into a new token vector
+     */
+    public int[] toTokenVector() {
+        int[] tokens = new int[net.getPlaceCount()];
+        copyInto(tokens);
+        return tokens;
+    }
+
+    /**
+     * Compute the successor marking reached by firing a transition.
+     * Only the places touched by the transition are rewritten and the hash is updated
+     * incrementally. The caller is responsible for checking enabledness first.
+     */
+    public CompactMarking fire(int transition) {
+        int[] places = net.changedPlaces(transition);
+        int[] weights = net.changeWeights(transition);
+
+        int nextWidth = width;
+        for (int i = 0; i < places.length; i++) {
+            int count = get(places[i]) + weights[i];
+            if (count < 0) {
+                throw new IllegalStateException("Transition " + net.transitionId(transition) +
+                        " is not enabled");
+            }
+            nextWidth = Math.max(nextWidth, widthFor(count));
+        }
+
+        byte[] next = nextWidth == width ? data.clone() : widen(nextWidth);
+        int nextHash = hash;
+        for (int i = 0; i < places.length; i++) {
+            write(next, nextWidth, places[i], get(places[i]) + weights[i]);
+            nextHash += weights[i] * seed(places[i]);
+        }
+        if (nextWidth > 1) {
+            int minimal = minimalWidth(next, nextWidth);
+            if (minimal < nextWidth) {
+                next = repack(next, nextWidth, minimal);
+                nextWidth = minimal;
+            }
+        }
+        return new CompactMarking(net, next, nextWidth, nextHash);
+    }
+
+    /**
+     * Size in bytes of the form written by {@link #writeTo(ByteBuffer)}
+     */
+    public int serializedSize() {
+        return 1 + data.length;
+    }
+
+    /**
+     * Write a width byte followed by the packed token counts. The width is the smallest
+     * that fits, so equal markings always serialize to equal bytes.
+     */
+    public void writeTo(ByteBuffer buffer) {
+        buffer.put(width);
+        buffer.put(data);
+    }
+
+    /**
+     * Read a marking written by {@link #writeTo(ByteBuffer)}
+     */
+    public static CompactMarking readFrom(CompiledPetriNet net, ByteBuffer buffer) {
+        int width = buffer.get();
+        byte[] data = new byte[net.getPlaceCount() * width];
+        buffer.get(data);
+        int hash = 0;
+        for (int place = 0; place < net.getPlaceCount(); place++) {
+            hash += read(data, width, place) * seed(place);
+        }
+        return new CompactMarking(net, data, width, hash);
+    }
+
+    /**
+     * Check if any place holds tokens
+     */
+    public boolean isEmpty() {
+        for (byte b : data) {
+            if (b != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Convert to a string-keyed marking
+     */
+    @JsonValue
+    public Marking toMarking() {
+        return new Marking(getTokens());
+    }
+
+    /**
+     * Token counts keyed by place ID, omitting empty places
+     */
+    public Map<String, Integer> getTokens() {
+        Map<String, Integer> tokens = new HashMap<>();
+        for (int place = 0; place < net.getPlaceCount(); place++) {
+            int count = get(place);
+            if (count > 0) {
+                tokens.put(net.placeId(place), count);
+            }
+        }
+        return tokens;
+    }
+
+    private byte[] widen(int nextWidth) {
+        return repack(data, width, nextWidth);
+    }
+
+    private byte[] repack(byte[] source, int sourceWidth, int targetWidth) {
+        int places = net.getPlaceCount();
+        byte[] target = new byte[places * targetWidth];
+        for (int place = 0; place < places; place++) {
+            write(target, targetWidth, place, read(source, sourceWidth, place));
+        }
+        return target;
+    }
+
+    private int minimalWidth(byte[] packed, int packedWidth) {
+        int max = 0;
+        for (int place = 0; place < net.getPlaceCount(); place++) {
+            max = Math.max(max, read(packed, packedWidth, place));
+        }
+        return widthFor(max);
+    }
+
+    private static int widthFor(int count) {
+        if (count <= BYTE_MAX) {
+            return 1;
+        }
+        return count <= SHORT_MAX ? 2 : 4;
+    }
+
+    private static int read(byte[] data, int width, int place) {
+        switch (width) {
+            case 1:
+                return data[place] & BYTE_MAX;
+            case 2: {
+                int offset = place << 1;
+                return (data[offset] & BYTE_MAX) | (data[offset + 1] & BYTE_MAX) << 8;
+            }
+            default: {
+                int offset = place << 2;
+                return (data[offset] & BYTE_MAX)
+                        | (data[offset + 1] & BYTE_MAX) << 8
+                        | (data[offset + 2] & BYTE_MAX) << 16
+                        | (data[offset + 3] & BYTE_MAX) << 24;
+            }
+        }
+    }
+
+    private static void write(byte[] data, int width, int place, int count) {
+        int offset = place * width;
+        for (int i = 0; i < width; i++) {
+            data[offset + i] = (byte) (count >>> (i << 3));
+        }
+    }
+
+    /**
+     * Per-place hash multiplier (odd, well mixed) so the hash is linear in token counts
+     */
+    private static int seed(int place) {
+        int h = (place + 1) * 0x9E3779B9;
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        return h | 1;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CompactMarking other = (CompactMarking) o;
+        return hash == other.hash
+                && net == other.net
+                && width == other.width
+                && Arrays.equals(data, other.data);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("Marking{");
+        boolean first = true;
+        for (int place = 0; place < net.getPlaceCount(); place++) {
+            int count = get(place);
+            if (count > 0) {
+                if (!first) {
+                    sb.append(", ");
+                }
+                sb.append(net.placeId(place)).append("=").append(count);
+                first = false;
+            }
+        }
+        sb.append("}");
+        return sb.toString();
+    }
+}
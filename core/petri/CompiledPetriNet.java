@@ -0,0 +1,444 @@
+package core.petri;
+
+import java.util.*;
+
+/**
+ * Integer-indexed, immutable runtime view of a {@link PetriNet}.
+ *
+ * Place and transition IDs are interned to dense indices once, and the pre/post
+ * incidence of every transition is precomputed as parallel int arrays. Enabledness
+ * and firing then cost O(|•t| + |t•|) instead of scanning the whole arc list, which
+ * is what the validator, simulator and projector rely on in their inner loops.
+ *
+ * Markings are represented as {@code int[]} token vectors indexed by place index.
+ * Arrays returned by accessors such as {@link #inputPlaces(int)} are shared with the
+ * compiled net and must be treated as read-only.
+ *
+ * Parallel arcs between the same place and transition are merged by summing their
+ * weights. Arcs that reference undeclared places or transitions are ignored, matching
+ * the lookups performed by {@link PetriNet#getInputPlaces(String)} and friends.
+ *
+ * @author Obvian Labs
+ * @since POC Phase 1
+ */
+public final class CompiledPetriNet {
+
+    /** Capacity value used for places without a capacity constraint */
+    public static final int UNBOUNDED = -1;
+
+    private final PetriNet source;
+
+    private final String[] placeIds;
+    private final String[] transitionIds;
+    private final Place[] places;
+    private final Transition[] transitions;
+    private final Map<String, Integer> placeIndex;
+    private final Map<String, Integer> transitionIndex;
+
+    // Per transition: input/output place indices and arc weights
+    private final int[][] preIndex;
+    private final int[][] preWeight;
+    private final int[][] postIndex;
+    private final int[][] postWeight;
+
+    // Per transition: net token change (post - pre) on the places it touches
+    private final int[][] deltaIndex;
+    private final int[][] deltaWeight;
+
+    // Per place: producing and consuming transitions
+    private final int[][] producers;
+    private final int[][] consumers;
+
+    // Per transition: transitions whose enabledness may change when it fires
+    private final int[][] dependents;
+
+    private final int[] capacity;
+    private final boolean[] capacityGuarded;
+    private final int[] transitionsById;
+    private final int[] idRank;
+
+    CompiledPetriNet(PetriNet net) {
+        this.source = net;
+
+        List<Place> placeList = net.getPlaces();
+        List<Transition> transitionList = net.getTransitions();
+        int placeCount = placeList.size();
+        int transitionCount = transitionList.size();
+
+        this.places = placeList.toArray(new Place[0]);
+        this.transitions = transitionList.toArray(new Transition[0]);
+        this.placeIds = new String[placeCount];
+        this.transitionIds = new String[transitionCount];
+        this.placeIndex = new HashMap<>(placeCount * 2);
+        this.transitionIndex = new HashMap<>(transitionCount * 2);
+        this.capacity = new int[placeCount];
+
+        for (int p = 0; p < placeCount; p++) {
+            placeIds[p] = places[p].getId();
+            placeIndex.putIfAbsent(placeIds[p], p);
+            Integer cap = places[p].getCapacity();
+            capacity[p] = cap != null ? cap : UNBOUNDED;
+        }
+        for (int t = 0; t < transitionCount; t++) {
+            transitionIds[t] = transitions[t].getId();
+            transitionIndex.putIfAbsent(transitionIds[t], t);
+        }
+
+        // Accumulate arc weights per (transition, place), preserving arc order
+        List<Map<Integer, Integer>> pre = new ArrayList<>(transitionCount);
+        List<Map<Integer, Integer>> post = new ArrayList<>(transitionCount);
+        for (int t = 0; t < transitionCount; t++) {
+            pre.add(new LinkedHashMap<>());
+            post.add(new LinkedHashMap<>());
+        }
+        for (Arc arc : net.getArcs()) {
+            Integer fromPlace = placeIndex.get(arc.getFrom());
+            Integer toTransition = transitionIndex.get(arc.getTo());
+            if (fromPlace != null && toTransition != null) {
+                pre.get(toTransition).merge(fromPlace, arc.getWeight(), Integer::sum);
+                continue;
+            }
+            Integer fromTransition = transitionIndex.get(arc.getFrom());
+            Integer toPlace = placeIndex.get(arc.getTo());
+            if (fromTransition != null && toPlace != null) {
+                post.get(fromTransition).merge(toPlace, arc.getWeight(), Integer::sum);
+            }
+        }
+
+        this.preIndex = new int[transitionCount][];
+        this.preWeight = new int[transitionCount][];
+        this.postIndex = new int[transitionCount][];
+        this.postWeight = new int[transitionCount][];
+        this.deltaIndex = new int[transitionCount][];
+        this.deltaWeight = new int[transitionCount][];
+        this.capacityGuarded = new boolean[transitionCount];
+
+        List<List<Integer>> producerLists = new ArrayList<>(placeCount);
+        List<List<Integer>> consumerLists = new ArrayList<>(placeCount);
+        for (int p = 0; p < placeCount; p++) {
+            producerLists.add(new ArrayList<>());
+            consumerLists.add(new ArrayList<>());
+        }
+
+        for (int t = 0; t < transitionCount; t++) {
+            preIndex[t] = keys(pre.get(t));
+            preWeight[t] = values(pre.get(t));
+            postIndex[t] = keys(post.get(t));
+            postWeight[t] = values(post.get(t));
+
+            for (int p : preIndex[t]) {
+                consumerLists.get(p).add(t);
+            }
+            for (int p : postIndex[t]) {
+                producerLists.get(p).add(t);
+                if (capacity[p] != UNBOUNDED) {
+                    capacityGuarded[t] = true;
+                }
+            }
+
+            Map<Integer, Integer> delta = new LinkedHashMap<>();
+            for (int i = 0; i < preIndex[t].length; i++) {
+                delta.merge(preIndex[t][i], -preWeight[t][i], Integer::sum);
+            }
+            for (int i = 0; i < postIndex[t].length; i++) {
+                delta.merge(postIndex[t][i], postWeight[t][i], Integer::sum);
+            }
+            delta.values().removeIf(v -> v == 0);
+            deltaIndex[t] = keys(delta);
+            deltaWeight[t] = values(delta);
+        }
+
+        this.producers = new int[placeCount][];
+        this.consumers = new int[placeCount][];
+        for (int p = 0; p < placeCount; p++) {
+            producers[p] = producerLists.get(p).stream().mapToInt(Integer::intValue).toArray();
+            consumers[p] = consumerLists.get(p).stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        Integer[] order = new Integer[transitionCount];
+        for (int t = 0; t < transitionCount; t++) {
+            order[t] = t;
+        }
+        Arrays.sort(order, Comparator.comparing(t -> transitionIds[t]));
+        this.transitionsById = Arrays.stream(order).mapToInt(Integer::intValue).toArray();
+        this.idRank = new int[transitionCount];
+        for (int rank = 0; rank < transitionCount; rank++) {
+            idRank[transitionsById[rank]] = rank;
+        }
+
+        // Firing t only changes the places in its delta, so only consumers of those places
+        // (and producers, when the place has a capacity) need their enabledness re-checked
+        this.dependents = new int[transitionCount][];
+        for (int t = 0; t < transitionCount; t++) {
+            Set<Integer> affected = new LinkedHashSet<>();
+            for (int p : deltaIndex[t]) {
+                for (int consumer : consumers[p]) {
+                    affected.add(consumer);
+                }
+                if (capacity[p] != UNBOUNDED) {
+                    for (int producer : producers[p]) {
+                        affected.add(producer);
+                    }
+                }
+            }
+            dependents[t] = affected.stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    // Index lookups
+
+    public PetriNet getSource() { return source; }
+    public int getPlaceCount() { return placeIds.length; }
+    public int getTransitionCount() { return transitionIds.length; }
+
+    /**
+     * Get dense index of a place, or -1 if the place is not declared
+     */
+    public int placeIndex(String placeId) {
+        Integer index = placeIndex.get(placeId);
+        return index != null ? index : -1;
+    }
+
+    /**
+     * Get dense index of a transition, or -1 if the transition is not declared
+     */
+    public int transitionIndex(String transitionId) {
+        Integer index = transitionIndex.get(transitionId);
+        return index != null ? index : -1;
+    }
+
+    public String placeId(int place) { return placeIds[place]; }
+    public String transitionId(int transition) { return transitionIds[transition]; }
+    public Place getPlace(int place) { return places[place]; }
+    public Transition getTransition(int transition) { return transitions[transition]; }
+
+    /**
+     * Capacity of a place, or {@link #UNBOUNDED} if it has none
+     */
+    public int capacity(int place) { return capacity[place]; }
+
+    // Incidence structure (shared arrays, read-only)
+
+    public int[] inputPlaces(int transition) { return preIndex[transition]; }
+    public int[] inputWeights(int transition) { return preWeight[transition]; }
+    public int[] outputPlaces(int transition) { return postIndex[transition]; }
+    public int[] outputWeights(int transition) { return postWeight[transition]; }
+
+    /**
+     * Places whose token count changes when the transition fires
+     */
+    public int[] changedPlaces(int transition) { return deltaIndex[transition]; }
+
+    /**
+     * Net token change for each place in {@link #changedPlaces(int)}
+     */
+    public int[] changeWeights(int transition) { return deltaWeight[transition]; }
+
+    /**
+     * Transitions with an arc into the given place
+     */
+    public int[] producers(int place) { return producers[place]; }
+
+    /**
+     * Transitions with an arc out of the given place
+     */
+    public int[] consumers(int place) { return consumers[place]; }
+
+    /**
+     * Transition indices ordered lexicographically by transition ID
+     */
+    public int[] transitionsInIdOrder() { return transitionsById; }
+
+    /**
+     * Position of a transition in {@link #transitionsInIdOrder()}
+     */
+    public int idRank(int transition) { return idRank[transition]; }
+
+    /**
+     * Transitions whose enabledness may change when the given transition fires
+     */
+    public int[] dependents(int transition) { return dependents[transition]; }
+
+    // Firing semantics over int[] token vectors
+
+    /**
+     * Check if transition is enabled in given token vector
+     * Enable Rule: M(p) ≥ w(p→t) for all inputs; capacity check on outputs if cap(q) present
+     */
+    public boolean isEnabled(int transition, int[] tokens) {
+        int[] in = preIndex[transition];
+        int[] inWeight = preWeight[transition];
+        for (int i = 0; i < in.length; i++) {
+            if (tokens[in[i]] < inWeight[i]) {
+                return false;
+            }
+        }
+
+        if (capacityGuarded[transition]) {
+            int[] out = postIndex[transition];
+            int[] outWeight = postWeight[transition];
+            for (int i = 0; i < out.length; i++) {
+                int cap = capacity[out[i]];
+                if (cap != UNBOUNDED && tokens[out[i]] + outWeight[i] > cap) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Get all enabled transitions in declaration order
+     */
+    public int[] enabledTransitions(int[] tokens) {
+        int[] enabled = new int[transitionIds.length];
+        int count = 0;
+        for (int t = 0; t < transitionIds.length; t++) {
+            if (isEnabled(t, tokens)) {
+                enabled[count++] = t;
+            }
+        }
+        return Arrays.copyOf(enabled, count);
+    }
+
+    /**
+     * Check whether any transition is enabled
+     */
+    public boolean hasEnabledTransition(int[] tokens) {
+        for (int t = 0; t < transitionIds.length; t++) {
+            if (isEnabled(t, tokens)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Fire a transition and return the successor token vector.
+     * Firing Effect: M' = M − Σ_in w + Σ_out w
+     */
+    public int[] fire(int transition, int[] tokens) {
+        int[] next = tokens.clone();
+        fireInPlace(transition, next);
+        return next;
+    }
+
+    /**
+     * Apply the firing effect of a transition directly to the given token vector.
+     * The caller is responsible for checking enabledness first.
+     */
+    public void fireInPlace(int transition, int[] tokens) {
+        int[] places = deltaIndex[transition];
+        int[] weights = deltaWeight[transition];
+        for (int i = 0; i < places.length; i++) {
+            tokens[places[i]] += weights[i];
+        }
+    }
+
+    /**
+     * Check if token vector is terminal (no enabled transitions and tokens only in final places)
+     */
+    public boolean isTerminal(int[] tokens) {
+        if (hasEnabledTransition(tokens)) {
+            return false;
+        }
+        for (int p = 0; p < placeIds.length; p++) {
+            if (tokens[p] > 0 && consumers[p].length > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Conversions between Marking and token vectors
+
+    /**
+     * Convert a marking to a token vector. Tokens on undeclared places are dropped.
+     */
+    public int[] toTokenVector(Marking marking) {
+        int[] tokens = new int[placeIds.length];
+        for (Map.Entry<String, Integer> entry : marking.getTokens().entrySet()) {
+            Integer index = placeIndex.get(entry.getKey());
+            if (index != null) {
+                tokens[index] = entry.getValue();
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Convert a token vector back to a marking
+     */
+    public Marking toMarking(int[] tokens) {
+        Map<String, Integer> map = new HashMap<>();
+        for (int p = 0; p < tokens.length; p++) {
+            if (tokens[p] > 0) {
+                map.put(placeIds[p], tokens[p]);
+            }
+        }
+        return new Marking(map);
+    }
+
+    /**
+     * Initial marking of the source net as a token vector
+     */
+    public int[] initialTokenVector() {
+        return toTokenVector(source.getInitialMarking());
+    }
+
+    // Firing semantics over Marking, for callers that keep string-keyed markings
+
+    public boolean isEnabled(int transition, Marking marking) {
+        int[] in = preIndex[transition];
+        int[] inWeight = preWeight[transition];
+        for (int i = 0; i < in.length; i++) {
+            if (marking.getTokens(placeIds[in[i]]) < inWeight[i]) {
+                return false;
+            }
+        }
+
+        if (capacityGuarded[transition]) {
+            int[] out = postIndex[transition];
+            int[] outWeight = postWeight[transition];
+            for (int i = 0; i < out.length; i++) {
+                int cap = capacity[out[i]];
+                if (cap != UNBOUNDED && marking.getTokens(placeIds[out[i]]) + outWeight[i] > cap) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Fire a transition on a marking. Tokens on undeclared places are preserved.
+     */
+    public Marking fire(int transition, Marking marking) {
+        Map<String, Integer> next = marking.getTokens();
+        int[] places = deltaIndex[transition];
+        int[] weights = deltaWeight[transition];
+        for (int i = 0; i < places.length; i++) {
+            next.merge(placeIds[places[i]], weights[i], Integer::sum);
+        }
+        return new Marking(next);
+    }
+
+    private static int[] keys(Map<Integer, Integer> map) {
+        return map.keySet().stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static int[] values(Map<Integer, Integer> map) {
+        return map.values().stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    @Override
+    public String toString() {
+        return "CompiledPetriNet{" +
+                "netId='" + source.getId() + '\'' +
+                ", places=" + placeIds.length +
+                ", transitions=" + transitionIds.length +
+                '}';
+    }
+}
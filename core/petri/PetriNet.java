@@ -53,6 +53,12 @@ public class PetriNet {
     @JsonProperty("derivedFromDagId")
     private final String derivedFromDagId;
     
+    @JsonIgnore
+    private volatile CompiledPetriNet compiled;
+    
+    @JsonIgnore
+    private volatile String contentHash;
+    
     @JsonCreator
     public PetriNet(
             @JsonProperty("id") String id,
@@ -91,28 +97,51 @@ public class PetriNet {
     public Map<String, Object> getMetadata() { return new HashMap<>(metadata); }
     public String getDerivedFromDagId() { return derivedFromDagId; }
     
+    /**
+     * Get the integer-indexed runtime view of this net.
+     * Compiled lazily on first use and cached, since the net structure is immutable.
+     */
+    public CompiledPetriNet compile() {
+        CompiledPetriNet result = compiled;
+        if (result == null) {
+            synchronized (this) {
+                result = compiled;
+                if (result == null) {
+                    result = new CompiledPetriNet(this);
+                    compiled = result;
+                }
+            }
+        }
+        return result;
+    }
+    
     /**
      * Get place by ID
      */
     public Optional<Place> getPlace(String placeId) {
-        return places.stream()
-                .filter(p -> p.getId().equals(placeId))
-                .findFirst();
+        CompiledPetriNet net = compile();
+        int index = net.placeIndex(placeId);
+        return index >= 0 ? Optional.of(net.getPlace(index)) : Optional.empty();
     }
     
     /**
      * Get transition by ID
      */
     public Optional<Transition> getTransition(String transitionId) {
-        return transitions.stream()
-                .filter(t -> t.getId().equals(transitionId))
-                .findFirst();
+        CompiledPetriNet net = compile();
+        int index = net.transitionIndex(transitionId);
+        return index >= 0 ? Optional.of(net.getTransition(index)) : Optional.empty();
     }
     
     /**
      * Get input places for a transition
      */
     public List<Place> getInputPlaces(String transitionId) {
+        CompiledPetriNet net = compile();
+        int transition = net.transitionIndex(transitionId);
+        if (transition >= 0) {
+            return placesAt(net, net.inputPlaces(transition));
+        }
         return arcs.stream()
                 .filter(arc -> arc.getTo().equals(transitionId))
                 .map(arc -> getPlace(arc.getFrom()))
@@ -125,6 +154,11 @@ public class PetriNet {
      * Get output places for a transition
      */
     public List<Place> getOutputPlaces(String transitionId) {
+        CompiledPetriNet net = compile();
+        int transition = net.transitionIndex(transitionId);
+        if (transition >= 0) {
+            return placesAt(net, net.outputPlaces(transition));
+        }
         return arcs.stream()
                 .filter(arc -> arc.getFrom().equals(transitionId))
                 .map(arc -> getPlace(arc.getTo()))
@@ -137,6 +171,11 @@ public class PetriNet {
      * Get input transitions for a place
      */
     public List<Transition> getInputTransitions(String placeId) {
+        CompiledPetriNet net = compile();
+        int place = net.placeIndex(placeId);
+        if (place >= 0) {
+            return transitionsAt(net, net.producers(place));
+        }
         return arcs.stream()
                 .filter(arc -> arc.getTo().equals(placeId))
                 .map(arc -> getTransition(arc.getFrom()))
@@ -149,6 +188,11 @@ public class PetriNet {
      * Get output transitions for a place
      */
     public List<Transition> getOutputTransitions(String placeId) {
+        CompiledPetriNet net = compile();
+        int place = net.placeIndex(placeId);
+        if (place >= 0) {
+            return transitionsAt(net, net.consumers(place));
+        }
         return arcs.stream()
                 .filter(arc -> arc.getFrom().equals(placeId))
                 .map(arc -> getTransition(arc.getTo()))
@@ -161,6 +205,17 @@ public class PetriNet {
      * Get arc weight between two nodes
      */
     public int getArcWeight(String fromId, String toId) {
+        CompiledPetriNet net = compile();
+        int fromPlace = net.placeIndex(fromId);
+        int toTransition = net.transitionIndex(toId);
+        if (fromPlace >= 0 && toTransition >= 0) {
+            return weightOf(net.inputPlaces(toTransition), net.inputWeights(toTransition), fromPlace);
+        }
+        int fromTransition = net.transitionIndex(fromId);
+        int toPlace = net.placeIndex(toId);
+        if (fromTransition >= 0 && toPlace >= 0) {
+            return weightOf(net.outputPlaces(fromTransition), net.outputWeights(fromTransition), toPlace);
+        }
         return arcs.stream()
                 .filter(arc -> arc.getFrom().equals(fromId) && arc.getTo().equals(toId))
                 .findFirst()
@@ -168,11 +223,42 @@ public class PetriNet {
                 .orElse(0);
     }
     
+    private static List<Place> placesAt(CompiledPetriNet net, int[] indices) {
+        List<Place> result = new ArrayList<>(indices.length);
+        for (int index : indices) {
+            result.add(net.getPlace(index));
+        }
+        return result;
+    }
+    
+    private static List<Transition> transitionsAt(CompiledPetriNet net, int[] indices) {
+        List<Transition> result = new ArrayList<>(indices.length);
+        for (int index : indices) {
+            result.add(net.getTransition(index));
+        }
+        return result;
+    }
+    
+    private static int weightOf(int[] indices, int[] weights, int target) {
+        for (int i = 0; i < indices.length; i++) {
+            if (indices[i] == target) {
+                return weights[i];
+            }
+        }
+        return 0;
+    }
+    
     /**
      * Check if transition is enabled in given marking
      * Enable Rule: M(p) ≥ w(p→t) for all inputs; capacity check on outputs if cap(q) present
      */
     public boolean isEnabled(String transitionId, Marking marking) {
+        CompiledPetriNet net = compile();
+        int transition = net.transitionIndex(transitionId);
+        if (transition >= 0) {
+            return net.isEnabled(transition, marking);
+        }
+        
         List<Place> inputPlaces = getInputPlaces(transitionId);
         List<Place> outputPlaces = getOutputPlaces(transitionId);
         
@@ -203,9 +289,14 @@ public class PetriNet {
      * Get all enabled transitions in given marking
      */
     public List<Transition> getEnabledTransitions(Marking marking) {
-        return transitions.stream()
-                .filter(t -> isEnabled(t.getId(), marking))
-                .collect(Collectors.toList());
+        CompiledPetriNet net = compile();
+        List<Transition> enabled = new ArrayList<>();
+        for (int t = 0; t < net.getTransitionCount(); t++) {
+            if (net.isEnabled(t, marking)) {
+                enabled.add(net.getTransition(t));
+            }
+        }
+        return enabled;
     }
     
     /**
@@ -217,6 +308,12 @@ public class PetriNet {
             throw new IllegalStateException("Transition " + transitionId + " is not enabled");
         }
         
+        CompiledPetriNet net = compile();
+        int transition = net.transitionIndex(transitionId);
+        if (transition >= 0) {
+            return net.fire(transition, marking);
+        }
+        
         Map<String, Integer> newTokens = new HashMap<>(marking.getTokens());
         
         // Remove tokens from input places
@@ -240,23 +337,26 @@ public class PetriNet {
      * Check if marking is terminal (tokens in final places and no enabled transitions)
      */
     public boolean isTerminal(Marking marking) {
-        // Check if any transitions are enabled
-        if (!getEnabledTransitions(marking).isEmpty()) {
-            return false;
-        }
-        
-        // Check if tokens are in final places (places with no output transitions)
-        for (Place place : places) {
-            if (marking.getTokens(place.getId()) > 0) {
-                List<Transition> outputs = getOutputTransitions(place.getId());
-                if (!outputs.isEmpty()) {
-                    // Tokens in non-final place with no enabled transitions = deadlock
-                    return false;
-                }
-            }
+        // No enabled transitions and tokens only in final places (places with no output transitions)
+        CompiledPetriNet net = compile();
+        return net.isTerminal(net.toTokenVector(marking));
+    }
+    
+    /**
+     * Get the SHA-1 hex digest of the normalized PetriNet JSON.
+     * Unlike {@link #getId()}, which may be supplied by the caller, this always identifies
+     * the structure, so structurally equal nets share it across requests.
+     *
+     * @return Full hex digest, or null if the net could not be hashed
+     */
+    @JsonIgnore
+    public String getContentHash() {
+        String hash = contentHash;
+        if (hash == null) {
+            hash = computeContentHash();
+            contentHash = hash;
         }
-        
-        return true;
+        return hash;
     }
     
     /**
@@ -264,6 +364,15 @@ public class PetriNet {
      */
     @JsonIgnore
     private String generateStableId() {
+        String hash = getContentHash();
+        if (hash == null) {
+            // Fallback to timestamp-based ID
+            return "petri_" + System.currentTimeMillis();
+        }
+        return "petri_" + hash.substring(0, 12);
+    }
+    
+    private String computeContentHash() {
         try {
             // Create normalized representation for hashing
             Map<String, Object> normalized = new TreeMap<>();
@@ -297,11 +406,10 @@ public class PetriNet {
                 hexString.append(hex);
             }
             
-            return "petri_" + hexString.toString().substring(0, 12);
+            return hexString.toString();
             
         } catch (Exception e) {
-            // Fallback to timestamp-based ID
-            return "petri_" + System.currentTimeMillis();
+            return null;
         }
     }
     
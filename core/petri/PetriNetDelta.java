@@ -0,0 +1,335 @@
+package core.petri;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A sequence of small edits to a Petri net, as sent by an editor after each change.
+ * Edits add or remove places, transitions, arcs and initial tokens, and are applied
+ * in order to produce a new net.
+ *
+ * @author Obvian Labs
+ * @since POC Phase 1
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class PetriNetDelta {
+
+    /**
+     * Kind of edit
+     */
+    public enum Operation {
+        ADD_PLACE,
+        REMOVE_PLACE,
+        ADD_TRANSITION,
+        REMOVE_TRANSITION,
+        ADD_ARC,
+        REMOVE_ARC,
+        ADD_TOKENS,
+        REMOVE_TOKENS
+    }
+
+    @JsonProperty("edits")
+    private final List<Edit> edits;
+
+    @JsonCreator
+    public PetriNetDelta(@JsonProperty("edits") List<Edit> edits) {
+        this.edits = edits != null ? new ArrayList<>(edits) : new ArrayList<>();
+    }
+
+    public List<Edit> getEdits() { return new ArrayList<>(edits); }
+
+    public boolean isEmpty() {
+        return edits.isEmpty();
+    }
+
+    /**
+     * Apply the edits in order to a base net. The result keeps the base net's name,
+     * description and metadata but gets a new ID from its content hash.
+     *
+     * Removing a place or transition also removes its arcs, and removing a place its tokens.
+     *
+     * @throws IllegalArgumentException if an edit adds an element that exists, refers to one
+     *         that does not, adds an arc that does not join a place and a transition, or
+     *         removes more tokens than a place holds
+     */
+    public PetriNet applyTo(PetriNet base) {
+        Map<String, Place> places = new LinkedHashMap<>();
+        for (Place place : base.getPlaces()) {
+            places.put(place.getId(), place);
+        }
+        Map<String, Transition> transitions = new LinkedHashMap<>();
+        for (Transition transition : base.getTransitions()) {
+            transitions.put(transition.getId(), transition);
+        }
+        List<Arc> arcs = base.getArcs();
+        Map<String, Integer> tokens = new HashMap<>(base.getInitialMarking().getTokens());
+
+        for (Edit edit : edits) {
+            switch (edit.getOperation()) {
+                case ADD_PLACE: {
+                    String id = edit.getPlace().getId();
+                    requireAbsent(id, places, transitions);
+                    places.put(id, edit.getPlace());
+                    break;
+                }
+                case REMOVE_PLACE: {
+                    String id = edit.getElementId();
+                    requirePresent(id, places, "Place");
+                    places.remove(id);
+                    arcs.removeIf(arc -> arc.getFrom().equals(id) || arc.getTo().equals(id));
+                    tokens.remove(id);
+                    break;
+                }
+                case ADD_TRANSITION: {
+                    String id = edit.getTransition().getId();
+                    requireAbsent(id, places, transitions);
+                    transitions.put(id, edit.getTransition());
+                    break;
+                }
+                case REMOVE_TRANSITION: {
+                    String id = edit.getElementId();
+                    requirePresent(id, transitions, "Transition");
+                    transitions.remove(id);
+                    arcs.removeIf(arc -> arc.getFrom().equals(id) || arc.getTo().equals(id));
+                    break;
+                }
+                case ADD_ARC: {
+                    Arc arc = edit.getArc();
+                    boolean placeToTransition = places.containsKey(arc.getFrom()) && transitions.containsKey(arc.getTo());
+                    boolean transitionToPlace = transitions.containsKey(arc.getFrom()) && places.containsKey(arc.getTo());
+                    if (!placeToTransition && !transitionToPlace) {
+                        throw new IllegalArgumentException("Arc " + arc.getFrom() + " -> " + arc.getTo()
+                                + " must connect an existing place and transition");
+                    }
+                    if (indexOfArc(arcs, arc.getFrom(), arc.getTo()) >= 0) {
+                        throw new IllegalArgumentException("Arc " + arc.getFrom() + " -> " + arc.getTo()
+                                + " already exists");
+                    }
+                    arcs.add(arc);
+                    break;
+                }
+                case REMOVE_ARC: {
+                    Arc arc = edit.getArc();
+                    int index = indexOfArc(arcs, arc.getFrom(), arc.getTo());
+                    if (index < 0) {
+                        throw new IllegalArgumentException("Arc " + arc.getFrom() + " -> " + arc.getTo()
+                                + " does not exist");
+                    }
+                    arcs.remove(index);
+                    break;
+                }
+                case ADD_TOKENS: {
+                    String id = edit.getElementId();
+                    requirePresent(id, places, "Place");
+                    tokens.merge(id, edit.getTokens(), Integer::sum);
+                    break;
+                }
+                case REMOVE_TOKENS: {
+                    String id = edit.getElementId();
+                    requirePresent(id, places, "Place");
+                    int remaining = tokens.getOrDefault(id, 0) - edit.getTokens();
+                    if (remaining < 0) {
+                        throw new IllegalArgumentException("Place " + id + " holds fewer than "
+                                + edit.getTokens() + " tokens");
+                    }
+                    tokens.put(id, remaining);
+                    break;
+                }
+                default:
+                    throw new IllegalArgumentException("Unsupported edit: " + edit.getOperation());
+            }
+        }
+
+        return new PetriNet(null, base.getName(), base.getDescription(),
+                new ArrayList<>(places.values()), new ArrayList<>(transitions.values()), arcs,
+                new Marking(tokens), base.getSchemaVersion(), base.getMetadata(), base.getDerivedFromDagId());
+    }
+
+    private static void requireAbsent(String id, Map<String, Place> places, Map<String, Transition> transitions) {
+        if (places.containsKey(id) || transitions.containsKey(id)) {
+            throw new IllegalArgumentException("Element " + id + " already exists");
+        }
+    }
+
+    private static void requirePresent(String id, Map<String, ?> elements, String kind) {
+        if (!elements.containsKey(id)) {
+            throw new IllegalArgumentException(kind + " " + id + " does not exist");
+        }
+    }
+
+    private static int indexOfArc(List<Arc> arcs, String from, String to) {
+        for (int i = 0; i < arcs.size(); i++) {
+            if (arcs.get(i).getFrom().equals(from) && arcs.get(i).getTo().equals(to)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Builder pattern for creating PetriNetDelta instances
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private final List<Edit> edits = new ArrayList<>();
+
+        public Builder addPlace(Place place) {
+            edits.add(new Edit(Operation.ADD_PLACE, place, null, null, null, 0));
+            return this;
+        }
+
+        public Builder removePlace(String placeId) {
+            edits.add(new Edit(Operation.REMOVE_PLACE, null, null, null, placeId, 0));
+            return this;
+        }
+
+        public Builder addTransition(Transition transition) {
+            edits.add(new Edit(Operation.ADD_TRANSITION, null, transition, null, null, 0));
+            return this;
+        }
+
+        public Builder removeTransition(String transitionId) {
+            edits.add(new Edit(Operation.REMOVE_TRANSITION, null, null, null, transitionId, 0));
+            return this;
+        }
+
+        public Builder addArc(Arc arc) {
+            edits.add(new Edit(Operation.ADD_ARC, null, null, arc, null, 0));
+            return this;
+        }
+
+        public Builder addArc(String from, String to) {
+            return addArc(new Arc(from, to));
+        }
+
+        public Builder removeArc(String from, String to) {
+            edits.add(new Edit(Operation.REMOVE_ARC, null, null, new Arc(from, to), null, 0));
+            return this;
+        }
+
+        public Builder addTokens(String placeId, int tokens) {
+            edits.add(new Edit(Operation.ADD_TOKENS, null, null, null, placeId, tokens));
+            return this;
+        }
+
+        public Builder removeTokens(String placeId, int tokens) {
+            edits.add(new Edit(Operation.REMOVE_TOKENS, null, null, null, placeId, tokens));
+            return this;
+        }
+
+        public PetriNetDelta build() {
+            return new PetriNetDelta(edits);
+        }
+    }
+
+    /**
+     * A single edit. Place and transition additions carry the new element, arc edits the arc
+     * (matched by source and target on removal), and the other edits the ID of the element
+     * they change.
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Edit {
+
+        @JsonProperty("operation")
+        private final Operation operation;
+
+        @JsonProperty("place")
+        private final Place place;
+
+        @JsonProperty("transition")
+        private final Transition transition;
+
+        @JsonProperty("arc")
+        private final Arc arc;
+
+        @JsonProperty("elementId")
+        private final String elementId;
+
+        @JsonProperty("tokens")
+        private final int tokens;
+
+        @JsonCreator
+        public Edit(
+                @JsonProperty("operation") Operation operation,
+                @JsonProperty("place") Place place,
+                @JsonProperty("transition") Transition transition,
+                @JsonProperty("arc") Arc arc,
+                @JsonProperty("elementId") String elementId,
+                @JsonProperty("tokens") int tokens) {
+            if (operation == null) {
+                throw new IllegalArgumentException("Edit operation cannot be null");
+            }
+            switch (operation) {
+                case ADD_PLACE:
+                    if (place == null) {
+                        throw new IllegalArgumentException("ADD_PLACE requires a place");
+                    }
+                    break;
+                case ADD_TRANSITION:
+                    if (transition == null) {
+                        throw new IllegalArgumentException("ADD_TRANSITION requires a transition");
+                    }
+                    break;
+                case ADD_ARC:
+                case REMOVE_ARC:
+                    if (arc == null) {
+                        throw new IllegalArgumentException(operation + " requires an arc");
+                    }
+                    break;
+                case ADD_TOKENS:
+                case REMOVE_TOKENS:
+                    if (tokens <= 0) {
+                        throw new IllegalArgumentException(operation + " requires a positive token count");
+                    }
+                    requireElementId(operation, elementId);
+                    break;
+                default:
+                    requireElementId(operation, elementId);
+                    break;
+            }
+
+            this.operation = operation;
+            this.place = place;
+            this.transition = transition;
+            this.arc = arc;
+            this.elementId = elementId != null ? elementId.trim() : null;
+            this.tokens = tokens;
+        }
+
+        private static void requireElementId(Operation operation, String elementId) {
+            if (elementId == null || elementId.trim().isEmpty()) {
+                throw new IllegalArgumentException(operation + " requires an element ID");
+            }
+        }
+
+        // Getters
+        public Operation getOperation() { return operation; }
+        public Place getPlace() { return place; }
+        public Transition getTransition() { return transition; }
+        public Arc getArc() { return arc; }
+        public String getElementId() { return elementId; }
+        public int getTokens() { return tokens; }
+
+        @Override
+        public String toString() {
+            return "Edit{" +
+                    "operation=" + operation +
+                    (place != null ? ", place=" + place.getId() : "") +
+                    (transition != null ? ", transition=" + transition.getId() : "") +
+                    (arc != null ? ", arc=" + arc : "") +
+                    (elementId != null ? ", elementId='" + elementId + '\'' : "") +
+                    (tokens != 0 ? ", tokens=" + tokens : "") +
+                    '}';
+        }
+    }
+}
@@ -202,6 +202,13 @@ public class Transition {
         return hasTimeout() || hasDelay() || Boolean.TRUE.equals(metadata.get("isTimed"));
     }
 
+    /**
+     * Check if the delay is the mean of an exponential distribution rather than fixed
+     */
+    public boolean hasExponentialDelay() {
+        return "exponential".equals(metadata.get("delayDistribution"));
+    }
+
     /**
      * Check if this is an immediate transition (fires as soon as enabled)
      */
@@ -590,6 +597,12 @@ public class Transition {
             return this;
         }
 
+        public Builder exponentialDelay(long meanDelayMs) {
+            this.delayMs = meanDelayMs;
+            this.metadata.put("delayDistribution", "exponential");
+            return this;
+        }
+
         public Transition build() {
             return new Transition(id, name, description, action, guard, metadata,
                                 timeoutMs, delayMs, retryPolicy, inhibitorConditions);
@@ -3,15 +3,14 @@ package core.petri.projection;
 // DAG and TaskNode are in the root package
 import core.DAG;
 import core.TaskNode;
+import core.petri.CompiledPetriNet;
 import core.petri.PetriNet;
-import core.petri.Place;
 import core.petri.Transition;
 import core.petri.Arc;
 
 import org.springframework.stereotype.Component;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * Projects a validated Petri net to an executable DAG for integration with existing infrastructure.
@@ -145,29 +144,21 @@ public class PetriToDagProjector {
      */
     private List<EdgeInfo> applyProjectionAlgorithm(PetriNet petriNet) {
         List<EdgeInfo> edges = new ArrayList<>();
+        CompiledPetriNet net = petriNet.compile();
 
-        for (Place place : petriNet.getPlaces()) {
-            String placeId = place.getId();
-
-            // Find all transitions that produce tokens to this place (producers)
-            List<String> producers = petriNet.getInputTransitions(placeId)
-                    .stream()
-                    .map(Transition::getId)
-                    .collect(Collectors.toList());
-
-            // Find all transitions that consume tokens from this place (consumers)
-            List<String> consumers = petriNet.getOutputTransitions(placeId)
-                    .stream()
-                    .map(Transition::getId)
-                    .collect(Collectors.toList());
+        for (int place = 0; place < net.getPlaceCount(); place++) {
+            // Transitions that produce tokens to this place (producers)
+            // and transitions that consume tokens from it (consumers)
+            int[] producers = net.producers(place);
+            int[] consumers = net.consumers(place);
 
             // Apply projection rule: single producer and single consumer
-            if (producers.size() == 1 && consumers.size() == 1) {
-                String producer = producers.get(0);
-                String consumer = consumers.get(0);
+            if (producers.length == 1 && consumers.length == 1) {
+                String producer = net.transitionId(producers[0]);
+                String consumer = net.transitionId(consumers[0]);
 
                 // Create edge from producer to consumer through this place
-                EdgeInfo edge = new EdgeInfo(producer, consumer, Arrays.asList(placeId));
+                EdgeInfo edge = new EdgeInfo(producer, consumer, Arrays.asList(net.placeId(place)));
                 edges.add(edge);
             }
         }
@@ -0,0 +1,319 @@
+package core.petri.simulation;
+
+import core.petri.CompiledPetriNet;
+import core.petri.Marking;
+
+import java.time.Instant;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * In-memory delta-encoded trace kept as a ring buffer of the most recent steps.
+ *
+ * Per step only the fired transition index and the timestamp are stored; every
+ * keyframe-interval steps the full token vector is kept as a keyframe. The marking
+ * after any retained step is rebuilt by replaying from the nearest keyframe at or
+ * before it, so random access costs at most one keyframe interval of firings. Full
+ * {@link TraceEvent}s, with markings and enabled transitions, are only built when
+ * {@link #events()} is read.
+ *
+ * Once the capacity is reached the oldest step is dropped on every firing. Its delta is
+ * applied to a base token vector, which always holds the marking just before the
+ * oldest retained step, and keyframes older than the base are discarded. Markings on
+ * places the net does not declare are not traced. Not thread-safe: write and read from
+ * the thread running the simulation, or after the run. Event views taken with
+ * {@link #events(int)} are snapshots and may be read from any thread.
+ *
+ * @author Obvian Labs
+ * @since POC Phase 1
+ */
+public final class DeltaTrace implements TraceSink {
+
+    private final int capacity;
+    private final int keyframeInterval;
+
+    private String simulationId;
+    private CompiledPetriNet net;
+    private SimulationConfig config;
+
+    // Step s is stored at index (s - 1) % transitions.length; arrays grow until capacity
+    private int[] transitions;
+    private long[] timestamps;
+    private int firstSequence = 1;
+    private int lastSequence;
+
+    // Token vector after step firstSequence - 1, rolled forward as steps are dropped
+    private int[] baseTokens;
+    // Token vectors after the keyed steps, all later than the base
+    private final TreeMap<Integer, int[]> keyframes = new TreeMap<>();
+
+    /**
+     * Unbounded trace with the default keyframe interval
+     */
+    public DeltaTrace() {
+        this(Integer.MAX_VALUE, DEFAULT_KEYFRAME_INTERVAL);
+    }
+
+    /**
+     * @param capacity Maximum number of retained steps
+     * @param keyframeInterval Steps between full-marking keyframes
+     */
+    public DeltaTrace(int capacity, int keyframeInterval) {
+        if (capacity < 1 || keyframeInterval < 1) {
+            throw new IllegalArgumentException("Capacity and keyframe interval must be positive");
+        }
+        this.capacity = capacity;
+        this.keyframeInterval = keyframeInterval;
+        this.transitions = new int[Math.min(capacity, 64)];
+        this.timestamps = new long[transitions.length];
+    }
+
+    @Override
+    public void begin(String simulationId, CompiledPetriNet net, SimulationConfig config, int[] tokens) {
+        this.simulationId = simulationId;
+        this.net = net;
+        this.config = config;
+        this.firstSequence = 1;
+        this.lastSequence = 0;
+        this.baseTokens = tokens.clone();
+        keyframes.clear();
+    }
+
+    @Override
+    public void fired(int sequenceNumber, int transition, Instant timestamp, int[] tokens) {
+        if (sequenceNumber != lastSequence + 1) {
+            throw new IllegalArgumentException("Expected step " + (lastSequence + 1) + " but got " + sequenceNumber);
+        }
+        if (lastSequence - firstSequence + 1 == transitions.length) {
+            if (transitions.length < capacity) {
+                // Not yet wrapped, so positions survive the copy
+                int length = (int) Math.min(capacity, transitions.length * 2L);
+                transitions = Arrays.copyOf(transitions, length);
+                timestamps = Arrays.copyOf(timestamps, length);
+            } else {
+                net.fireInPlace(transitions[(firstSequence - 1) % transitions.length], baseTokens);
+                keyframes.headMap(firstSequence, true).clear();
+                firstSequence++;
+            }
+        }
+        int index = (sequenceNumber - 1) % transitions.length;
+        transitions[index] = transition;
+        timestamps[index] = timestamp.getEpochSecond() * 1_000_000_000L + timestamp.getNano();
+        lastSequence = sequenceNumber;
+        if (sequenceNumber % keyframeInterval == 0) {
+            keyframes.put(sequenceNumber, tokens.clone());
+        }
+    }
+
+    public String getSimulationId() { return simulationId; }
+    public int getCapacity() { return capacity; }
+    public int getKeyframeInterval() { return keyframeInterval; }
+    /** Sequence number of the oldest retained step */
+    public int getFirstSequence() { return firstSequence; }
+    /** Sequence number of the newest step, 0 before the first */
+    public int getLastSequence() { return lastSequence; }
+    public int size() { return lastSequence - firstSequence + 1; }
+    public int getKeyframeCount() { return keyframes.size(); }
+
+    /**
+     * Index of the transition fired at a retained step
+     */
+    public int transitionAt(int sequenceNumber) {
+        checkRetained(sequenceNumber);
+        return transitions[(sequenceNumber - 1) % transitions.length];
+    }
+
+    public Instant timestampAt(int sequenceNumber) {
+        checkRetained(sequenceNumber);
+        return instant(timestamps[(sequenceNumber - 1) % transitions.length]);
+    }
+
+    /**
+     * Marking after a step, or the initial marking for 0 while step 1 is retained
+     */
+    public Marking markingAt(int sequenceNumber) {
+        if (sequenceNumber != firstSequence - 1) {
+            checkRetained(sequenceNumber);
+        }
+        return net.toMarking(tokensAt(sequenceNumber));
+    }
+
+    /**
+     * Lazily rebuilt events of all retained steps
+     */
+    public List<TraceEvent> events() {
+        return events(firstSequence - 1);
+    }
+
+    /**
+     * Lazily rebuilt events of the retained steps after a sequence number. The view copies
+     * the transitions, timestamps and keyframes of those steps and the marking before them
+     * when it is created, so later steps, dropped steps or a new run leave it unchanged;
+     * only the events are built on access, each from the previous one when read in order.
+     */
+    public List<TraceEvent> events(int afterSequence) {
+        int from = Math.max(afterSequence, firstSequence - 1) + 1;
+        if (from > lastSequence) {
+            return new Events(net, config, from, new int[0], new long[0], null, new TreeMap<>());
+        }
+        int length = lastSequence - from + 1;
+        int[] stepTransitions = new int[length];
+        long[] stepTimestamps = new long[length];
+        for (int i = 0; i < length; i++) {
+            int index = (from + i - 1) % transitions.length;
+            stepTransitions[i] = transitions[index];
+            stepTimestamps[i] = timestamps[index];
+        }
+        // Keyframe vectors are never written after being stored, so they can be shared
+        return new Events(net, config, from, stepTransitions, stepTimestamps, tokensAt(from - 1),
+                new TreeMap<>(keyframes.subMap(from, true, lastSequence, true)));
+    }
+
+    private void checkRetained(int sequenceNumber) {
+        if (sequenceNumber < firstSequence || sequenceNumber > lastSequence) {
+            throw new IndexOutOfBoundsException("Step " + sequenceNumber + " is not retained, the trace holds "
+                    + firstSequence + " to " + lastSequence);
+        }
+    }
+
+    /**
+     * Token vector after a step, replayed from the nearest keyframe or the base
+     */
+    private int[] tokensAt(int sequenceNumber) {
+        Map.Entry<Integer, int[]> keyframe = keyframes.floorEntry(sequenceNumber);
+        int start = keyframe != null ? keyframe.getKey() : firstSequence - 1;
+        int[] tokens = keyframe != null ? keyframe.getValue().clone() : baseTokens.clone();
+        for (int step = start + 1; step <= sequenceNumber; step++) {
+            net.fireInPlace(transitionAt(step), tokens);
+        }
+        return tokens;
+    }
+
+    private static Instant instant(long nanos) {
+        return Instant.ofEpochSecond(Math.floorDiv(nanos, 1_000_000_000L), Math.floorMod(nanos, 1_000_000_000L));
+    }
+
+    /**
+     * Snapshot of a range of steps that rebuilds events on access; thread-safe
+     */
+    static final class Events extends AbstractList<TraceEvent> {
+        private final CompiledPetriNet net;
+        private final SimulationConfig config;
+        private final int from;
+        private final int[] transitions;
+        private final long[] timestamps;
+        private final int[] startTokens; // Token vector after step from - 1
+        private final TreeMap<Integer, int[]> keyframes; // Keyframes within the range
+
+        // Token vector after cursor step, reused by in-order access
+        private int cursor = -1;
+        private int[] cursorTokens;
+
+        Events(CompiledPetriNet net, SimulationConfig config, int from, int[] transitions, long[] timestamps,
+               int[] startTokens, TreeMap<Integer, int[]> keyframes) {
+            this.net = net;
+            this.config = config;
+            this.from = from;
+            this.transitions = transitions;
+            this.timestamps = timestamps;
+            this.startTokens = startTokens;
+            this.keyframes = keyframes;
+        }
+
+        @Override
+        public int size() {
+            return transitions.length;
+        }
+
+        @Override
+        public synchronized TraceEvent get(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("Index " + index + " of " + size());
+            }
+            int sequenceNumber = from + index;
+            int[] before;
+            if (cursor >= replayStart(sequenceNumber - 1) && cursor < sequenceNumber) {
+                before = cursorTokens;
+                for (int step = cursor + 1; step < sequenceNumber; step++) {
+                    net.fireInPlace(transitionAt(step), before);
+                }
+            } else {
+                before = tokensAt(sequenceNumber - 1);
+            }
+            TraceEvent event = buildEvent(sequenceNumber, before);
+            net.fireInPlace(transitionAt(sequenceNumber), before);
+            cursor = sequenceNumber;
+            cursorTokens = before;
+            return event;
+        }
+
+        private int transitionAt(int sequenceNumber) {
+            return transitions[sequenceNumber - from];
+        }
+
+        /**
+         * Step that replay towards a step would start from
+         */
+        private int replayStart(int sequenceNumber) {
+            Integer keyframe = keyframes.floorKey(sequenceNumber);
+            return keyframe != null ? keyframe : from - 1;
+        }
+
+        /**
+         * Token vector after a step of the range, or before it for from - 1
+         */
+        private int[] tokensAt(int sequenceNumber) {
+            Map.Entry<Integer, int[]> keyframe = keyframes.floorEntry(sequenceNumber);
+            int start = keyframe != null ? keyframe.getKey() : from - 1;
+            int[] tokens = keyframe != null ? keyframe.getValue().clone() : startTokens.clone();
+            for (int step = start + 1; step <= sequenceNumber; step++) {
+                net.fireInPlace(transitionAt(step), tokens);
+            }
+            return tokens;
+        }
+
+        /**
+         * Full event of a step, given the token vector before it
+         */
+        private TraceEvent buildEvent(int sequenceNumber, int[] before) {
+            int transition = transitionAt(sequenceNumber);
+            String transitionId = net.transitionId(transition);
+            int[] after = before.clone();
+            net.fireInPlace(transition, after);
+
+            List<String> enabled = new ArrayList<>();
+            for (int candidate : net.transitionsInIdOrder()) {
+                if (net.isEnabled(candidate, before)) {
+                    enabled.add(net.transitionId(candidate));
+                }
+            }
+            String mode = config.getMode().name().toLowerCase();
+            return TraceEvent.builder()
+                    .timestamp(instant(timestamps[sequenceNumber - from]))
+                    .sequenceNumber(sequenceNumber)
+                    .transition(transitionId)
+                    .fromPlaces(placeIds(net.inputPlaces(transition)))
+                    .toPlaces(placeIds(net.outputPlaces(transition)))
+                    .tokenId("token-" + sequenceNumber)
+                    .simulationSeed(config.getSeed())
+                    .enabled(enabled)
+                    .markingBefore(net.toMarking(before))
+                    .markingAfter(net.toMarking(after))
+                    .simulationMode(mode)
+                    .reason("Transition " + transitionId + " fired in " + mode + " mode")
+                    .build();
+        }
+
+        private List<String> placeIds(int[] places) {
+            List<String> ids = new ArrayList<>(places.length);
+            for (int place : places) {
+                ids.add(net.placeId(place));
+            }
+            return ids;
+        }
+    }
+}
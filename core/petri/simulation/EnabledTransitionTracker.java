@@ -0,0 +1,199 @@
+package core.petri.simulation;
+
+import core.petri.CompiledPetriNet;
+import core.petri.Marking;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Incrementally maintained set of enabled transitions for a running simulation.
+ *
+ * Owns a token vector for the current marking and a bit set of enabled transitions
+ * indexed by their rank in transition ID order. After a firing only the transitions
+ * that depend on the changed places are re-checked, so a step costs time proportional
+ * to the local neighbourhood of the fired transition rather than to the whole net.
+ * Enabled transitions are always reported in ID order, keeping seeded selection
+ * identical to a full rescan.
+ *
+ * @author Obvian Labs
+ * @since POC Phase 1
+ */
+public final class EnabledTransitionTracker {
+
+    private final CompiledPetriNet net;
+    private final int[] tokens;
+    private final BitSet enabledByRank;
+
+    // Marking the tracker was last synchronized with, used to detect external changes
+    private Marking marking;
+
+    public EnabledTransitionTracker(CompiledPetriNet net, Marking marking) {
+        this(net, net.toTokenVector(marking), marking);
+    }
+
+    /**
+     * Track a token vector directly, for runs that never build markings. The vector is copied.
+     */
+    public EnabledTransitionTracker(CompiledPetriNet net, int[] tokens) {
+        this(net, tokens.clone(), null);
+    }
+
+    private EnabledTransitionTracker(CompiledPetriNet net, int[] tokens, Marking marking) {
+        this.net = net;
+        this.tokens = tokens;
+        this.enabledByRank = new BitSet(net.getTransitionCount());
+        this.marking = marking;
+
+        for (int transition = 0; transition < net.getTransitionCount(); transition++) {
+            if (net.isEnabled(transition, tokens)) {
+                enabledByRank.set(net.idRank(transition));
+            }
+        }
+    }
+
+    /**
+     * Check whether this tracker reflects the given marking instance
+     */
+    public boolean isSyncedWith(Marking marking) {
+        return this.marking == marking;
+    }
+
+    public CompiledPetriNet getNet() { return net; }
+
+    public int getEnabledCount() { return enabledByRank.cardinality(); }
+
+    public boolean hasEnabledTransition() { return !enabledByRank.isEmpty(); }
+
+    public boolean isEnabled(int transition) {
+        return enabledByRank.get(net.idRank(transition));
+    }
+
+    /**
+     * Token count of a place in the tracked marking
+     */
+    public int getTokens(int place) {
+        return tokens[place];
+    }
+
+    /**
+     * Live token vector of the tracked marking; read only, changes with every firing
+     */
+    int[] tokenVector() {
+        return tokens;
+    }
+
+    /**
+     * Enabled transition indices in transition ID order
+     */
+    public int[] enabledTransitions() {
+        int[] order = net.transitionsInIdOrder();
+        int[] enabled = new int[enabledByRank.cardinality()];
+        int count = 0;
+        for (int rank = enabledByRank.nextSetBit(0); rank >= 0; rank = enabledByRank.nextSetBit(rank + 1)) {
+            enabled[count++] = order[rank];
+        }
+        return enabled;
+    }
+
+    /**
+     * Enabled transition at a position in transition ID order, without allocating the full list
+     *
+     * @param position Zero-based position, less than {@link #getEnabledCount()}
+     */
+    public int enabledTransition(int position) {
+        int rank = enabledByRank.nextSetBit(0);
+        for (int i = 0; i < position; i++) {
+            rank = enabledByRank.nextSetBit(rank + 1);
+        }
+        return net.transitionsInIdOrder()[rank];
+    }
+
+    /**
+     * Enabled transition IDs in transition ID order
+     */
+    public List<String> enabledTransitionIds() {
+        int[] order = net.transitionsInIdOrder();
+        List<String> enabled = new ArrayList<>(enabledByRank.cardinality());
+        for (int rank = enabledByRank.nextSetBit(0); rank >= 0; rank = enabledByRank.nextSetBit(rank + 1)) {
+            enabled.add(net.transitionId(order[rank]));
+        }
+        return enabled;
+    }
+
+    /**
+     * Remove the input tokens of a transition whose firing starts now and completes later
+     *
+     * @param transition Index of an enabled transition
+     */
+    public void consume(int transition) {
+        if (!isEnabled(transition)) {
+            throw new IllegalStateException("Transition " + net.transitionId(transition) + " is not enabled");
+        }
+
+        int[] places = net.inputPlaces(transition);
+        int[] weights = net.inputWeights(transition);
+        for (int i = 0; i < places.length; i++) {
+            tokens[places[i]] -= weights[i];
+        }
+        recheck(places);
+        this.marking = null;
+    }
+
+    /**
+     * Add the output tokens of a transition whose firing completes now
+     */
+    public void produce(int transition) {
+        int[] places = net.outputPlaces(transition);
+        int[] weights = net.outputWeights(transition);
+        for (int i = 0; i < places.length; i++) {
+            tokens[places[i]] += weights[i];
+        }
+        recheck(places);
+        this.marking = null;
+    }
+
+    /**
+     * Re-check the consumers of changed places, and their producers when a capacity applies
+     */
+    private void recheck(int[] places) {
+        for (int place : places) {
+            for (int consumer : net.consumers(place)) {
+                enabledByRank.set(net.idRank(consumer), net.isEnabled(consumer, tokens));
+            }
+            if (net.capacity(place) != CompiledPetriNet.UNBOUNDED) {
+                for (int producer : net.producers(place)) {
+                    enabledByRank.set(net.idRank(producer), net.isEnabled(producer, tokens));
+                }
+            }
+        }
+    }
+
+    /**
+     * Fire a transition on the token vector only, for trackers that do not follow markings
+     *
+     * @param transition Index of an enabled transition
+     */
+    public void fire(int transition) {
+        fire(transition, null);
+    }
+
+    /**
+     * Fire a transition, updating the token vector and re-checking dependent transitions.
+     *
+     * @param transition Index of an enabled transition
+     * @param markingAfter Marking that results from the firing, recorded for sync checks
+     */
+    public void fire(int transition, Marking markingAfter) {
+        if (!isEnabled(transition)) {
+            throw new IllegalStateException("Transition " + net.transitionId(transition) + " is not enabled");
+        }
+
+        net.fireInPlace(transition, tokens);
+        for (int dependent : net.dependents(transition)) {
+            enabledByRank.set(net.idRank(dependent), net.isEnabled(dependent, tokens));
+        }
+        this.marking = markingAfter;
+    }
+}
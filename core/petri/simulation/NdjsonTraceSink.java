@@ -0,0 +1,173 @@
+package core.petri.simulation;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import core.petri.CompiledPetriNet;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+
+/**
+ * Trace sink that streams a delta-encoded trace as newline-delimited JSON.
+ *
+ * One object per line, each with a "type":
+ * - begin: simulationId, seed, mode, the place and transition IDs, and the initial marking
+ * - step: sequenceNumber, transition ID, timestamp and the token delta per place ID
+ * - keyframe: sequenceNumber and the full marking after that step, every keyframe-interval steps
+ *
+ * Markings list only marked places. A reader rebuilds any marking by applying the step
+ * deltas after the nearest keyframe, so a consumer can start from a keyframe without
+ * reading the whole stream. Output is buffered by the writer and flushed at the end of
+ * every run. Write failures are thrown as {@link UncheckedIOException}.
+ *
+ * @author Obvian Labs
+ * @since POC Phase 1
+ */
+public final class NdjsonTraceSink implements TraceSink {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final JsonGenerator generator;
+    private final int keyframeInterval;
+
+    private CompiledPetriNet net;
+
+    /**
+     * Stream to a writer that stays open when the sink is closed
+     */
+    public NdjsonTraceSink(Writer writer) {
+        this(writer, DEFAULT_KEYFRAME_INTERVAL);
+    }
+
+    /**
+     * @param writer Destination, left open when the sink is closed
+     * @param keyframeInterval Steps between full-marking keyframes
+     */
+    public NdjsonTraceSink(Writer writer, int keyframeInterval) {
+        this(writer, keyframeInterval, false);
+    }
+
+    private NdjsonTraceSink(Writer writer, int keyframeInterval, boolean closeWriter) {
+        if (keyframeInterval < 1) {
+            throw new IllegalArgumentException("Keyframe interval must be positive");
+        }
+        try {
+            this.generator = JSON_FACTORY.createGenerator(writer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        // Lines are separated explicitly instead of by the default space between root values
+        generator.setRootValueSeparator(null);
+        generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, closeWriter);
+        this.keyframeInterval = keyframeInterval;
+    }
+
+    /**
+     * Stream to a UTF-8 file, replacing it; the file is closed with the sink
+     */
+    public static NdjsonTraceSink toFile(Path path) throws IOException {
+        return new NdjsonTraceSink(Files.newBufferedWriter(path, StandardCharsets.UTF_8),
+                DEFAULT_KEYFRAME_INTERVAL, true);
+    }
+
+    @Override
+    public void begin(String simulationId, CompiledPetriNet net, SimulationConfig config, int[] tokens) {
+        this.net = net;
+        try {
+            generator.writeStartObject();
+            generator.writeStringField("type", "begin");
+            generator.writeStringField("simulationId", simulationId);
+            generator.writeNumberField("seed", config.getSeed());
+            generator.writeStringField("mode", config.getMode().name().toLowerCase());
+            generator.writeArrayFieldStart("places");
+            for (int place = 0; place < net.getPlaceCount(); place++) {
+                generator.writeString(net.placeId(place));
+            }
+            generator.writeEndArray();
+            generator.writeArrayFieldStart("transitions");
+            for (int transition = 0; transition < net.getTransitionCount(); transition++) {
+                generator.writeString(net.transitionId(transition));
+            }
+            generator.writeEndArray();
+            writeMarking(tokens);
+            endLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void fired(int sequenceNumber, int transition, Instant timestamp, int[] tokens) {
+        try {
+            generator.writeStartObject();
+            generator.writeStringField("type", "step");
+            generator.writeNumberField("sequenceNumber", sequenceNumber);
+            generator.writeStringField("transition", net.transitionId(transition));
+            generator.writeStringField("timestamp", timestamp.toString());
+            generator.writeObjectFieldStart("delta");
+            int[] places = net.changedPlaces(transition);
+            int[] weights = net.changeWeights(transition);
+            for (int i = 0; i < places.length; i++) {
+                generator.writeNumberField(net.placeId(places[i]), weights[i]);
+            }
+            generator.writeEndObject();
+            endLine();
+
+            if (sequenceNumber % keyframeInterval == 0) {
+                generator.writeStartObject();
+                generator.writeStringField("type", "keyframe");
+                generator.writeNumberField("sequenceNumber", sequenceNumber);
+                writeMarking(tokens);
+                endLine();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void flush() {
+        try {
+            generator.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            generator.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public int getKeyframeInterval() { return keyframeInterval; }
+
+    /**
+     * Write the marked places of a token vector as a "marking" field
+     */
+    private void writeMarking(int[] tokens) throws IOException {
+        generator.writeObjectFieldStart("marking");
+        for (int place = 0; place < tokens.length; place++) {
+            if (tokens[place] > 0) {
+                generator.writeNumberField(net.placeId(place), tokens[place]);
+            }
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * Close the current object and end its line
+     */
+    private void endLine() throws IOException {
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+}
@@ -10,8 +10,10 @@ import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.stream.Collectors;
 
 /**
  * Token simulator for Petri nets with deterministic and interactive execution modes.
@@ -21,10 +23,14 @@ import java.util.stream.Collectors;
  *
  * Features:
  * - Deterministic simulation with seeded random selection
+ * - Monte Carlo batches of seeded runs aggregated across cores
+ * - Discrete-event timed simulation of delays, timeouts and retries on a virtual clock
  * - Interactive mode with manual transition selection
  * - Comprehensive trace event generation
+ * - Delta-encoded traces streamed to pluggable sinks, with events rebuilt on demand
  * - Deadlock detection and diagnostic reporting
  * - Step-by-step execution with pause/resume
+ * - Independent sessions, so concurrent simulations never share seed or control state
  * - Memory-efficient token tracking
  * - Production-grade error handling and logging
  *
@@ -36,14 +42,25 @@ public class PetriTokenSimulator {
 
     private static final Logger logger = LoggerFactory.getLogger(PetriTokenSimulator.class);
     private static final AtomicLong SIMULATION_ID_COUNTER = new AtomicLong(0);
+    private static final String TERMINAL_PLACE_PREFIX = "p_done";
+    private static final int MIN_BATCH_SPLIT = 64;
+
+    /**
+     * Worker pool shared by all batch simulations, one worker per processor. The parallelism
+     * of a batch only sets how finely its runs are split.
+     */
+    private static final ForkJoinPool BATCH_POOL = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+    /** Maximum retries of a transition's retry policy accepted by timed simulation */
+    public static final int MAX_TIMED_RETRIES = 1000;
 
     private final Clock simulationClock;
-    private final Random random;
 
-    // Simulation state
+    // Deprecated simulator-wide controls; they only reach the sessions running when called
     private volatile boolean paused = false;
     private volatile boolean stopped = false;
-    private String currentSimulationId;
+    private volatile String currentSimulationId;
+    private final Set<SimulationSession> activeRuns = ConcurrentHashMap.newKeySet();
 
     /**
      * Default constructor using system clock
@@ -57,56 +74,90 @@ public class PetriTokenSimulator {
      */
     public PetriTokenSimulator(Clock clock) {
         this.simulationClock = clock;
-        this.random = new Random();
     }
 
     /**
-     * Execute full simulation of Petri net
+     * Execute full simulation of Petri net in a new session
      */
     public SimulationResult simulate(PetriNet petriNet, SimulationConfig config) {
+        return run(openSession(petriNet, config));
+    }
+
+    /**
+     * Open an independent simulation session at the initial marking of a net, traced
+     * in memory by an unbounded {@link DeltaTrace}
+     */
+    public SimulationSession openSession(PetriNet petriNet, SimulationConfig config) {
+        return openSession(petriNet, config, new DeltaTrace());
+    }
+
+    /**
+     * Open an independent simulation session whose steps are recorded into a trace sink
+     *
+     * @param traceSink Sink that receives the initial marking now and every step as it fires
+     */
+    public SimulationSession openSession(PetriNet petriNet, SimulationConfig config, TraceSink traceSink) {
         // Generate unique simulation ID for tracing
-        currentSimulationId = "sim-" + SIMULATION_ID_COUNTER.incrementAndGet();
-        setupMDCContext(currentSimulationId, config);
+        String simulationId = "sim-" + SIMULATION_ID_COUNTER.incrementAndGet();
+        currentSimulationId = simulationId;
+        SimulationState state = initializeSimulation(simulationId, petriNet, config);
+        EnabledTransitionTracker tracker = enabledTracker(state);
+        traceSink.begin(simulationId, tracker.getNet(), config, tracker.tokenVector());
+        return new SimulationSession(state, traceSink);
+    }
+
+    /**
+     * Run a session until its net deadlocks, it reaches the step limit or it is stopped.
+     * Pause, resume and stop the session from any thread while it runs.
+     *
+     * Steps are only written to the session's trace sink while running; no
+     * {@link TraceEvent} is built per step. With a {@link DeltaTrace} sink the result's trace
+     * is a view of this run's steps that rebuilds events when read, with any other sink it
+     * is empty.
+     *
+     * @return Result whose trace holds the steps fired by this run
+     * @throws IllegalStateException If the session is already being run or stepped
+     */
+    public SimulationResult run(SimulationSession session) {
+        if (!session.startRun()) {
+            throw new IllegalStateException("Simulation session is already running: " + session.getId());
+        }
+        SimulationState state = session.getState();
+        SimulationConfig config = session.getConfig();
+        setupMDCContext(session.getId(), config);
+        activeRuns.add(session);
 
-        logger.info("Starting Petri net simulation: {}", currentSimulationId);
+        logger.info("Starting Petri net simulation: {}", session.getId());
 
         Instant startTime = simulationClock.instant();
-        List<TraceEvent> trace = new ArrayList<>();
+        int firstStep = state.stepsExecuted;
         Map<String, Object> diagnostics = new HashMap<>();
 
         try {
-            // Initialize simulation state
-            SimulationState state = initializeSimulation(petriNet, config);
-
-            // Configure random seed for deterministic mode
-            if (config.isDeterministic()) {
-                random.setSeed(config.getSeed());
-                logger.debug("Set random seed to {} for deterministic simulation", config.getSeed());
-            }
-
             // Main simulation loop
-            while (!isTerminalState(state, config)) {
-                if (stopped) {
-                    logger.info("Simulation stopped by user intervention");
-                    return createStoppedResult(state, trace, startTime, config);
+            List<String> enabledTransitions = findEnabledTransitions(state);
+            while (!isTerminalState(state, config, enabledTransitions)) {
+                // Wait while the session is paused
+                if (session.isPaused()) {
+                    session.awaitWhile(() -> session.isPaused() && !session.isStopped());
                 }
 
-                // Handle pause in interactive mode
-                if (paused && config.isInteractive()) {
-                    waitForResume();
+                if (session.isStopped()) {
+                    logger.info("Simulation stopped by user intervention");
+                    return createStoppedResult(state, runTrace(session, firstStep), startTime, config);
                 }
 
                 // Check for deadlock
-                List<String> enabledTransitions = findEnabledTransitions(state);
                 if (enabledTransitions.isEmpty()) {
                     logger.warn("Simulation deadlocked - no enabled transitions");
-                    return createDeadlockedResult(state, trace, startTime, config, diagnostics, enabledTransitions);
+                    return createDeadlockedResult(state, runTrace(session, firstStep), startTime, config,
+                                                  diagnostics, enabledTransitions);
                 }
 
-                // Select and fire transition
-                String selectedTransition = selectTransition(enabledTransitions, config);
-                TraceEvent event = fireTransition(state, selectedTransition, config, enabledTransitions);
-                trace.add(event);
+                // Select and fire transition, recording only its index in the trace
+                String selectedTransition = selectTransition(state, enabledTransitions, config);
+                int transition = fireTransition(state, selectedTransition, config);
+                recordStep(session, transition, simulationClock.instant());
 
                 // Apply step delay if configured
                 if (config.getStepDelayMs() > 0) {
@@ -115,7 +166,7 @@ public class PetriTokenSimulator {
                     } catch (InterruptedException e) {
                         Thread.currentThread().interrupt();
                         logger.warn("Simulation interrupted during step delay");
-                        return createStoppedResult(state, trace, startTime, config);
+                        return createStoppedResult(state, runTrace(session, firstStep), startTime, config);
                     }
                 }
 
@@ -124,6 +175,8 @@ public class PetriTokenSimulator {
                     logger.info("Simulation progress: {} steps executed, current marking: {}",
                                state.stepsExecuted, state.currentMarking);
                 }
+
+                enabledTransitions = findEnabledTransitions(state);
             }
 
             Instant endTime = simulationClock.instant();
@@ -131,21 +184,50 @@ public class PetriTokenSimulator {
             // Check termination reason
             if (state.stepsExecuted >= config.getMaxSteps()) {
                 logger.warn("Simulation terminated due to max steps limit: {}", config.getMaxSteps());
-                return createMaxStepsResult(state, trace, startTime, endTime, config, diagnostics);
+                return createMaxStepsResult(state, runTrace(session, firstStep), startTime, endTime, config, diagnostics);
             }
 
             logger.info("Simulation completed successfully in {} steps", state.stepsExecuted);
-            return createCompletedResult(state, trace, startTime, endTime, config);
+            return createCompletedResult(state, runTrace(session, firstStep), startTime, endTime, config);
 
         } catch (Exception e) {
             logger.error("Simulation failed with error: {}", e.getMessage(), e);
-            return createFailedResult(e, trace, petriNet.getInitialMarking(),
+            return createFailedResult(e, runTrace(session, firstStep), state.initialMarking,
                                     startTime, simulationClock.instant(), config);
         } finally {
+            flushTrace(session);
+            activeRuns.remove(session);
+            session.endRun();
             clearMDCContext();
         }
     }
 
+    /**
+     * Execute single step of a session
+     *
+     * @throws IllegalStateException If the session is stopped or is being run or stepped elsewhere
+     */
+    public SimulationStepResult step(SimulationSession session) {
+        if (session.isStopped()) {
+            throw new IllegalStateException("Simulation session is stopped: " + session.getId());
+        }
+        if (!session.startRun()) {
+            throw new IllegalStateException("Simulation session is already running: " + session.getId());
+        }
+        try {
+            SimulationStepResult result = step(session.getState(), session.getConfig());
+            if (result.isSuccess()) {
+                TraceEvent event = result.getEvent();
+                recordStep(session, enabledTracker(session.getState()).getNet().transitionIndex(event.getTransition()),
+                        event.getTimestamp());
+                flushTrace(session);
+            }
+            return result;
+        } finally {
+            session.endRun();
+        }
+    }
+
     /**
      * Execute single simulation step
      */
@@ -163,8 +245,10 @@ public class PetriTokenSimulator {
                 return SimulationStepResult.maxStepsReached(state);
             }
 
-            String selectedTransition = selectTransition(enabledTransitions, config);
-            TraceEvent event = fireTransition(state, selectedTransition, config, enabledTransitions);
+            String selectedTransition = selectTransition(state, enabledTransitions, config);
+            Marking markingBefore = state.currentMarking;
+            int transition = fireTransition(state, selectedTransition, config);
+            TraceEvent event = createTraceEvent(state, transition, config, enabledTransitions, markingBefore);
 
             return SimulationStepResult.success(state, event, enabledTransitions);
 
@@ -174,85 +258,358 @@ public class PetriTokenSimulator {
     }
 
     /**
-     * Initialize simulation state from Petri net
+     * Execute a Monte Carlo batch of independent seeded runs and aggregate their outcomes.
+     *
+     * Run i uses seed {@link #batchSeed batchSeed(config.getSeed(), i)} and fires the same
+     * transitions as {@link #simulate} with that seed. Runs share the compiled net and each owns its RNG
+     * and token vector; they are split across a work-stealing pool of one worker per processor,
+     * shared by all batches, and every worker fills its own {@link SimulationStatistics},
+     * merged at the end, so no trace is built or retained. A dead marking counts as completed when a p_done place is marked or every
+     * marked place has no consumers, and as deadlocked otherwise. Step delays do not apply.
+     *
+     * @param runs Number of runs, at least 1
+     * @param parallelism Workers the runs are split for, at least 1; capped at the available
+     *        processors, and 1 runs the batch on the calling thread
      */
-    private SimulationState initializeSimulation(PetriNet petriNet, SimulationConfig config) {
-        return SimulationState.builder()
-                .simulationId(currentSimulationId)
-                .petriNet(petriNet)
-                .currentMarking(petriNet.getInitialMarking())
-                .initialMarking(petriNet.getInitialMarking())
-                .config(config)
-                .stepsExecuted(0)
-                .startTime(simulationClock.instant())
-                .build();
+    public SimulationStatistics simulateBatch(PetriNet petriNet, SimulationConfig config, int runs,
+                                              int parallelism) {
+        if (config.isInteractive()) {
+            throw new IllegalArgumentException("Batch simulation requires deterministic mode");
+        }
+        if (runs < 1 || parallelism < 1) {
+            throw new IllegalArgumentException("Runs and parallelism must be positive");
+        }
+        parallelism = Math.min(parallelism, Runtime.getRuntime().availableProcessors());
+
+        CompiledPetriNet net = petriNet.compile();
+        boolean[] terminalPlaces = terminalPlaces(net);
+
+        logger.info("Starting batch simulation of {} runs on {} workers", runs, parallelism);
+        Instant startTime = simulationClock.instant();
+        BatchTask batch = new BatchTask(net, terminalPlaces, config, 0, runs,
+                Math.max(MIN_BATCH_SPLIT, runs / (parallelism * 4)));
+        SimulationStatistics statistics;
+        if (parallelism == 1) {
+            statistics = batch.compute();
+        } else {
+            statistics = BATCH_POOL.invoke(batch);
+        }
+
+        logger.info("Batch simulation finished {} runs in {} ms: {}", statistics.getRuns(),
+                Duration.between(startTime, simulationClock.instant()).toMillis(), statistics);
+        return statistics;
     }
 
     /**
-     * Find all enabled transitions at current marking
+     * Seed of one run of a batch. Consecutive seeds give correlated first draws from
+     * {@link Random}, which would bias the runs, so the run number is scrambled with the
+     * SplitMix64 finalizer.
+     *
+     * @param baseSeed Seed of the batch configuration
+     * @param run Zero-based run number
      */
-    private List<String> findEnabledTransitions(SimulationState state) {
-        List<String> enabled = new ArrayList<>();
+    public static long batchSeed(long baseSeed, int run) {
+        long z = baseSeed + (run + 1L) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
 
-        for (Transition transition : state.petriNet.getTransitions()) {
-            if (isTransitionEnabled(transition, state.currentMarking, state.petriNet)) {
-                enabled.add(transition.getId());
+    /**
+     * Execute a discrete-event simulation of the net's timing on a virtual clock.
+     *
+     * A firing starts as soon as its transition is enabled, removing the input tokens, and
+     * completes {@code delayMs} later, adding the output tokens; conflicts between
+     * transitions enabled at the same instant are resolved with the seeded RNG as in
+     * {@link #simulate}. A transition whose metadata sets {@code delayDistribution} to
+     * "exponential" draws each attempt's duration from an exponential distribution with
+     * mean {@code delayMs}. An attempt that takes longer than {@code timeoutMs} is cut off
+     * at the timeout and retried after the backoff of its retry policy, so attempt k
+     * completes {@link Transition#calculateEffectiveDelay calculateEffectiveDelay(k)} after
+     * the previous one timed out. A firing whose last retry times out fails and its tokens
+     * are lost; the run then only completes if it marks a p_done place. Retry policies may
+     * allow at most {@link #MAX_TIMED_RETRIES} retries.
+     *
+     * Pending completions wait in an event calendar ordered by virtual time and the clock
+     * jumps from one to the next, so nothing sleeps and step delays do not apply. At most
+     * {@code maxSteps} firings are started; those in progress still complete.
+     *
+     * @throws IllegalArgumentException If the config is interactive or a retry policy allows
+     *         more than {@link #MAX_TIMED_RETRIES} retries
+     */
+    public TimedSimulationResult simulateTimed(PetriNet petriNet, SimulationConfig config) {
+        if (config.isInteractive()) {
+            throw new IllegalArgumentException("Timed simulation requires deterministic mode");
+        }
+
+        CompiledPetriNet net = petriNet.compile();
+        for (int transition = 0; transition < net.getTransitionCount(); transition++) {
+            int maxRetries = net.getTransition(transition).getMaxRetries();
+            if (maxRetries > MAX_TIMED_RETRIES) {
+                throw new IllegalArgumentException("Transition " + net.transitionId(transition)
+                        + " allows " + maxRetries + " retries, the maximum is " + MAX_TIMED_RETRIES);
             }
         }
+        Random random = new Random(config.getSeed());
+        EnabledTransitionTracker tracker = new EnabledTransitionTracker(net, net.initialTokenVector());
+        PriorityQueue<TimedFiring> calendar = new PriorityQueue<>();
+        TimedSimulationResult result = new TimedSimulationResult(net, config);
 
-        // Sort for deterministic ordering
-        Collections.sort(enabled);
+        logger.info("Starting timed simulation of {}", petriNet.getName());
+        Instant startTime = simulationClock.instant();
+        long now = 0;
+        long sequence = 0;
+        int started = 0;
+        while (true) {
+            // Start every firing enabled at the current instant
+            while (tracker.hasEnabledTransition() && started < config.getMaxSteps()) {
+                int enabled = tracker.getEnabledCount();
+                int transition = tracker.enabledTransition(enabled == 1 ? 0 : random.nextInt(enabled));
+                tracker.consume(transition);
+                calendar.add(scheduleFiring(net, transition, now, sequence++, random, result));
+                started++;
+            }
 
-        if (logger.isDebugEnabled()) {
-            logger.debug("Found {} enabled transitions: {}", enabled.size(), enabled);
+            // Advance the virtual clock to the next completion or failure
+            TimedFiring next = calendar.poll();
+            if (next == null) {
+                break;
+            }
+            now = next.time;
+            if (next.completes) {
+                tracker.produce(next.transition);
+                result.recordCompletion(next.transition, now - next.startTime);
+            } else {
+                result.recordFailure(next.transition);
+                logger.debug("Transition {} failed at {} ms after its last retry",
+                        net.transitionId(next.transition), now);
+            }
         }
 
-        return enabled;
+        // A run that lost tokens to a failed firing only completes if it marked a p_done place
+        boolean[] terminalPlaces = terminalPlaces(net);
+        int[] tokens = new int[net.getPlaceCount()];
+        boolean reachedTerminalPlace = false;
+        for (int place = 0; place < tokens.length; place++) {
+            tokens[place] = tracker.getTokens(place);
+            reachedTerminalPlace |= terminalPlaces[place] && tokens[place] > 0;
+        }
+        SimulationResult.SimulationStatus status;
+        if (tracker.hasEnabledTransition()) {
+            status = SimulationResult.SimulationStatus.MAX_STEPS_REACHED;
+        } else if (reachedTerminalPlace
+                || (result.getFailedFirings() == 0 && isTerminalRun(net, terminalPlaces, tracker))) {
+            status = SimulationResult.SimulationStatus.COMPLETED;
+        } else {
+            status = SimulationResult.SimulationStatus.DEADLOCKED;
+        }
+        result.finish(status, now, net.toMarking(tokens), Duration.between(startTime, simulationClock.instant()));
+
+        logger.info("Timed simulation finished in {} ms: {}", result.getComputeTime().toMillis(), result);
+        return result;
     }
 
     /**
-     * Check if a transition is enabled at current marking
+     * Play out the attempts of a firing that starts now and schedule its completion or
+     * failure. Attempts never interact with the rest of the net once the input tokens are
+     * taken, so all of them are resolved when the firing starts. The backoff is grown by
+     * one multiplication per retry, matching {@link Transition#calculateEffectiveDelay}.
      */
-    private boolean isTransitionEnabled(Transition transition, Marking marking, PetriNet petriNet) {
-        // Get input arcs for this transition (arcs from places to this transition)
-        List<Arc> inputArcs = petriNet.getArcs().stream()
-                .filter(arc -> arc.getTo().equals(transition.getId()))
-                .collect(Collectors.toList());
+    private TimedFiring scheduleFiring(CompiledPetriNet net, int transition, long startTime, long sequence,
+                                       Random random, TimedSimulationResult result) {
+        Transition definition = net.getTransition(transition);
+        long baseDelay = definition.calculateEffectiveDelay(0);
+        long retryDelay = definition.getInitialRetryDelayMs();
+        long attemptStart = startTime;
+        for (int attempt = 0; ; attempt++) {
+            if (attempt > 0) {
+                // Backoff of the retry policy, on top of the base delay
+                if (attempt > 1) {
+                    retryDelay = Math.round(retryDelay * definition.getBackoffMultiplier());
+                }
+                attemptStart += Math.min(retryDelay, definition.getMaxRetryDelayMs());
+                result.recordRetry(transition);
+            }
+            long duration = definition.hasExponentialDelay()
+                    ? Math.round(-baseDelay * Math.log(1.0 - random.nextDouble()))
+                    : baseDelay;
+            if (!definition.hasTimeout() || duration <= definition.getTimeoutMs()) {
+                return new TimedFiring(attemptStart + duration, sequence, transition, startTime, true);
+            }
+            attemptStart += definition.getTimeoutMs();
+            result.recordTimeout(transition);
+            if (attempt >= definition.getMaxRetries()) {
+                return new TimedFiring(attemptStart, sequence, transition, startTime, false);
+            }
+        }
+    }
 
-        // Check if all input places have sufficient tokens
-        for (Arc arc : inputArcs) {
-            int requiredTokens = arc.getWeight();
-            int availableTokens = marking.getTokens(arc.getFrom());
+    /**
+     * Pending end of a firing in the event calendar, ordered by virtual time and then by start order
+     */
+    private static final class TimedFiring implements Comparable<TimedFiring> {
+        final long time;
+        final long sequence;
+        final int transition;
+        final long startTime;
+        final boolean completes;
+
+        TimedFiring(long time, long sequence, int transition, long startTime, boolean completes) {
+            this.time = time;
+            this.sequence = sequence;
+            this.transition = transition;
+            this.startTime = startTime;
+            this.completes = completes;
+        }
 
-            if (availableTokens < requiredTokens) {
-                return false;
-            }
+        @Override
+        public int compareTo(TimedFiring other) {
+            int byTime = Long.compare(time, other.time);
+            return byTime != 0 ? byTime : Long.compare(sequence, other.sequence);
+        }
+    }
+
+    /**
+     * Run one seeded simulation on a token vector, recording it into the statistics
+     */
+    private void simulateRun(CompiledPetriNet net, boolean[] terminalPlaces, long seed, int maxSteps,
+                             SimulationStatistics statistics) {
+        Random runRandom = new Random(seed);
+        EnabledTransitionTracker tracker = new EnabledTransitionTracker(net, net.initialTokenVector());
+        int steps = 0;
+        while (steps < maxSteps && tracker.hasEnabledTransition()) {
+            // Same draw as selectTransition: only conflicts consume random numbers
+            int enabled = tracker.getEnabledCount();
+            int transition = tracker.enabledTransition(enabled == 1 ? 0 : runRandom.nextInt(enabled));
+            tracker.fire(transition);
+            statistics.recordFiring(transition);
+            steps++;
         }
 
-        // Check capacity constraints for output places (arcs from this transition to places)
-        List<Arc> outputArcs = petriNet.getArcs().stream()
-                .filter(arc -> arc.getFrom().equals(transition.getId()))
-                .collect(Collectors.toList());
+        SimulationResult.SimulationStatus status;
+        if (steps >= maxSteps) {
+            status = SimulationResult.SimulationStatus.MAX_STEPS_REACHED;
+        } else if (isTerminalRun(net, terminalPlaces, tracker)) {
+            status = SimulationResult.SimulationStatus.COMPLETED;
+        } else {
+            status = SimulationResult.SimulationStatus.DEADLOCKED;
+        }
+        statistics.recordRun(status, steps);
+    }
 
-        for (Arc arc : outputArcs) {
-            Optional<Place> place = petriNet.getPlace(arc.getTo());
-            if (place.isPresent() && place.get().getCapacity() != null && place.get().getCapacity() > 0) {
-                int currentTokens = marking.getTokens(arc.getTo());
-                int addedTokens = arc.getWeight();
+    /**
+     * Mark the places whose ID starts with the terminal prefix
+     */
+    private boolean[] terminalPlaces(CompiledPetriNet net) {
+        boolean[] terminalPlaces = new boolean[net.getPlaceCount()];
+        for (int place = 0; place < terminalPlaces.length; place++) {
+            terminalPlaces[place] = net.placeId(place).startsWith(TERMINAL_PLACE_PREFIX);
+        }
+        return terminalPlaces;
+    }
 
-                if (currentTokens + addedTokens > place.get().getCapacity()) {
-                    return false;
+    /**
+     * Check whether a dead marking reached by a batch or timed run is terminal rather than a deadlock
+     */
+    private boolean isTerminalRun(CompiledPetriNet net, boolean[] terminalPlaces, EnabledTransitionTracker tracker) {
+        boolean onlyFinalPlaces = true;
+        for (int place = 0; place < terminalPlaces.length; place++) {
+            if (tracker.getTokens(place) > 0) {
+                if (terminalPlaces[place]) {
+                    return true;
                 }
+                onlyFinalPlaces &= net.consumers(place).length == 0;
+            }
+        }
+        return onlyFinalPlaces;
+    }
+
+    /**
+     * Range of batch runs, split in halves until it is small enough to run on one worker
+     */
+    private class BatchTask extends RecursiveTask<SimulationStatistics> {
+        private final CompiledPetriNet net;
+        private final boolean[] terminalPlaces;
+        private final SimulationConfig config;
+        private final int from;
+        private final int to;
+        private final int splitSize;
+
+        BatchTask(CompiledPetriNet net, boolean[] terminalPlaces, SimulationConfig config,
+                  int from, int to, int splitSize) {
+            this.net = net;
+            this.terminalPlaces = terminalPlaces;
+            this.config = config;
+            this.from = from;
+            this.to = to;
+            this.splitSize = splitSize;
+        }
+
+        @Override
+        protected SimulationStatistics compute() {
+            if (to - from > splitSize) {
+                int middle = (from + to) >>> 1;
+                BatchTask right = new BatchTask(net, terminalPlaces, config, middle, to, splitSize);
+                right.fork();
+                SimulationStatistics left =
+                        new BatchTask(net, terminalPlaces, config, from, middle, splitSize).compute();
+                return left.merge(right.join());
+            }
+            SimulationStatistics statistics = new SimulationStatistics(net, config.getMaxSteps());
+            for (int run = from; run < to; run++) {
+                simulateRun(net, terminalPlaces, batchSeed(config.getSeed(), run), config.getMaxSteps(), statistics);
             }
+            return statistics;
+        }
+    }
+
+    /**
+     * Initialize simulation state from Petri net
+     */
+    private SimulationState initializeSimulation(String simulationId, PetriNet petriNet, SimulationConfig config) {
+        return SimulationState.builder()
+                .simulationId(simulationId)
+                .petriNet(petriNet)
+                .currentMarking(petriNet.getInitialMarking())
+                .initialMarking(petriNet.getInitialMarking())
+                .config(config)
+                .stepsExecuted(0)
+                .startTime(simulationClock.instant())
+                .build();
+    }
+
+    /**
+     * Get the enabled-transition tracker for the current marking, rebuilding it
+     * if the marking was replaced outside of the simulator
+     */
+    private EnabledTransitionTracker enabledTracker(SimulationState state) {
+        EnabledTransitionTracker tracker = state.enabledTracker;
+        if (tracker == null || !tracker.isSyncedWith(state.currentMarking)) {
+            tracker = new EnabledTransitionTracker(state.petriNet.compile(), state.currentMarking);
+            state.enabledTracker = tracker;
+        }
+        return tracker;
+    }
+
+    /**
+     * Find all enabled transitions at current marking, in transition ID order
+     */
+    private List<String> findEnabledTransitions(SimulationState state) {
+        // Tracker reports in ID order for deterministic selection
+        List<String> enabled = enabledTracker(state).enabledTransitionIds();
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Found {} enabled transitions: {}", enabled.size(), enabled);
         }
 
-        return true;
+        return enabled;
     }
 
     /**
-     * Select transition to fire based on configuration
+     * Select transition to fire based on configuration, drawing from the state's own RNG
      */
-    private String selectTransition(List<String> enabledTransitions, SimulationConfig config) {
+    private String selectTransition(SimulationState state, List<String> enabledTransitions,
+                                    SimulationConfig config) {
         if (enabledTransitions.isEmpty()) {
             throw new IllegalStateException("Cannot select from empty transition list");
         }
@@ -264,7 +621,11 @@ public class PetriTokenSimulator {
         switch (config.getMode()) {
             case DETERMINISTIC:
                 // Use seeded random selection for conflict resolution
-                return enabledTransitions.get(random.nextInt(enabledTransitions.size()));
+                if (state.random == null) {
+                    state.random = new Random(config.getSeed());
+                    logger.debug("Set random seed to {} for deterministic simulation", config.getSeed());
+                }
+                return enabledTransitions.get(state.random.nextInt(enabledTransitions.size()));
 
             case INTERACTIVE:
                 // In real implementation, this would prompt user or wait for UI input
@@ -277,120 +638,117 @@ public class PetriTokenSimulator {
         }
     }
 
+    /**
+     * Record a step of a session, fired at the tracker's current token vector, into its trace
+     * sink and publish the session's progress
+     */
+    private void recordStep(SimulationSession session, int transition, Instant timestamp) {
+        SimulationState state = session.getState();
+        session.publishProgress();
+        session.getTraceSink().fired(state.stepsExecuted, transition, timestamp,
+                enabledTracker(state).tokenVector());
+    }
+
+    /**
+     * Flush a session's trace sink; a failing sink does not change the outcome of the run
+     */
+    private void flushTrace(SimulationSession session) {
+        try {
+            session.getTraceSink().flush();
+        } catch (RuntimeException e) {
+            logger.warn("Failed to flush simulation trace of {}: {}", session.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Trace of the steps a session fires after the given step, rebuilt on demand
+     */
+    private List<TraceEvent> runTrace(SimulationSession session, int afterStep) {
+        TraceSink sink = session.getTraceSink();
+        return sink instanceof DeltaTrace ? ((DeltaTrace) sink).events(afterStep) : Collections.emptyList();
+    }
+
     /**
      * Fire selected transition and update marking
+     *
+     * @return Index of the fired transition in the compiled net
      */
-    private TraceEvent fireTransition(SimulationState state, String transitionId,
-                                    SimulationConfig config, List<String> enabledTransitions) {
+    private int fireTransition(SimulationState state, String transitionId, SimulationConfig config) {
 
         logger.debug("Firing transition: {}", transitionId);
 
-        Transition transition = state.petriNet.getTransition(transitionId)
-                .orElseThrow(() -> new IllegalArgumentException("Transition not found: " + transitionId));
+        EnabledTransitionTracker tracker = enabledTracker(state);
+        CompiledPetriNet net = tracker.getNet();
+        int transition = net.transitionIndex(transitionId);
+        if (transition < 0) {
+            throw new IllegalArgumentException("Transition not found: " + transitionId);
+        }
 
         // Capture state before firing
         Marking markingBefore = state.currentMarking;
 
         // Calculate new marking after firing
-        Marking markingAfter = calculateMarkingAfterFiring(transition, markingBefore, state.petriNet);
+        Marking markingAfter = net.fire(transition, markingBefore);
 
-        // Update simulation state
+        // Update simulation state, re-checking only transitions affected by the firing
+        tracker.fire(transition, markingAfter);
         state.currentMarking = markingAfter;
         state.stepsExecuted++;
 
-        // Generate trace event
-        TraceEvent event = TraceEvent.builder()
+        if (config.isVerbose()) {
+            logger.info("Fired transition {}: {} -> {}", transitionId,
+                       markingBefore.getTokens(), markingAfter.getTokens());
+        }
+
+        return transition;
+    }
+
+    /**
+     * Build the trace event of the step just fired
+     */
+    private TraceEvent createTraceEvent(SimulationState state, int transition, SimulationConfig config,
+                                        List<String> enabledTransitions, Marking markingBefore) {
+        CompiledPetriNet net = enabledTracker(state).getNet();
+        String transitionId = net.transitionId(transition);
+        return TraceEvent.builder()
                 .timestamp(simulationClock.instant())
                 .sequenceNumber(state.stepsExecuted)
                 .transition(transitionId)
-                .fromPlaces(getInputPlaces(transition, state.petriNet))
-                .toPlaces(getOutputPlaces(transition, state.petriNet))
+                .fromPlaces(placeIds(net, net.inputPlaces(transition)))
+                .toPlaces(placeIds(net, net.outputPlaces(transition)))
                 .tokenId("token-" + state.stepsExecuted) // Simple token ID for POC
                 .simulationSeed(config.getSeed())
                 .enabled(enabledTransitions)
                 .markingBefore(markingBefore)
-                .markingAfter(markingAfter)
+                .markingAfter(state.currentMarking)
                 .simulationMode(config.getMode().name().toLowerCase())
                 .reason("Transition " + transitionId + " fired in " + config.getMode().name().toLowerCase() + " mode")
                 .build();
-
-        if (config.isVerbose()) {
-            logger.info("Fired transition {}: {} -> {}", transitionId,
-                       markingBefore.getTokens(), markingAfter.getTokens());
-        }
-
-        return event;
     }
 
     /**
-     * Calculate marking after firing transition
+     * Map place indices of the compiled net back to place IDs
      */
-    private Marking calculateMarkingAfterFiring(Transition transition, Marking currentMarking, PetriNet petriNet) {
-        Map<String, Integer> newTokens = new HashMap<>(currentMarking.getTokens());
-
-        // Remove tokens from input places
-        List<Arc> inputArcs = petriNet.getArcs().stream()
-                .filter(arc -> arc.getTo().equals(transition.getId()))
-                .collect(Collectors.toList());
-
-        for (Arc arc : inputArcs) {
-            String placeId = arc.getFrom();
-            int currentCount = newTokens.getOrDefault(placeId, 0);
-            int newCount = currentCount - arc.getWeight();
-
-            if (newCount <= 0) {
-                newTokens.remove(placeId);
-            } else {
-                newTokens.put(placeId, newCount);
-            }
-        }
-
-        // Add tokens to output places
-        List<Arc> outputArcs = petriNet.getArcs().stream()
-                .filter(arc -> arc.getFrom().equals(transition.getId()))
-                .collect(Collectors.toList());
-
-        for (Arc arc : outputArcs) {
-            String placeId = arc.getTo();
-            int currentCount = newTokens.getOrDefault(placeId, 0);
-            newTokens.put(placeId, currentCount + arc.getWeight());
+    private List<String> placeIds(CompiledPetriNet net, int[] places) {
+        List<String> ids = new ArrayList<>(places.length);
+        for (int place : places) {
+            ids.add(net.placeId(place));
         }
-
-        return new Marking(newTokens);
-    }
-
-    /**
-     * Get input place IDs for transition
-     */
-    private List<String> getInputPlaces(Transition transition, PetriNet petriNet) {
-        return petriNet.getArcs().stream()
-                .filter(arc -> arc.getTo().equals(transition.getId()))
-                .map(Arc::getFrom)
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * Get output place IDs for transition
-     */
-    private List<String> getOutputPlaces(Transition transition, PetriNet petriNet) {
-        return petriNet.getArcs().stream()
-                .filter(arc -> arc.getFrom().equals(transition.getId()))
-                .map(Arc::getTo)
-                .collect(Collectors.toList());
+        return ids;
     }
 
     /**
      * Check if simulation has reached terminal state
      */
-    private boolean isTerminalState(SimulationState state, SimulationConfig config) {
+    private boolean isTerminalState(SimulationState state, SimulationConfig config,
+                                    List<String> enabledTransitions) {
         // Check step limit
         if (state.stepsExecuted >= config.getMaxSteps()) {
             return true;
         }
 
         // Check for deadlock (will be handled separately)
-        List<String> enabled = findEnabledTransitions(state);
-        return enabled.isEmpty();
+        return enabledTransitions.isEmpty();
     }
 
     // Result creation methods
@@ -444,61 +802,60 @@ public class PetriTokenSimulator {
                 trace, initialMarking, null, 0, startTime, endTime, config);
     }
 
-    // Control methods for interactive simulation
+    // Simulator-wide controls, kept for compatibility. Each acts once on the session runs
+    // in progress and leaves no state that later runs, batches or timed simulations check;
+    // control sessions through SimulationSession instead.
 
     /**
-     * Pause simulation (interactive mode)
+     * Pause the interactive session runs in progress
+     *
+     * @deprecated Pause a session with {@link SimulationSession#pause()}
      */
+    @Deprecated
     public void pause() {
         this.paused = true;
+        activeRuns.stream().filter(session -> session.getConfig().isInteractive())
+                .forEach(SimulationSession::pause);
         logger.info("Simulation paused");
     }
 
     /**
-     * Resume simulation (interactive mode)
+     * Resume the interactive session runs in progress
+     *
+     * @deprecated Resume a session with {@link SimulationSession#resume()}
      */
+    @Deprecated
     public void resume() {
         this.paused = false;
-        synchronized (this) {
-            this.notifyAll();
-        }
+        activeRuns.stream().filter(session -> session.getConfig().isInteractive())
+                .forEach(SimulationSession::resume);
         logger.info("Simulation resumed");
     }
 
     /**
-     * Stop simulation
+     * Stop the session runs in progress; sessions opened later are not affected
+     *
+     * @deprecated Stop a session with {@link SimulationSession#stop()}
      */
+    @Deprecated
     public void stop() {
         this.stopped = true;
-        resume(); // Wake up if paused
+        activeRuns.forEach(SimulationSession::stop);
         logger.info("Simulation stop requested");
     }
 
     /**
-     * Reset simulator state
+     * Clear the flags reported by {@link #isPaused()} and {@link #isStopped()}
+     *
+     * @deprecated The flags no longer affect any run
      */
+    @Deprecated
     public void reset() {
         this.paused = false;
         this.stopped = false;
         logger.info("Simulator reset");
     }
 
-    /**
-     * Wait for resume signal
-     */
-    private void waitForResume() {
-        synchronized (this) {
-            while (paused && !stopped) {
-                try {
-                    this.wait();
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    logger.warn("Wait for resume interrupted");
-                    break;
-                }
-            }
-        }
-    }
 
     // MDC context management
 
@@ -516,7 +873,13 @@ public class PetriTokenSimulator {
 
     // Getters for state inspection
 
+    /** @deprecated Whether {@link #pause()} was called last; check {@link SimulationSession#isPaused()} instead */
+    @Deprecated
     public boolean isPaused() { return paused; }
+    /** @deprecated Whether {@link #stop()} was called since the last reset; check {@link SimulationSession#isStopped()} instead */
+    @Deprecated
     public boolean isStopped() { return stopped; }
+    /** @deprecated ID of the most recently opened session, from any thread; use {@link SimulationSession#getId()} */
+    @Deprecated
     public String getCurrentSimulationId() { return currentSimulationId; }
 }
\ No newline at end of file
@@ -94,6 +94,14 @@ public class SimulationConfig {
         return mode == SimulationMode.INTERACTIVE;
     }
 
+    /**
+     * Copy of this configuration with another step delay, e.g. 0 to compute a run at full speed
+     */
+    public SimulationConfig withStepDelayMs(int stepDelayMs) {
+        return new SimulationConfig(seed, mode, maxSteps, stepDelayMs,
+                enableTracing, enableAnimation, pauseOnDeadlock, verbose);
+    }
+
     /**
      * Create default deterministic configuration
      */
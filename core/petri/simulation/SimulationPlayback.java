@@ -0,0 +1,102 @@
+package core.petri.simulation;
+
+import java.util.List;
+
+/**
+ * Paced playback of a computed simulation to one client.
+ *
+ * The simulation runs at full speed beforehand; the playback only decides which step a
+ * client should see at a given time. A driver calls {@link #next(long)} periodically,
+ * for example from a shared scheduler, and sends the returned frame. Step i is due
+ * i intervals after the start. Frames are pulled rather than queued, so a client that
+ * falls behind (a late tick or a slow send) holds no backlog: the next frame is the
+ * latest due step, and the steps in between are counted as skipped. Every step carries
+ * the full marking after it, so skipping loses no state. Events of a lazy trace are only
+ * rebuilt for the steps actually sent.
+ *
+ * Thread-safe; each client has its own playback, even when several replay one result.
+ *
+ * @author Obvian Labs
+ * @since POC Phase 1
+ */
+public final class SimulationPlayback {
+
+    private final SimulationResult result;
+    private final List<TraceEvent> steps;
+    private final long intervalMs;
+    private final long startMillis;
+
+    private int delivered;
+    private long skipped;
+
+    /**
+     * @param result Computed simulation to replay
+     * @param intervalMs Pacing between consecutive steps, at least 1
+     * @param startMillis Time at which the first step is due
+     */
+    public SimulationPlayback(SimulationResult result, long intervalMs, long startMillis) {
+        if (intervalMs < 1) {
+            throw new IllegalArgumentException("Playback interval must be positive");
+        }
+        this.result = result;
+        this.steps = result.getTrace();
+        this.intervalMs = intervalMs;
+        this.startMillis = startMillis;
+    }
+
+    /**
+     * Latest step due at a time that has not been delivered yet
+     *
+     * @param nowMillis Current time on the same clock as the start time
+     * @return Frame to send, or null if the client is up to date
+     */
+    public synchronized Frame next(long nowMillis) {
+        if (nowMillis < startMillis || delivered >= steps.size()) {
+            return null;
+        }
+        int due = (int) Math.min(steps.size(), (nowMillis - startMillis) / intervalMs + 1);
+        if (due <= delivered) {
+            return null;
+        }
+        int skippedSteps = due - delivered - 1;
+        skipped += skippedSteps;
+        delivered = due;
+        return new Frame(steps.get(due - 1), skippedSteps, due == steps.size());
+    }
+
+    /**
+     * Check whether the last step has been delivered; true at once for an empty trace
+     */
+    public synchronized boolean isFinished() {
+        return delivered >= steps.size();
+    }
+
+    public SimulationResult getResult() { return result; }
+    public long getIntervalMs() { return intervalMs; }
+    public int getStepCount() { return steps.size(); }
+    /** Steps delivered or skipped so far */
+    public synchronized int getDelivered() { return delivered; }
+    /** Steps skipped so far because the client fell behind */
+    public synchronized long getSkipped() { return skipped; }
+
+    /**
+     * One step to send to the client
+     */
+    public static final class Frame {
+        private final TraceEvent event;
+        private final int skippedSteps;
+        private final boolean last;
+
+        Frame(TraceEvent event, int skippedSteps, boolean last) {
+            this.event = event;
+            this.skippedSteps = skippedSteps;
+            this.last = last;
+        }
+
+        public TraceEvent getEvent() { return event; }
+        /** Steps dropped since the previous frame */
+        public int getSkippedSteps() { return skippedSteps; }
+        /** Whether this is the final step of the simulation */
+        public boolean isLast() { return last; }
+    }
+}
@@ -8,6 +8,7 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -95,7 +96,9 @@ public class SimulationResult {
         this.success = success;
         this.status = status != null ? status : SimulationStatus.FAILED;
         this.message = message;
-        this.trace = trace != null ? new ArrayList<>(trace) : new ArrayList<>();
+        // Delta-trace views are snapshots of their steps, kept as they are so events are only built when read
+        this.trace = trace == null ? new ArrayList<>()
+                : trace instanceof DeltaTrace.Events ? trace : new ArrayList<>(trace);
         this.finalMarking = finalMarking;
         this.initialMarking = initialMarking;
         this.stepsExecuted = stepsExecuted != null ? stepsExecuted : 0;
@@ -110,7 +113,7 @@ public class SimulationResult {
     public boolean isSuccess() { return success; }
     public SimulationStatus getStatus() { return status; }
     public String getMessage() { return message; }
-    public List<TraceEvent> getTrace() { return new ArrayList<>(trace); }
+    public List<TraceEvent> getTrace() { return Collections.unmodifiableList(trace); }
     public Marking getFinalMarking() { return finalMarking; }
     public Marking getInitialMarking() { return initialMarking; }
     public int getStepsExecuted() { return stepsExecuted; }
@@ -0,0 +1,155 @@
+package core.petri.simulation;
+
+import core.petri.Marking;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Handle of one independent simulation: its state, seeded RNG, trace sink and pause/stop
+ * controls.
+ *
+ * Sessions are opened by {@link PetriTokenSimulator#openSession} and driven with
+ * {@link PetriTokenSimulator#step(SimulationSession)} or
+ * {@link PetriTokenSimulator#run(SimulationSession)}. The simulator itself keeps no
+ * per-simulation state, so any number of sessions can run concurrently on one simulator.
+ * Steps of a session are serialized on the session, and the control methods may be
+ * called from any thread while a run is in progress. Other threads read the session's
+ * position through {@link #getProgress()}, published after every step.
+ *
+ * Every step fired through the session is recorded in its {@link TraceSink}, by default
+ * an unbounded {@link DeltaTrace}. Markings replaced on the state outside of the
+ * simulator are not traced.
+ *
+ * @author Obvian Labs
+ * @since POC Phase 1
+ */
+public final class SimulationSession {
+
+    private final SimulationState state;
+    private final TraceSink traceSink;
+    private final Object pauseMonitor = new Object();
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    private volatile boolean paused = false;
+    private volatile boolean stopped = false;
+    private volatile Progress progress;
+
+    SimulationSession(SimulationState state, TraceSink traceSink) {
+        this.state = state;
+        this.traceSink = traceSink;
+        publishProgress();
+    }
+
+    public String getId() { return state.simulationId; }
+    public SimulationConfig getConfig() { return state.config; }
+
+    /**
+     * Current state; consistent only while no step of this session is in progress
+     */
+    public SimulationState getState() { return state; }
+
+    /**
+     * Step count and marking after the latest step, safe to read from any thread
+     */
+    public Progress getProgress() { return progress; }
+
+    public TraceSink getTraceSink() { return traceSink; }
+
+    public boolean isPaused() { return paused; }
+    public boolean isStopped() { return stopped; }
+    public boolean isRunning() { return running.get(); }
+
+    /**
+     * Pause a run of this session before its next step
+     */
+    public void pause() {
+        this.paused = true;
+    }
+
+    public void resume() {
+        this.paused = false;
+        wake();
+    }
+
+    /**
+     * Stop this session; a run ends before its next step and further steps are refused
+     */
+    public void stop() {
+        this.stopped = true;
+        wake();
+    }
+
+    /**
+     * Claim the session for a run, false if another run already holds it
+     */
+    boolean startRun() {
+        return running.compareAndSet(false, true);
+    }
+
+    void endRun() {
+        running.set(false);
+    }
+
+    /**
+     * Publish the state's step count and marking together; called by the thread stepping the session
+     */
+    void publishProgress() {
+        progress = new Progress(state.stepsExecuted, state.currentMarking);
+    }
+
+    /**
+     * Wake a paused run so it re-evaluates its wait condition
+     */
+    void wake() {
+        synchronized (pauseMonitor) {
+            pauseMonitor.notifyAll();
+        }
+    }
+
+    /**
+     * Block while the condition holds. Callers change the flags the condition reads
+     * before calling {@link #wake()}, so no wake-up is lost.
+     *
+     * @return False if the wait was interrupted
+     */
+    boolean awaitWhile(BooleanSupplier condition) {
+        synchronized (pauseMonitor) {
+            while (condition.getAsBoolean()) {
+                try {
+                    pauseMonitor.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "SimulationSession{" +
+                "id='" + getId() + '\'' +
+                ", paused=" + paused +
+                ", stopped=" + stopped +
+                ", stepsExecuted=" + progress.getStepsExecuted() +
+                '}';
+    }
+
+    /**
+     * Immutable position of a session: a step count and the marking after that step
+     */
+    public static final class Progress {
+        private final int stepsExecuted;
+        private final Marking currentMarking;
+
+        Progress(int stepsExecuted, Marking currentMarking) {
+            this.stepsExecuted = stepsExecuted;
+            this.currentMarking = currentMarking;
+        }
+
+        public int getStepsExecuted() { return stepsExecuted; }
+        public Marking getCurrentMarking() { return currentMarking; }
+    }
+}
@@ -0,0 +1,124 @@
+package core.petri.simulation;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import core.petri.PetriNet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Registry of open simulation sessions, keyed by simulation ID.
+ *
+ * Lets requests that arrive on different threads address the same session to step,
+ * run, pause, resume or stop it. Sessions stay registered until closed or until they
+ * have not been looked up for the time to live; expired sessions are stopped. The
+ * number of open sessions is capped: slots are reserved atomically, and a full registry
+ * first drops expired sessions before it refuses a new one.
+ *
+ * @author Obvian Labs
+ * @since POC Phase 1
+ */
+public class SimulationSessionRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(SimulationSessionRegistry.class);
+
+    /** Time to live of an unused session by default */
+    public static final Duration DEFAULT_TTL = Duration.ofMinutes(30);
+
+    private final PetriTokenSimulator simulator;
+    private final int maximumSize;
+    private final Cache<String, SimulationSession> sessions;
+    private final AtomicInteger openSessions = new AtomicInteger();
+
+    /**
+     * @param simulator Simulator that opens and drives the sessions
+     * @param maximumSize Maximum number of open sessions
+     */
+    public SimulationSessionRegistry(PetriTokenSimulator simulator, int maximumSize) {
+        this(simulator, maximumSize, DEFAULT_TTL);
+    }
+
+    /**
+     * @param simulator Simulator that opens and drives the sessions
+     * @param maximumSize Maximum number of open sessions
+     * @param ttl Time after its last lookup at which a session expires
+     */
+    public SimulationSessionRegistry(PetriTokenSimulator simulator, int maximumSize, Duration ttl) {
+        this.simulator = simulator;
+        this.maximumSize = maximumSize;
+        this.sessions = Caffeine.newBuilder()
+                .expireAfterAccess(ttl)
+                .evictionListener((String id, SimulationSession session, RemovalCause cause) -> expire(session))
+                .build();
+    }
+
+    /**
+     * Open and register a session at the initial marking of a net
+     *
+     * @throws IllegalStateException If the maximum number of sessions is open
+     */
+    public SimulationSession open(PetriNet petriNet, SimulationConfig config) {
+        if (openSessions.incrementAndGet() > maximumSize) {
+            sessions.cleanUp(); // Expire abandoned sessions before refusing
+            if (openSessions.get() > maximumSize) {
+                openSessions.decrementAndGet();
+                throw new IllegalStateException("Too many open simulation sessions, the limit is " + maximumSize);
+            }
+        }
+        SimulationSession session;
+        try {
+            session = simulator.openSession(petriNet, config);
+        } catch (RuntimeException e) {
+            openSessions.decrementAndGet();
+            throw e;
+        }
+        sessions.put(session.getId(), session);
+        logger.info("Opened simulation session: {}", session.getId());
+        return session;
+    }
+
+    /**
+     * Get an open session by ID, extending its time to live
+     */
+    public Optional<SimulationSession> getSession(String sessionId) {
+        return Optional.ofNullable(sessions.getIfPresent(sessionId));
+    }
+
+    /**
+     * Stop and unregister a session
+     *
+     * @return False if no session with the ID was open
+     */
+    public boolean close(String sessionId) {
+        SimulationSession removed = sessions.asMap().remove(sessionId);
+        if (removed == null) {
+            return false;
+        }
+        openSessions.decrementAndGet();
+        removed.stop();
+        logger.info("Closed simulation session: {}", sessionId);
+        return true;
+    }
+
+    /**
+     * Get the number of open sessions
+     */
+    public int getSessionCount() {
+        return openSessions.get();
+    }
+
+    public PetriTokenSimulator getSimulator() {
+        return simulator;
+    }
+
+    private void expire(SimulationSession session) {
+        openSessions.decrementAndGet();
+        session.stop();
+        logger.info("Expired simulation session: {}", session.getId());
+    }
+}
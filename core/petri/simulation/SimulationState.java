@@ -4,6 +4,7 @@ import core.petri.Marking;
 import core.petri.PetriNet;
 
 import java.time.Instant;
+import java.util.Random;
 
 /**
  * Represents the current state of a Petri net simulation.
@@ -24,6 +25,12 @@ public class SimulationState {
     public Marking currentMarking;
     public int stepsExecuted;
 
+    // Enabled-transition index for currentMarking, rebuilt if currentMarking is replaced externally
+    EnabledTransitionTracker enabledTracker;
+
+    // Conflict-resolution RNG of this simulation, seeded from the config on first use
+    Random random;
+
     private SimulationState(String simulationId, PetriNet petriNet, Marking initialMarking,
                            Marking currentMarking, SimulationConfig config, int stepsExecuted,
                            Instant startTime) {
@@ -0,0 +1,185 @@
+package core.petri.simulation;
+
+import core.petri.CompiledPetriNet;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Mergeable aggregate of many simulation runs of one net.
+ *
+ * Records each run's outcome, its step count in a sparse histogram of runs per distinct
+ * step count (so percentiles are exact) and firing counts per transition. No per-run
+ * trace or marking is retained, and the histogram holds at most one entry per distinct
+ * step count, so memory does not grow with the number of runs or the step limit. An
+ * instance is not thread-safe; concurrent workers each fill their own and the results
+ * are combined with {@link #merge(SimulationStatistics)}, which is associative and
+ * commutative, so the totals do not depend on how runs were split.
+ *
+ * @author Obvian Labs
+ * @since POC Phase 1
+ */
+public final class SimulationStatistics {
+
+    private final CompiledPetriNet net;
+    private final int maxSteps;
+    private final Map<Integer, long[]> stepHistogram = new HashMap<>(); // Runs per step count
+    private final long[] firings;
+
+    private long runs;
+    private long completed;
+    private long deadlocked;
+    private long maxStepsReached;
+
+    /**
+     * @param net Net whose transitions are counted
+     * @param maxSteps Step limit of every recorded run
+     */
+    public SimulationStatistics(CompiledPetriNet net, int maxSteps) {
+        this.net = net;
+        this.maxSteps = maxSteps;
+        this.firings = new long[net.getTransitionCount()];
+    }
+
+    /**
+     * Count one firing of a transition in the run being recorded
+     */
+    public void recordFiring(int transition) {
+        firings[transition]++;
+    }
+
+    /**
+     * Record the end of a run
+     *
+     * @param status COMPLETED, DEADLOCKED or MAX_STEPS_REACHED
+     * @param steps Transitions fired by the run
+     */
+    public void recordRun(SimulationResult.SimulationStatus status, int steps) {
+        switch (status) {
+            case COMPLETED:
+                completed++;
+                break;
+            case DEADLOCKED:
+                deadlocked++;
+                break;
+            case MAX_STEPS_REACHED:
+                maxStepsReached++;
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported run outcome: " + status);
+        }
+        stepHistogram.computeIfAbsent(steps, key -> new long[1])[0]++;
+        runs++;
+    }
+
+    /**
+     * Add the runs recorded by another instance for the same net and step limit
+     *
+     * @return This instance
+     */
+    public SimulationStatistics merge(SimulationStatistics other) {
+        if (other.net != net || other.maxSteps != maxSteps) {
+            throw new IllegalArgumentException("Cannot merge statistics of different nets or step limits");
+        }
+        other.stepHistogram.forEach((steps, count) ->
+                stepHistogram.computeIfAbsent(steps, key -> new long[1])[0] += count[0]);
+        for (int transition = 0; transition < firings.length; transition++) {
+            firings[transition] += other.firings[transition];
+        }
+        runs += other.runs;
+        completed += other.completed;
+        deadlocked += other.deadlocked;
+        maxStepsReached += other.maxStepsReached;
+        return this;
+    }
+
+    public long getRuns() { return runs; }
+    public long getCompleted() { return completed; }
+    public long getDeadlocked() { return deadlocked; }
+    public long getMaxStepsReached() { return maxStepsReached; }
+    public int getMaxSteps() { return maxSteps; }
+
+    /**
+     * Fraction of runs that ended in a dead marking that is not terminal
+     */
+    public double getDeadlockProbability() {
+        return runs == 0 ? 0.0 : (double) deadlocked / runs;
+    }
+
+    /**
+     * Step count below or at which the given percentage of runs ended (nearest rank)
+     *
+     * @param percentile Percentage in [0, 100]
+     * @return Step count, or 0 if no run was recorded
+     */
+    public int getStepPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be within [0, 100]: " + percentile);
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * runs));
+        long cumulative = 0;
+        for (int steps : sortedStepCounts()) {
+            cumulative += stepHistogram.get(steps)[0];
+            if (cumulative >= rank) {
+                return steps;
+            }
+        }
+        return 0;
+    }
+
+    public double getMeanSteps() {
+        if (runs == 0) {
+            return 0.0;
+        }
+        double total = 0;
+        for (Map.Entry<Integer, long[]> entry : stepHistogram.entrySet()) {
+            total += (double) entry.getKey() * entry.getValue()[0];
+        }
+        return total / runs;
+    }
+
+    private int[] sortedStepCounts() {
+        int[] steps = new int[stepHistogram.size()];
+        int i = 0;
+        for (int count : stepHistogram.keySet()) {
+            steps[i++] = count;
+        }
+        Arrays.sort(steps);
+        return steps;
+    }
+
+    /**
+     * Total firings per transition ID, in transition ID order
+     */
+    public Map<String, Long> getFiringCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (int transition : net.transitionsInIdOrder()) {
+            counts.put(net.transitionId(transition), firings[transition]);
+        }
+        return counts;
+    }
+
+    /**
+     * Mean firings per run for each transition ID, in transition ID order
+     */
+    public Map<String, Double> getFiringFrequencies() {
+        Map<String, Double> frequencies = new LinkedHashMap<>();
+        for (int transition : net.transitionsInIdOrder()) {
+            frequencies.put(net.transitionId(transition), runs == 0 ? 0.0 : (double) firings[transition] / runs);
+        }
+        return frequencies;
+    }
+
+    @Override
+    public String toString() {
+        return "SimulationStatistics{" +
+                "runs=" + runs +
+                ", completed=" + completed +
+                ", deadlocked=" + deadlocked +
+                ", maxStepsReached=" + maxStepsReached +
+                ", meanSteps=" + getMeanSteps() +
+                '}';
+    }
+}
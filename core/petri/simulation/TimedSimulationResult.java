@@ -0,0 +1,162 @@
+package core.petri.simulation;
+
+import core.petri.CompiledPetriNet;
+import core.petri.Marking;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Result of a discrete-event timed simulation, measured on its virtual clock.
+ *
+ * Reports the makespan (virtual time of the last completion or failure) and, per
+ * transition, how many firings completed or failed, how many attempts timed out or
+ * were retried, and the latency of completed firings from their start to their
+ * completion, including timed-out attempts and retry backoff. The compute time is the
+ * wall-clock time the simulation took.
+ *
+ * @author Obvian Labs
+ * @since POC Phase 1
+ */
+public final class TimedSimulationResult {
+
+    private final CompiledPetriNet net;
+    private final SimulationConfig config;
+
+    private final long[] completions;
+    private final long[] failures;
+    private final long[] timeouts;
+    private final long[] retries;
+    private final long[] totalLatencyMs;
+    private final long[] maxLatencyMs;
+
+    private SimulationResult.SimulationStatus status;
+    private long makespanMs;
+    private Marking finalMarking;
+    private Duration computeTime = Duration.ZERO;
+
+    TimedSimulationResult(CompiledPetriNet net, SimulationConfig config) {
+        this.net = net;
+        this.config = config;
+        int transitionCount = net.getTransitionCount();
+        this.completions = new long[transitionCount];
+        this.failures = new long[transitionCount];
+        this.timeouts = new long[transitionCount];
+        this.retries = new long[transitionCount];
+        this.totalLatencyMs = new long[transitionCount];
+        this.maxLatencyMs = new long[transitionCount];
+    }
+
+    void recordCompletion(int transition, long latencyMs) {
+        completions[transition]++;
+        totalLatencyMs[transition] += latencyMs;
+        maxLatencyMs[transition] = Math.max(maxLatencyMs[transition], latencyMs);
+    }
+
+    void recordFailure(int transition) {
+        failures[transition]++;
+    }
+
+    void recordTimeout(int transition) {
+        timeouts[transition]++;
+    }
+
+    void recordRetry(int transition) {
+        retries[transition]++;
+    }
+
+    void finish(SimulationResult.SimulationStatus status, long makespanMs, Marking finalMarking,
+                Duration computeTime) {
+        this.status = status;
+        this.makespanMs = makespanMs;
+        this.finalMarking = finalMarking;
+        this.computeTime = computeTime;
+    }
+
+    public SimulationResult.SimulationStatus getStatus() { return status; }
+    public SimulationConfig getConfig() { return config; }
+    public Marking getFinalMarking() { return finalMarking; }
+    public Duration getComputeTime() { return computeTime; }
+
+    /**
+     * Virtual time from the start until the last firing completed or failed
+     */
+    public Duration getMakespan() {
+        return Duration.ofMillis(makespanMs);
+    }
+
+    public long getCompletedFirings() { return sum(completions); }
+    public long getFailedFirings() { return sum(failures); }
+    public long getTimeouts() { return sum(timeouts); }
+    public long getRetries() { return sum(retries); }
+
+    /**
+     * Completed firings per transition ID, in transition ID order
+     */
+    public Map<String, Long> getFiringCounts() {
+        return perTransition(completions);
+    }
+
+    /**
+     * Firings per transition ID that failed after their last retry, in transition ID order
+     */
+    public Map<String, Long> getFailureCounts() {
+        return perTransition(failures);
+    }
+
+    /**
+     * Mean latency of completed firings per transition ID that completed at least once
+     */
+    public Map<String, Duration> getMeanLatencies() {
+        Map<String, Duration> latencies = new LinkedHashMap<>();
+        for (int transition : net.transitionsInIdOrder()) {
+            if (completions[transition] > 0) {
+                latencies.put(net.transitionId(transition),
+                        Duration.ofMillis(Math.round((double) totalLatencyMs[transition] / completions[transition])));
+            }
+        }
+        return latencies;
+    }
+
+    /**
+     * Maximum latency of completed firings per transition ID that completed at least once
+     */
+    public Map<String, Duration> getMaxLatencies() {
+        Map<String, Duration> latencies = new LinkedHashMap<>();
+        for (int transition : net.transitionsInIdOrder()) {
+            if (completions[transition] > 0) {
+                latencies.put(net.transitionId(transition), Duration.ofMillis(maxLatencyMs[transition]));
+            }
+        }
+        return latencies;
+    }
+
+    private Map<String, Long> perTransition(long[] counts) {
+        Map<String, Long> byId = new LinkedHashMap<>();
+        for (int transition : net.transitionsInIdOrder()) {
+            byId.put(net.transitionId(transition), counts[transition]);
+        }
+        return byId;
+    }
+
+    private static long sum(long[] counts) {
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        return total;
+    }
+
+    @Override
+    public String toString() {
+        return "TimedSimulationResult{" +
+                "status=" + status +
+                ", makespan=" + getMakespan() +
+                ", completedFirings=" + getCompletedFirings() +
+                ", failedFirings=" + getFailedFirings() +
+                ", timeouts=" + getTimeouts() +
+                ", retries=" + getRetries() +
+                '}';
+    }
+}
@@ -0,0 +1,51 @@
+package core.petri.simulation;
+
+import core.petri.CompiledPetriNet;
+
+import java.time.Instant;
+
+/**
+ * Destination of a delta-encoded simulation trace, written while the simulation runs.
+ *
+ * A step is fully described by the index of the fired transition: its token delta is
+ * {@link CompiledPetriNet#changedPlaces}/{@link CompiledPetriNet#changeWeights}, and every
+ * other {@link TraceEvent} field follows from the marking before the step. Sinks therefore
+ * receive only the transition, the sequence number and the time, plus read access to the
+ * token vector after the firing so they can write periodic full-marking keyframes.
+ *
+ * Implementations: {@link DeltaTrace} (in-memory ring buffer with lazily rebuilt events)
+ * and {@link NdjsonTraceSink} (NDJSON to a writer or file).
+ *
+ * @author Obvian Labs
+ * @since POC Phase 1
+ */
+public interface TraceSink extends AutoCloseable {
+
+    /** Default number of steps between full-marking keyframes */
+    int DEFAULT_KEYFRAME_INTERVAL = 64;
+
+    /**
+     * Start the trace of a simulation
+     *
+     * @param tokens Token vector at sequence number 0; read only, valid during the call
+     */
+    void begin(String simulationId, CompiledPetriNet net, SimulationConfig config, int[] tokens);
+
+    /**
+     * Record one firing
+     *
+     * @param sequenceNumber 1-based step number
+     * @param tokens Token vector after the firing; read only, valid during the call
+     */
+    void fired(int sequenceNumber, int transition, Instant timestamp, int[] tokens);
+
+    /**
+     * Push buffered output through, called when a run of the simulation ends
+     */
+    default void flush() {
+    }
+
+    @Override
+    default void close() {
+    }
+}
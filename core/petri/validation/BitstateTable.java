@@ -0,0 +1,108 @@
+package core.petri.validation;
+
+/**
+ * Fixed-size bitstate (supertrace) table of visited markings.
+ *
+ * Each marking sets {@value #HASH_FUNCTIONS} bits chosen by double hashing its token
+ * vector; a marking is considered visited when all of its bits are already set. Memory
+ * stays constant however many markings are inserted, at the price of hash collisions
+ * that make some unvisited markings look visited, so the search may miss states but
+ * never reports one that is unreachable.
+ *
+ * The omission probability of a new marking is the chance that all of its bits collide,
+ * (set bits / table bits)^k at the time it is looked up. Accumulating that over the
+ * insertions gives an estimate of how many distinct markings were skipped and hence of
+ * the fraction of the state space covered.
+ *
+ * The table is a single on-heap long array, so its size counts fully against the heap
+ * for the duration of an exploration.
+ *
+ * @author Obvian Labs
+ * @since POC Phase 1
+ */
+public class BitstateTable {
+
+    static final int HASH_FUNCTIONS = 3;
+
+    private final long[] words;
+    private final long bitCount;
+    private long setBits;
+    private long inserted;
+    private double expectedOmissions;
+
+    // Scratch bit positions of the marking being looked up
+    private final long[] positions = new long[HASH_FUNCTIONS];
+
+    /**
+     * @param memoryBytes Table size in bytes, rounded down to whole 64-bit words
+     */
+    public BitstateTable(long memoryBytes) {
+        long wordCount = memoryBytes / Long.BYTES;
+        if (wordCount < 1 || wordCount > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Unsupported bitstate table size: " + memoryBytes + " bytes");
+        }
+        this.words = new long[(int) wordCount];
+        this.bitCount = wordCount * Long.SIZE;
+    }
+
+    /**
+     * Mark a token vector as visited.
+     *
+     * @return true if the marking was not visited before, false if all of its bits were set
+     */
+    public boolean add(int[] tokens) {
+        long h1 = hash(tokens, 0x9E3779B97F4A7C15L);
+        long h2 = hash(tokens, 0xC2B2AE3D27D4EB4FL) | 1L;
+        boolean seen = true;
+        for (int i = 0; i < HASH_FUNCTIONS; i++) {
+            positions[i] = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            seen &= (words[(int) (positions[i] >>> 6)] & (1L << positions[i])) != 0;
+        }
+        if (seen) {
+            return false;
+        }
+
+        double omission = Math.pow((double) setBits / bitCount, HASH_FUNCTIONS);
+        // Each insertion stands for 1 / (1 - p) encountered markings, p / (1 - p) of them skipped
+        expectedOmissions += omission < 1.0 ? omission / (1.0 - omission) : Double.POSITIVE_INFINITY;
+        for (long position : positions) {
+            int word = (int) (position >>> 6);
+            long mask = 1L << position;
+            if ((words[word] & mask) == 0) {
+                words[word] |= mask;
+                setBits++;
+            }
+        }
+        inserted++;
+        return true;
+    }
+
+    /** Number of markings inserted as new */
+    public long getInserted() { return inserted; }
+
+    /** Fraction of table bits that are set */
+    public double getFillRatio() { return (double) setBits / bitCount; }
+
+    public long getMemoryBytes() { return (long) words.length * Long.BYTES; }
+
+    /**
+     * Estimated fraction of the distinct markings encountered that were stored rather than
+     * skipped as false positives; 1.0 when no collision was likely.
+     */
+    public double estimatedCoverage() {
+        return inserted == 0 ? 1.0 : inserted / (inserted + expectedOmissions);
+    }
+
+    /**
+     * 64-bit hash of a token vector, mixing each place with a murmur-style finalizer
+     */
+    private static long hash(int[] tokens, long seed) {
+        long h = seed ^ tokens.length;
+        for (int token : tokens) {
+            h = (h ^ token) * 0xFF51AFD7ED558CCDL;
+            h ^= h >>> 33;
+        }
+        h *= 0xC4CEB9FE1A85EC53L;
+        return h ^ (h >>> 33);
+    }
+}
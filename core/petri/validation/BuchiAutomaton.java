@@ -0,0 +1,223 @@
+package core.petri.validation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Büchi automaton accepting exactly the runs that satisfy an LTL formula, built with the
+ * tableau construction of Gerth, Peled, Vardi and Wolper and then degeneralized.
+ *
+ * Each state carries the literals the current position of a run must satisfy; a run is
+ * accepted when it visits an accepting state infinitely often. The tableau yields one
+ * acceptance set per until subformula, which are folded into a single set by cycling a
+ * counter through them, so the automaton has at most (tableau states x until count) states.
+ *
+ * @author Obvian Labs
+ * @since POC Phase 1
+ */
+public final class BuchiAutomaton {
+
+    private final int[][] successors;
+    private final int[] initialStates;
+    private final boolean[] accepting;
+    private final TemporalFormula[][] labels;
+
+    private BuchiAutomaton(int[][] successors, int[] initialStates, boolean[] accepting,
+                           TemporalFormula[][] labels) {
+        this.successors = successors;
+        this.initialStates = initialStates;
+        this.accepting = accepting;
+        this.labels = labels;
+    }
+
+    public int getStateCount() { return successors.length; }
+    public int[] initialStates() { return initialStates; }
+    public int[] successors(int state) { return successors[state]; }
+    public boolean isAccepting(int state) { return accepting[state]; }
+    /** Literals a position must satisfy to be read in this state */
+    public TemporalFormula[] label(int state) { return labels[state]; }
+
+    /**
+     * Build the automaton of an LTL formula.
+     *
+     * @throws IllegalArgumentException if the formula has path quantifiers
+     */
+    public static BuchiAutomaton of(TemporalFormula formula) {
+        if (formula.isCtl()) {
+            throw new IllegalArgumentException("Not an LTL formula: " + formula);
+        }
+        Tableau tableau = new Tableau();
+        Node start = new Node();
+        start.incoming.add(Tableau.INIT);
+        start.pending.add(formula);
+        tableau.expand(start);
+
+        List<Node> nodes = tableau.nodes;
+        List<TemporalFormula> untils = new ArrayList<>();
+        for (Node node : nodes) {
+            for (TemporalFormula old : node.old) {
+                if (old.getKind() == TemporalFormula.Kind.UNTIL && !untils.contains(old)) {
+                    untils.add(old);
+                }
+            }
+        }
+
+        // A node is in the acceptance set of an until if it does not promise it or fulfils it
+        int sets = Math.max(1, untils.size());
+        boolean[][] inSet = new boolean[nodes.size()][sets];
+        for (int n = 0; n < nodes.size(); n++) {
+            for (int u = 0; u < sets; u++) {
+                inSet[n][u] = untils.isEmpty() || !nodes.get(n).old.contains(untils.get(u))
+                        || nodes.get(n).old.contains(untils.get(u).getRight());
+            }
+        }
+
+        // Degeneralized state (node, counter) is node * sets + counter
+        int stateCount = nodes.size() * sets;
+        List<List<Integer>> edges = new ArrayList<>();
+        for (int state = 0; state < stateCount; state++) {
+            edges.add(new ArrayList<>());
+        }
+        List<Integer> initial = new ArrayList<>();
+        for (int target = 0; target < nodes.size(); target++) {
+            for (int source : nodes.get(target).incoming) {
+                if (source == Tableau.INIT) {
+                    initial.add(target * sets);
+                    continue;
+                }
+                for (int counter = 0; counter < sets; counter++) {
+                    int nextCounter = inSet[source][counter] ? (counter + 1) % sets : counter;
+                    edges.get(source * sets + counter).add(target * sets + nextCounter);
+                }
+            }
+        }
+
+        int[][] successors = new int[stateCount][];
+        boolean[] accepting = new boolean[stateCount];
+        TemporalFormula[][] labels = new TemporalFormula[stateCount][];
+        for (int state = 0; state < stateCount; state++) {
+            successors[state] = edges.get(state).stream().mapToInt(Integer::intValue).toArray();
+            int node = state / sets;
+            accepting[state] = state % sets == 0 && inSet[node][0];
+            labels[state] = nodes.get(node).old.stream()
+                    .filter(old -> old.isLiteral() && old.getKind() != TemporalFormula.Kind.TRUE)
+                    .toArray(TemporalFormula[]::new);
+        }
+        return new BuchiAutomaton(successors, initial.stream().mapToInt(Integer::intValue).toArray(),
+                accepting, labels);
+    }
+
+    @Override
+    public String toString() {
+        return "BuchiAutomaton{states=" + successors.length + ", initial=" + Arrays.toString(initialStates) + "}";
+    }
+
+    /**
+     * Tableau node: obligations still to expand, obligations satisfied now, and obligations for the next position
+     */
+    private static final class Node {
+        private final Set<Integer> incoming = new HashSet<>();
+        private final Set<TemporalFormula> pending = new LinkedHashSet<>();
+        private final Set<TemporalFormula> old = new HashSet<>();
+        private final Set<TemporalFormula> next = new HashSet<>();
+
+        private Node copy() {
+            Node copy = new Node();
+            copy.incoming.addAll(incoming);
+            copy.pending.addAll(pending);
+            copy.old.addAll(old);
+            copy.next.addAll(next);
+            return copy;
+        }
+    }
+
+    private static final class Tableau {
+        private static final int INIT = -1;
+
+        private final List<Node> nodes = new ArrayList<>();
+        private final Map<List<Set<TemporalFormula>>, Integer> index = new HashMap<>();
+
+        private void expand(Node node) {
+            if (node.pending.isEmpty()) {
+                List<Set<TemporalFormula>> key = List.of(node.old, node.next);
+                Integer existing = index.get(key);
+                if (existing != null) {
+                    nodes.get(existing).incoming.addAll(node.incoming);
+                    return;
+                }
+                int id = nodes.size();
+                nodes.add(node);
+                index.put(key, id);
+                Node successor = new Node();
+                successor.incoming.add(id);
+                successor.pending.addAll(node.next);
+                expand(successor);
+                return;
+            }
+
+            TemporalFormula formula = node.pending.iterator().next();
+            node.pending.remove(formula);
+            if (node.old.contains(formula)) {
+                expand(node);
+                return;
+            }
+
+            switch (formula.getKind()) {
+                case FALSE:
+                    return;
+                case TRUE:
+                case ATOM:
+                case NOT:
+                    if (node.old.contains(formula.negate())) {
+                        return;
+                    }
+                    node.old.add(formula);
+                    expand(node);
+                    return;
+                case AND:
+                    node.old.add(formula);
+                    node.pending.add(formula.getLeft());
+                    node.pending.add(formula.getRight());
+                    expand(node);
+                    return;
+                case NEXT:
+                    node.old.add(formula);
+                    node.next.add(formula.getLeft());
+                    expand(node);
+                    return;
+                default:
+                    // OR, UNTIL and RELEASE split into two alternatives
+                    node.old.add(formula);
+                    Node first = node.copy();
+                    Node second = node;
+                    switch (formula.getKind()) {
+                        case OR:
+                            first.pending.add(formula.getLeft());
+                            second.pending.add(formula.getRight());
+                            break;
+                        case UNTIL:
+                            first.pending.add(formula.getLeft());
+                            first.next.add(formula);
+                            second.pending.add(formula.getRight());
+                            break;
+                        case RELEASE:
+                            first.pending.add(formula.getRight());
+                            first.next.add(formula);
+                            second.pending.add(formula.getLeft());
+                            second.pending.add(formula.getRight());
+                            break;
+                        default:
+                            throw new IllegalArgumentException("Not an LTL formula: " + formula);
+                    }
+                    expand(first);
+                    expand(second);
+            }
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package core.petri.validation;
+
+import core.petri.CompiledPetriNet;
+
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * Karp–Miller coverability graph for exact boundedness analysis.
+ *
+ * Builds a finite tree of ω-markings: whenever a marking strictly covers one of its
+ * ancestors, the places that grew are accelerated to ω, since repeating the firing
+ * sequence between them pumps those places without limit. New nodes covered by an
+ * already kept node are pruned (subsumption), which keeps the tree far smaller than the
+ * reachability graph while preserving the set of coverable markings. A place is bounded
+ * iff no node carries ω on it, and its bound is the maximum over all nodes.
+ *
+ * Places with a capacity are never accelerated and must match exactly for covering,
+ * because extra tokens there can disable capacity-guarded transitions.
+ *
+ * @author Obvian Labs
+ * @since POC Phase 1
+ */
+public class CoverabilityGraph {
+
+    /** Token count used for places that can hold arbitrarily many tokens */
+    public static final int OMEGA = Integer.MAX_VALUE;
+
+    private final CompiledPetriNet net;
+    private final boolean[] capped;
+
+    public CoverabilityGraph(CompiledPetriNet net) {
+        this.net = net;
+        this.capped = new boolean[net.getPlaceCount()];
+        for (int place = 0; place < capped.length; place++) {
+            capped[place] = net.capacity(place) != CompiledPetriNet.UNBOUNDED;
+        }
+    }
+
+    /**
+     * Build the coverability tree from the initial marking.
+     *
+     * @param maxNodes Maximum number of nodes to expand before giving up
+     * @param deadline Instant after which construction stops as inconclusive
+     * @return Per-place bounds and whether construction completed
+     */
+    public Result analyze(int maxNodes, Instant deadline) {
+        int places = net.getPlaceCount();
+        int[] bounds = new int[places];
+        List<int[]> maximal = new ArrayList<>(); // Antichain of kept markings used for subsumption
+        Set<Node> seen = new HashSet<>();
+        Deque<Node> work = new ArrayDeque<>();
+
+        Node root = new Node(net.initialTokenVector(), null);
+        keep(root, maximal, seen, bounds);
+        work.add(root);
+
+        int expanded = 0;
+        while (!work.isEmpty()) {
+            if (expanded >= maxNodes) {
+                return new Result(bounds, expanded, false, false);
+            }
+            if (Instant.now().isAfter(deadline)) {
+                return new Result(bounds, expanded, false, true);
+            }
+
+            Node node = work.poll();
+            expanded++;
+
+            for (int transition = 0; transition < net.getTransitionCount(); transition++) {
+                // ω satisfies every input weight; capped places never carry ω
+                if (!net.isEnabled(transition, node.tokens)) {
+                    continue;
+                }
+
+                int[] successor = fire(transition, node.tokens);
+                accelerate(successor, node);
+
+                Node child = new Node(successor, node);
+                if (seen.contains(child) || isCovered(successor, maximal)) {
+                    continue;
+                }
+                keep(child, maximal, seen, bounds);
+                work.add(child);
+            }
+        }
+
+        return new Result(bounds, expanded, true, false);
+    }
+
+    private void keep(Node node, List<int[]> maximal, Set<Node> seen, int[] bounds) {
+        seen.add(node);
+        maximal.removeIf(existing -> covers(node.tokens, existing));
+        maximal.add(node.tokens);
+        for (int place = 0; place < bounds.length; place++) {
+            bounds[place] = Math.max(bounds[place], node.tokens[place]);
+        }
+    }
+
+    /**
+     * ω-acceleration: if the successor strictly covers an ancestor, pump the places that grew
+     */
+    private void accelerate(int[] successor, Node parent) {
+        for (Node ancestor = parent; ancestor != null; ancestor = ancestor.parent) {
+            if (covers(successor, ancestor.tokens) && !Arrays.equals(successor, ancestor.tokens)) {
+                for (int place = 0; place < successor.length; place++) {
+                    if (successor[place] > ancestor.tokens[place]) {
+                        successor[place] = OMEGA;
+                    }
+                }
+            }
+        }
+    }
+
+    private boolean isCovered(int[] tokens, List<int[]> maximal) {
+        for (int[] existing : maximal) {
+            if (covers(existing, tokens)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Whether a covers b: a ≥ b on uncapped places and a = b on capped places
+     */
+    private boolean covers(int[] a, int[] b) {
+        for (int place = 0; place < a.length; place++) {
+            if (capped[place] ? a[place] != b[place] : a[place] < b[place]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int[] fire(int transition, int[] tokens) {
+        int[] next = tokens.clone();
+        int[] places = net.changedPlaces(transition);
+        int[] weights = net.changeWeights(transition);
+        for (int i = 0; i < places.length; i++) {
+            if (next[places[i]] != OMEGA) {
+                next[places[i]] += weights[i];
+            }
+        }
+        return next;
+    }
+
+    /**
+     * Node of the coverability tree with its parent for ancestor acceleration
+     */
+    private static final class Node {
+        private final int[] tokens;
+        private final Node parent;
+        private final int hash;
+
+        Node(int[] tokens, Node parent) {
+            this.tokens = tokens;
+            this.parent = parent;
+            this.hash = Arrays.hashCode(tokens);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Node && Arrays.equals(tokens, ((Node) o).tokens);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Outcome of coverability analysis
+     */
+    public class Result {
+        private final int[] bounds;
+        private final int nodesExplored;
+        private final boolean complete;
+        private final boolean timeout;
+
+        private Result(int[] bounds, int nodesExplored, boolean complete, boolean timeout) {
+            this.bounds = bounds;
+            this.nodesExplored = nodesExplored;
+            this.complete = complete;
+            this.timeout = timeout;
+        }
+
+        public int getNodesExplored() { return nodesExplored; }
+        public boolean isComplete() { return complete; }
+        public boolean isTimeout() { return timeout; }
+
+        /**
+         * A net is bounded iff no place reached ω. Only definitive when complete,
+         * but an ω found before the budget ran out already proves unboundedness.
+         */
+        public boolean isBounded() {
+            return complete && getUnboundedPlaces().isEmpty();
+        }
+
+        /**
+         * Places accelerated to ω, in declaration order
+         */
+        public List<String> getUnboundedPlaces() {
+            List<String> unbounded = new ArrayList<>();
+            for (int place = 0; place < bounds.length; place++) {
+                if (bounds[place] == OMEGA) {
+                    unbounded.add(net.placeId(place));
+                }
+            }
+            return unbounded;
+        }
+
+        /**
+         * Token bound of every place that can be marked and is bounded
+         */
+        public Map<String, Integer> getPlaceBounds() {
+            Map<String, Integer> placeBounds = new LinkedHashMap<>();
+            for (int place = 0; place < bounds.length; place++) {
+                if (bounds[place] > 0 && bounds[place] != OMEGA) {
+                    placeBounds.put(net.placeId(place), bounds[place]);
+                }
+            }
+            return placeBounds;
+        }
+    }
+}
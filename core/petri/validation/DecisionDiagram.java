@@ -0,0 +1,336 @@
+package core.petri.validation;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Forest of quasi-reduced multi-valued decision diagrams (MDDs) encoding sets of tuples of
+ * non-negative integers, one tuple element per level.
+ *
+ * Nodes are identified by int handles. Handle {@link #EMPTY} is the empty set and handle
+ * {@link #ACCEPT} the terminal at level 0 holding the empty tuple. A node at level k has one
+ * child at level k - 1 per value of its variable, and every path from a node at the top
+ * level to {@link #ACCEPT} spells one tuple of the set. Nodes are hash-consed through a
+ * unique table, so equal sets are equal handles and set comparison is handle comparison.
+ * Children arrays are trimmed of trailing {@link #EMPTY} entries, which lets variable
+ * domains grow on demand instead of being fixed up front.
+ *
+ * Handles stay valid for the lifetime of the forest; nodes are never collected. Set
+ * operations are memoized in operation caches keyed by handle pairs.
+ *
+ * @author Obvian Labs
+ * @since POC Phase 1
+ */
+public final class DecisionDiagram {
+
+    /** Handle of the empty set */
+    public static final int EMPTY = 0;
+    /** Handle of the terminal node, the set holding only the empty tuple */
+    public static final int ACCEPT = 1;
+
+    private static final int[] NO_CHILDREN = new int[0];
+
+    private final int levels;
+
+    private int[] nodeLevels = new int[1024];
+    private int[][] nodeChildren = new int[1024][];
+    private int nodeCount;
+    private final Map<NodeKey, Integer> unique = new HashMap<>();
+
+    private final Map<Long, Integer> unionCache = new HashMap<>();
+    private final Map<Long, Integer> intersectCache = new HashMap<>();
+    private final Map<Long, Integer> minusCache = new HashMap<>();
+    private final Map<Integer, BigInteger> countCache = new HashMap<>();
+
+    /**
+     * @param levels Number of variables, i.e. the level of the root of every set in the forest
+     */
+    public DecisionDiagram(int levels) {
+        this.levels = levels;
+        nodeLevels[EMPTY] = 0;
+        nodeChildren[EMPTY] = NO_CHILDREN;
+        nodeLevels[ACCEPT] = 0;
+        nodeChildren[ACCEPT] = NO_CHILDREN;
+        nodeCount = 2;
+    }
+
+    public int getLevels() { return levels; }
+    /** Number of nodes created so far, including the two terminals */
+    public int getNodeCount() { return nodeCount; }
+    public int level(int node) { return nodeLevels[node]; }
+    /** One past the largest value with a non-empty child */
+    public int width(int node) { return nodeChildren[node].length; }
+
+    public int child(int node, int value) {
+        int[] children = nodeChildren[node];
+        return value < children.length ? children[value] : EMPTY;
+    }
+
+    /**
+     * Node at a level with the given children, indexed by value. The array is not retained.
+     *
+     * @return Canonical handle, {@link #EMPTY} if every child is empty
+     */
+    public int node(int level, int[] children) {
+        int width = children.length;
+        while (width > 0 && children[width - 1] == EMPTY) {
+            width--;
+        }
+        if (width == 0) {
+            return EMPTY;
+        }
+        NodeKey key = new NodeKey(level, Arrays.copyOf(children, width));
+        Integer existing = unique.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        if (nodeCount == nodeLevels.length) {
+            nodeLevels = Arrays.copyOf(nodeLevels, nodeCount * 2);
+            nodeChildren = Arrays.copyOf(nodeChildren, nodeCount * 2);
+        }
+        int node = nodeCount++;
+        nodeLevels[node] = level;
+        nodeChildren[node] = key.children;
+        unique.put(key, node);
+        return node;
+    }
+
+    /**
+     * Set holding exactly one tuple.
+     *
+     * @param values Tuple, with values[k - 1] the value at level k
+     */
+    public int singleton(int[] values) {
+        int node = ACCEPT;
+        for (int level = 1; level <= levels; level++) {
+            int[] children = new int[values[level - 1] + 1];
+            children[values[level - 1]] = node;
+            node = node(level, children);
+        }
+        return node;
+    }
+
+    public boolean contains(int node, int[] values) {
+        for (int level = levels; level >= 1 && node != EMPTY; level--) {
+            node = child(node, values[level - 1]);
+        }
+        return node == ACCEPT;
+    }
+
+    /**
+     * Some tuple of a non-empty set, taking the smallest value at each level
+     */
+    public int[] pick(int node) {
+        if (node == EMPTY) {
+            throw new IllegalArgumentException("Cannot pick from the empty set");
+        }
+        int[] values = new int[levels];
+        for (int level = levels; level >= 1; level--) {
+            int[] children = nodeChildren[node];
+            int value = 0;
+            while (children[value] == EMPTY) {
+                value++;
+            }
+            values[level - 1] = value;
+            node = children[value];
+        }
+        return values;
+    }
+
+    /**
+     * Number of tuples in a set
+     */
+    public BigInteger count(int node) {
+        if (node <= ACCEPT) {
+            return node == ACCEPT ? BigInteger.ONE : BigInteger.ZERO;
+        }
+        BigInteger cached = countCache.get(node);
+        if (cached != null) {
+            return cached;
+        }
+        BigInteger count = BigInteger.ZERO;
+        for (int child : nodeChildren[node]) {
+            count = count.add(count(child));
+        }
+        countCache.put(node, count);
+        return count;
+    }
+
+    /**
+     * Number of distinct nodes below and including a node, terminals excluded
+     */
+    public int size(int node) {
+        boolean[] seen = new boolean[nodeCount];
+        List<Integer> stack = new ArrayList<>();
+        stack.add(node);
+        int size = 0;
+        while (!stack.isEmpty()) {
+            int current = stack.remove(stack.size() - 1);
+            if (current <= ACCEPT || seen[current]) {
+                continue;
+            }
+            seen[current] = true;
+            size++;
+            for (int child : nodeChildren[current]) {
+                stack.add(child);
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Largest value each level takes in a set, indexed by level - 1; -1 for an empty set
+     */
+    public int[] maxValues(int node) {
+        int[] max = new int[levels];
+        Arrays.fill(max, -1);
+        boolean[] seen = new boolean[nodeCount];
+        List<Integer> stack = new ArrayList<>();
+        stack.add(node);
+        while (!stack.isEmpty()) {
+            int current = stack.remove(stack.size() - 1);
+            if (current <= ACCEPT || seen[current]) {
+                continue;
+            }
+            seen[current] = true;
+            int level = nodeLevels[current];
+            max[level - 1] = Math.max(max[level - 1], nodeChildren[current].length - 1);
+            for (int child : nodeChildren[current]) {
+                stack.add(child);
+            }
+        }
+        return max;
+    }
+
+    public int union(int a, int b) {
+        if (a == b || b == EMPTY) {
+            return a;
+        }
+        if (a == EMPTY) {
+            return b;
+        }
+        long key = pairKey(Math.min(a, b), Math.max(a, b));
+        Integer cached = unionCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        int[] left = nodeChildren[a];
+        int[] right = nodeChildren[b];
+        int[] children = new int[Math.max(left.length, right.length)];
+        for (int value = 0; value < children.length; value++) {
+            children[value] = union(value < left.length ? left[value] : EMPTY,
+                    value < right.length ? right[value] : EMPTY);
+        }
+        int result = node(nodeLevels[a], children);
+        unionCache.put(key, result);
+        return result;
+    }
+
+    public int intersect(int a, int b) {
+        if (a == b) {
+            return a;
+        }
+        if (a == EMPTY || b == EMPTY) {
+            return EMPTY;
+        }
+        long key = pairKey(Math.min(a, b), Math.max(a, b));
+        Integer cached = intersectCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        int[] left = nodeChildren[a];
+        int[] right = nodeChildren[b];
+        int[] children = new int[Math.min(left.length, right.length)];
+        for (int value = 0; value < children.length; value++) {
+            children[value] = intersect(left[value], right[value]);
+        }
+        int result = node(nodeLevels[a], children);
+        intersectCache.put(key, result);
+        return result;
+    }
+
+    /**
+     * Tuples of a that are not in b
+     */
+    public int minus(int a, int b) {
+        if (a == b || a == EMPTY) {
+            return EMPTY;
+        }
+        if (b == EMPTY) {
+            return a;
+        }
+        long key = pairKey(a, b);
+        Integer cached = minusCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        int[] left = nodeChildren[a];
+        int[] right = nodeChildren[b];
+        int[] children = new int[left.length];
+        for (int value = 0; value < children.length; value++) {
+            children[value] = minus(left[value], value < right.length ? right[value] : EMPTY);
+        }
+        int result = node(nodeLevels[a], children);
+        minusCache.put(key, result);
+        return result;
+    }
+
+    /**
+     * Tuples of a set whose value at each level k lies within [min[k - 1], max[k - 1]]
+     */
+    public int restrict(int node, int[] min, int[] max) {
+        return restrict(node, min, max, new HashMap<>());
+    }
+
+    private int restrict(int node, int[] min, int[] max, Map<Integer, Integer> cache) {
+        if (node <= ACCEPT) {
+            return node;
+        }
+        Integer cached = cache.get(node);
+        if (cached != null) {
+            return cached;
+        }
+        int level = nodeLevels[node];
+        int[] source = nodeChildren[node];
+        int[] children = new int[(int) Math.max(0, Math.min(source.length, (long) max[level - 1] + 1))];
+        for (int value = min[level - 1]; value < children.length; value++) {
+            children[value] = restrict(source[value], min, max, cache);
+        }
+        int result = node(level, children);
+        cache.put(node, result);
+        return result;
+    }
+
+    private static long pairKey(int a, int b) {
+        return ((long) a << 32) | (b & 0xFFFFFFFFL);
+    }
+
+    private static final class NodeKey {
+        private final int level;
+        private final int[] children;
+        private final int hash;
+
+        private NodeKey(int level, int[] children) {
+            this.level = level;
+            this.children = children;
+            this.hash = 31 * level + Arrays.hashCode(children);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof NodeKey)) return false;
+            NodeKey that = (NodeKey) o;
+            return level == that.level && Arrays.equals(children, that.children);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
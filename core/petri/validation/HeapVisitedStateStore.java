@@ -0,0 +1,38 @@
+package core.petri.validation;
+
+import core.petri.CompactMarking;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Visited state store backed by a {@link HashMap} on the Java heap.
+ *
+ * @author Obvian Labs
+ * @since POC Phase 1
+ */
+public class HeapVisitedStateStore implements VisitedStateStore {
+
+    private final Map<CompactMarking, Integer> states = new HashMap<>();
+
+    @Override
+    public int putIfAbsent(CompactMarking marking, int stateId) {
+        Integer existing = states.putIfAbsent(marking, stateId);
+        return existing != null ? existing : NOT_FOUND;
+    }
+
+    @Override
+    public int get(CompactMarking marking) {
+        return states.getOrDefault(marking, NOT_FOUND);
+    }
+
+    @Override
+    public long size() {
+        return states.size();
+    }
+
+    @Override
+    public void close() {
+        states.clear();
+    }
+}
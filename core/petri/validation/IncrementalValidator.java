@@ -0,0 +1,333 @@
+package core.petri.validation;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import core.petri.Arc;
+import core.petri.PetriNet;
+import core.petri.PetriNetDelta;
+import core.petri.Place;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Re-validates a Petri net after small edits, reusing the results the edits cannot change.
+ *
+ * Editors validate after every change, so each validated net is kept in a bounded cache under a
+ * key derived from its content, never a caller-supplied ID, with its results in two parts: the structural check, which is cheap and re-run after every
+ * edit, and the behavioural checks (deadlock, reachability, liveness, boundedness and temporal
+ * properties), which explore the state space. Edits that leave the reachable markings, and
+ * which of them are terminal, unchanged keep the behavioural results of their base net:
+ * - Adding a place without tokens, or removing one without arcs or tokens
+ * - Adding or removing an arc from a dead transition to a place
+ * - Adding an arc from a place to a dead transition, if the place already has a consumer,
+ *   is a terminal (p_done) place or was added by the same delta
+ * Dead transitions are taken from the base net's liveness check. Place edits are not neutral
+ * when the config has temporal properties, which may name the place. Any other edit, a change in
+ * whether the net has a terminal place, a different config, or base results that ran into the
+ * timeout re-run the behavioural checks on the edited net.
+ *
+ * @author Obvian Labs
+ * @since POC Phase 1
+ */
+public class IncrementalValidator {
+
+    private static final Logger logger = LoggerFactory.getLogger(IncrementalValidator.class);
+
+    private static final String TERMINAL_PLACE_PREFIX = "p_done";
+
+    private static final Set<PetriNetValidationResult.CheckType> STRUCTURAL_CHECKS =
+            EnumSet.of(PetriNetValidationResult.CheckType.STRUCTURAL_VALIDATION);
+
+    private final PetriNetValidator validator;
+    private final Cache<String, Entry> entries;
+
+    public IncrementalValidator(PetriNetValidator validator, long maximumSize, Duration ttl) {
+        this.validator = validator;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(ttl)
+                .build();
+    }
+
+    /**
+     * Validate a complete net and keep it as a base for later edits.
+     *
+     * @param petriNet the Petri net to validate
+     * @param config validation configuration, or null for the default
+     * @return validation result, with no reused checks and the net ID to base edits on
+     */
+    public Result validate(PetriNet petriNet, PetriNetValidationResult.ValidationConfig config) {
+        if (petriNet == null) {
+            throw new IllegalArgumentException("PetriNet cannot be null");
+        }
+        if (config == null) {
+            config = PetriNetValidationResult.ValidationConfig.defaultConfig();
+        }
+
+        Instant startTime = Instant.now();
+        Entry entry = new Entry(petriNet, config,
+                validatePart(petriNet, config, true), validatePart(petriNet, config, false));
+        String netId = contentId(petriNet);
+        entries.put(netId, entry);
+        return new Result(netId, petriNet, entry.merge(startTime), Collections.emptySet());
+    }
+
+    /**
+     * Apply edits to a previously validated net and validate the result, which is kept as a
+     * base for further edits.
+     *
+     * @param baseNetId net ID returned by an earlier validation through this validator
+     * @param delta edits to apply to the base net
+     * @param config validation configuration, or null for the config the base net was validated with
+     * @return validation result of the edited net and the checks reused from the base net
+     * @throws NoSuchElementException if the base net is unknown or has been evicted
+     * @throws IllegalArgumentException if an edit does not apply to the base net
+     */
+    public Result validate(String baseNetId, PetriNetDelta delta,
+                           PetriNetValidationResult.ValidationConfig config) {
+        Entry base = baseNetId != null ? entries.getIfPresent(baseNetId) : null;
+        if (base == null) {
+            throw new NoSuchElementException("Unknown base net: " + baseNetId);
+        }
+        if (config == null) {
+            config = base.config;
+        }
+
+        Instant startTime = Instant.now();
+        PetriNet edited = delta.applyTo(base.petriNet);
+        boolean reusable = config.equals(base.config) && isReusable(base.behavioural)
+                && preservesStateSpace(base, edited, delta);
+        String netId = contentId(edited);
+        logger.debug("Incremental validation of {} from {}: {} edits, behavioural checks {}",
+                netId, baseNetId, delta.getEdits().size(), reusable ? "reused" : "re-run");
+
+        PetriNetValidationResult behavioural = reusable
+                ? base.behavioural
+                : validatePart(edited, config, false);
+        Entry entry = new Entry(edited, config, validatePart(edited, config, true), behavioural);
+        entries.put(netId, entry);
+
+        Set<PetriNetValidationResult.CheckType> reused = reusable && behavioural != null
+                ? behavioural.getChecks().keySet()
+                : Collections.emptySet();
+        return new Result(netId, edited, entry.merge(startTime), reused);
+    }
+
+    /**
+     * Drop every cached base net
+     */
+    public void invalidateAll() {
+        entries.invalidateAll();
+    }
+
+    public long getSize() { return entries.estimatedSize(); }
+
+    /**
+     * Validate only the structural or only the behavioural checks the config enables,
+     * or return null if it enables none of them
+     */
+    private PetriNetValidationResult validatePart(PetriNet petriNet, PetriNetValidationResult.ValidationConfig config,
+                                                  boolean structural) {
+        Set<PetriNetValidationResult.CheckType> checks = config.getEnabledChecks();
+        if (structural) {
+            checks.retainAll(STRUCTURAL_CHECKS);
+        } else {
+            checks.removeAll(STRUCTURAL_CHECKS);
+        }
+        return checks.isEmpty() ? null : validator.validate(petriNet, config.withEnabledChecks(checks));
+    }
+
+    /**
+     * Whether behavioural results can stand for another net: complete and independent of wall-clock time
+     */
+    private static boolean isReusable(PetriNetValidationResult result) {
+        if (result == null) {
+            return true;
+        }
+        return !result.getChecks().isEmpty() && result.getChecks().values().stream()
+                .noneMatch(check -> check.getStatus() == PetriNetValidationResult.PetriValidationStatus.INCONCLUSIVE_TIMEOUT);
+    }
+
+    /**
+     * Whether every edit leaves the reachable markings and terminal markings of the base net unchanged
+     */
+    private static boolean preservesStateSpace(Entry base, PetriNet edited, PetriNetDelta delta) {
+        if (hasTerminalPlace(base.petriNet) != hasTerminalPlace(edited)) {
+            return false;
+        }
+
+        Set<String> deadTransitions = base.deadTransitions();
+        Set<String> addedPlaces = new HashSet<>();
+        boolean hasProperties = !base.config.getProperties().isEmpty();
+        for (PetriNetDelta.Edit edit : delta.getEdits()) {
+            switch (edit.getOperation()) {
+                case ADD_PLACE:
+                    if (hasProperties) {
+                        return false;
+                    }
+                    addedPlaces.add(edit.getPlace().getId());
+                    break;
+                case REMOVE_PLACE:
+                    if (hasProperties) {
+                        return false;
+                    }
+                    String placeId = edit.getElementId();
+                    if (base.petriNet.getInitialMarking().getTokens(placeId) > 0 || base.petriNet.getArcs().stream()
+                            .anyMatch(arc -> arc.getFrom().equals(placeId) || arc.getTo().equals(placeId))) {
+                        return false;
+                    }
+                    break;
+                case ADD_ARC:
+                case REMOVE_ARC:
+                    Arc arc = edit.getArc();
+                    if (base.petriNet.getPlace(arc.getFrom()).isPresent() || addedPlaces.contains(arc.getFrom())) {
+                        // Input arcs keep a dead transition dead; only added ones leave consumers unchanged
+                        boolean consumed = addedPlaces.contains(arc.getFrom())
+                                || arc.getFrom().startsWith(TERMINAL_PLACE_PREFIX)
+                                || !base.petriNet.getOutputTransitions(arc.getFrom()).isEmpty();
+                        if (edit.getOperation() == PetriNetDelta.Operation.REMOVE_ARC
+                                || !deadTransitions.contains(arc.getTo()) || !consumed) {
+                            return false;
+                        }
+                    } else if (!deadTransitions.contains(arc.getFrom())) {
+                        return false;
+                    }
+                    break;
+                default:
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Cache key of a net: its full content hash, so nets sharing a caller-supplied ID never
+     * replace each other, or a unique key if the net cannot be hashed
+     */
+    private static String contentId(PetriNet petriNet) {
+        String hash = petriNet.getContentHash();
+        return "petri_" + (hash != null ? hash : UUID.randomUUID().toString());
+    }
+
+    private static boolean hasTerminalPlace(PetriNet petriNet) {
+        for (Place place : petriNet.getPlaces()) {
+            if (place.getId().startsWith(TERMINAL_PLACE_PREFIX)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A validated net with its structural and behavioural results, either of which is null
+     * when the config enables none of its checks
+     */
+    private static final class Entry {
+        private final PetriNet petriNet;
+        private final PetriNetValidationResult.ValidationConfig config;
+        private final PetriNetValidationResult structural;
+        private final PetriNetValidationResult behavioural;
+
+        Entry(PetriNet petriNet, PetriNetValidationResult.ValidationConfig config,
+              PetriNetValidationResult structural, PetriNetValidationResult behavioural) {
+            this.petriNet = petriNet;
+            this.config = config;
+            this.structural = structural;
+            this.behavioural = behavioural;
+        }
+
+        /**
+         * Transitions the liveness check proved dead; empty if it was not run or was inconclusive
+         */
+        @SuppressWarnings("unchecked")
+        Set<String> deadTransitions() {
+            PetriNetValidationResult.CheckResult liveness = behavioural != null
+                    ? behavioural.getChecks().get(PetriNetValidationResult.CheckType.LIVENESS_CHECK)
+                    : null;
+            if (liveness != null && liveness.isFailed()
+                    && liveness.getDetails().get("deadTransitions") instanceof List) {
+                return new HashSet<>((List<String>) liveness.getDetails().get("deadTransitions"));
+            }
+            return Collections.emptySet();
+        }
+
+        /**
+         * Combine both parts into the result a single validation of the net would give
+         */
+        PetriNetValidationResult merge(Instant startTime) {
+            if (structural == null || behavioural == null) {
+                return structural != null ? structural : behavioural;
+            }
+            if (structural.getChecks().isEmpty()) {
+                return structural;
+            }
+            if (behavioural.getChecks().isEmpty()) {
+                return behavioural;
+            }
+
+            Map<PetriNetValidationResult.CheckType, PetriNetValidationResult.CheckResult> checks =
+                    new HashMap<>(structural.getChecks());
+            checks.putAll(behavioural.getChecks());
+            List<String> hints = new ArrayList<>(structural.getHints());
+            hints.addAll(behavioural.getHints());
+
+            // Report the status of the worse part; a failure outranks an inconclusive result
+            PetriNetValidationResult worse = structural.getPetriStatus() == PetriNetValidationResult.PetriValidationStatus.FAIL
+                    || behavioural.getPetriStatus() == PetriNetValidationResult.PetriValidationStatus.PASS
+                    ? structural : behavioural;
+
+            PetriNetValidationResult.Builder builder = PetriNetValidationResult.builder()
+                    .petriStatus(worse.getPetriStatus())
+                    .checks(checks)
+                    .counterExample(behavioural.getCounterExample())
+                    .hints(hints)
+                    .config(config)
+                    .statesExplored(behavioural.getStatesExplored())
+                    .petriNetId(petriNet.getId());
+            builder.status(worse.getStatus())
+                    .valid(worse.isValid())
+                    .confidenceScore(worse.getConfidenceScore());
+            builder.validationTimeMs(Duration.between(startTime, Instant.now()).toMillis());
+            return builder.build();
+        }
+    }
+
+    /**
+     * Validation result of a net together with the checks carried over from its base net
+     */
+    public static final class Result {
+        private final String netId;
+        private final PetriNet petriNet;
+        private final PetriNetValidationResult validationResult;
+        private final Set<PetriNetValidationResult.CheckType> reusedChecks;
+
+        Result(String netId, PetriNet petriNet, PetriNetValidationResult validationResult,
+               Set<PetriNetValidationResult.CheckType> reusedChecks) {
+            this.netId = netId;
+            this.petriNet = petriNet;
+            this.validationResult = validationResult;
+            this.reusedChecks = reusedChecks;
+        }
+
+        /** Content-derived ID of the validated net, the base for further edits */
+        public String getNetId() { return netId; }
+        public PetriNet getPetriNet() { return petriNet; }
+        public PetriNetValidationResult getValidationResult() { return validationResult; }
+        /** Checks whose results were taken from the base net instead of re-run */
+        public Set<PetriNetValidationResult.CheckType> getReusedChecks() { return reusedChecks; }
+    }
+}
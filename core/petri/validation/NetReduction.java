@@ -0,0 +1,406 @@
+package core.petri.validation;
+
+import core.petri.CompiledPetriNet;
+import core.petri.Marking;
+import core.petri.PetriNet;
+import core.petri.Transition;
+
+import java.util.*;
+import java.util.function.IntPredicate;
+
+/**
+ * Behaviour-preserving reduction of a Petri net before state space exploration, using the
+ * classic Berthelot/Murata rules:
+ * - Self-loop places: an unbounded place whose every arc is a self-loop and whose initial
+ *   tokens cover the largest weight never restricts firing and is removed
+ * - Parallel places: a place with the same arcs, capacity and initial tokens as another
+ *   always holds the same tokens and is removed
+ * - Parallel transitions: a transition with the same input and output arcs as another is
+ *   removed and represented by the one kept
+ * - Series fusion (post-agglomeration): an empty unbounded place p whose only consumer t
+ *   has p as its sole input, with weight 1 on every arc to and from p, lets t fire right
+ *   after each producer of p. Each producer absorbs t and p is removed.
+ *
+ * These preserve deadlocks, terminal markings, livelocks and the liveness level of every
+ * transition. Protected places, such as terminal places, are never removed.
+ *
+ * Every reduced transition stands for a firing sequence of original transitions, used to
+ * expand witness paths, and for the set of original transitions whose firing it accounts
+ * for, used to map liveness back. Removed places are reconstructed in markings as empty,
+ * as a copy of the place they duplicate, or as their constant self-loop tokens. Self-loop
+ * transitions are kept, since removing one would turn a livelock into a deadlock.
+ *
+ * @author Obvian Labs
+ * @since POC Phase 1
+ */
+public class NetReduction {
+
+    private final CompiledPetriNet originalNet;
+    private final CompiledPetriNet reducedNet;
+    private final int[][] sequences; // Per reduced transition: original transitions fired, in order
+    private final int[][] represented; // Per reduced transition: original transitions it accounts for
+    private final int[] placeSource; // Per original place: reduced place holding its tokens, or -1
+    private final int[] placeConstant; // Per original place without a source: its constant tokens
+    private final boolean permanentlyMarked;
+
+    private NetReduction(CompiledPetriNet originalNet, CompiledPetriNet reducedNet, int[][] sequences,
+                         int[][] represented, int[] placeSource, int[] placeConstant, boolean permanentlyMarked) {
+        this.originalNet = originalNet;
+        this.reducedNet = reducedNet;
+        this.sequences = sequences;
+        this.represented = represented;
+        this.placeSource = placeSource;
+        this.placeConstant = placeConstant;
+        this.permanentlyMarked = permanentlyMarked;
+    }
+
+    /**
+     * Reduce a net until no rule applies.
+     *
+     * @param net Net to reduce
+     * @param protectedPlace Places that must keep their identity in the reduced net
+     * @return The reduction, or null if no rule applies
+     */
+    public static NetReduction reduce(CompiledPetriNet net, IntPredicate protectedPlace) {
+        return new Reducer(net, protectedPlace).run();
+    }
+
+    public CompiledPetriNet getOriginalNet() { return originalNet; }
+    public CompiledPetriNet getReducedNet() { return reducedNet; }
+
+    public int getRemovedPlaces() {
+        return originalNet.getPlaceCount() - reducedNet.getPlaceCount();
+    }
+
+    public int getRemovedTransitions() {
+        return originalNet.getTransitionCount() - reducedNet.getTransitionCount();
+    }
+
+    /**
+     * Original transitions whose firing is accounted for by firing the reduced transition
+     */
+    public int[] represented(int reducedTransition) {
+        return represented[reducedTransition];
+    }
+
+    /**
+     * Whether a removed self-loop place holds tokens and has consumers in every reachable
+     * marking, so no dead marking has tokens only in places without consumers
+     */
+    public boolean hasPermanentlyMarkedPlace() {
+        return permanentlyMarked;
+    }
+
+    /**
+     * Expand a firing sequence of reduced transition IDs into original transition IDs
+     */
+    public List<String> expandPath(List<String> reducedPath) {
+        List<String> path = new ArrayList<>(reducedPath.size());
+        for (String transitionId : reducedPath) {
+            for (int original : sequences[reducedNet.transitionIndex(transitionId)]) {
+                path.add(originalNet.transitionId(original));
+            }
+        }
+        return path;
+    }
+
+    /**
+     * Original token vector of a reduced marking
+     */
+    public int[] expandTokens(int[] reducedTokens) {
+        int[] tokens = new int[originalNet.getPlaceCount()];
+        for (int place = 0; place < tokens.length; place++) {
+            tokens[place] = placeSource[place] >= 0 ? reducedTokens[placeSource[place]] : placeConstant[place];
+        }
+        return tokens;
+    }
+
+    /**
+     * Original marking of a reduced marking
+     */
+    public Marking expandMarking(Marking reducedMarking) {
+        return originalNet.toMarking(expandTokens(reducedNet.toTokenVector(reducedMarking)));
+    }
+
+    /**
+     * Mutable working copy of the net that the rules rewrite in place
+     */
+    private static final class Reducer {
+        private final CompiledPetriNet net;
+        private final IntPredicate protectedPlace;
+        private final int[] initial;
+
+        private final boolean[] placeRemoved;
+        private final boolean[] transitionRemoved;
+        private final List<Map<Integer, Integer>> pre = new ArrayList<>();
+        private final List<Map<Integer, Integer>> post = new ArrayList<>();
+        private final List<Set<Integer>> producers = new ArrayList<>();
+        private final List<Set<Integer>> consumers = new ArrayList<>();
+        private final List<List<Integer>> sequences = new ArrayList<>();
+        private final List<Set<Integer>> represented = new ArrayList<>();
+
+        // Removed places: the place they copy, or -1 with a constant token count
+        private final int[] copyOf;
+        private final int[] constant;
+        private boolean permanentlyMarked;
+        private boolean reduced;
+
+        Reducer(CompiledPetriNet net, IntPredicate protectedPlace) {
+            this.net = net;
+            this.protectedPlace = protectedPlace;
+            this.initial = net.initialTokenVector();
+            int places = net.getPlaceCount();
+            int transitions = net.getTransitionCount();
+            this.placeRemoved = new boolean[places];
+            this.transitionRemoved = new boolean[transitions];
+            this.copyOf = new int[places];
+            this.constant = new int[places];
+            Arrays.fill(copyOf, -1);
+
+            for (int place = 0; place < places; place++) {
+                producers.add(new LinkedHashSet<>());
+                consumers.add(new LinkedHashSet<>());
+            }
+            for (int transition = 0; transition < transitions; transition++) {
+                Map<Integer, Integer> in = new LinkedHashMap<>();
+                Map<Integer, Integer> out = new LinkedHashMap<>();
+                int[] inPlaces = net.inputPlaces(transition);
+                int[] inWeights = net.inputWeights(transition);
+                for (int i = 0; i < inPlaces.length; i++) {
+                    in.put(inPlaces[i], inWeights[i]);
+                    consumers.get(inPlaces[i]).add(transition);
+                }
+                int[] outPlaces = net.outputPlaces(transition);
+                int[] outWeights = net.outputWeights(transition);
+                for (int i = 0; i < outPlaces.length; i++) {
+                    out.put(outPlaces[i], outWeights[i]);
+                    producers.get(outPlaces[i]).add(transition);
+                }
+                pre.add(in);
+                post.add(out);
+                sequences.add(new ArrayList<>(List.of(transition)));
+                represented.add(new LinkedHashSet<>(List.of(transition)));
+            }
+        }
+
+        NetReduction run() {
+            if (!hasUniqueIds()) {
+                return null;
+            }
+            boolean changed = true;
+            while (changed) {
+                changed = removeSelfLoopPlaces() | removeParallelPlaces() | removeParallelTransitions()
+                        | fuseSeries();
+            }
+            return reduced ? build() : null;
+        }
+
+        private boolean hasUniqueIds() {
+            Set<String> ids = new HashSet<>();
+            for (int place = 0; place < net.getPlaceCount(); place++) {
+                if (!ids.add(net.placeId(place))) {
+                    return false;
+                }
+            }
+            for (int transition = 0; transition < net.getTransitionCount(); transition++) {
+                if (!ids.add(net.transitionId(transition))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean removable(int place) {
+            return !placeRemoved[place] && !protectedPlace.test(place);
+        }
+
+        private boolean unbounded(int place) {
+            return net.capacity(place) == CompiledPetriNet.UNBOUNDED;
+        }
+
+        private boolean removeSelfLoopPlaces() {
+            boolean changed = false;
+            for (int place = 0; place < placeRemoved.length; place++) {
+                if (!removable(place) || !unbounded(place) || consumers.get(place).isEmpty()
+                        || !producers.get(place).equals(consumers.get(place))) {
+                    continue;
+                }
+                boolean selfLoops = true;
+                for (int transition : consumers.get(place)) {
+                    int weight = pre.get(transition).get(place);
+                    selfLoops &= weight == post.get(transition).get(place) && weight <= initial[place];
+                }
+                if (selfLoops) {
+                    constant[place] = initial[place];
+                    removePlace(place);
+                    // The place stays marked and consumed, so it rules out sink-only dead markings
+                    permanentlyMarked = true;
+                    changed = true;
+                }
+            }
+            return changed;
+        }
+
+        private boolean removeParallelPlaces() {
+            boolean changed = false;
+            Map<List<Object>, Integer> bySignature = new HashMap<>();
+            for (int place = 0; place < placeRemoved.length; place++) {
+                if (placeRemoved[place]) {
+                    continue;
+                }
+                Map<Integer, Integer> in = new TreeMap<>();
+                for (int producer : producers.get(place)) {
+                    in.put(producer, post.get(producer).get(place));
+                }
+                Map<Integer, Integer> out = new TreeMap<>();
+                for (int consumer : consumers.get(place)) {
+                    out.put(consumer, pre.get(consumer).get(place));
+                }
+                List<Object> signature = List.of(in, out, initial[place], net.capacity(place));
+                Integer twin = bySignature.putIfAbsent(signature, place);
+                if (twin != null && removable(place)) {
+                    copyOf[place] = twin;
+                    removePlace(place);
+                    changed = true;
+                }
+            }
+            return changed;
+        }
+
+        private boolean removeParallelTransitions() {
+            boolean changed = false;
+            Map<List<Object>, Integer> bySignature = new HashMap<>();
+            for (int transition = 0; transition < transitionRemoved.length; transition++) {
+                if (transitionRemoved[transition]) {
+                    continue;
+                }
+                List<Object> signature = List.of(new TreeMap<>(pre.get(transition)), new TreeMap<>(post.get(transition)));
+                Integer twin = bySignature.putIfAbsent(signature, transition);
+                if (twin != null) {
+                    represented.get(twin).addAll(represented.get(transition));
+                    removeTransition(transition);
+                    changed = true;
+                }
+            }
+            return changed;
+        }
+
+        private boolean fuseSeries() {
+            boolean changed = false;
+            for (int place = 0; place < placeRemoved.length; place++) {
+                if (!removable(place) || !unbounded(place) || initial[place] != 0
+                        || consumers.get(place).size() != 1 || producers.get(place).isEmpty()) {
+                    continue;
+                }
+                int consumer = consumers.get(place).iterator().next();
+                if (pre.get(consumer).size() != 1 || pre.get(consumer).get(place) != 1
+                        || post.get(consumer).containsKey(place)) {
+                    continue;
+                }
+                boolean fusible = true;
+                for (int output : post.get(consumer).keySet()) {
+                    fusible &= unbounded(output);
+                }
+                for (int producer : producers.get(place)) {
+                    fusible &= post.get(producer).get(place) == 1;
+                }
+                if (!fusible) {
+                    continue;
+                }
+
+                // Each producer fires the consumer right after itself
+                for (int producer : new ArrayList<>(producers.get(place))) {
+                    post.get(producer).remove(place);
+                    for (Map.Entry<Integer, Integer> arc : post.get(consumer).entrySet()) {
+                        post.get(producer).merge(arc.getKey(), arc.getValue(), Integer::sum);
+                        producers.get(arc.getKey()).add(producer);
+                    }
+                    sequences.get(producer).addAll(sequences.get(consumer));
+                    represented.get(producer).addAll(represented.get(consumer));
+                }
+                producers.get(place).clear();
+                removeTransition(consumer);
+                removePlace(place);
+                changed = true;
+            }
+            return changed;
+        }
+
+        private void removePlace(int place) {
+            for (int producer : producers.get(place)) {
+                post.get(producer).remove(place);
+            }
+            for (int consumer : consumers.get(place)) {
+                pre.get(consumer).remove(place);
+            }
+            producers.get(place).clear();
+            consumers.get(place).clear();
+            placeRemoved[place] = true;
+            reduced = true;
+        }
+
+        private void removeTransition(int transition) {
+            for (int place : pre.get(transition).keySet()) {
+                consumers.get(place).remove(transition);
+            }
+            for (int place : post.get(transition).keySet()) {
+                producers.get(place).remove(transition);
+            }
+            pre.get(transition).clear();
+            post.get(transition).clear();
+            transitionRemoved[transition] = true;
+            reduced = true;
+        }
+
+        /**
+         * Build the reduced net, keeping the original place and transition objects and IDs
+         */
+        private NetReduction build() {
+            PetriNet source = net.getSource();
+            PetriNet.Builder builder = PetriNet.builder()
+                    .id(source.getId())
+                    .name(source.getName());
+            for (int place = 0; place < placeRemoved.length; place++) {
+                if (!placeRemoved[place]) {
+                    builder.addPlace(net.getPlace(place));
+                    if (initial[place] > 0) {
+                        builder.addInitialToken(net.placeId(place), initial[place]);
+                    }
+                }
+            }
+            List<int[]> reducedSequences = new ArrayList<>();
+            List<int[]> reducedRepresented = new ArrayList<>();
+            for (int transition = 0; transition < transitionRemoved.length; transition++) {
+                if (transitionRemoved[transition]) {
+                    continue;
+                }
+                Transition original = net.getTransition(transition);
+                builder.addTransition(original);
+                for (Map.Entry<Integer, Integer> arc : pre.get(transition).entrySet()) {
+                    builder.addArc(net.placeId(arc.getKey()), original.getId(), arc.getValue());
+                }
+                for (Map.Entry<Integer, Integer> arc : post.get(transition).entrySet()) {
+                    builder.addArc(original.getId(), net.placeId(arc.getKey()), arc.getValue());
+                }
+                reducedSequences.add(sequences.get(transition).stream().mapToInt(Integer::intValue).toArray());
+                reducedRepresented.add(represented.get(transition).stream().mapToInt(Integer::intValue).toArray());
+            }
+            CompiledPetriNet reducedNet = builder.build().compile();
+
+            int[] placeSource = new int[placeRemoved.length];
+            int[] placeConstant = new int[placeRemoved.length];
+            for (int place = 0; place < placeRemoved.length; place++) {
+                // Follow copies to the place that survived or to a removed place's constant
+                int current = place;
+                while (placeRemoved[current] && copyOf[current] >= 0) {
+                    current = copyOf[current];
+                }
+                placeSource[place] = placeRemoved[current] ? -1 : reducedNet.placeIndex(net.placeId(current));
+                placeConstant[place] = placeRemoved[current] ? constant[current] : 0;
+            }
+
+            return new NetReduction(net, reducedNet, reducedSequences.toArray(new int[0][]),
+                    reducedRepresented.toArray(new int[0][]), placeSource, placeConstant, permanentlyMarked);
+        }
+    }
+}
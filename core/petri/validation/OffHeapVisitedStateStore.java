@@ -0,0 +1,282 @@
+package core.petri.validation;
+
+import core.petri.CompactMarking;
+import core.petri.CompiledPetriNet;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Visited state store kept outside the Java heap, in direct memory or in memory-mapped
+ * temporary files.
+ *
+ * Markings are appended to a record region as (state ID, hash, serialized marking).
+ * An open-addressing table with linear probing maps them by hash; each 8-byte slot
+ * packs a 24-bit hash tag with the 40-bit record offset, so most probes that miss are
+ * rejected without touching the record. The table doubles at half load, rehashing from
+ * the hashes stored in the records. Neither region holds Java objects, so hundreds of
+ * millions of markings add nothing for the garbage collector to trace.
+ *
+ * Both regions grow in fixed-size chunks, since a single buffer is limited to 2 GB.
+ *
+ * @author Obvian Labs
+ * @since POC Phase 1
+ */
+public class OffHeapVisitedStateStore implements VisitedStateStore {
+
+    private static final int RECORD_CHUNK_BITS = 24; // 16 MB
+    private static final int MAX_SLOT_CHUNK_BITS = 30; // 1 GB
+    private static final int INITIAL_SLOT_BITS = 16;
+    private static final int RECORD_HEADER = 8; // State ID and hash
+    private static final int OFFSET_BITS = 40;
+    private static final long OFFSET_MASK = (1L << OFFSET_BITS) - 1;
+
+    private final CompiledPetriNet net;
+    private final Path directory; // Null for direct memory
+    private final Region records;
+    private Region slots;
+    private int slotBits;
+    private long recordEnd;
+    private long size;
+
+    // Serialized form of the marking being looked up
+    private final ByteBuffer probe;
+
+    /**
+     * @param net Net whose markings are stored
+     * @param directory Directory for memory-mapped files, or null to use direct memory
+     */
+    public OffHeapVisitedStateStore(CompiledPetriNet net, Path directory) {
+        this.net = net;
+        this.directory = directory;
+        this.records = new Region(RECORD_CHUNK_BITS, directory, "petri-states");
+        this.slotBits = INITIAL_SLOT_BITS;
+        this.slots = newSlotRegion(slotBits);
+        this.probe = ByteBuffer.allocate(1 + net.getPlaceCount() * Integer.BYTES);
+    }
+
+    @Override
+    public int putIfAbsent(CompactMarking marking, int stateId) {
+        int hash = serialize(marking);
+        long mixed = mix(hash);
+        long mask = (1L << slotBits) - 1;
+        long tag = mixed >>> OFFSET_BITS;
+        for (long slot = mixed & mask; ; slot = (slot + 1) & mask) {
+            long entry = slots.getLong(slot << 3);
+            if (entry == 0) {
+                long offset = append(stateId, hash);
+                slots.putLong(slot << 3, tag << OFFSET_BITS | (offset + 1));
+                if (++size << 1 > 1L << slotBits) {
+                    resize();
+                }
+                return NOT_FOUND;
+            }
+            if (entry >>> OFFSET_BITS == tag && matches((entry & OFFSET_MASK) - 1)) {
+                return records.getInt((entry & OFFSET_MASK) - 1);
+            }
+        }
+    }
+
+    @Override
+    public int get(CompactMarking marking) {
+        long mixed = mix(serialize(marking));
+        long mask = (1L << slotBits) - 1;
+        long tag = mixed >>> OFFSET_BITS;
+        for (long slot = mixed & mask; ; slot = (slot + 1) & mask) {
+            long entry = slots.getLong(slot << 3);
+            if (entry == 0) {
+                return NOT_FOUND;
+            }
+            if (entry >>> OFFSET_BITS == tag && matches((entry & OFFSET_MASK) - 1)) {
+                return records.getInt((entry & OFFSET_MASK) - 1);
+            }
+        }
+    }
+
+    @Override
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Bytes of direct memory or mapped file space in use
+     */
+    public long getFootprintBytes() {
+        return records.capacity() + slots.capacity();
+    }
+
+    @Override
+    public void close() {
+        records.close();
+        slots.close();
+    }
+
+    /**
+     * Serialize a marking into the probe buffer, returning its hash
+     */
+    private int serialize(CompactMarking marking) {
+        probe.clear();
+        marking.writeTo(probe);
+        probe.flip();
+        return marking.hashCode();
+    }
+
+    private boolean matches(long offset) {
+        ByteBuffer chunk = records.chunk(offset);
+        int position = records.position(offset) + RECORD_HEADER;
+        int length = probe.limit();
+        if (chunk.get(position) != probe.get(0)) {
+            return false; // Different width, so different length
+        }
+        for (int i = 1; i < length; i++) {
+            if (chunk.get(position + i) != probe.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Append a record for the probe marking, keeping each record within one chunk
+     */
+    private long append(int stateId, int hash) {
+        int length = RECORD_HEADER + probe.limit();
+        long chunkSize = 1L << RECORD_CHUNK_BITS;
+        if ((recordEnd & (chunkSize - 1)) + length > chunkSize) {
+            recordEnd = (recordEnd + chunkSize) & ~(chunkSize - 1);
+        }
+        if (recordEnd + length > OFFSET_MASK) {
+            throw new IllegalStateException("Visited state store exceeds " + OFFSET_MASK + " bytes");
+        }
+        long offset = recordEnd;
+        records.ensureCapacity(offset + length);
+        ByteBuffer chunk = records.chunk(offset);
+        int position = records.position(offset);
+        chunk.putInt(position, stateId);
+        chunk.putInt(position + Integer.BYTES, hash);
+        chunk.put(position + RECORD_HEADER, probe, 0, probe.limit());
+        recordEnd = offset + length;
+        return offset;
+    }
+
+    private void resize() {
+        int nextBits = slotBits + 1;
+        Region next = newSlotRegion(nextBits);
+        long mask = (1L << nextBits) - 1;
+        for (long slot = 0; slot < 1L << slotBits; slot++) {
+            long entry = slots.getLong(slot << 3);
+            if (entry != 0) {
+                long mixed = mix(records.getInt((entry & OFFSET_MASK) - 1 + Integer.BYTES));
+                long target = mixed & mask;
+                while (next.getLong(target << 3) != 0) {
+                    target = (target + 1) & mask;
+                }
+                next.putLong(target << 3, entry);
+            }
+        }
+        slots.close();
+        slots = next;
+        slotBits = nextBits;
+    }
+
+    private Region newSlotRegion(int bits) {
+        long bytes = 8L << bits;
+        Region region = new Region(Math.min(bits + 3, MAX_SLOT_CHUNK_BITS), directory, "petri-slots");
+        region.ensureCapacity(bytes);
+        return region;
+    }
+
+    /**
+     * Spread the linear marking hash over 64 bits (murmur3 finalizer)
+     */
+    private static long mix(int hash) {
+        long h = hash * 0x9E3779B97F4A7C15L;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * Growable byte region made of equally sized direct or memory-mapped chunks
+     */
+    private static final class Region {
+        private final int chunkBits;
+        private final FileChannel channel; // Null for direct memory
+        private final List<ByteBuffer> chunks = new ArrayList<>();
+
+        Region(int chunkBits, Path directory, String prefix) {
+            this.chunkBits = chunkBits;
+            if (directory == null) {
+                this.channel = null;
+                return;
+            }
+            try {
+                Path file = Files.createTempFile(directory, prefix, ".bin");
+                this.channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                        StandardOpenOption.DELETE_ON_CLOSE);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to create state store file in " + directory, e);
+            }
+        }
+
+        void ensureCapacity(long bytes) {
+            int chunkSize = 1 << chunkBits;
+            while (capacity() < bytes) {
+                long start = capacity();
+                try {
+                    chunks.add(channel == null
+                            ? ByteBuffer.allocateDirect(chunkSize)
+                            : channel.map(FileChannel.MapMode.READ_WRITE, start, chunkSize));
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to map state store file", e);
+                }
+            }
+        }
+
+        long capacity() {
+            return (long) chunks.size() << chunkBits;
+        }
+
+        ByteBuffer chunk(long offset) {
+            return chunks.get((int) (offset >>> chunkBits));
+        }
+
+        int position(long offset) {
+            return (int) (offset & ((1L << chunkBits) - 1));
+        }
+
+        int getInt(long offset) {
+            return chunk(offset).getInt(position(offset));
+        }
+
+        long getLong(long offset) {
+            return chunk(offset).getLong(position(offset));
+        }
+
+        void putLong(long offset, long value) {
+            chunk(offset).putLong(position(offset), value);
+        }
+
+        /**
+         * Drop the chunks; direct and mapped memory is released once they are collected
+         */
+        void close() {
+            chunks.clear();
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to close state store file", e);
+                }
+            }
+        }
+    }
+}
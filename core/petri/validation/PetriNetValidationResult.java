@@ -45,7 +45,38 @@ public class PetriNetValidationResult extends ValidationResult {
         REACHABILITY_ANALYSIS,
         LIVENESS_CHECK,
         BOUNDEDNESS_CHECK,
-        STRUCTURAL_VALIDATION
+        STRUCTURAL_VALIDATION,
+        TEMPORAL_PROPERTY_CHECK
+    }
+    
+    /**
+     * Where exact state space exploration keeps visited markings and the frontier
+     */
+    public enum StateStorage {
+        HEAP,                    // Java collections on the heap
+        OFF_HEAP,                // Direct memory, frontier spilled to disk
+        MEMORY_MAPPED            // Memory-mapped temporary files, frontier spilled to disk
+    }
+    
+    /**
+     * Liveness level of a transition over the reachability graph, from dead to live
+     */
+    public enum LivenessLevel {
+        L0,                      // Dead: never fires
+        L1,                      // Fires in some run
+        L2,                      // Fires at least k times in some run, for every k
+        L3,                      // Fires infinitely often in some run
+        L4                       // Live: can fire again from every reachable marking
+    }
+    
+    /**
+     * Structural class of an ordinary net without capacities; weighted or capacitated nets are GENERAL
+     */
+    public enum NetClass {
+        STATE_MACHINE,           // Every transition has one input and one output place
+        MARKED_GRAPH,            // Every place has one producer and one consumer
+        FREE_CHOICE,             // Transitions sharing an input place have no other inputs
+        GENERAL                  // None of the above
     }
     
     /**
@@ -146,25 +177,238 @@ public class PetriNetValidationResult extends ValidationResult {
         @JsonProperty("enabledChecks")
         private final Set<CheckType> enabledChecks;
         
+        @JsonProperty("parallelism")
+        private final int parallelism;
+        
+        @JsonProperty("partialOrderReduction")
+        private final boolean partialOrderReduction;
+        
+        @JsonProperty("bitstateMemoryMb")
+        private final int bitstateMemoryMb;
+        
+        @JsonProperty("stateStorage")
+        private final StateStorage stateStorage;
+        
+        @JsonProperty("netReduction")
+        private final boolean netReduction;
+        
+        @JsonProperty("properties")
+        private final List<String> properties;
+        
+        @JsonProperty("unfolding")
+        private final boolean unfolding;
+        
+        @JsonProperty("symbolic")
+        private final boolean symbolic;
+        
+        public ValidationConfig(int kBound, long maxTimeMs, Set<CheckType> enabledChecks) {
+            this(kBound, maxTimeMs, enabledChecks, null, null, null, null, null, null, null, null);
+        }
+        
+        /**
+         * @throws IllegalArgumentException if a property is not a well-formed LTL or CTL formula
+         */
         @JsonCreator
         public ValidationConfig(
                 @JsonProperty("kBound") int kBound,
                 @JsonProperty("maxTimeMs") long maxTimeMs,
-                @JsonProperty("enabledChecks") Set<CheckType> enabledChecks) {
+                @JsonProperty("enabledChecks") Set<CheckType> enabledChecks,
+                @JsonProperty("parallelism") Integer parallelism,
+                @JsonProperty("partialOrderReduction") Boolean partialOrderReduction,
+                @JsonProperty("bitstateMemoryMb") Integer bitstateMemoryMb,
+                @JsonProperty("stateStorage") StateStorage stateStorage,
+                @JsonProperty("netReduction") Boolean netReduction,
+                @JsonProperty("properties") List<String> properties,
+                @JsonProperty("unfolding") Boolean unfolding,
+                @JsonProperty("symbolic") Boolean symbolic) {
             this.kBound = kBound > 0 ? kBound : 200; // Default bound
             this.maxTimeMs = maxTimeMs > 0 ? maxTimeMs : 30000; // Default 30s timeout
             this.enabledChecks = enabledChecks != null ? 
                     new HashSet<>(enabledChecks) : EnumSet.allOf(CheckType.class);
+            this.parallelism = parallelism != null && parallelism > 1 ? // Sequential by default, at most one worker per core
+                    Math.min(parallelism, Runtime.getRuntime().availableProcessors()) : 1;
+            this.partialOrderReduction = Boolean.TRUE.equals(partialOrderReduction); // Full exploration by default
+            this.bitstateMemoryMb = bitstateMemoryMb != null && bitstateMemoryMb > 0 ? bitstateMemoryMb : 0; // Exact by default
+            this.stateStorage = stateStorage != null ? stateStorage : StateStorage.HEAP;
+            this.netReduction = Boolean.TRUE.equals(netReduction); // Explore the net as given by default
+            this.properties = properties != null ? new ArrayList<>(properties) : new ArrayList<>();
+            this.properties.forEach(TemporalFormula::parse); // Reject malformed properties up front
+            this.unfolding = Boolean.TRUE.equals(unfolding); // Interleaving exploration by default
+            this.symbolic = Boolean.TRUE.equals(symbolic); // Explicit markings by default
         }
         
         // Getters
         public int getKBound() { return kBound; }
         public long getMaxTimeMs() { return maxTimeMs; }
         public Set<CheckType> getEnabledChecks() { return new HashSet<>(enabledChecks); }
+        /** Number of workers for state space exploration, capped at the available processors; 1 explores sequentially */
+        public int getParallelism() { return parallelism; }
+        /** Whether state space exploration fires only stubborn sets instead of all enabled transitions */
+        public boolean isPartialOrderReduction() { return partialOrderReduction; }
+        /** Bitstate table size for approximate exploration, allocated on the heap and capped by the validator; 0 stores markings exactly */
+        public int getBitstateMemoryMb() { return bitstateMemoryMb; }
+        /** Whether state space exploration hashes markings into a bitstate table; the k-bound then caps search depth */
+        public boolean isBitstate() { return bitstateMemoryMb > 0; }
+        /** Backend for visited markings and the frontier in exact exploration */
+        public StateStorage getStateStorage() { return stateStorage; }
+        /** Whether state space exploration runs on the net after behaviour-preserving structural reduction */
+        public boolean isNetReduction() { return netReduction; }
+        /** LTL and CTL formulas the temporal property check verifies */
+        public List<String> getProperties() { return new ArrayList<>(properties); }
+        /** Whether state-space checks on safe nets are decided on a complete unfolding prefix instead of the marking graph */
+        public boolean isUnfolding() { return unfolding; }
+        /** Whether state space exploration encodes reachable markings in a decision diagram; the k-bound then caps nodes and tokens per place */
+        public boolean isSymbolic() { return symbolic; }
         
         public static ValidationConfig defaultConfig() {
             return new ValidationConfig(200, 30000, EnumSet.allOf(CheckType.class));
         }
+
+        /**
+         * Builder with every option at its default
+         */
+        public static Builder builder() {
+            return new Builder();
+        }
+
+        /**
+         * Builder starting from this config's options
+         */
+        public Builder toBuilder() {
+            return new Builder()
+                    .kBound(kBound)
+                    .maxTimeMs(maxTimeMs)
+                    .enabledChecks(enabledChecks)
+                    .parallelism(parallelism)
+                    .partialOrderReduction(partialOrderReduction)
+                    .bitstateMemoryMb(bitstateMemoryMb)
+                    .stateStorage(stateStorage)
+                    .netReduction(netReduction)
+                    .properties(properties)
+                    .unfolding(unfolding)
+                    .symbolic(symbolic);
+        }
+
+        /**
+         * Copy of this config that runs only the given checks
+         */
+        public ValidationConfig withEnabledChecks(Set<CheckType> checks) {
+            return toBuilder().enabledChecks(checks).build();
+        }
+
+        /**
+         * Builder for validation configs; options left unset keep the defaults of the
+         * {@link JsonCreator} constructor
+         */
+        public static class Builder {
+            private int kBound;
+            private long maxTimeMs;
+            private Set<CheckType> enabledChecks;
+            private Integer parallelism;
+            private Boolean partialOrderReduction;
+            private Integer bitstateMemoryMb;
+            private StateStorage stateStorage;
+            private Boolean netReduction;
+            private List<String> properties;
+            private Boolean unfolding;
+            private Boolean symbolic;
+
+            public Builder kBound(int kBound) {
+                this.kBound = kBound;
+                return this;
+            }
+
+            public Builder maxTimeMs(long maxTimeMs) {
+                this.maxTimeMs = maxTimeMs;
+                return this;
+            }
+
+            public Builder enabledChecks(Set<CheckType> enabledChecks) {
+                this.enabledChecks = enabledChecks;
+                return this;
+            }
+
+            public Builder parallelism(int parallelism) {
+                this.parallelism = parallelism;
+                return this;
+            }
+
+            public Builder partialOrderReduction(boolean partialOrderReduction) {
+                this.partialOrderReduction = partialOrderReduction;
+                return this;
+            }
+
+            public Builder bitstateMemoryMb(int bitstateMemoryMb) {
+                this.bitstateMemoryMb = bitstateMemoryMb;
+                return this;
+            }
+
+            public Builder stateStorage(StateStorage stateStorage) {
+                this.stateStorage = stateStorage;
+                return this;
+            }
+
+            public Builder netReduction(boolean netReduction) {
+                this.netReduction = netReduction;
+                return this;
+            }
+
+            public Builder properties(List<String> properties) {
+                this.properties = properties;
+                return this;
+            }
+
+            public Builder unfolding(boolean unfolding) {
+                this.unfolding = unfolding;
+                return this;
+            }
+
+            public Builder symbolic(boolean symbolic) {
+                this.symbolic = symbolic;
+                return this;
+            }
+
+            /**
+             * @throws IllegalArgumentException if a property is not a well-formed LTL or CTL formula
+             */
+            public ValidationConfig build() {
+                return new ValidationConfig(kBound, maxTimeMs, enabledChecks, parallelism, partialOrderReduction,
+                        bitstateMemoryMb, stateStorage, netReduction, properties, unfolding, symbolic);
+            }
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            ValidationConfig that = (ValidationConfig) o;
+            return kBound == that.kBound &&
+                   maxTimeMs == that.maxTimeMs &&
+                   parallelism == that.parallelism &&
+                   partialOrderReduction == that.partialOrderReduction &&
+                   bitstateMemoryMb == that.bitstateMemoryMb &&
+                   stateStorage == that.stateStorage &&
+                   netReduction == that.netReduction &&
+                   Objects.equals(enabledChecks, that.enabledChecks) &&
+                   unfolding == that.unfolding &&
+                   symbolic == that.symbolic &&
+                   Objects.equals(properties, that.properties);
+        }
+        
+        @Override
+        public int hashCode() {
+            return Objects.hash(kBound, maxTimeMs, enabledChecks, parallelism, partialOrderReduction, bitstateMemoryMb,
+                    stateStorage, netReduction, properties, unfolding, symbolic);
+        }
+        
+        @Override
+        public String toString() {
+            return "ValidationConfig{kBound=" + kBound + ", maxTimeMs=" + maxTimeMs +
+                   ", enabledChecks=" + new TreeSet<>(enabledChecks) + ", parallelism=" + parallelism +
+                   ", partialOrderReduction=" + partialOrderReduction + ", bitstateMemoryMb=" + bitstateMemoryMb +
+                   ", stateStorage=" + stateStorage + ", netReduction=" + netReduction +
+                   ", properties=" + properties + ", unfolding=" + unfolding + ", symbolic=" + symbolic + "}";
+        }
     }
     
     @JsonProperty("petriStatus")
@@ -0,0 +1,282 @@
+package core.petri.validation;
+
+import core.petri.validation.PetriNetValidationResult.LivenessLevel;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Edges of an explored reachability graph, labelled with the transition fired, and their
+ * strongly connected component analysis.
+ *
+ * States are identified by their explorer state IDs, which are dense from 0. Edges are
+ * kept in growable int arrays. {@link #analyze} runs Tarjan's algorithm iteratively, so
+ * deep graphs cannot overflow the call stack, and derives in linear time:
+ * - The liveness level of each transition: L1 if it labels any edge, L3 if it labels an
+ *   edge inside a component (it can fire infinitely often), and L4 if it labels an edge
+ *   inside every bottom component (it can fire again from every reachable marking). On a
+ *   finite graph L2 coincides with L3, which is reported instead.
+ * - Livelocks: bottom components with a cycle that contain no terminal marking, so every
+ *   run entering them loops forever without completing.
+ *
+ * The analysis is exact only for a complete graph of the full interleaving semantics.
+ *
+ * @author Obvian Labs
+ * @since POC Phase 1
+ */
+public class ReachabilityGraph {
+
+    private int[] sources = new int[64];
+    private int[] targets = new int[64];
+    private int[] transitions = new int[64];
+    private int edgeCount;
+
+    /**
+     * Record that firing transition in state source leads to state target
+     */
+    public void addEdge(int source, int target, int transition) {
+        if (edgeCount == sources.length) {
+            sources = Arrays.copyOf(sources, edgeCount * 2);
+            targets = Arrays.copyOf(targets, edgeCount * 2);
+            transitions = Arrays.copyOf(transitions, edgeCount * 2);
+        }
+        sources[edgeCount] = source;
+        targets[edgeCount] = target;
+        transitions[edgeCount] = transition;
+        edgeCount++;
+    }
+
+    public int getEdgeCount() {
+        return edgeCount;
+    }
+
+    /**
+     * Compute the strongly connected components of the graph and the verdicts derived from them.
+     *
+     * @param stateCount Number of states; every edge endpoint must be below it
+     * @param transitionCount Number of transitions in the net
+     * @param terminalStates States that are terminal markings
+     */
+    public Analysis analyze(int stateCount, int transitionCount, BitSet terminalStates) {
+        int[][] labels = new int[transitionCount][];
+        for (int transition = 0; transition < transitionCount; transition++) {
+            labels[transition] = new int[] {transition};
+        }
+        return analyze(stateCount, transitionCount, terminalStates, labels);
+    }
+
+    /**
+     * Compute the analysis for a graph of a reduced net, where firing an edge's transition
+     * accounts for firing each transition in its label set.
+     *
+     * @param transitionCount Number of transitions labels refer to
+     * @param labels Per edge transition, the transitions it accounts for
+     */
+    public Analysis analyze(int stateCount, int transitionCount, BitSet terminalStates, int[][] labels) {
+        // Adjacency in compressed sparse row form
+        int[] offsets = new int[stateCount + 1];
+        for (int edge = 0; edge < edgeCount; edge++) {
+            offsets[sources[edge] + 1]++;
+        }
+        for (int state = 0; state < stateCount; state++) {
+            offsets[state + 1] += offsets[state];
+        }
+        int[] adjacentStates = new int[edgeCount];
+        int[] adjacentTransitions = new int[edgeCount];
+        int[] fill = Arrays.copyOf(offsets, stateCount);
+        for (int edge = 0; edge < edgeCount; edge++) {
+            int position = fill[sources[edge]]++;
+            adjacentStates[position] = targets[edge];
+            adjacentTransitions[position] = transitions[edge];
+        }
+
+        int[] component = components(stateCount, offsets, adjacentStates);
+        int componentCount = 0;
+        for (int state = 0; state < stateCount; state++) {
+            componentCount = Math.max(componentCount, component[state] + 1);
+        }
+
+        // Bottom components have no edge leaving them; cyclic ones have an edge inside
+        boolean[] bottom = new boolean[componentCount];
+        boolean[] cyclic = new boolean[componentCount];
+        Arrays.fill(bottom, true);
+        boolean[] fires = new boolean[transitionCount];
+        boolean[] firesInCycle = new boolean[transitionCount];
+        for (int state = 0; state < stateCount; state++) {
+            for (int position = offsets[state]; position < offsets[state + 1]; position++) {
+                boolean internal = component[adjacentStates[position]] == component[state];
+                for (int transition : labels[adjacentTransitions[position]]) {
+                    fires[transition] = true;
+                    firesInCycle[transition] |= internal;
+                }
+                if (internal) {
+                    cyclic[component[state]] = true;
+                } else {
+                    bottom[component[state]] = false;
+                }
+            }
+        }
+
+        // Group states by component, keeping discovery order within each
+        int[] componentStart = new int[componentCount + 1];
+        for (int state = 0; state < stateCount; state++) {
+            componentStart[component[state] + 1]++;
+        }
+        for (int c = 0; c < componentCount; c++) {
+            componentStart[c + 1] += componentStart[c];
+        }
+        int[] members = new int[stateCount];
+        int[] next = Arrays.copyOf(componentStart, componentCount);
+        for (int state = 0; state < stateCount; state++) {
+            members[next[component[state]]++] = state;
+        }
+
+        // Count the bottom components each transition fires inside; all of their edges are internal
+        int bottomCount = 0;
+        int[] bottomHits = new int[transitionCount];
+        int[] lastBottom = new int[transitionCount];
+        Arrays.fill(lastBottom, -1);
+        boolean[] reachesTerminal = new boolean[componentCount];
+        for (int c = 0; c < componentCount; c++) {
+            for (int i = componentStart[c]; i < componentStart[c + 1]; i++) {
+                int state = members[i];
+                if (terminalStates.get(state)) {
+                    reachesTerminal[c] = true;
+                }
+                if (!bottom[c]) {
+                    continue;
+                }
+                for (int position = offsets[state]; position < offsets[state + 1]; position++) {
+                    for (int transition : labels[adjacentTransitions[position]]) {
+                        if (lastBottom[transition] != c) {
+                            lastBottom[transition] = c;
+                            bottomHits[transition]++;
+                        }
+                    }
+                }
+            }
+            if (bottom[c]) {
+                bottomCount++;
+            }
+        }
+
+        LivenessLevel[] levels = new LivenessLevel[transitionCount];
+        for (int transition = 0; transition < transitionCount; transition++) {
+            if (bottomCount > 0 && bottomHits[transition] == bottomCount) {
+                levels[transition] = LivenessLevel.L4;
+            } else if (firesInCycle[transition]) {
+                levels[transition] = LivenessLevel.L3;
+            } else if (fires[transition]) {
+                levels[transition] = LivenessLevel.L1;
+            } else {
+                levels[transition] = LivenessLevel.L0;
+            }
+        }
+
+        // Livelocks in discovery order of their first state
+        int livelockCount = 0;
+        int[] livelockStates = new int[componentCount];
+        int[] livelockSizes = new int[componentCount];
+        for (int state = 0; state < stateCount; state++) {
+            int c = component[state];
+            if (members[componentStart[c]] == state && bottom[c] && cyclic[c] && !reachesTerminal[c]) {
+                livelockStates[livelockCount] = state;
+                livelockSizes[livelockCount++] = componentStart[c + 1] - componentStart[c];
+            }
+        }
+
+        return new Analysis(componentCount, bottomCount, levels,
+                Arrays.copyOf(livelockStates, livelockCount), Arrays.copyOf(livelockSizes, livelockCount));
+    }
+
+    /**
+     * Tarjan's algorithm with an explicit call stack, returning the component of each state
+     */
+    private static int[] components(int stateCount, int[] offsets, int[] adjacentStates) {
+        int[] index = new int[stateCount];
+        int[] low = new int[stateCount];
+        int[] component = new int[stateCount];
+        int[] nextEdge = new int[stateCount];
+        int[] stack = new int[stateCount];
+        int[] callStack = new int[stateCount];
+        Arrays.fill(index, -1);
+        Arrays.fill(component, -1);
+        int counter = 0;
+        int componentCount = 0;
+        int stackSize = 0;
+
+        for (int root = 0; root < stateCount; root++) {
+            if (index[root] >= 0) {
+                continue;
+            }
+            int depth = 0;
+            index[root] = low[root] = counter++;
+            stack[stackSize++] = root;
+            callStack[depth++] = root;
+            nextEdge[root] = offsets[root];
+
+            while (depth > 0) {
+                int state = callStack[depth - 1];
+                if (nextEdge[state] < offsets[state + 1]) {
+                    int successor = adjacentStates[nextEdge[state]++];
+                    if (index[successor] < 0) {
+                        index[successor] = low[successor] = counter++;
+                        stack[stackSize++] = successor;
+                        callStack[depth++] = successor;
+                        nextEdge[successor] = offsets[successor];
+                    } else if (component[successor] < 0) {
+                        // Still on the stack, so part of the component being built
+                        low[state] = Math.min(low[state], index[successor]);
+                    }
+                    continue;
+                }
+
+                depth--;
+                if (low[state] == index[state]) {
+                    int member;
+                    do {
+                        member = stack[--stackSize];
+                        component[member] = componentCount;
+                    } while (member != state);
+                    componentCount++;
+                }
+                if (depth > 0) {
+                    int parent = callStack[depth - 1];
+                    low[parent] = Math.min(low[parent], low[state]);
+                }
+            }
+        }
+        return component;
+    }
+
+    /**
+     * Verdicts derived from the strongly connected components of a reachability graph
+     */
+    public static final class Analysis {
+        private final int componentCount;
+        private final int bottomComponentCount;
+        private final LivenessLevel[] livenessLevels;
+        private final int[] livelockStates;
+        private final int[] livelockSizes;
+
+        Analysis(int componentCount, int bottomComponentCount, LivenessLevel[] livenessLevels,
+                 int[] livelockStates, int[] livelockSizes) {
+            this.componentCount = componentCount;
+            this.bottomComponentCount = bottomComponentCount;
+            this.livenessLevels = livenessLevels;
+            this.livelockStates = livelockStates;
+            this.livelockSizes = livelockSizes;
+        }
+
+        public int getComponentCount() { return componentCount; }
+        public int getBottomComponentCount() { return bottomComponentCount; }
+        /** Highest liveness level of the transition */
+        public LivenessLevel getLivenessLevel(int transition) { return livenessLevels[transition]; }
+        /** Number of livelocks, i.e. cyclic bottom components without a terminal marking */
+        public int getLivelockCount() { return livelockStates.length; }
+        /** First discovered state of the livelock, which has the shortest witness path into it */
+        public int getLivelockState(int livelock) { return livelockStates[livelock]; }
+        /** Number of markings the livelock cycles among */
+        public int getLivelockSize(int livelock) { return livelockSizes[livelock]; }
+    }
+}
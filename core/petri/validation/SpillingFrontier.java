@@ -0,0 +1,185 @@
+package core.petri.validation;
+
+import core.petri.CompactMarking;
+import core.petri.CompiledPetriNet;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+
+/**
+ * FIFO queue of markings for breadth-first exploration that spills to disk once it
+ * holds more than a configured number of markings in memory.
+ *
+ * The queue is a head deque that is consumed first, a spill file in the middle and a
+ * tail deque that receives new markings. When the tail fills up it is appended to the
+ * spill file; when the head runs empty it is refilled from the spill file, or takes over
+ * the tail once the file is drained. FIFO order is preserved and at most twice the
+ * memory limit is held on the heap. The file is created on the first spill.
+ *
+ * @author Obvian Labs
+ * @since POC Phase 1
+ */
+public class SpillingFrontier implements Closeable {
+
+    private static final int IO_BUFFER_BYTES = 1 << 20;
+
+    private final CompiledPetriNet net;
+    private final int memoryLimit;
+    private final Path directory;
+
+    private final ArrayDeque<CompactMarking> head = new ArrayDeque<>();
+    private ArrayDeque<CompactMarking> tail = new ArrayDeque<>();
+    private long size;
+
+    private FileChannel spill;
+    private ByteBuffer buffer;
+    private long readPosition;
+    private long writePosition;
+    private long spilledCount;
+
+    /**
+     * @param net Net whose markings are queued
+     * @param memoryLimit Markings held in each of the head and tail before spilling
+     * @param directory Directory for the spill file
+     */
+    public SpillingFrontier(CompiledPetriNet net, int memoryLimit, Path directory) {
+        this.net = net;
+        this.memoryLimit = memoryLimit;
+        this.directory = directory;
+    }
+
+    public void add(CompactMarking marking) {
+        if (spilledCount == 0 && tail.isEmpty() && head.size() < memoryLimit) {
+            head.add(marking);
+        } else {
+            tail.add(marking);
+            if (tail.size() >= memoryLimit) {
+                spillTail();
+            }
+        }
+        size++;
+    }
+
+    /**
+     * @return The oldest queued marking, or null if the queue is empty
+     */
+    public CompactMarking poll() {
+        if (head.isEmpty()) {
+            if (spilledCount > 0) {
+                refillHead();
+            } else {
+                // Spill file drained; the tail is next in FIFO order
+                ArrayDeque<CompactMarking> drained = tail;
+                tail = new ArrayDeque<>();
+                head.addAll(drained);
+            }
+        }
+        CompactMarking marking = head.poll();
+        if (marking != null) {
+            size--;
+        }
+        return marking;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Number of markings currently on disk
+     */
+    public long getSpilledCount() {
+        return spilledCount;
+    }
+
+    @Override
+    public void close() {
+        head.clear();
+        tail.clear();
+        if (spill != null) {
+            try {
+                spill.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to close frontier spill file", e);
+            }
+            spill = null;
+        }
+    }
+
+    private void spillTail() {
+        try {
+            if (spill == null) {
+                Path file = Files.createTempFile(directory, "petri-frontier", ".bin");
+                spill = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                        StandardOpenOption.DELETE_ON_CLOSE);
+                buffer = ByteBuffer.allocateDirect(Math.max(IO_BUFFER_BYTES, 1 + net.getPlaceCount() * Integer.BYTES));
+            }
+            buffer.clear();
+            for (CompactMarking marking : tail) {
+                if (buffer.remaining() < marking.serializedSize()) {
+                    writeBuffer();
+                }
+                marking.writeTo(buffer);
+            }
+            writeBuffer();
+            spilledCount += tail.size();
+            tail.clear();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to spill frontier to disk", e);
+        }
+    }
+
+    private void writeBuffer() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            writePosition += spill.write(buffer, writePosition);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Move up to the memory limit of markings from the front of the spill file to the head
+     */
+    private void refillHead() {
+        try {
+            buffer.clear();
+            buffer.flip();
+            while (spilledCount > 0 && head.size() < memoryLimit) {
+                int length = buffer.hasRemaining()
+                        ? 1 + net.getPlaceCount() * buffer.get(buffer.position())
+                        : Integer.MAX_VALUE;
+                if (buffer.remaining() < length) {
+                    // Reload from the first unconsumed byte
+                    buffer.clear();
+                    while (buffer.hasRemaining() && readPosition + buffer.position() < writePosition) {
+                        spill.read(buffer, readPosition + buffer.position());
+                    }
+                    buffer.flip();
+                    continue;
+                }
+                head.add(CompactMarking.readFrom(net, buffer));
+                readPosition += length;
+                spilledCount--;
+            }
+            if (spilledCount == 0) {
+                // Everything on disk is consumed; reuse the file from the start
+                readPosition = 0;
+                writePosition = 0;
+                spill.truncate(0);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read frontier from disk", e);
+        }
+    }
+}
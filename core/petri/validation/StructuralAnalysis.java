@@ -0,0 +1,846 @@
+package core.petri.validation;
+
+import core.petri.CompiledPetriNet;
+import core.petri.validation.PetriNetValidationResult.NetClass;
+
+import java.math.BigInteger;
+import java.util.*;
+import java.util.function.IntPredicate;
+
+/**
+ * Linear-algebraic and graph-structural analysis of a Petri net that needs no state exploration.
+ *
+ * P-invariants are non-negative place weightings y with y·C = 0, so y·M is the same in
+ * every reachable marking M. A place in the support of some P-invariant is bounded by
+ * (y·M0) / y(p). T-invariants are non-negative firing-count vectors x with C·x = 0, i.e.
+ * firing sequences that reproduce the marking they start from. Both are computed as
+ * minimal-support generating sets with the integer Farkas algorithm over the incidence
+ * matrix C.
+ *
+ * Acyclic conflict-free nets (every place has at most one consumer) are persistent:
+ * an enabled transition stays enabled until it fires. All maximal firing sequences then
+ * fire the same multiset of transitions and end in the same dead marking, so a single
+ * canonical run decides deadlock, terminal reachability and which transitions can fire.
+ *
+ * A siphon is a set of places S whose every producer also consumes from S, so once empty
+ * it stays empty; a trap is a set whose every consumer also produces into it, so once
+ * marked it stays marked. In an ordinary net the empty places of a dead marking form a
+ * siphon, hence if every siphon contains an initially marked trap (the Commoner/Hack
+ * property) no dead marking is reachable. Minimal siphons are enumerated by branching on
+ * which input of an unsatisfied producer joins the set, pruning sets that already contain
+ * a marked trap, since every siphon extending them does too.
+ *
+ * Ordinary nets are classified into state machines, marked graphs and free-choice nets,
+ * which have polynomial decision procedures: tokens of a state machine move independently
+ * along the place graph; a marked graph is live iff every directed circuit is initially
+ * marked; and a free-choice workflow net is sound iff its short-circuited net is live and
+ * bounded, which by the rank theorem holds iff it has positive P- and T-invariants, the
+ * rank of its incidence matrix is one less than its number of clusters, and every
+ * nonempty siphon is initially marked.
+ *
+ * @author Obvian Labs
+ * @since POC Phase 1
+ */
+public class StructuralAnalysis {
+
+    /** Maximum number of intermediate Farkas rows before invariant computation gives up */
+    static final int MAX_FARKAS_ROWS = 2_000;
+
+    /** Maximum number of place sets the siphon search examines before giving up */
+    static final int MAX_SIPHON_SETS = 10_000;
+
+    private final CompiledPetriNet net;
+    private final long[][] incidence; // [place][transition]
+
+    // Farkas may give up with null, so whether a basis was computed is tracked separately
+    private boolean placeInvariantsComputed;
+    private List<int[]> placeInvariants;
+    private boolean transitionInvariantsComputed;
+    private List<int[]> transitionInvariants;
+
+    public StructuralAnalysis(CompiledPetriNet net) {
+        this.net = net;
+        this.incidence = new long[net.getPlaceCount()][net.getTransitionCount()];
+        for (int transition = 0; transition < net.getTransitionCount(); transition++) {
+            int[] places = net.changedPlaces(transition);
+            int[] weights = net.changeWeights(transition);
+            for (int i = 0; i < places.length; i++) {
+                incidence[places[i]][transition] = weights[i];
+            }
+        }
+    }
+
+    /**
+     * Minimal semi-positive P-invariants, each indexed by place.
+     *
+     * @return Invariant basis, or null if the computation exceeded its row or value limits
+     */
+    public List<int[]> placeInvariants() {
+        if (!placeInvariantsComputed) {
+            placeInvariants = farkas(incidence, net.getTransitionCount());
+            placeInvariantsComputed = true;
+        }
+        return placeInvariants;
+    }
+
+    /**
+     * Minimal semi-positive T-invariants, each indexed by transition.
+     *
+     * @return Invariant basis, or null if the computation exceeded its row or value limits
+     */
+    public List<int[]> transitionInvariants() {
+        if (!transitionInvariantsComputed) {
+            long[][] transposed = new long[net.getTransitionCount()][net.getPlaceCount()];
+            for (int place = 0; place < net.getPlaceCount(); place++) {
+                for (int transition = 0; transition < net.getTransitionCount(); transition++) {
+                    transposed[transition][place] = incidence[place][transition];
+                }
+            }
+            transitionInvariants = farkas(transposed, net.getPlaceCount());
+            transitionInvariantsComputed = true;
+        }
+        return transitionInvariants;
+    }
+
+    /**
+     * Token bounds implied by the P-invariants and place capacities.
+     *
+     * @return Upper bound per place index, or null if some uncapped place is not covered
+     *         by any P-invariant
+     */
+    public int[] invariantBounds() {
+        List<int[]> invariants = placeInvariants();
+        if (invariants == null) {
+            return null;
+        }
+
+        int places = net.getPlaceCount();
+        int[] initial = net.initialTokenVector();
+        long[] bounds = new long[places];
+        Arrays.fill(bounds, Long.MAX_VALUE);
+
+        for (int[] invariant : invariants) {
+            long weightedTokens = 0;
+            for (int place = 0; place < places; place++) {
+                weightedTokens += (long) invariant[place] * initial[place];
+            }
+            for (int place = 0; place < places; place++) {
+                if (invariant[place] > 0) {
+                    bounds[place] = Math.min(bounds[place], weightedTokens / invariant[place]);
+                }
+            }
+        }
+
+        int[] result = new int[places];
+        for (int place = 0; place < places; place++) {
+            if (net.capacity(place) != CompiledPetriNet.UNBOUNDED) {
+                bounds[place] = Math.min(bounds[place], net.capacity(place));
+            }
+            if (bounds[place] > Integer.MAX_VALUE) {
+                return null;
+            }
+            result[place] = (int) bounds[place];
+        }
+        return result;
+    }
+
+    /**
+     * Whether every place has at most one consuming transition
+     */
+    public boolean isConflictFree() {
+        for (int place = 0; place < net.getPlaceCount(); place++) {
+            if (net.consumers(place).length > 1) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Transitions in topological order of the net graph, ties broken by transition ID.
+     *
+     * @return Topological order, or null if the net graph has a cycle
+     */
+    public int[] topologicalOrder() {
+        int places = net.getPlaceCount();
+        int transitions = net.getTransitionCount();
+        int[] placeInDegree = new int[places];
+        int[] transitionInDegree = new int[transitions];
+        PriorityQueue<Integer> ready = new PriorityQueue<>(Comparator.comparingInt(net::idRank));
+
+        for (int transition = 0; transition < transitions; transition++) {
+            transitionInDegree[transition] = net.inputPlaces(transition).length;
+            if (transitionInDegree[transition] == 0) {
+                ready.add(transition);
+            }
+        }
+        Deque<Integer> readyPlaces = new ArrayDeque<>();
+        for (int place = 0; place < places; place++) {
+            placeInDegree[place] = net.producers(place).length;
+            if (placeInDegree[place] == 0) {
+                readyPlaces.add(place);
+            }
+        }
+
+        int[] order = new int[transitions];
+        int count = 0;
+        while (true) {
+            while (!readyPlaces.isEmpty()) {
+                for (int consumer : net.consumers(readyPlaces.poll())) {
+                    if (--transitionInDegree[consumer] == 0) {
+                        ready.add(consumer);
+                    }
+                }
+            }
+            if (ready.isEmpty()) {
+                break;
+            }
+            int transition = ready.poll();
+            order[count++] = transition;
+            for (int place : net.outputPlaces(transition)) {
+                if (--placeInDegree[place] == 0) {
+                    readyPlaces.add(place);
+                }
+            }
+        }
+        return count == transitions ? order : null;
+    }
+
+    /**
+     * Canonical maximal firing sequence of an acyclic conflict-free net.
+     *
+     * Transitions are fired in topological order, each as often as its inputs allow; since
+     * every producer of a place precedes its single consumer, the sequence ends in the
+     * unique dead marking. Only applies to nets without capacities, where every transition
+     * has an input place.
+     *
+     * @param maxFirings Maximum length of the sequence
+     * @return Transition indices in firing order, or null if the net does not qualify or
+     *         the sequence would exceed maxFirings
+     */
+    public int[] conflictFreeRun(int maxFirings) {
+        if (!isConflictFree()) {
+            return null;
+        }
+        for (int place = 0; place < net.getPlaceCount(); place++) {
+            if (net.capacity(place) != CompiledPetriNet.UNBOUNDED) {
+                return null;
+            }
+        }
+        for (int transition = 0; transition < net.getTransitionCount(); transition++) {
+            if (net.inputPlaces(transition).length == 0) {
+                return null; // Source transitions fire forever
+            }
+        }
+        int[] order = topologicalOrder();
+        if (order == null) {
+            return null;
+        }
+
+        long[] tokens = new long[net.getPlaceCount()];
+        int[] initial = net.initialTokenVector();
+        for (int place = 0; place < tokens.length; place++) {
+            tokens[place] = initial[place];
+        }
+
+        int[] run = new int[16];
+        int length = 0;
+        for (int transition : order) {
+            int[] inputs = net.inputPlaces(transition);
+            int[] inputWeights = net.inputWeights(transition);
+            long firings = Long.MAX_VALUE;
+            for (int i = 0; i < inputs.length; i++) {
+                firings = Math.min(firings, tokens[inputs[i]] / inputWeights[i]);
+            }
+            if (firings > maxFirings - length) {
+                return null;
+            }
+
+            for (int i = 0; i < inputs.length; i++) {
+                tokens[inputs[i]] -= firings * inputWeights[i];
+            }
+            int[] outputs = net.outputPlaces(transition);
+            int[] outputWeights = net.outputWeights(transition);
+            for (int i = 0; i < outputs.length; i++) {
+                tokens[outputs[i]] += firings * outputWeights[i];
+                if (tokens[outputs[i]] > Integer.MAX_VALUE) {
+                    return null;
+                }
+            }
+
+            while (length + firings > run.length) {
+                run = Arrays.copyOf(run, run.length * 2);
+            }
+            for (long i = 0; i < firings; i++) {
+                run[length++] = transition;
+            }
+        }
+        return Arrays.copyOf(run, length);
+    }
+
+    /**
+     * Whether every arc has weight 1 and no place has a capacity
+     */
+    public boolean isOrdinary() {
+        for (int transition = 0; transition < net.getTransitionCount(); transition++) {
+            for (int weight : net.inputWeights(transition)) {
+                if (weight != 1) {
+                    return false;
+                }
+            }
+            for (int weight : net.outputWeights(transition)) {
+                if (weight != 1) {
+                    return false;
+                }
+            }
+        }
+        for (int place = 0; place < net.getPlaceCount(); place++) {
+            if (net.capacity(place) != CompiledPetriNet.UNBOUNDED) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Commoner/Hack check that every siphon containing the required places contains a trap
+     * marked in the initial marking. For an ordinary net this proves that no dead marking
+     * leaving the required places empty is reachable. With no required places every
+     * nonempty siphon is checked.
+     *
+     * @param requiredPlace Places every checked siphon must contain
+     * @return Number of place sets examined, or null if the net is not ordinary, some
+     *         siphon contains no marked trap, or the search exceeded its limit
+     */
+    public Integer siphonTrapProperty(IntPredicate requiredPlace) {
+        if (!isOrdinary()) {
+            return null;
+        }
+        int[] initial = net.initialTokenVector();
+        BitSet required = new BitSet(net.getPlaceCount());
+        for (int place = 0; place < net.getPlaceCount(); place++) {
+            if (requiredPlace.test(place)) {
+                required.set(place);
+            }
+        }
+
+        Deque<BitSet> pending = new ArrayDeque<>();
+        if (required.isEmpty()) {
+            for (int place = 0; place < net.getPlaceCount(); place++) {
+                BitSet seed = new BitSet(net.getPlaceCount());
+                seed.set(place);
+                pending.push(seed);
+            }
+        } else {
+            pending.push(required);
+        }
+
+        Set<BitSet> examined = new HashSet<>();
+        while (!pending.isEmpty()) {
+            BitSet places = pending.pop();
+            if (!examined.add(places)) {
+                continue;
+            }
+            if (examined.size() > MAX_SIPHON_SETS) {
+                return null;
+            }
+            if (containsMarkedTrap(places, initial)) {
+                continue;
+            }
+            int producer = unsatisfiedProducer(places);
+            if (producer < 0) {
+                return null; // A siphon without a marked trap
+            }
+            // Without inputs the producer always fires, so no siphon extends this set
+            for (int input : net.inputPlaces(producer)) {
+                BitSet extended = (BitSet) places.clone();
+                extended.set(input);
+                pending.push(extended);
+            }
+        }
+        return examined.size();
+    }
+
+    /**
+     * A transition producing into the places without consuming from them, or -1 if they form a siphon
+     */
+    private int unsatisfiedProducer(BitSet places) {
+        for (int place = places.nextSetBit(0); place >= 0; place = places.nextSetBit(place + 1)) {
+            for (int producer : net.producers(place)) {
+                boolean consumesFromPlaces = false;
+                for (int input : net.inputPlaces(producer)) {
+                    consumesFromPlaces |= places.get(input);
+                }
+                if (!consumesFromPlaces) {
+                    return producer;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Whether the maximal trap within the places is initially marked
+     */
+    private boolean containsMarkedTrap(BitSet places, int[] initial) {
+        BitSet trap = (BitSet) places.clone();
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int place = trap.nextSetBit(0); place >= 0; place = trap.nextSetBit(place + 1)) {
+                for (int consumer : net.consumers(place)) {
+                    boolean producesIntoTrap = false;
+                    for (int output : net.outputPlaces(consumer)) {
+                        producesIntoTrap |= trap.get(output);
+                    }
+                    if (!producesIntoTrap) {
+                        trap.clear(place);
+                        changed = true;
+                        break;
+                    }
+                }
+            }
+        }
+        for (int place = trap.nextSetBit(0); place >= 0; place = trap.nextSetBit(place + 1)) {
+            if (initial[place] > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Structural class of the net; state machines and marked graphs take precedence over free choice
+     */
+    public NetClass netClass() {
+        if (!isOrdinary()) {
+            return NetClass.GENERAL;
+        }
+        boolean stateMachine = true;
+        for (int transition = 0; transition < net.getTransitionCount(); transition++) {
+            stateMachine &= net.inputPlaces(transition).length == 1 && net.outputPlaces(transition).length == 1;
+        }
+        if (stateMachine) {
+            return NetClass.STATE_MACHINE;
+        }
+        boolean markedGraph = true;
+        for (int place = 0; place < net.getPlaceCount(); place++) {
+            markedGraph &= net.producers(place).length == 1 && net.consumers(place).length == 1;
+        }
+        if (markedGraph) {
+            return NetClass.MARKED_GRAPH;
+        }
+        for (int place = 0; place < net.getPlaceCount(); place++) {
+            if (net.consumers(place).length > 1) {
+                for (int consumer : net.consumers(place)) {
+                    if (net.inputPlaces(consumer).length != 1) {
+                        return NetClass.GENERAL;
+                    }
+                }
+            }
+        }
+        return NetClass.FREE_CHOICE;
+    }
+
+    /**
+     * Places a state machine token can move to from the given place, including the place itself
+     */
+    public BitSet stateMachineReach(int place) {
+        BitSet reached = new BitSet(net.getPlaceCount());
+        Deque<Integer> pending = new ArrayDeque<>();
+        reached.set(place);
+        pending.push(place);
+        while (!pending.isEmpty()) {
+            for (int consumer : net.consumers(pending.pop())) {
+                for (int output : net.outputPlaces(consumer)) {
+                    if (!reached.get(output)) {
+                        reached.set(output);
+                        pending.push(output);
+                    }
+                }
+            }
+        }
+        return reached;
+    }
+
+    /**
+     * Whether the net is a marked graph whose every directed circuit holds a token initially,
+     * i.e. the transitions linked through initially empty places form no cycle
+     */
+    public boolean isLiveMarkedGraph() {
+        if (netClass() != NetClass.MARKED_GRAPH) {
+            return false;
+        }
+        int[] initial = net.initialTokenVector();
+        int[] inDegree = new int[net.getTransitionCount()];
+        for (int place = 0; place < net.getPlaceCount(); place++) {
+            if (initial[place] == 0) {
+                inDegree[net.consumers(place)[0]]++;
+            }
+        }
+        Deque<Integer> ready = new ArrayDeque<>();
+        for (int transition = 0; transition < inDegree.length; transition++) {
+            if (inDegree[transition] == 0) {
+                ready.push(transition);
+            }
+        }
+        int ordered = 0;
+        while (!ready.isEmpty()) {
+            int transition = ready.pop();
+            ordered++;
+            for (int output : net.outputPlaces(transition)) {
+                if (initial[output] == 0 && --inDegree[net.consumers(output)[0]] == 0) {
+                    ready.push(net.consumers(output)[0]);
+                }
+            }
+        }
+        return ordered == inDegree.length;
+    }
+
+    /**
+     * Whether the net is a free-choice workflow net proven sound with the rank theorem: one
+     * source place holding the only initial token, one sink place, and a short-circuited net
+     * (a transition moving the token from sink back to source) that is live and bounded.
+     *
+     * @return True if soundness is proven; false if the net is not a free-choice workflow
+     *         net, is not sound, or the invariant computation exceeded its limits
+     */
+    public boolean isSoundFreeChoiceWorkflowNet() {
+        if (netClass() == NetClass.GENERAL) {
+            return false;
+        }
+        int places = net.getPlaceCount();
+        int transitions = net.getTransitionCount();
+        int source = -1;
+        int sink = -1;
+        for (int place = 0; place < places; place++) {
+            if (net.producers(place).length == 0) {
+                if (source >= 0) {
+                    return false;
+                }
+                source = place;
+            }
+            if (net.consumers(place).length == 0) {
+                if (sink >= 0) {
+                    return false;
+                }
+                sink = place;
+            }
+        }
+        if (source < 0 || sink < 0 || source == sink) {
+            return false;
+        }
+        int[] initial = net.initialTokenVector();
+        for (int place = 0; place < places; place++) {
+            if (initial[place] != (place == source ? 1 : 0)) {
+                return false;
+            }
+        }
+        if (!isShortCircuitStronglyConnected(source, sink)) {
+            return false;
+        }
+
+        // Incidence of the short-circuited net, whose last column moves the token back
+        long[][] closed = new long[places][transitions + 1];
+        for (int place = 0; place < places; place++) {
+            System.arraycopy(incidence[place], 0, closed[place], 0, transitions);
+        }
+        closed[sink][transitions] = -1;
+        closed[source][transitions] = 1;
+        long[][] transposed = new long[transitions + 1][places];
+        for (int place = 0; place < places; place++) {
+            for (int transition = 0; transition <= transitions; transition++) {
+                transposed[transition][place] = closed[place][transition];
+            }
+        }
+
+        return covers(farkas(closed, transitions + 1), places)
+                && covers(farkas(transposed, places), transitions + 1)
+                && rank(closed, transitions + 1) == shortCircuitClusters(sink) - 1
+                && !hasUnmarkedSiphon(initial);
+    }
+
+    /**
+     * Whether every node lies on a path from source to sink, i.e. the short-circuited net is strongly connected
+     */
+    private boolean isShortCircuitStronglyConnected(int source, int sink) {
+        int places = net.getPlaceCount();
+        int nodes = places + net.getTransitionCount();
+        // Places are nodes [0, places), transitions follow; the short circuit is the sink-source edge
+        List<List<Integer>> forward = new ArrayList<>(nodes);
+        List<List<Integer>> backward = new ArrayList<>(nodes);
+        for (int node = 0; node < nodes; node++) {
+            forward.add(new ArrayList<>());
+            backward.add(new ArrayList<>());
+        }
+        for (int transition = 0; transition < net.getTransitionCount(); transition++) {
+            for (int input : net.inputPlaces(transition)) {
+                forward.get(input).add(places + transition);
+                backward.get(places + transition).add(input);
+            }
+            for (int output : net.outputPlaces(transition)) {
+                forward.get(places + transition).add(output);
+                backward.get(output).add(places + transition);
+            }
+        }
+        forward.get(sink).add(source);
+        backward.get(source).add(sink);
+        return reachesAll(forward, source) && reachesAll(backward, source);
+    }
+
+    private static boolean reachesAll(List<List<Integer>> edges, int start) {
+        BitSet reached = new BitSet(edges.size());
+        Deque<Integer> pending = new ArrayDeque<>();
+        reached.set(start);
+        pending.push(start);
+        while (!pending.isEmpty()) {
+            for (int next : edges.get(pending.pop())) {
+                if (!reached.get(next)) {
+                    reached.set(next);
+                    pending.push(next);
+                }
+            }
+        }
+        return reached.cardinality() == edges.size();
+    }
+
+    /**
+     * Whether the invariants' supports together cover every index, so their sum is a positive invariant
+     */
+    private static boolean covers(List<int[]> invariants, int size) {
+        if (invariants == null) {
+            return false;
+        }
+        BitSet covered = new BitSet(size);
+        for (int[] invariant : invariants) {
+            for (int i = 0; i < size; i++) {
+                if (invariant[i] > 0) {
+                    covered.set(i);
+                }
+            }
+        }
+        return covered.cardinality() == size;
+    }
+
+    /**
+     * Number of clusters of the short-circuited net: nodes linked through place-to-transition arcs
+     */
+    private int shortCircuitClusters(int sink) {
+        int places = net.getPlaceCount();
+        int[] parent = new int[places + net.getTransitionCount() + 1];
+        for (int node = 0; node < parent.length; node++) {
+            parent[node] = node;
+        }
+        for (int transition = 0; transition < net.getTransitionCount(); transition++) {
+            for (int input : net.inputPlaces(transition)) {
+                union(parent, input, places + transition);
+            }
+        }
+        union(parent, sink, parent.length - 1);
+        int clusters = 0;
+        for (int node = 0; node < parent.length; node++) {
+            if (find(parent, node) == node) {
+                clusters++;
+            }
+        }
+        return clusters;
+    }
+
+    private static int find(int[] parent, int node) {
+        while (parent[node] != node) {
+            parent[node] = parent[parent[node]];
+            node = parent[node];
+        }
+        return node;
+    }
+
+    private static void union(int[] parent, int a, int b) {
+        parent[find(parent, a)] = find(parent, b);
+    }
+
+    /**
+     * Whether some nonempty siphon is initially unmarked: the largest siphon within the
+     * unmarked places is found by dropping places with a producer that consumes from none of them
+     */
+    private boolean hasUnmarkedSiphon(int[] initial) {
+        BitSet unmarked = new BitSet(net.getPlaceCount());
+        for (int place = 0; place < net.getPlaceCount(); place++) {
+            if (initial[place] == 0) {
+                unmarked.set(place);
+            }
+        }
+        // The short circuit only produces into the marked source, so it never drops a place
+        for (int producer = unsatisfiedProducer(unmarked); producer >= 0; producer = unsatisfiedProducer(unmarked)) {
+            for (int output : net.outputPlaces(producer)) {
+                unmarked.clear(output);
+            }
+        }
+        return !unmarked.isEmpty();
+    }
+
+    /**
+     * Rank over the rationals, by fraction-free Gaussian elimination
+     */
+    private static int rank(long[][] matrix, int columns) {
+        BigInteger[][] rows = new BigInteger[matrix.length][columns];
+        for (int i = 0; i < matrix.length; i++) {
+            for (int j = 0; j < columns; j++) {
+                rows[i][j] = BigInteger.valueOf(matrix[i][j]);
+            }
+        }
+        int rank = 0;
+        for (int column = 0; column < columns && rank < rows.length; column++) {
+            int pivot = rank;
+            while (pivot < rows.length && rows[pivot][column].signum() == 0) {
+                pivot++;
+            }
+            if (pivot == rows.length) {
+                continue;
+            }
+            BigInteger[] swap = rows[pivot];
+            rows[pivot] = rows[rank];
+            rows[rank] = swap;
+            for (int i = rank + 1; i < rows.length; i++) {
+                BigInteger factor = rows[i][column];
+                if (factor.signum() == 0) {
+                    continue;
+                }
+                BigInteger gcd = BigInteger.ZERO;
+                for (int j = column; j < columns; j++) {
+                    rows[i][j] = rows[i][j].multiply(rows[rank][column]).subtract(rows[rank][j].multiply(factor));
+                    gcd = gcd.gcd(rows[i][j]);
+                }
+                if (gcd.compareTo(BigInteger.ONE) > 0) {
+                    for (int j = column; j < columns; j++) {
+                        rows[i][j] = rows[i][j].divide(gcd);
+                    }
+                }
+            }
+            rank++;
+        }
+        return rank;
+    }
+
+    /**
+     * Integer Farkas algorithm: minimal-support non-negative integer vectors y with y·A = 0.
+     *
+     * Starts from [A | I] and eliminates one column at a time by combining every pair of
+     * rows with opposite signs in that column. Rows whose identity part has a support that
+     * strictly contains another row's support are not minimal and are dropped.
+     */
+    private static List<int[]> farkas(long[][] matrix, int columns) {
+        int n = matrix.length;
+        List<long[]> rows = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            long[] row = new long[columns + n];
+            System.arraycopy(matrix[i], 0, row, 0, columns);
+            row[columns + i] = 1;
+            rows.add(row);
+        }
+
+        try {
+            for (int column = 0; column < columns; column++) {
+                List<long[]> next = new ArrayList<>();
+                List<long[]> positive = new ArrayList<>();
+                List<long[]> negative = new ArrayList<>();
+                for (long[] row : rows) {
+                    if (row[column] == 0) {
+                        next.add(row);
+                    } else if (row[column] > 0) {
+                        positive.add(row);
+                    } else {
+                        negative.add(row);
+                    }
+                }
+
+                for (long[] pos : positive) {
+                    for (long[] neg : negative) {
+                        long a = pos[column];
+                        long b = -neg[column];
+                        long[] combined = new long[pos.length];
+                        for (int k = 0; k < combined.length; k++) {
+                            combined[k] = Math.addExact(Math.multiplyExact(b, pos[k]), Math.multiplyExact(a, neg[k]));
+                        }
+                        normalize(combined);
+                        next.add(combined);
+                    }
+                    if (next.size() > MAX_FARKAS_ROWS) {
+                        return null;
+                    }
+                }
+
+                rows = minimalSupports(next, columns, n);
+            }
+        } catch (ArithmeticException e) {
+            return null;
+        }
+
+        List<int[]> invariants = new ArrayList<>(rows.size());
+        for (long[] row : rows) {
+            int[] invariant = new int[n];
+            for (int i = 0; i < n; i++) {
+                if (row[columns + i] > Integer.MAX_VALUE) {
+                    return null;
+                }
+                invariant[i] = (int) row[columns + i];
+            }
+            invariants.add(invariant);
+        }
+        return invariants;
+    }
+
+    private static List<long[]> minimalSupports(List<long[]> rows, int columns, int n) {
+        List<BitSet> supports = new ArrayList<>(rows.size());
+        for (long[] row : rows) {
+            BitSet support = new BitSet(n);
+            for (int i = 0; i < n; i++) {
+                if (row[columns + i] != 0) {
+                    support.set(i);
+                }
+            }
+            supports.add(support);
+        }
+
+        List<long[]> minimal = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            boolean keep = true;
+            for (int j = 0; j < rows.size() && keep; j++) {
+                if (i == j) {
+                    continue;
+                }
+                BitSet other = (BitSet) supports.get(j).clone();
+                other.andNot(supports.get(i));
+                if (other.isEmpty()) {
+                    // Support of j is contained in support of i: drop i if strictly larger,
+                    // or if equal keep only the first occurrence
+                    keep = supports.get(i).cardinality() == supports.get(j).cardinality() && i < j;
+                }
+            }
+            if (keep) {
+                minimal.add(rows.get(i));
+            }
+        }
+        return minimal;
+    }
+
+    private static void normalize(long[] row) {
+        long gcd = 0;
+        for (long value : row) {
+            gcd = gcd(gcd, Math.abs(value));
+        }
+        if (gcd > 1) {
+            for (int k = 0; k < row.length; k++) {
+                row[k] /= gcd;
+            }
+        }
+    }
+
+    private static long gcd(long a, long b) {
+        while (b != 0) {
+            long t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+}
@@ -0,0 +1,181 @@
+package core.petri.validation;
+
+import core.petri.CompiledPetriNet;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * Stubborn set computation for partial-order reduced state space exploration.
+ *
+ * A stubborn set T_s at marking s is closed under two rules:
+ * - D1: for an enabled t in T_s, every transition that competes with t is in T_s,
+ *   i.e. the other consumers of t's input places and the other producers of t's
+ *   capacity-bounded output places
+ * - D2: for a disabled t in T_s, a scapegoat place that keeps t disabled is chosen and
+ *   every transition that could lift it is in T_s, i.e. the producers of an input place
+ *   with too few tokens, or the consumers of an output place at capacity
+ *
+ * Firing only the enabled members of a stubborn set that contains at least one enabled
+ * transition preserves every reachable deadlock. Seeding the closure with goal
+ * transitions additionally preserves whether each goal can become enabled: along a
+ * shortest path to a goal, the first member of T_s is enabled at s and can be moved to
+ * the front, so the remaining distance shrinks with every reduced step. Independent
+ * branches of a fork are therefore explored in one order instead of all interleavings.
+ *
+ * @author Obvian Labs
+ * @since POC Phase 1
+ */
+public class StubbornSets {
+
+    private final CompiledPetriNet net;
+
+    // Scratch state reused across calls
+    private final boolean[] enabledNow;
+    private final boolean[] inSet;
+    private final boolean[] bestSet;
+    private final int[] stack;
+
+    public StubbornSets(CompiledPetriNet net) {
+        this.net = net;
+        int transitions = net.getTransitionCount();
+        this.enabledNow = new boolean[transitions];
+        this.inSet = new boolean[transitions];
+        this.bestSet = new boolean[transitions];
+        this.stack = new int[transitions];
+    }
+
+    /**
+     * Select the enabled transitions to fire at a marking.
+     *
+     * @param tokens Token vector of the marking
+     * @param enabled Enabled transitions at the marking, in the order successors should be generated
+     * @param goal Transitions whose possible enabling must be preserved
+     * @return Enabled members of a stubborn set, in the order given by enabled
+     */
+    public int[] reduce(int[] tokens, int[] enabled, IntPredicate goal) {
+        if (enabled.length <= 1) {
+            return enabled;
+        }
+        int transitions = net.getTransitionCount();
+        for (int transition : enabled) {
+            enabledNow[transition] = true;
+        }
+
+        try {
+            Arrays.fill(inSet, false);
+            int size = 0;
+            for (int transition = 0; transition < transitions; transition++) {
+                if (goal.test(transition)) {
+                    size = add(transition, size);
+                }
+            }
+            close(tokens, size);
+
+            int best = countEnabled(enabled, inSet);
+            if (best > 0) {
+                // Goal closure already keeps an enabled transition, which preserves deadlocks
+                return select(enabled, inSet, best);
+            }
+
+            // Otherwise add the enabled seed that yields the fewest enabled transitions
+            boolean[] goalSet = inSet.clone();
+            best = Integer.MAX_VALUE;
+            for (int seed : enabled) {
+                System.arraycopy(goalSet, 0, inSet, 0, transitions);
+                close(tokens, add(seed, 0));
+                int count = countEnabled(enabled, inSet);
+                if (count < best) {
+                    best = count;
+                    System.arraycopy(inSet, 0, bestSet, 0, transitions);
+                    if (count == 1) {
+                        break;
+                    }
+                }
+            }
+            return best >= enabled.length ? enabled : select(enabled, bestSet, best);
+        } finally {
+            for (int transition : enabled) {
+                enabledNow[transition] = false;
+            }
+        }
+    }
+
+    private int add(int transition, int size) {
+        if (!inSet[transition]) {
+            inSet[transition] = true;
+            stack[size++] = transition;
+        }
+        return size;
+    }
+
+    /**
+     * Close the current set under D1 and D2, starting from the transitions on the stack
+     */
+    private void close(int[] tokens, int size) {
+        while (size > 0) {
+            int transition = stack[--size];
+            if (enabledNow[transition]) {
+                for (int place : net.inputPlaces(transition)) {
+                    for (int competitor : net.consumers(place)) {
+                        size = add(competitor, size);
+                    }
+                }
+                for (int place : net.outputPlaces(transition)) {
+                    if (net.capacity(place) != CompiledPetriNet.UNBOUNDED) {
+                        for (int competitor : net.producers(place)) {
+                            size = add(competitor, size);
+                        }
+                    }
+                }
+            } else {
+                for (int enabler : scapegoatEnablers(transition, tokens)) {
+                    size = add(enabler, size);
+                }
+            }
+        }
+    }
+
+    /**
+     * Transitions that could lift the first condition keeping a disabled transition disabled
+     */
+    private int[] scapegoatEnablers(int transition, int[] tokens) {
+        int[] inputs = net.inputPlaces(transition);
+        int[] inputWeights = net.inputWeights(transition);
+        for (int i = 0; i < inputs.length; i++) {
+            if (tokens[inputs[i]] < inputWeights[i]) {
+                return net.producers(inputs[i]);
+            }
+        }
+        int[] outputs = net.outputPlaces(transition);
+        int[] outputWeights = net.outputWeights(transition);
+        for (int i = 0; i < outputs.length; i++) {
+            int capacity = net.capacity(outputs[i]);
+            if (capacity != CompiledPetriNet.UNBOUNDED && tokens[outputs[i]] + outputWeights[i] > capacity) {
+                return net.consumers(outputs[i]);
+            }
+        }
+        throw new IllegalStateException("Transition " + net.transitionId(transition) + " is not disabled");
+    }
+
+    private static int countEnabled(int[] enabled, boolean[] set) {
+        int count = 0;
+        for (int transition : enabled) {
+            if (set[transition]) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static int[] select(int[] enabled, boolean[] set, int count) {
+        int[] selected = new int[count];
+        int size = 0;
+        for (int transition : enabled) {
+            if (set[transition]) {
+                selected[size++] = transition;
+            }
+        }
+        return selected;
+    }
+}
@@ -0,0 +1,601 @@
+package core.petri.validation;
+
+import core.petri.CompiledPetriNet;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Reachable markings of a net encoded symbolically as a {@link DecisionDiagram}, with one
+ * level per place and the token count of the place as the level's value.
+ *
+ * The reachable set is computed by saturation (Ciardo, Lüttgen and Siminiceanu): each
+ * transition is an event acting only on the levels of the places it touches, and a node is
+ * saturated, i.e. closed under every event whose highest level is its own, after its children
+ * are. Firing an event on a saturated node saturates the result immediately, so the diagram
+ * never holds the large intermediate frontiers of breadth-first image computation. The union
+ * of saturated nodes is saturated, which keeps the fixpoint local to a level.
+ *
+ * The size of the diagram depends on how independent the places are rather than on how many
+ * markings there are: n concurrent branches of a fork take O(n) nodes for 2^n markings.
+ * Places are ordered depth-first along the arcs from the initially marked places, which
+ * keeps a transition's input and output places at nearby levels.
+ *
+ * Markings are exchanged as token vectors indexed by place. Sets are int handles into the
+ * diagram; every set returned is a subset of the reachable markings.
+ *
+ * @author Obvian Labs
+ * @since POC Phase 1
+ */
+public final class SymbolicStateSpace {
+
+    private static final Logger logger = LoggerFactory.getLogger(SymbolicStateSpace.class);
+
+    private static final int TIMEOUT_CHECK_INTERVAL = 256;
+    private static final int NO_CEILING = Integer.MAX_VALUE;
+
+    private final CompiledPetriNet net;
+    private final DecisionDiagram diagram;
+    private final int[] placeLevels;  // Level of each place
+    private final int[] levelPlaces;  // Place at level k, indexed by k - 1
+    private final int nodeLimit;
+    private final BooleanSupplier timeout;
+    private final Relation forward;
+    private Relation backward;        // Built on first backward search
+    private final int initial;
+    private final int reachable;
+
+    private boolean tokenLimitReached;
+    private boolean timedOut;
+    private boolean exploring = true;
+    private final boolean complete;
+    private int steps;
+
+    private SymbolicStateSpace(CompiledPetriNet net, int nodeLimit, int tokenLimit, BooleanSupplier timeout) {
+        this.net = net;
+        this.nodeLimit = nodeLimit;
+        this.timeout = timeout;
+        this.levelPlaces = placeOrder(net);
+        this.placeLevels = new int[levelPlaces.length];
+        for (int level = 1; level <= levelPlaces.length; level++) {
+            placeLevels[levelPlaces[level - 1]] = level;
+        }
+        this.diagram = new DecisionDiagram(levelPlaces.length);
+
+        int[] limits = new int[levelPlaces.length];
+        Arrays.fill(limits, tokenLimit);
+        this.forward = new Relation(false, limits, true);
+        this.initial = diagram.singleton(values(net.initialTokenVector()));
+        this.reachable = forward.saturate(initial);
+        this.complete = !tokenLimitReached && !timedOut && !isFull();
+        this.exploring = false;
+    }
+
+    /**
+     * Compute the reachable markings of a net.
+     *
+     * @param net Net to explore
+     * @param nodeLimit Maximum number of diagram nodes before the computation stops incomplete;
+     *                  queries on the complete set are bounded by the timeout only
+     * @param tokenLimit Maximum tokens in a place before the computation stops incomplete
+     * @param timeout Checked periodically; the computation stops incomplete once it holds
+     */
+    public static SymbolicStateSpace explore(CompiledPetriNet net, int nodeLimit, int tokenLimit,
+                                             BooleanSupplier timeout) {
+        SymbolicStateSpace space = new SymbolicStateSpace(net, nodeLimit, tokenLimit, timeout);
+        logger.debug("Symbolic state space of {} places: {} markings in {} nodes (complete: {})",
+                net.getPlaceCount(), space.isComplete() ? space.count(space.reachable) : "?",
+                space.diagram.getNodeCount(), space.isComplete());
+        return space;
+    }
+
+    /** Whether the reachable set is exact; otherwise no other query is meaningful */
+    public boolean isComplete() { return complete; }
+    /** Whether the timeout was reached, during exploration or a later query */
+    public boolean isTimeout() { return timedOut; }
+    /** Number of nodes created in the diagram, including intermediate results */
+    public int getNodeCount() { return diagram.getNodeCount(); }
+    /** Number of nodes encoding the reachable set */
+    public int getReachableSize() { return diagram.size(reachable); }
+
+    public int reachable() { return reachable; }
+    public boolean isEmpty(int set) { return set == DecisionDiagram.EMPTY; }
+    public BigInteger count(int set) { return diagram.count(set); }
+    public int union(int a, int b) { return diagram.union(a, b); }
+    public int intersect(int a, int b) { return diagram.intersect(a, b); }
+    public int minus(int a, int b) { return diagram.minus(a, b); }
+
+    /** Some marking of a non-empty set */
+    public int[] pick(int set) {
+        return tokens(diagram.pick(set));
+    }
+
+    /** Up to limit markings of a set */
+    public List<int[]> markings(int set, int limit) {
+        List<int[]> markings = new ArrayList<>();
+        collect(set, new int[levelPlaces.length], limit, markings);
+        return markings;
+    }
+
+    /** The set holding one marking if it is reachable, otherwise the empty set */
+    public int singleton(int[] tokens) {
+        return diagram.intersect(reachable, diagram.singleton(values(tokens)));
+    }
+
+    /**
+     * Markings of a set with between min[p] and max[p] tokens in each place p
+     */
+    public int restrict(int set, int[] minTokens, int[] maxTokens) {
+        return diagram.restrict(set, values(minTokens), values(maxTokens));
+    }
+
+    /**
+     * Reachable markings enabling a transition
+     */
+    public int enabled(int transition) {
+        return enabled(reachable, transition);
+    }
+
+    /**
+     * Reachable markings enabling no transition
+     */
+    public int dead() {
+        int dead = reachable;
+        for (int transition = 0; transition < net.getTransitionCount() && dead != DecisionDiagram.EMPTY; transition++) {
+            dead = diagram.minus(dead, enabled(dead, transition));
+        }
+        return dead;
+    }
+
+    private int enabled(int set, int transition) {
+        int[] min = new int[levelPlaces.length];
+        int[] max = new int[levelPlaces.length];
+        Arrays.fill(max, NO_CEILING);
+        int[] inputs = net.inputPlaces(transition);
+        int[] inputWeights = net.inputWeights(transition);
+        for (int i = 0; i < inputs.length; i++) {
+            min[placeLevels[inputs[i]] - 1] = inputWeights[i];
+        }
+        int[] outputs = net.outputPlaces(transition);
+        int[] outputWeights = net.outputWeights(transition);
+        for (int i = 0; i < outputs.length; i++) {
+            int capacity = net.capacity(outputs[i]);
+            if (capacity != CompiledPetriNet.UNBOUNDED) {
+                int level = placeLevels[outputs[i]] - 1;
+                max[level] = Math.min(max[level], capacity - outputWeights[i]);
+            }
+        }
+        return diagram.restrict(set, min, max);
+    }
+
+    /**
+     * Reachable markings from which some marking of the target set is reachable, computed by
+     * saturating the target under the reversed transitions within the reachable set's bounds
+     */
+    public int canReach(int target) {
+        if (backward == null) {
+            backward = new Relation(true, diagram.maxValues(reachable), false);
+        }
+        return diagram.intersect(reachable, backward.saturate(target));
+    }
+
+    /**
+     * Markings reachable from some marking of a set
+     */
+    public int reachableFrom(int source) {
+        return forward.saturate(source);
+    }
+
+    /**
+     * Markings of the bottom strongly connected component reached first from a marking of a
+     * non-empty set, i.e. a set of mutually reachable markings that no run leaves
+     */
+    public int bottomComponent(int set) {
+        int marking = diagram.intersect(reachable, diagram.singleton(diagram.pick(set)));
+        while (true) {
+            int successors = reachableFrom(marking);
+            int component = diagram.intersect(successors, canReach(marking));
+            if (component == successors) {
+                return component;
+            }
+            marking = diagram.singleton(diagram.pick(diagram.minus(successors, component)));
+        }
+    }
+
+    /**
+     * Firing sequence from the initial marking to a marking of a set.
+     *
+     * Events are chained onto a growing set in the order of their highest level, which
+     * follows the place order and so mostly the flow of the net, recording every set that
+     * changed. Unlike breadth-first layers, the recorded sets are unions closed under whole
+     * runs, which stay as compact as the reachable set. The path is replayed backwards: a
+     * marking first appears in the set an event produced, so its predecessor is the marking
+     * that event fires from, and lies in the set before. The path is not necessarily shortest.
+     *
+     * @return Transition indices, or null if no marking of the set is reachable or the
+     *         timeout was reached
+     */
+    public int[] witnessPath(int target) {
+        target = diagram.intersect(target, reachable);
+        if (target == DecisionDiagram.EMPTY) {
+            return null;
+        }
+        List<Integer> sets = new ArrayList<>();
+        List<Integer> events = new ArrayList<>();
+        int current = initial;
+        sets.add(current);
+        events.add(-1);
+        while (diagram.intersect(current, target) == DecisionDiagram.EMPTY) {
+            if (isStopped()) {
+                return null;
+            }
+            for (int level = levelPlaces.length; level >= 1; level--) {
+                for (int event : forward.eventsByTop[level]) {
+                    int next = diagram.union(current, forward.image(current, event));
+                    if (next != current) {
+                        current = next;
+                        sets.add(current);
+                        events.add(event);
+                    }
+                }
+            }
+        }
+
+        int[] tokens = pick(diagram.intersect(current, target));
+        List<Integer> path = new ArrayList<>();
+        for (int index = sets.size() - 1; index > 0; index--) {
+            if (diagram.contains(sets.get(index - 1), values(tokens))) {
+                continue;
+            }
+            int event = events.get(index);
+            path.add(event);
+            tokens = predecessor(event, tokens);
+        }
+        int[] witness = new int[path.size()];
+        for (int step = 0; step < witness.length; step++) {
+            witness[step] = path.get(witness.length - 1 - step);
+        }
+        return witness;
+    }
+
+    /**
+     * Marking that firing a transition turns into the given one, or null if the transition
+     * leaves the marking unchanged or it has no such predecessor
+     */
+    private int[] predecessor(int transition, int[] tokens) {
+        int[] places = net.changedPlaces(transition);
+        if (places.length == 0) {
+            return null;
+        }
+        int[] weights = net.changeWeights(transition);
+        int[] predecessor = tokens.clone();
+        for (int i = 0; i < places.length; i++) {
+            predecessor[places[i]] -= weights[i];
+            if (predecessor[places[i]] < 0) {
+                return null;
+            }
+        }
+        return predecessor;
+    }
+
+    private void collect(int node, int[] values, int limit, List<int[]> markings) {
+        if (node == DecisionDiagram.EMPTY || markings.size() >= limit) {
+            return;
+        }
+        if (node == DecisionDiagram.ACCEPT) {
+            markings.add(tokens(values));
+            return;
+        }
+        int level = diagram.level(node);
+        for (int value = 0; value < diagram.width(node); value++) {
+            values[level - 1] = value;
+            collect(diagram.child(node, value), values, limit, markings);
+        }
+    }
+
+    private int[] values(int[] tokens) {
+        int[] values = new int[levelPlaces.length];
+        for (int level = 1; level <= values.length; level++) {
+            values[level - 1] = tokens[levelPlaces[level - 1]];
+        }
+        return values;
+    }
+
+    private int[] tokens(int[] values) {
+        int[] tokens = new int[levelPlaces.length];
+        for (int level = 1; level <= values.length; level++) {
+            tokens[levelPlaces[level - 1]] = values[level - 1];
+        }
+        return tokens;
+    }
+
+    private boolean isFull() {
+        return diagram.getNodeCount() > nodeLimit;
+    }
+
+    private boolean isStopped() {
+        if (!timedOut && ++steps % TIMEOUT_CHECK_INTERVAL == 0) {
+            timedOut = timeout.getAsBoolean();
+        }
+        return timedOut || tokenLimitReached || (exploring && isFull());
+    }
+
+    /**
+     * Places in depth-first order along the arcs from the initially marked places, followed by
+     * places not reached that way; the first place is the top level
+     */
+    private static int[] placeOrder(CompiledPetriNet net) {
+        int placeCount = net.getPlaceCount();
+        int[] initialTokens = net.initialTokenVector();
+        boolean[] visited = new boolean[placeCount];
+        int[] order = new int[placeCount];
+        int position = placeCount;
+        Deque<Integer> stack = new ArrayDeque<>();
+        for (int root = placeCount - 1; root >= 0; root--) {
+            if (initialTokens[root] > 0) {
+                stack.push(root);
+            }
+        }
+        for (int root = placeCount - 1; root >= -1; root--) {
+            // Exhaust the places reachable from the current roots before starting a new one
+            while (!stack.isEmpty()) {
+                int place = stack.pop();
+                if (visited[place]) {
+                    continue;
+                }
+                visited[place] = true;
+                order[--position] = place;
+                int[] consumers = net.consumers(place);
+                for (int c = consumers.length - 1; c >= 0; c--) {
+                    int[] outputs = net.outputPlaces(consumers[c]);
+                    for (int o = outputs.length - 1; o >= 0; o--) {
+                        if (!visited[outputs[o]]) {
+                            stack.push(outputs[o]);
+                        }
+                    }
+                }
+            }
+            if (root >= 0 && !visited[root]) {
+                stack.push(root);
+            }
+        }
+        return order;
+    }
+
+    /**
+     * Transitions as events on the diagram levels, firing forward or backward. An event at
+     * level k needs at least need[k - 1] tokens and at most ceiling[k - 1], and changes the
+     * count by delta[k - 1]; results above the level's limit are dropped.
+     */
+    private final class Relation {
+        private final int[][] need;
+        private final int[][] ceiling;
+        private final int[][] delta;
+        private final int[] top;
+        private final int[] bottom;
+        private final int[][] eventsByTop;
+        private final int[] limits;
+        private final boolean limitIncomplete; // Whether dropping a result makes the computation incomplete
+
+        private final Map<Integer, Integer> saturated = new HashMap<>();
+        private final Map<Long, Integer> products = new HashMap<>();
+        private final Map<Long, Integer> images = new HashMap<>();
+
+        private Relation(boolean reversed, int[] limits, boolean limitIncomplete) {
+            int levels = levelPlaces.length;
+            int events = net.getTransitionCount();
+            this.need = new int[events][levels];
+            this.ceiling = new int[events][levels];
+            this.delta = new int[events][levels];
+            this.top = new int[events];
+            this.bottom = new int[events];
+            this.limits = limits;
+            this.limitIncomplete = limitIncomplete;
+
+            List<List<Integer>> byTop = new ArrayList<>();
+            for (int level = 0; level <= levels; level++) {
+                byTop.add(new ArrayList<>());
+            }
+            for (int event = 0; event < events; event++) {
+                Arrays.fill(ceiling[event], NO_CEILING);
+                int[] inputs = net.inputPlaces(event);
+                int[] inputWeights = net.inputWeights(event);
+                int[] outputs = net.outputPlaces(event);
+                int[] outputWeights = net.outputWeights(event);
+                // Forward firing needs the input tokens and room for the outputs before consuming
+                for (int i = 0; i < inputs.length; i++) {
+                    need[event][placeLevels[inputs[i]] - 1] += inputWeights[i];
+                    delta[event][placeLevels[inputs[i]] - 1] -= inputWeights[i];
+                }
+                for (int i = 0; i < outputs.length; i++) {
+                    int level = placeLevels[outputs[i]] - 1;
+                    delta[event][level] += outputWeights[i];
+                    int capacity = net.capacity(outputs[i]);
+                    if (capacity != CompiledPetriNet.UNBOUNDED) {
+                        ceiling[event][level] = Math.min(ceiling[event][level], capacity - outputWeights[i]);
+                    }
+                }
+                if (reversed) {
+                    // Backward firing from m needs m >= outputs and leaves m - delta within the ceiling
+                    int[] forwardCeiling = ceiling[event].clone();
+                    Arrays.fill(need[event], 0);
+                    for (int i = 0; i < outputs.length; i++) {
+                        need[event][placeLevels[outputs[i]] - 1] += outputWeights[i];
+                    }
+                    for (int level = 0; level < levels; level++) {
+                        ceiling[event][level] = forwardCeiling[level] == NO_CEILING
+                                ? NO_CEILING : forwardCeiling[level] + delta[event][level];
+                        delta[event][level] = -delta[event][level];
+                    }
+                }
+                for (int level = levels; level >= 1; level--) {
+                    if (affects(event, level)) {
+                        if (top[event] == 0) {
+                            top[event] = level;
+                        }
+                        bottom[event] = level;
+                    }
+                }
+                if (top[event] > 0) {
+                    byTop.get(top[event]).add(event);
+                }
+            }
+            this.eventsByTop = new int[levels + 1][];
+            for (int level = 0; level <= levels; level++) {
+                eventsByTop[level] = byTop.get(level).stream().mapToInt(Integer::intValue).toArray();
+            }
+        }
+
+        private boolean affects(int event, int level) {
+            return delta[event][level - 1] != 0 || need[event][level - 1] > 0
+                    || ceiling[event][level - 1] != NO_CEILING;
+        }
+
+        private boolean enables(int event, int level, int value) {
+            return value >= need[event][level - 1] && value <= ceiling[event][level - 1];
+        }
+
+        /**
+         * Target value of firing at a level, or -1 if it exceeds the level's limit
+         */
+        private int target(int event, int level, int value) {
+            int target = value + delta[event][level - 1];
+            if (target > limits[level - 1]) {
+                tokenLimitReached |= limitIncomplete;
+                return -1;
+            }
+            return target;
+        }
+
+        /**
+         * Closure of a set under the events
+         */
+        private int saturate(int node) {
+            if (node <= DecisionDiagram.ACCEPT) {
+                return node;
+            }
+            Integer cached = saturated.get(node);
+            if (cached != null) {
+                return cached;
+            }
+            int[] children = new int[diagram.width(node)];
+            for (int value = 0; value < children.length; value++) {
+                children[value] = saturate(diagram.child(node, value));
+            }
+            int result = fixpoint(diagram.level(node), children);
+            saturated.put(node, result);
+            saturated.put(result, result);
+            return result;
+        }
+
+        /**
+         * Fire the events whose highest level is this one until the node stops changing.
+         * The children must be saturated.
+         */
+        private int fixpoint(int level, int[] children) {
+            boolean changed = true;
+            while (changed && !isStopped()) {
+                changed = false;
+                for (int event : eventsByTop[level]) {
+                    // The children grow while firing, which chains events within a pass
+                    for (int value = 0; value < children.length; value++) {
+                        if (children[value] == DecisionDiagram.EMPTY || !enables(event, level, value)) {
+                            continue;
+                        }
+                        int target = target(event, level, value);
+                        if (target < 0) {
+                            continue;
+                        }
+                        int fired = product(children[value], event);
+                        if (target >= children.length) {
+                            children = Arrays.copyOf(children, target + 1);
+                        }
+                        int merged = diagram.union(children[target], fired);
+                        if (merged != children[target]) {
+                            children[target] = merged;
+                            changed = true;
+                        }
+                    }
+                }
+            }
+            return diagram.node(level, children);
+        }
+
+        /**
+         * Saturated successors of a saturated node under one firing of an event, for an event
+         * whose highest level is above the node's
+         */
+        private int product(int node, int event) {
+            if (node <= DecisionDiagram.ACCEPT || diagram.level(node) < bottom[event]) {
+                return node;
+            }
+            long key = ((long) node << 32) | event;
+            Integer cached = products.get(key);
+            if (cached != null) {
+                return cached;
+            }
+            int level = diagram.level(node);
+            int[] children = new int[0];
+            for (int value = 0; value < diagram.width(node); value++) {
+                int child = diagram.child(node, value);
+                if (child == DecisionDiagram.EMPTY || !enables(event, level, value)) {
+                    continue;
+                }
+                int target = target(event, level, value);
+                if (target < 0) {
+                    continue;
+                }
+                if (target >= children.length) {
+                    children = Arrays.copyOf(children, target + 1);
+                }
+                children[target] = diagram.union(children[target], product(child, event));
+            }
+            int result = fixpoint(level, children);
+            products.put(key, result);
+            return result;
+        }
+
+        /**
+         * Successors of a set under exactly one firing of an event, without saturating
+         */
+        private int image(int node, int event) {
+            if (node <= DecisionDiagram.ACCEPT || diagram.level(node) < bottom[event]) {
+                return node;
+            }
+            long key = ((long) node << 32) | event;
+            Integer cached = images.get(key);
+            if (cached != null) {
+                return cached;
+            }
+            int level = diagram.level(node);
+            int[] children = new int[0];
+            for (int value = 0; value < diagram.width(node); value++) {
+                int child = diagram.child(node, value);
+                if (child == DecisionDiagram.EMPTY || !enables(event, level, value)) {
+                    continue;
+                }
+                int target = target(event, level, value);
+                if (target < 0) {
+                    continue;
+                }
+                if (target >= children.length) {
+                    children = Arrays.copyOf(children, target + 1);
+                }
+                children[target] = diagram.union(children[target], image(child, event));
+            }
+            int result = diagram.node(level, children);
+            images.put(key, result);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,455 @@
+package core.petri.validation;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Temporal property over the marking graph of a Petri net, in LTL or CTL, parsed from text.
+ *
+ * Atomic propositions:
+ * - fired(t): the step into the current marking fired transition t
+ * - enabled(t): transition t is enabled
+ * - marked(p): place p holds a token; tokens(p) >= k, and likewise with >, <=, <, == and !=,
+ *   compares its token count
+ * - deadlock: no transition is enabled
+ * - true and false
+ * Operators, from lowest to highest precedence: ->, ||, &&, the right-associative U, R and W,
+ * and the prefix operators !, X, F and G with their quantified forms AX, EX, AF, EF, AG and EG.
+ * A[a U b] and E[a U b] are the quantified untils.
+ *
+ * A formula with a path quantifier is CTL, where every temporal operator must be quantified;
+ * any other formula is LTL and holds when every run from the initial marking satisfies it.
+ * A run that reaches a marking with no enabled transition stays there forever without firing.
+ *
+ * Formulas are immutable and compare structurally. Implications, F, G and W are rewritten into
+ * the other operators when parsed.
+ *
+ * @author Obvian Labs
+ * @since POC Phase 1
+ */
+public final class TemporalFormula {
+
+    /**
+     * Node kind. NEXT, UNTIL and RELEASE are LTL; the quantified kinds are CTL.
+     */
+    public enum Kind {
+        TRUE, FALSE, ATOM, NOT, AND, OR,
+        NEXT, UNTIL, RELEASE,
+        EX, AX, EF, AF, EG, AG, EU, AU
+    }
+
+    /**
+     * Kind of atomic proposition
+     */
+    public enum AtomType {
+        FIRED, ENABLED, TOKENS, DEADLOCK
+    }
+
+    /**
+     * Atomic proposition. The element is a transition ID for FIRED and ENABLED and a place
+     * ID for TOKENS, whose count is compared with the bound.
+     */
+    public static final class Atom {
+        private final AtomType type;
+        private final String element;
+        private final String comparison;
+        private final int bound;
+
+        Atom(AtomType type, String element, String comparison, int bound) {
+            this.type = type;
+            this.element = element;
+            this.comparison = comparison;
+            this.bound = bound;
+        }
+
+        public AtomType getType() { return type; }
+        public String getElement() { return element; }
+        public String getComparison() { return comparison; }
+        public int getBound() { return bound; }
+
+        /**
+         * Compare a token count with the bound
+         */
+        public boolean compare(int tokens) {
+            switch (comparison) {
+                case ">=": return tokens >= bound;
+                case ">": return tokens > bound;
+                case "<=": return tokens <= bound;
+                case "<": return tokens < bound;
+                case "==": return tokens == bound;
+                default: return tokens != bound;
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Atom atom = (Atom) o;
+            return bound == atom.bound && type == atom.type &&
+                   Objects.equals(element, atom.element) && Objects.equals(comparison, atom.comparison);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, element, comparison, bound);
+        }
+
+        @Override
+        public String toString() {
+            switch (type) {
+                case FIRED: return "fired(" + element + ")";
+                case ENABLED: return "enabled(" + element + ")";
+                case TOKENS: return "tokens(" + element + ") " + comparison + " " + bound;
+                default: return "deadlock";
+            }
+        }
+    }
+
+    private static final TemporalFormula TRUE = new TemporalFormula(Kind.TRUE, null, null, null);
+    private static final TemporalFormula FALSE = new TemporalFormula(Kind.FALSE, null, null, null);
+
+    private final Kind kind;
+    private final Atom atom;
+    private final TemporalFormula left;
+    private final TemporalFormula right;
+    private final int hash;
+
+    private TemporalFormula(Kind kind, Atom atom, TemporalFormula left, TemporalFormula right) {
+        this.kind = kind;
+        this.atom = atom;
+        this.left = left;
+        this.right = right;
+        this.hash = Objects.hash(kind, atom, left, right);
+    }
+
+    public Kind getKind() { return kind; }
+    public Atom getAtom() { return atom; }
+    /** Operand of unary operators and left operand of binary ones */
+    public TemporalFormula getLeft() { return left; }
+    public TemporalFormula getRight() { return right; }
+
+    /**
+     * Parse a formula.
+     *
+     * @throws IllegalArgumentException if the text is not a well-formed LTL or CTL formula
+     */
+    public static TemporalFormula parse(String text) {
+        if (text == null || text.trim().isEmpty()) {
+            throw new IllegalArgumentException("Temporal formula cannot be null or empty");
+        }
+        Parser parser = new Parser(text);
+        TemporalFormula formula = parser.parseImplication();
+        if (parser.position < parser.tokens.size()) {
+            throw new IllegalArgumentException("Unexpected '" + parser.tokens.get(parser.position) +
+                    "' in temporal formula: " + text);
+        }
+        if (formula.isCtl()) {
+            formula.requireQuantified(text);
+        }
+        return formula;
+    }
+
+    /**
+     * Whether the formula contains a path quantifier
+     */
+    public boolean isCtl() {
+        if (kind.compareTo(Kind.EX) >= 0) {
+            return true;
+        }
+        return (left != null && left.isCtl()) || (right != null && right.isCtl());
+    }
+
+    /**
+     * Whether the formula contains a temporal operator
+     */
+    public boolean isTemporal() {
+        if (kind.compareTo(Kind.NEXT) >= 0) {
+            return true;
+        }
+        return (left != null && left.isTemporal()) || (right != null && right.isTemporal());
+    }
+
+    /**
+     * Atomic propositions in order of first occurrence
+     */
+    public List<Atom> atoms() {
+        Set<Atom> atoms = new LinkedHashSet<>();
+        collectAtoms(atoms);
+        return new ArrayList<>(atoms);
+    }
+
+    private void collectAtoms(Set<Atom> atoms) {
+        if (atom != null) {
+            atoms.add(atom);
+        }
+        if (left != null) {
+            left.collectAtoms(atoms);
+        }
+        if (right != null) {
+            right.collectAtoms(atoms);
+        }
+    }
+
+    private void requireQuantified(String text) {
+        if (kind == Kind.NEXT || kind == Kind.UNTIL || kind == Kind.RELEASE) {
+            throw new IllegalArgumentException("Temporal operators must all carry a path quantifier" +
+                    " in a CTL formula: " + text);
+        }
+        if (left != null) {
+            left.requireQuantified(text);
+        }
+        if (right != null) {
+            right.requireQuantified(text);
+        }
+    }
+
+    /**
+     * Negation of an LTL formula in negation normal form, with NOT applied only to atoms
+     */
+    TemporalFormula negate() {
+        switch (kind) {
+            case TRUE: return FALSE;
+            case FALSE: return TRUE;
+            case ATOM: return not(this);
+            case NOT: return left;
+            case AND: return or(left.negate(), right.negate());
+            case OR: return and(left.negate(), right.negate());
+            case NEXT: return next(left.negate());
+            case UNTIL: return release(left.negate(), right.negate());
+            case RELEASE: return until(left.negate(), right.negate());
+            default: throw new IllegalStateException("Not an LTL formula: " + this);
+        }
+    }
+
+    /**
+     * Whether the formula is true, false, an atom or a negated atom
+     */
+    boolean isLiteral() {
+        return kind == Kind.TRUE || kind == Kind.FALSE || kind == Kind.ATOM
+                || (kind == Kind.NOT && left.kind == Kind.ATOM);
+    }
+
+    static TemporalFormula atom(Atom atom) { return new TemporalFormula(Kind.ATOM, atom, null, null); }
+    static TemporalFormula not(TemporalFormula operand) {
+        if (operand.kind == Kind.NOT) {
+            return operand.left;
+        }
+        return operand.kind == Kind.ATOM || operand.isCtl()
+                ? new TemporalFormula(Kind.NOT, null, operand, null)
+                : operand.negate();
+    }
+    static TemporalFormula and(TemporalFormula a, TemporalFormula b) { return new TemporalFormula(Kind.AND, null, a, b); }
+    static TemporalFormula or(TemporalFormula a, TemporalFormula b) { return new TemporalFormula(Kind.OR, null, a, b); }
+    static TemporalFormula next(TemporalFormula a) { return new TemporalFormula(Kind.NEXT, null, a, null); }
+    static TemporalFormula until(TemporalFormula a, TemporalFormula b) { return new TemporalFormula(Kind.UNTIL, null, a, b); }
+    static TemporalFormula release(TemporalFormula a, TemporalFormula b) { return new TemporalFormula(Kind.RELEASE, null, a, b); }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        TemporalFormula that = (TemporalFormula) o;
+        return hash == that.hash && kind == that.kind && Objects.equals(atom, that.atom) &&
+               Objects.equals(left, that.left) && Objects.equals(right, that.right);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        switch (kind) {
+            case TRUE: return "true";
+            case FALSE: return "false";
+            case ATOM: return atom.toString();
+            case NOT: return "!" + left;
+            case AND: return "(" + left + " && " + right + ")";
+            case OR: return "(" + left + " || " + right + ")";
+            case NEXT: return "X " + left;
+            case UNTIL: return left.kind == Kind.TRUE ? "F " + right : "(" + left + " U " + right + ")";
+            case RELEASE: return left.kind == Kind.FALSE ? "G " + right : "(" + left + " R " + right + ")";
+            case EU: return "E[" + left + " U " + right + "]";
+            case AU: return "A[" + left + " U " + right + "]";
+            default: return kind + " " + left;
+        }
+    }
+
+    /**
+     * Recursive descent parser over a token list
+     */
+    private static final class Parser {
+        private final String text;
+        private final List<String> tokens = new ArrayList<>();
+        private int position;
+        private boolean quantifiedUntil; // Parsing the left operand of E[.. U ..] or A[.. U ..]
+
+        Parser(String text) {
+            this.text = text;
+            int i = 0;
+            while (i < text.length()) {
+                char c = text.charAt(i);
+                if (Character.isWhitespace(c)) {
+                    i++;
+                } else if (Character.isLetterOrDigit(c) || c == '_') {
+                    int start = i;
+                    while (i < text.length() && (Character.isLetterOrDigit(text.charAt(i))
+                            || "_.-:".indexOf(text.charAt(i)) >= 0) && !text.startsWith("->", i)) {
+                        i++;
+                    }
+                    tokens.add(text.substring(start, i));
+                } else if (i + 1 < text.length() && isTwoCharOperator(text.substring(i, i + 2))) {
+                    tokens.add(text.substring(i, i + 2));
+                    i += 2;
+                } else {
+                    tokens.add(String.valueOf(c));
+                    i++;
+                }
+            }
+        }
+
+        private static boolean isTwoCharOperator(String s) {
+            return s.equals("->") || s.equals("||") || s.equals("&&") || s.equals(">=")
+                    || s.equals("<=") || s.equals("==") || s.equals("!=");
+        }
+
+        private String peek() {
+            return position < tokens.size() ? tokens.get(position) : null;
+        }
+
+        private String next() {
+            String token = peek();
+            if (token == null) {
+                throw new IllegalArgumentException("Unexpected end of temporal formula: " + text);
+            }
+            position++;
+            return token;
+        }
+
+        private void expect(String token) {
+            String actual = next();
+            if (!actual.equals(token)) {
+                throw new IllegalArgumentException("Expected '" + token + "' but found '" + actual +
+                        "' in temporal formula: " + text);
+            }
+        }
+
+        TemporalFormula parseImplication() {
+            TemporalFormula premise = parseOr();
+            if ("->".equals(peek())) {
+                position++;
+                return or(not(premise), parseImplication());
+            }
+            return premise;
+        }
+
+        private TemporalFormula parseOr() {
+            TemporalFormula formula = parseAnd();
+            while ("||".equals(peek())) {
+                position++;
+                formula = or(formula, parseAnd());
+            }
+            return formula;
+        }
+
+        private TemporalFormula parseAnd() {
+            TemporalFormula formula = parseBinaryTemporal();
+            while ("&&".equals(peek())) {
+                position++;
+                formula = and(formula, parseBinaryTemporal());
+            }
+            return formula;
+        }
+
+        private TemporalFormula parseBinaryTemporal() {
+            TemporalFormula formula = parseUnary();
+            String operator = peek();
+            if (("U".equals(operator) && !quantifiedUntil) || "R".equals(operator) || "W".equals(operator)) {
+                position++;
+                TemporalFormula second = parseBinaryTemporal();
+                switch (operator) {
+                    case "U": return until(formula, second);
+                    case "R": return release(formula, second);
+                    default: return release(second, or(formula, second));
+                }
+            }
+            return formula;
+        }
+
+        private TemporalFormula parseUnary() {
+            String token = next();
+            switch (token) {
+                case "!": return not(parseUnary());
+                case "X": return TemporalFormula.next(parseUnary());
+                case "F": return until(TRUE, parseUnary());
+                case "G": return release(FALSE, parseUnary());
+                case "EX": return quantified(Kind.EX, parseUnary());
+                case "AX": return quantified(Kind.AX, parseUnary());
+                case "EF": return quantified(Kind.EF, parseUnary());
+                case "AF": return quantified(Kind.AF, parseUnary());
+                case "EG": return quantified(Kind.EG, parseUnary());
+                case "AG": return quantified(Kind.AG, parseUnary());
+                case "E":
+                case "A": {
+                    expect("[");
+                    boolean enclosing = quantifiedUntil;
+                    quantifiedUntil = true;
+                    TemporalFormula first = parseImplication();
+                    quantifiedUntil = false;
+                    expect("U");
+                    TemporalFormula second = parseImplication();
+                    expect("]");
+                    quantifiedUntil = enclosing;
+                    return new TemporalFormula(token.equals("E") ? Kind.EU : Kind.AU, null, first, second);
+                }
+                case "(": {
+                    boolean enclosing = quantifiedUntil;
+                    quantifiedUntil = false;
+                    TemporalFormula formula = parseImplication();
+                    expect(")");
+                    quantifiedUntil = enclosing;
+                    return formula;
+                }
+                case "true": return TRUE;
+                case "false": return FALSE;
+                case "deadlock": return atom(new Atom(AtomType.DEADLOCK, null, null, 0));
+                case "fired": return atom(new Atom(AtomType.FIRED, element(), null, 0));
+                case "enabled": return atom(new Atom(AtomType.ENABLED, element(), null, 0));
+                case "marked": return atom(new Atom(AtomType.TOKENS, element(), ">=", 1));
+                case "tokens": {
+                    String place = element();
+                    String comparison = next();
+                    if (!List.of(">=", ">", "<=", "<", "==", "!=").contains(comparison)) {
+                        throw new IllegalArgumentException("Expected a comparison after tokens(" + place +
+                                ") in temporal formula: " + text);
+                    }
+                    String bound = next();
+                    try {
+                        return atom(new Atom(AtomType.TOKENS, place, comparison, Integer.parseInt(bound)));
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("Expected a token count but found '" + bound +
+                                "' in temporal formula: " + text);
+                    }
+                }
+                default:
+                    throw new IllegalArgumentException("Unexpected '" + token + "' in temporal formula: " + text);
+            }
+        }
+
+        private static TemporalFormula quantified(Kind kind, TemporalFormula operand) {
+            return new TemporalFormula(kind, null, operand, null);
+        }
+
+        private String element() {
+            expect("(");
+            String id = next();
+            expect(")");
+            return id;
+        }
+    }
+}
@@ -0,0 +1,862 @@
+package core.petri.validation;
+
+import core.petri.CompactMarking;
+import core.petri.CompiledPetriNet;
+import core.petri.Marking;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Checks LTL and CTL properties over the marking graph of a compiled net.
+ *
+ * LTL properties are checked on the fly: the negated formula is translated into a
+ * {@link BuchiAutomaton} and a nested depth-first search looks for an accepting cycle in its
+ * product with the marking graph, generating markings only as the search reaches them. The
+ * search stops at the first accepting cycle, which is a run violating the property: a path
+ * from the initial marking followed by a cycle repeated forever. An automaton state reads the
+ * marking entered and the transition fired to enter it, so fired(t) refers to steps.
+ *
+ * CTL properties are evaluated with the fixpoint labelling algorithm over the explored graph,
+ * in linear time per operator. States are markings, paired with the transition fired into
+ * them when the formula uses fired(t). A top-level AG or EF over a formula without temporal
+ * operators is decided during exploration instead, stopping at the first marking that
+ * violates or witnesses it.
+ *
+ * Markings are kept in a {@link VisitedStateStore} for the configured storage backend and
+ * identified by their store ID; the searches mark visited (ID, automaton state) pairs in bit
+ * sets. At most stateBound markings are generated. A run that reaches a marking without
+ * enabled transitions stays there, firing nothing.
+ *
+ * @author Obvian Labs
+ * @since POC Phase 1
+ */
+public class TemporalPropertyChecker {
+
+    private static final Logger logger = LoggerFactory.getLogger(TemporalPropertyChecker.class);
+
+    private static final int TIMEOUT_CHECK_INTERVAL = 1024;
+    private static final int STUTTER = -1; // Move of a marking without enabled transitions
+
+    private final CompiledPetriNet net;
+    private final PetriNetValidationResult.StateStorage storage;
+    private final int stateBound;
+    private final BooleanSupplier timeout;
+
+    /**
+     * @param net Net whose marking graph is checked
+     * @param storage Backend for visited markings
+     * @param stateBound Maximum number of markings to generate per property
+     * @param timeout Whether the time budget is spent; polled during the search
+     */
+    public TemporalPropertyChecker(CompiledPetriNet net, PetriNetValidationResult.StateStorage storage,
+                                   int stateBound, BooleanSupplier timeout) {
+        this.net = net;
+        this.storage = storage;
+        this.stateBound = stateBound;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Check a property from the initial marking.
+     *
+     * @throws IllegalArgumentException if the formula names a place or transition the net does not have
+     */
+    public PropertyResult check(TemporalFormula formula) {
+        Labeller labeller = new Labeller(formula);
+        return formula.isCtl() ? checkCtl(formula, labeller) : checkLtl(formula, labeller);
+    }
+
+    // LTL: nested depth-first search over the product with the automaton of the negation
+
+    private PropertyResult checkLtl(TemporalFormula formula, Labeller labeller) {
+        BuchiAutomaton automaton = BuchiAutomaton.of(formula.negate());
+        logger.debug("Checking LTL property {} with a {}-state automaton", formula, automaton.getStateCount());
+        try (ProductSearch search = new ProductSearch(automaton, labeller)) {
+            return search.run();
+        }
+    }
+
+    /**
+     * Nested DFS of Courcoubetis, Vardi, Wolper and Yannakakis: the outer (blue) search starts
+     * an inner (red) search from each accepting state after its successors are done; a red
+     * search that reaches its seed closes an accepting cycle. Red marks persist across seeds,
+     * so each product state is searched at most twice.
+     */
+    private final class ProductSearch implements AutoCloseable {
+        private final BuchiAutomaton automaton;
+        private final Labeller labeller;
+        private final VisitedStateStore markings;
+        private final int automatonStates;
+        private final BitSet blue = new BitSet();
+        private final BitSet red = new BitSet();
+        private final int[] tokens = new int[net.getPlaceCount()];
+        private int markingCount;
+        private boolean boundReached;
+        private boolean timedOut;
+        private int steps;
+
+        // Blue and red stacks: frames of product states with their successor iteration state
+        private final Stack blueStack = new Stack();
+        private final Stack redStack = new Stack();
+
+        ProductSearch(BuchiAutomaton automaton, Labeller labeller) {
+            this.automaton = automaton;
+            this.labeller = labeller;
+            this.markings = VisitedStateStore.create(storage, net, Path.of(System.getProperty("java.io.tmpdir")));
+            this.automatonStates = automaton.getStateCount();
+        }
+
+        PropertyResult run() {
+            CompactMarking initial = CompactMarking.initial(net);
+            int initialId = markingId(initial);
+            for (int state : automaton.initialStates()) {
+                initial.copyInto(tokens);
+                if (!labeller.satisfies(automaton.label(state), tokens, STUTTER)) {
+                    continue;
+                }
+                if (blue.get(initialId * automatonStates + state)) {
+                    continue;
+                }
+                if (blueSearch(initial, initialId, state)) {
+                    return violation();
+                }
+                if (timedOut) {
+                    break;
+                }
+            }
+            PetriNetValidationResult.PetriValidationStatus status = timedOut
+                    ? PetriNetValidationResult.PetriValidationStatus.INCONCLUSIVE_TIMEOUT
+                    : boundReached ? PetriNetValidationResult.PetriValidationStatus.INCONCLUSIVE_BOUND
+                                   : PetriNetValidationResult.PetriValidationStatus.PASS;
+            return new PropertyResult(status, markingCount, null, null, null);
+        }
+
+        /**
+         * Outer search from a product state; true once an accepting cycle is found
+         */
+        private boolean blueSearch(CompactMarking marking, int markingId, int state) {
+            blueStack.clear();
+            blueStack.push(marking, markingId, state, STUTTER, successorMoves(marking));
+            blue.set(markingId * automatonStates + state);
+
+            while (blueStack.size > 0) {
+                if (++steps % TIMEOUT_CHECK_INTERVAL == 0 && timeout.getAsBoolean()) {
+                    timedOut = true;
+                    return false;
+                }
+                int top = blueStack.size - 1;
+                if (advance(blueStack, top)) {
+                    int successor = blueStack.nextMarkingId[top] * automatonStates + blueStack.nextState[top];
+                    if (!blue.get(successor)) {
+                        blue.set(successor);
+                        CompactMarking next = blueStack.nextMarking[top];
+                        blueStack.push(next, blueStack.nextMarkingId[top], blueStack.nextState[top],
+                                blueStack.move[top][blueStack.moveIndex[top]], successorMoves(next));
+                    }
+                    continue;
+                }
+                // Successors done: look for a cycle through an accepting state before backtracking
+                if (automaton.isAccepting(blueStack.state[top]) && redSearch(top)) {
+                    return true;
+                }
+                if (timedOut) {
+                    return false;
+                }
+                blueStack.pop();
+            }
+            return false;
+        }
+
+        /**
+         * Inner search from the accepting state on top of the blue stack; true if it reaches it again
+         */
+        private boolean redSearch(int seedFrame) {
+            int seed = blueStack.markingId[seedFrame] * automatonStates + blueStack.state[seedFrame];
+            redStack.clear();
+            redStack.push(blueStack.marking[seedFrame], blueStack.markingId[seedFrame], blueStack.state[seedFrame],
+                    blueStack.fired[seedFrame], successorMoves(blueStack.marking[seedFrame]));
+            red.set(seed);
+
+            while (redStack.size > 0) {
+                if (++steps % TIMEOUT_CHECK_INTERVAL == 0 && timeout.getAsBoolean()) {
+                    timedOut = true;
+                    return false;
+                }
+                int top = redStack.size - 1;
+                if (!advance(redStack, top)) {
+                    redStack.pop();
+                    continue;
+                }
+                int successor = redStack.nextMarkingId[top] * automatonStates + redStack.nextState[top];
+                int fired = redStack.move[top][redStack.moveIndex[top]];
+                if (successor == seed) {
+                    redStack.push(redStack.nextMarking[top], redStack.nextMarkingId[top], redStack.nextState[top],
+                            fired, null);
+                    return true;
+                }
+                if (!red.get(successor)) {
+                    red.set(successor);
+                    CompactMarking next = redStack.nextMarking[top];
+                    redStack.push(next, redStack.nextMarkingId[top], redStack.nextState[top], fired,
+                            successorMoves(next));
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Move the frame to its next product successor, generating the successor marking when
+         * the frame moves on to the next transition; false when the frame has none left
+         */
+        private boolean advance(Stack stack, int frame) {
+            while (true) {
+                if (stack.nextMarking[frame] == null) {
+                    if (++stack.moveIndex[frame] >= stack.move[frame].length) {
+                        return false;
+                    }
+                    int transition = stack.move[frame][stack.moveIndex[frame]];
+                    CompactMarking next = transition == STUTTER ? stack.marking[frame]
+                            : stack.marking[frame].fire(transition);
+                    int nextId = markingId(next);
+                    if (nextId == VisitedStateStore.NOT_FOUND) {
+                        continue; // Beyond the state bound
+                    }
+                    stack.nextMarking[frame] = next;
+                    stack.nextMarkingId[frame] = nextId;
+                    stack.successorIndex[frame] = -1;
+                }
+                stack.nextMarking[frame].copyInto(tokens);
+
+                int[] successors = automaton.successors(stack.state[frame]);
+                int transition = stack.move[frame][stack.moveIndex[frame]];
+                while (++stack.successorIndex[frame] < successors.length) {
+                    int state = successors[stack.successorIndex[frame]];
+                    if (labeller.satisfies(automaton.label(state), tokens, transition)) {
+                        stack.nextState[frame] = state;
+                        return true;
+                    }
+                }
+                stack.nextMarking[frame] = null;
+            }
+        }
+
+        /**
+         * Enabled transitions of a marking, or a single stutter move if there are none
+         */
+        private int[] successorMoves(CompactMarking marking) {
+            marking.copyInto(tokens);
+            int[] enabled = net.enabledTransitions(tokens);
+            return enabled.length > 0 ? enabled : new int[] {STUTTER};
+        }
+
+        /**
+         * Store ID of a marking, adding it if new; NOT_FOUND if the state bound is reached
+         */
+        private int markingId(CompactMarking marking) {
+            int id = markings.get(marking);
+            if (id != VisitedStateStore.NOT_FOUND) {
+                return id;
+            }
+            if (markingCount >= stateBound) {
+                boundReached = true;
+                return VisitedStateStore.NOT_FOUND;
+            }
+            markings.putIfAbsent(marking, markingCount);
+            return markingCount++;
+        }
+
+        /**
+         * Counter-example from the stacks: the blue stack leads to the seed, the red stack loops back to it
+         */
+        private PropertyResult violation() {
+            List<String> path = new ArrayList<>();
+            for (int frame = 1; frame < blueStack.size; frame++) {
+                addStep(path, blueStack.fired[frame]);
+            }
+            List<String> cycle = new ArrayList<>();
+            for (int frame = 1; frame < redStack.size; frame++) {
+                addStep(cycle, redStack.fired[frame]);
+            }
+            Marking loopMarking = blueStack.marking[blueStack.size - 1].toMarking();
+            return new PropertyResult(PetriNetValidationResult.PetriValidationStatus.FAIL, markingCount,
+                    path, cycle, loopMarking);
+        }
+
+        @Override
+        public void close() {
+            markings.close();
+        }
+    }
+
+    private void addStep(List<String> path, int transition) {
+        if (transition != STUTTER) {
+            path.add(net.transitionId(transition));
+        }
+    }
+
+    /**
+     * Depth-first search stack in parallel arrays, one frame per product state on the current path
+     */
+    private static final class Stack {
+        private int size;
+        private CompactMarking[] marking = new CompactMarking[64];
+        private int[] markingId = new int[64];
+        private int[] state = new int[64];
+        private int[] fired = new int[64]; // Transition fired into the frame's state
+        private int[][] move = new int[64][]; // Moves out of the frame's marking
+        private int[] moveIndex = new int[64];
+        private CompactMarking[] nextMarking = new CompactMarking[64]; // Marking after the current move
+        private int[] nextMarkingId = new int[64];
+        private int[] successorIndex = new int[64]; // Position among automaton successors
+        private int[] nextState = new int[64];
+
+        void push(CompactMarking frameMarking, int frameMarkingId, int frameState, int frameFired, int[] moves) {
+            if (size == marking.length) {
+                int capacity = size * 2;
+                marking = Arrays.copyOf(marking, capacity);
+                markingId = Arrays.copyOf(markingId, capacity);
+                state = Arrays.copyOf(state, capacity);
+                fired = Arrays.copyOf(fired, capacity);
+                move = Arrays.copyOf(move, capacity);
+                moveIndex = Arrays.copyOf(moveIndex, capacity);
+                nextMarking = Arrays.copyOf(nextMarking, capacity);
+                nextMarkingId = Arrays.copyOf(nextMarkingId, capacity);
+                successorIndex = Arrays.copyOf(successorIndex, capacity);
+                nextState = Arrays.copyOf(nextState, capacity);
+            }
+            marking[size] = frameMarking;
+            markingId[size] = frameMarkingId;
+            state[size] = frameState;
+            fired[size] = frameFired;
+            move[size] = moves;
+            moveIndex[size] = -1;
+            nextMarking[size] = null;
+            size++;
+        }
+
+        void pop() {
+            size--;
+            marking[size] = null;
+            nextMarking[size] = null;
+            move[size] = null;
+        }
+
+        void clear() {
+            while (size > 0) {
+                pop();
+            }
+        }
+    }
+
+    // CTL: labelling over the explored graph
+
+    private PropertyResult checkCtl(TemporalFormula formula, Labeller labeller) {
+        boolean trackFired = formula.atoms().stream()
+                .anyMatch(atom -> atom.getType() == TemporalFormula.AtomType.FIRED);
+        // AG and EF over a state formula are decided on the fly
+        TemporalFormula.Kind kind = formula.getKind();
+        TemporalFormula target = null;
+        if ((kind == TemporalFormula.Kind.AG || kind == TemporalFormula.Kind.EF) && !formula.getLeft().isTemporal()) {
+            target = kind == TemporalFormula.Kind.AG ? TemporalFormula.not(formula.getLeft()) : formula.getLeft();
+        }
+
+        try (KripkeStructure kripke = new KripkeStructure(labeller, trackFired)) {
+            int found = kripke.explore(target);
+            if (target != null && found >= 0) {
+                // A reachable violation of AG or witness of EF
+                return kind == TemporalFormula.Kind.AG
+                        ? new PropertyResult(PetriNetValidationResult.PetriValidationStatus.FAIL, kripke.size(),
+                                kripke.path(found), null, kripke.markingOf(found))
+                        : new PropertyResult(PetriNetValidationResult.PetriValidationStatus.PASS, kripke.size(),
+                                null, null, null);
+            }
+            if (kripke.timedOut) {
+                return new PropertyResult(PetriNetValidationResult.PetriValidationStatus.INCONCLUSIVE_TIMEOUT,
+                        kripke.size(), null, null, null);
+            }
+            if (kripke.boundReached) {
+                return new PropertyResult(PetriNetValidationResult.PetriValidationStatus.INCONCLUSIVE_BOUND,
+                        kripke.size(), null, null, null);
+            }
+            if (target != null) {
+                // Searched everything without finding a violation of AG or a witness of EF
+                return new PropertyResult(kind == TemporalFormula.Kind.AG
+                        ? PetriNetValidationResult.PetriValidationStatus.PASS
+                        : PetriNetValidationResult.PetriValidationStatus.FAIL, kripke.size(), null, null, null);
+            }
+
+            BitSet satisfied = kripke.evaluate(formula);
+            if (satisfied.get(0)) {
+                return new PropertyResult(PetriNetValidationResult.PetriValidationStatus.PASS, kripke.size(),
+                        null, null, null);
+            }
+            // For AG, point at the nearest state where the invariant fails
+            List<String> path = null;
+            Marking failing = null;
+            if (kind == TemporalFormula.Kind.AG) {
+                BitSet invariant = kripke.evaluate(formula.getLeft());
+                int violating = invariant.nextClearBit(0);
+                if (violating < kripke.size()) {
+                    path = kripke.path(violating);
+                    failing = kripke.markingOf(violating);
+                }
+            }
+            return new PropertyResult(PetriNetValidationResult.PetriValidationStatus.FAIL, kripke.size(),
+                    path, null, failing);
+        }
+    }
+
+    /**
+     * Explored marking graph as a Kripke structure. States are numbered in BFS order from 0 for
+     * the initial state; each keeps its BFS parent and entering transition for witness paths.
+     */
+    private final class KripkeStructure implements AutoCloseable {
+        private final Labeller labeller;
+        private final boolean trackFired;
+        private final VisitedStateStore markings;
+        private final List<CompactMarking> markingById = new ArrayList<>();
+        private final Map<Long, Integer> stateIds = new HashMap<>();
+        private int[] edgeSources = new int[64];
+        private int[] edgeTargets = new int[64];
+        private int edgeCount;
+        private int[] stateMarking = new int[64];
+        private int[] stateFired = new int[64];
+        private int[] parent = new int[64];
+        private int stateCount;
+        private boolean boundReached;
+        private boolean timedOut;
+
+        // Successor lists in compressed sparse row form, built after exploration
+        private int[] offsets;
+        private int[] targets;
+
+        KripkeStructure(Labeller labeller, boolean trackFired) {
+            this.labeller = labeller;
+            this.trackFired = trackFired;
+            this.markings = VisitedStateStore.create(storage, net, Path.of(System.getProperty("java.io.tmpdir")));
+        }
+
+        int size() { return stateCount; }
+
+        /**
+         * Explore breadth-first, stopping at the first state satisfying the target if one is given.
+         *
+         * @return The first state satisfying the target, or -1
+         */
+        int explore(TemporalFormula target) {
+            int[] tokens = new int[net.getPlaceCount()];
+            CompactMarking initial = CompactMarking.initial(net);
+            state(markingId(initial), STUTTER, -1);
+            if (target != null && holds(target, 0, tokens)) {
+                return 0;
+            }
+
+            for (int current = 0; current < stateCount; current++) {
+                if (current % TIMEOUT_CHECK_INTERVAL == 0 && timeout.getAsBoolean()) {
+                    timedOut = true;
+                    return -1;
+                }
+                CompactMarking marking = markingById.get(stateMarking[current]);
+                marking.copyInto(tokens);
+                int[] enabled = net.enabledTransitions(tokens);
+                int[] moves = enabled.length > 0 ? enabled : new int[] {STUTTER};
+                for (int transition : moves) {
+                    CompactMarking next = transition == STUTTER ? marking : marking.fire(transition);
+                    int nextMarking = markingId(next);
+                    if (nextMarking == VisitedStateStore.NOT_FOUND) {
+                        continue;
+                    }
+                    int before = stateCount;
+                    int successor = state(nextMarking, trackFired ? transition : STUTTER, current);
+                    addEdge(current, successor);
+                    if (target != null && successor == before && holds(target, successor, new int[tokens.length])) {
+                        return successor;
+                    }
+                }
+            }
+            return -1;
+        }
+
+        private void addEdge(int source, int target) {
+            if (edgeCount == edgeSources.length) {
+                edgeSources = Arrays.copyOf(edgeSources, edgeCount * 2);
+                edgeTargets = Arrays.copyOf(edgeTargets, edgeCount * 2);
+            }
+            edgeSources[edgeCount] = source;
+            edgeTargets[edgeCount] = target;
+            edgeCount++;
+        }
+
+        private boolean holds(TemporalFormula formula, int state, int[] tokens) {
+            markingById.get(stateMarking[state]).copyInto(tokens);
+            return labeller.holds(formula, tokens, stateFired[state]);
+        }
+
+        private int markingId(CompactMarking marking) {
+            int id = markings.get(marking);
+            if (id != VisitedStateStore.NOT_FOUND) {
+                return id;
+            }
+            if (markingById.size() >= stateBound) {
+                boundReached = true;
+                return VisitedStateStore.NOT_FOUND;
+            }
+            id = markingById.size();
+            markings.putIfAbsent(marking, id);
+            markingById.add(marking);
+            return id;
+        }
+
+        /**
+         * ID of the state for a marking entered by a transition, adding it with its BFS parent if new
+         */
+        private int state(int marking, int fired, int from) {
+            long key = ((long) marking << 32) | (fired & 0xFFFFFFFFL);
+            Integer existing = stateIds.get(key);
+            if (existing != null) {
+                return existing;
+            }
+            if (stateCount == stateMarking.length) {
+                stateMarking = Arrays.copyOf(stateMarking, stateCount * 2);
+                stateFired = Arrays.copyOf(stateFired, stateCount * 2);
+                parent = Arrays.copyOf(parent, stateCount * 2);
+            }
+            stateMarking[stateCount] = marking;
+            stateFired[stateCount] = fired;
+            parent[stateCount] = from;
+            stateIds.put(key, stateCount);
+            return stateCount++;
+        }
+
+        Marking markingOf(int state) {
+            return markingById.get(stateMarking[state]).toMarking();
+        }
+
+        /**
+         * Transitions fired along the BFS tree path from the initial state
+         */
+        List<String> path(int state) {
+            List<String> path = new ArrayList<>();
+            for (int current = state; parent[current] >= 0; current = parent[current]) {
+                int fired = firedInto(current);
+                if (fired != STUTTER) {
+                    path.add(net.transitionId(fired));
+                }
+            }
+            Collections.reverse(path);
+            return path;
+        }
+
+        /**
+         * Transition on the BFS tree edge into a state, recovered from its marking change when not tracked
+         */
+        private int firedInto(int state) {
+            if (trackFired) {
+                return stateFired[state];
+            }
+            int[] from = markingById.get(stateMarking[parent[state]]).toTokenVector();
+            int[] to = markingById.get(stateMarking[state]).toTokenVector();
+            for (int transition : net.enabledTransitions(from)) {
+                if (Arrays.equals(net.fire(transition, from), to)) {
+                    return transition;
+                }
+            }
+            return STUTTER;
+        }
+
+        /**
+         * States satisfying a formula, by structural recursion with fixpoints for the temporal operators
+         */
+        BitSet evaluate(TemporalFormula formula) {
+            if (offsets == null) {
+                buildSuccessors();
+            }
+            switch (formula.getKind()) {
+                case TRUE:
+                    return all();
+                case FALSE:
+                    return new BitSet(stateCount);
+                case ATOM: {
+                    BitSet result = new BitSet(stateCount);
+                    int[] tokens = new int[net.getPlaceCount()];
+                    for (int state = 0; state < stateCount; state++) {
+                        if (holds(formula, state, tokens)) {
+                            result.set(state);
+                        }
+                    }
+                    return result;
+                }
+                case NOT:
+                    return complement(evaluate(formula.getLeft()));
+                case AND: {
+                    BitSet result = evaluate(formula.getLeft());
+                    result.and(evaluate(formula.getRight()));
+                    return result;
+                }
+                case OR: {
+                    BitSet result = evaluate(formula.getLeft());
+                    result.or(evaluate(formula.getRight()));
+                    return result;
+                }
+                case EX:
+                    return existsNext(evaluate(formula.getLeft()));
+                case AX:
+                    return complement(existsNext(complement(evaluate(formula.getLeft()))));
+                case EF:
+                    return existsUntil(all(), evaluate(formula.getLeft()));
+                case AG:
+                    return complement(existsUntil(all(),
+                            complement(evaluate(formula.getLeft()))));
+                case EG:
+                    return existsGlobally(evaluate(formula.getLeft()));
+                case AF:
+                    return complement(existsGlobally(complement(evaluate(formula.getLeft()))));
+                case EU:
+                    return existsUntil(evaluate(formula.getLeft()), evaluate(formula.getRight()));
+                case AU: {
+                    // A[a U b] = !(E[!b U (!a && !b)] || EG !b)
+                    BitSet notA = complement(evaluate(formula.getLeft()));
+                    BitSet notB = complement(evaluate(formula.getRight()));
+                    BitSet neither = (BitSet) notA.clone();
+                    neither.and(notB);
+                    BitSet fails = existsUntil(notB, neither);
+                    fails.or(existsGlobally(notB));
+                    return complement(fails);
+                }
+                default:
+                    throw new IllegalArgumentException("Not a CTL formula: " + formula);
+            }
+        }
+
+        private BitSet all() {
+            BitSet all = new BitSet(stateCount);
+            all.set(0, stateCount);
+            return all;
+        }
+
+        private BitSet complement(BitSet states) {
+            BitSet result = (BitSet) states.clone();
+            result.flip(0, stateCount);
+            return result;
+        }
+
+        private BitSet existsNext(BitSet states) {
+            BitSet result = new BitSet(stateCount);
+            for (int state = 0; state < stateCount; state++) {
+                for (int edge = offsets[state]; edge < offsets[state + 1]; edge++) {
+                    if (states.get(targets[edge])) {
+                        result.set(state);
+                        break;
+                    }
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Least fixpoint: backward search from the goal states through states satisfying the path formula
+         */
+        private BitSet existsUntil(BitSet path, BitSet goal) {
+            int[][] predecessors = predecessors();
+            BitSet result = (BitSet) goal.clone();
+            int[] queue = new int[stateCount];
+            int head = 0;
+            int tail = 0;
+            for (int state = goal.nextSetBit(0); state >= 0; state = goal.nextSetBit(state + 1)) {
+                queue[tail++] = state;
+            }
+            while (head < tail) {
+                int state = queue[head++];
+                for (int predecessor : predecessors[state]) {
+                    if (!result.get(predecessor) && path.get(predecessor)) {
+                        result.set(predecessor);
+                        queue[tail++] = predecessor;
+                    }
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Greatest fixpoint: repeatedly drop states with no successor left in the set
+         */
+        private BitSet existsGlobally(BitSet states) {
+            int[][] predecessors = predecessors();
+            BitSet result = (BitSet) states.clone();
+            int[] remaining = new int[stateCount];
+            int[] queue = new int[stateCount];
+            int tail = 0;
+            for (int state = result.nextSetBit(0); state >= 0; state = result.nextSetBit(state + 1)) {
+                for (int edge = offsets[state]; edge < offsets[state + 1]; edge++) {
+                    if (result.get(targets[edge])) {
+                        remaining[state]++;
+                    }
+                }
+                if (remaining[state] == 0) {
+                    queue[tail++] = state;
+                }
+            }
+            int head = 0;
+            while (head < tail) {
+                int state = queue[head++];
+                result.clear(state);
+                for (int predecessor : predecessors[state]) {
+                    if (result.get(predecessor) && --remaining[predecessor] == 0) {
+                        queue[tail++] = predecessor;
+                    }
+                }
+            }
+            return result;
+        }
+
+        private int[][] predecessorLists;
+
+        private int[][] predecessors() {
+            if (predecessorLists == null) {
+                int[] counts = new int[stateCount];
+                for (int edge = 0; edge < targets.length; edge++) {
+                    counts[targets[edge]]++;
+                }
+                predecessorLists = new int[stateCount][];
+                for (int state = 0; state < stateCount; state++) {
+                    predecessorLists[state] = new int[counts[state]];
+                    counts[state] = 0;
+                }
+                for (int state = 0; state < stateCount; state++) {
+                    for (int edge = offsets[state]; edge < offsets[state + 1]; edge++) {
+                        predecessorLists[targets[edge]][counts[targets[edge]]++] = state;
+                    }
+                }
+            }
+            return predecessorLists;
+        }
+
+        private void buildSuccessors() {
+            offsets = new int[stateCount + 1];
+            for (int edge = 0; edge < edgeCount; edge++) {
+                offsets[edgeSources[edge] + 1]++;
+            }
+            for (int state = 0; state < stateCount; state++) {
+                offsets[state + 1] += offsets[state];
+            }
+            targets = new int[edgeCount];
+            int[] fill = Arrays.copyOf(offsets, stateCount);
+            for (int edge = 0; edge < edgeCount; edge++) {
+                targets[fill[edgeSources[edge]]++] = edgeTargets[edge];
+            }
+        }
+
+        @Override
+        public void close() {
+            markings.close();
+        }
+    }
+
+    /**
+     * Evaluates the atoms of a formula, bound to the net's place and transition indices
+     */
+    private final class Labeller {
+        private final Map<TemporalFormula.Atom, Integer> elements = new HashMap<>();
+
+        Labeller(TemporalFormula formula) {
+            for (TemporalFormula.Atom atom : formula.atoms()) {
+                switch (atom.getType()) {
+                    case FIRED:
+                    case ENABLED:
+                        int transition = net.transitionIndex(atom.getElement());
+                        if (transition < 0) {
+                            throw new IllegalArgumentException("Unknown transition in temporal formula: " +
+                                    atom.getElement());
+                        }
+                        elements.put(atom, transition);
+                        break;
+                    case TOKENS:
+                        int place = net.placeIndex(atom.getElement());
+                        if (place < 0) {
+                            throw new IllegalArgumentException("Unknown place in temporal formula: " +
+                                    atom.getElement());
+                        }
+                        elements.put(atom, place);
+                        break;
+                    default:
+                        elements.put(atom, -1);
+                }
+            }
+        }
+
+        boolean satisfies(TemporalFormula[] literals, int[] tokens, int fired) {
+            for (TemporalFormula literal : literals) {
+                if (!holds(literal, tokens, fired)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Evaluate a formula without temporal operators in a marking entered by a transition
+         */
+        boolean holds(TemporalFormula formula, int[] tokens, int fired) {
+            switch (formula.getKind()) {
+                case TRUE: return true;
+                case FALSE: return false;
+                case NOT: return !holds(formula.getLeft(), tokens, fired);
+                case AND: return holds(formula.getLeft(), tokens, fired) && holds(formula.getRight(), tokens, fired);
+                case OR: return holds(formula.getLeft(), tokens, fired) || holds(formula.getRight(), tokens, fired);
+                case ATOM: {
+                    TemporalFormula.Atom atom = formula.getAtom();
+                    int element = elements.get(atom);
+                    switch (atom.getType()) {
+                        case FIRED: return fired == element;
+                        case ENABLED: return net.isEnabled(element, tokens);
+                        case TOKENS: return atom.compare(tokens[element]);
+                        default: return !net.hasEnabledTransition(tokens);
+                    }
+                }
+                default:
+                    throw new IllegalArgumentException("Temporal operator in a state formula: " + formula);
+            }
+        }
+    }
+
+    /**
+     * Verdict on one property, with a counter-example run when it fails and one is known
+     */
+    public static final class PropertyResult {
+        private final PetriNetValidationResult.PetriValidationStatus status;
+        private final int statesExplored;
+        private final List<String> path;
+        private final List<String> cycle;
+        private final Marking marking;
+
+        PropertyResult(PetriNetValidationResult.PetriValidationStatus status, int statesExplored,
+                       List<String> path, List<String> cycle, Marking marking) {
+            this.status = status;
+            this.statesExplored = statesExplored;
+            this.path = path;
+            this.cycle = cycle;
+            this.marking = marking;
+        }
+
+        public PetriNetValidationResult.PetriValidationStatus getStatus() { return status; }
+        /** Markings generated; the number of CTL states when the formula tracks fired transitions */
+        public int getStatesExplored() { return statesExplored; }
+        /** Transitions fired from the initial marking to the counter-example, or null */
+        public List<String> getPath() { return path; }
+        /** Transitions of the cycle an LTL counter-example repeats after the path, or null; empty when the run stops */
+        public List<String> getCycle() { return cycle; }
+        /** Marking at the end of the path, or null */
+        public Marking getMarking() { return marking; }
+    }
+}
@@ -0,0 +1,680 @@
+package core.petri.validation;
+
+import core.petri.CompiledPetriNet;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+/**
+ * Complete finite prefix of the unfolding of a safe net.
+ *
+ * The unfolding represents runs as a partial order: each event is one occurrence of a
+ * transition, consuming and producing conditions, which are occurrences of tokens in places.
+ * Concurrent transitions yield one event each instead of every interleaving, so the prefix
+ * of a net with n independent branches grows linearly in n where the marking graph grows
+ * exponentially.
+ *
+ * Events are added in the total adequate order of Esparza, Römer and Vogler on their local
+ * configurations (the event and all its causes): by size, then by Parikh vector, then by
+ * Foata normal form. An event whose local configuration reaches the same marking as an
+ * earlier one is a cut-off and is not extended. The resulting prefix is complete: every
+ * reachable marking is the marking of a configuration without cut-off events, and every
+ * transition enabled there occurs as an event extending it.
+ *
+ * Only safe nets are unfolded: unit arc weights, at most one initial token per place, no
+ * capacities and no transitions without input places. Construction gives up when a
+ * reachable marking puts two tokens in a place.
+ *
+ * @author Obvian Labs
+ * @since POC Phase 1
+ */
+public final class Unfolding {
+
+    private static final Logger logger = LoggerFactory.getLogger(Unfolding.class);
+
+    private static final int TIMEOUT_CHECK_INTERVAL = 256;
+
+    private final CompiledPetriNet net;
+
+    // Conditions: place label, producing event (-1 for the initial ones), consuming events, co-relation
+    private final List<Integer> conditionPlace = new ArrayList<>();
+    private final List<Integer> conditionProducer = new ArrayList<>();
+    private final List<List<Integer>> conditionConsumers = new ArrayList<>();
+    private final List<BitSet> concurrent = new ArrayList<>();
+    private final List<List<Integer>> conditionsByPlace = new ArrayList<>();
+
+    // Events: transition label, preset and postset conditions, local configuration, cut-off flag
+    private final List<Integer> eventTransition = new ArrayList<>();
+    private final List<int[]> presets = new ArrayList<>();
+    private final List<int[]> postsets = new ArrayList<>();
+    private final List<BitSet> localConfigurations = new ArrayList<>();
+    private final List<Integer> depths = new ArrayList<>();
+    private final BitSet cutoffs = new BitSet();
+
+    private boolean complete;
+    private boolean timeout;
+
+    private Unfolding(CompiledPetriNet net) {
+        this.net = net;
+        for (int place = 0; place < net.getPlaceCount(); place++) {
+            conditionsByPlace.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Build the complete prefix of a net.
+     *
+     * @param net Net to unfold
+     * @param maxEvents Maximum number of events before construction stops incomplete
+     * @param timeout Whether the time budget is spent; polled during construction
+     * @return The prefix, possibly incomplete, or null if the net is not safe
+     */
+    public static Unfolding unfold(CompiledPetriNet net, int maxEvents, BooleanSupplier timeout) {
+        if (!isUnfoldable(net)) {
+            return null;
+        }
+        Unfolding unfolding = new Unfolding(net);
+        return unfolding.build(maxEvents, timeout) ? unfolding : null;
+    }
+
+    private static boolean isUnfoldable(CompiledPetriNet net) {
+        int[] initial = net.initialTokenVector();
+        for (int place = 0; place < net.getPlaceCount(); place++) {
+            if (initial[place] > 1 || net.capacity(place) != CompiledPetriNet.UNBOUNDED) {
+                return false;
+            }
+        }
+        for (int transition = 0; transition < net.getTransitionCount(); transition++) {
+            if (net.inputPlaces(transition).length == 0) {
+                return false;
+            }
+            for (int weight : net.inputWeights(transition)) {
+                if (weight != 1) {
+                    return false;
+                }
+            }
+            for (int weight : net.outputWeights(transition)) {
+                if (weight != 1) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    public int getEventCount() { return eventTransition.size(); }
+    public int getConditionCount() { return conditionPlace.size(); }
+    public int getCutoffCount() { return cutoffs.cardinality(); }
+    /** Whether construction finished; false when the event bound or timeout stopped it */
+    public boolean isComplete() { return complete; }
+    public boolean isTimeout() { return timeout; }
+
+    /**
+     * Transitions that occur as an event, which are exactly those that can fire once the prefix is complete
+     */
+    public boolean[] occurringTransitions() {
+        boolean[] occurring = new boolean[net.getTransitionCount()];
+        for (int transition : eventTransition) {
+            occurring[transition] = true;
+        }
+        return occurring;
+    }
+
+    /**
+     * Run marking one of the given places, through the local configuration of the first
+     * condition in the prefix labelled with one
+     *
+     * @return The run, or null if no reachable marking marks such a place
+     */
+    public Run runMarking(IntPredicate place) {
+        for (int condition = 0; condition < conditionPlace.size(); condition++) {
+            if (place.test(conditionPlace.get(condition))) {
+                int producer = conditionProducer.get(condition);
+                BitSet events = new BitSet();
+                if (producer >= 0) {
+                    events.or(localConfigurations.get(producer));
+                }
+                return run(events);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Search the configurations without cut-off events for dead ones, which represent every
+     * reachable marking without enabled transitions.
+     *
+     * @param terminal Whether a dead marking is a proper end of the net rather than a deadlock
+     * @param findDeadlock Whether to look for a dead marking that is not terminal
+     * @param findTerminal Whether to look for a dead marking that is terminal
+     * @param timeout Whether the time budget is spent; polled during the search
+     */
+    public DeadRuns findDeadRuns(Predicate<int[]> terminal, boolean findDeadlock, boolean findTerminal,
+                                 BooleanSupplier timeout) {
+        DeadRunSearch search = new DeadRunSearch(terminal, findDeadlock, findTerminal, timeout);
+        search.search();
+        return new DeadRuns(search.deadlock, search.terminalRun, search.timedOut, search.configurations);
+    }
+
+    // Construction
+
+    private boolean build(int maxEvents, BooleanSupplier timeoutReached) {
+        int[] initial = net.initialTokenVector();
+        Set<Marking> markings = new HashSet<>();
+        markings.add(new Marking(initial));
+
+        PriorityQueue<Candidate> extensions = new PriorityQueue<>(ADEQUATE_ORDER);
+        int[] initialConditions = new int[Arrays.stream(initial).sum()];
+        int count = 0;
+        for (int place = 0; place < initial.length; place++) {
+            if (initial[place] > 0) {
+                initialConditions[count++] = addCondition(place, -1);
+            }
+        }
+        for (int condition : initialConditions) {
+            for (int other : initialConditions) {
+                if (other != condition) {
+                    concurrent.get(condition).set(other);
+                }
+            }
+        }
+        for (int condition : initialConditions) {
+            addExtensions(condition, extensions);
+        }
+
+        int step = 0;
+        while (!extensions.isEmpty()) {
+            if (eventTransition.size() >= maxEvents) {
+                logger.debug("Unfolding stopped at {} events", eventTransition.size());
+                return true;
+            }
+            if (++step % TIMEOUT_CHECK_INTERVAL == 0 && timeoutReached.getAsBoolean()) {
+                timeout = true;
+                return true;
+            }
+
+            Candidate candidate = extensions.poll();
+            int event = eventTransition.size();
+            int transition = candidate.transition;
+            eventTransition.add(transition);
+            presets.add(candidate.preset);
+            candidate.local.set(event);
+            localConfigurations.add(candidate.local);
+            depths.add(candidate.depth);
+            for (int condition : candidate.preset) {
+                conditionConsumers.get(condition).add(event);
+            }
+
+            int[] tokens = initial.clone();
+            for (int cause = candidate.local.nextSetBit(0); cause >= 0; cause = candidate.local.nextSetBit(cause + 1)) {
+                net.fireInPlace(eventTransition.get(cause), tokens);
+            }
+            for (int place = 0; place < tokens.length; place++) {
+                if (tokens[place] > 1) {
+                    logger.debug("Not unfolding: place {} can hold {} tokens", net.placeId(place), tokens[place]);
+                    return false;
+                }
+            }
+            boolean cutoff = !markings.add(new Marking(tokens));
+
+            int[] outputs = net.outputPlaces(transition);
+            int[] postset = new int[outputs.length];
+            for (int i = 0; i < outputs.length; i++) {
+                postset[i] = addCondition(outputs[i], event);
+            }
+            postsets.add(postset);
+            if (cutoff) {
+                // Conditions of a cut-off are not concurrent to anything, so nothing extends them
+                cutoffs.set(event);
+                continue;
+            }
+
+            // A new condition is concurrent to whatever is concurrent to every consumed one, and to its siblings
+            BitSet shared = null;
+            for (int condition : candidate.preset) {
+                if (shared == null) {
+                    shared = (BitSet) concurrent.get(condition).clone();
+                } else {
+                    shared.and(concurrent.get(condition));
+                }
+            }
+            for (int condition : postset) {
+                BitSet co = concurrent.get(condition);
+                co.or(shared);
+                for (int sibling : postset) {
+                    if (sibling != condition) {
+                        co.set(sibling);
+                    }
+                }
+                for (int other = shared.nextSetBit(0); other >= 0; other = shared.nextSetBit(other + 1)) {
+                    if (conditionPlace.get(other).equals(conditionPlace.get(condition))) {
+                        logger.debug("Not unfolding: place {} can hold two tokens", net.placeId(conditionPlace.get(other)));
+                        return false;
+                    }
+                    concurrent.get(other).set(condition);
+                }
+            }
+            for (int condition : postset) {
+                addExtensions(condition, extensions);
+            }
+        }
+        complete = true;
+        logger.debug("Unfolding complete: {} events, {} conditions, {} cut-offs",
+                eventTransition.size(), conditionPlace.size(), cutoffs.cardinality());
+        return true;
+    }
+
+    private int addCondition(int place, int producer) {
+        int condition = conditionPlace.size();
+        conditionPlace.add(place);
+        conditionProducer.add(producer);
+        conditionConsumers.add(new ArrayList<>());
+        concurrent.add(new BitSet());
+        conditionsByPlace.get(place).add(condition);
+        return condition;
+    }
+
+    /**
+     * Queue the events whose preset contains a new condition and otherwise only older ones,
+     * so each possible extension is generated once, from its newest condition
+     */
+    private void addExtensions(int condition, PriorityQueue<Candidate> extensions) {
+        int place = conditionPlace.get(condition);
+        BitSet co = concurrent.get(condition);
+        for (int transition : net.consumers(place)) {
+            int[] inputs = net.inputPlaces(transition);
+            int[][] choices = new int[inputs.length][];
+            boolean possible = true;
+            for (int i = 0; i < inputs.length && possible; i++) {
+                if (inputs[i] == place) {
+                    choices[i] = new int[] {condition};
+                    continue;
+                }
+                choices[i] = conditionsByPlace.get(inputs[i]).stream()
+                        .filter(other -> other < condition && co.get(other))
+                        .mapToInt(Integer::intValue).toArray();
+                possible = choices[i].length > 0;
+            }
+            if (possible) {
+                addCombinations(transition, choices, new int[inputs.length], 0, extensions);
+            }
+        }
+    }
+
+    private void addCombinations(int transition, int[][] choices, int[] preset, int index,
+                                 PriorityQueue<Candidate> extensions) {
+        if (index == choices.length) {
+            extensions.add(candidate(transition, preset.clone()));
+            return;
+        }
+        for (int condition : choices[index]) {
+            boolean pairwiseConcurrent = true;
+            for (int i = 0; i < index && pairwiseConcurrent; i++) {
+                pairwiseConcurrent = concurrent.get(preset[i]).get(condition);
+            }
+            if (pairwiseConcurrent) {
+                preset[index] = condition;
+                addCombinations(transition, choices, preset, index + 1, extensions);
+            }
+        }
+    }
+
+    private Candidate candidate(int transition, int[] preset) {
+        BitSet local = new BitSet();
+        int depth = 0;
+        for (int condition : preset) {
+            int producer = conditionProducer.get(condition);
+            if (producer >= 0) {
+                local.or(localConfigurations.get(producer));
+                depth = Math.max(depth, depths.get(producer));
+            }
+        }
+        depth++;
+
+        // Parikh vector and Foata levels of the local configuration, as sorted transition sequences
+        int size = local.cardinality() + 1;
+        int[] parikh = new int[size];
+        List<List<Integer>> levels = new ArrayList<>();
+        for (int i = 0; i < depth; i++) {
+            levels.add(new ArrayList<>());
+        }
+        int count = 0;
+        for (int event = local.nextSetBit(0); event >= 0; event = local.nextSetBit(event + 1)) {
+            parikh[count++] = eventTransition.get(event);
+            levels.get(depths.get(event) - 1).add(eventTransition.get(event));
+        }
+        parikh[count] = transition;
+        levels.get(depth - 1).add(transition);
+        Arrays.sort(parikh);
+        int[][] foata = new int[depth][];
+        for (int i = 0; i < depth; i++) {
+            foata[i] = levels.get(i).stream().mapToInt(Integer::intValue).sorted().toArray();
+        }
+        return new Candidate(transition, preset, local, depth, parikh, foata);
+    }
+
+    /**
+     * Possible extension: a transition with a set of concurrent conditions to consume
+     */
+    private static final class Candidate {
+        private final int transition;
+        private final int[] preset;
+        private final BitSet local; // Causes; the event itself is added once it has an index
+        private final int depth;
+        private final int[] parikh;
+        private final int[][] foata;
+
+        Candidate(int transition, int[] preset, BitSet local, int depth, int[] parikh, int[][] foata) {
+            this.transition = transition;
+            this.preset = preset;
+            this.local = local;
+            this.depth = depth;
+            this.parikh = parikh;
+            this.foata = foata;
+        }
+    }
+
+    /**
+     * Total adequate order of Esparza, Römer and Vogler on local configurations
+     */
+    private static final Comparator<Candidate> ADEQUATE_ORDER = (a, b) -> {
+        if (a.parikh.length != b.parikh.length) {
+            return Integer.compare(a.parikh.length, b.parikh.length);
+        }
+        int parikh = Arrays.compare(a.parikh, b.parikh);
+        if (parikh != 0) {
+            return parikh;
+        }
+        for (int level = 0; level < Math.min(a.foata.length, b.foata.length); level++) {
+            int foata = Arrays.compare(a.foata[level], b.foata[level]);
+            if (foata != 0) {
+                return foata;
+            }
+        }
+        return Integer.compare(a.foata.length, b.foata.length);
+    };
+
+    /**
+     * Token vector as a hash key
+     */
+    private static final class Marking {
+        private final int[] tokens;
+        private final int hash;
+
+        Marking(int[] tokens) {
+            this.tokens = tokens;
+            this.hash = Arrays.hashCode(tokens);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Marking && Arrays.equals(tokens, ((Marking) o).tokens);
+        }
+
+        @Override
+        public int hashCode() { return hash; }
+    }
+
+    // Dead configuration search
+
+    /**
+     * Depth-first search over configurations without cut-off events. At each step one event
+     * enabled by the current cut is either added, or excluded for good by adding a conflicting
+     * event with its causes; a cut enabling no event is dead. Every dead configuration extends
+     * through one of these choices, so the search finds all of them, and a conflict-free net
+     * takes a single branch.
+     */
+    private final class DeadRunSearch {
+        private final Predicate<int[]> terminal;
+        private boolean findDeadlock;
+        private boolean findTerminal;
+        private final BooleanSupplier timeoutReached;
+
+        private final BitSet configuration = new BitSet();
+        private final BitSet cut = new BitSet();
+        private final BitSet consumed = new BitSet();
+        private final BitSet excluded = new BitSet();
+
+        private Run deadlock;
+        private Run terminalRun;
+        private boolean timedOut;
+        private int configurations;
+
+        DeadRunSearch(Predicate<int[]> terminal, boolean findDeadlock, boolean findTerminal,
+                      BooleanSupplier timeoutReached) {
+            this.terminal = terminal;
+            this.findDeadlock = findDeadlock;
+            this.findTerminal = findTerminal;
+            this.timeoutReached = timeoutReached;
+            for (int condition = 0; condition < conditionPlace.size(); condition++) {
+                if (conditionProducer.get(condition) < 0) {
+                    cut.set(condition);
+                }
+            }
+        }
+
+        void search() {
+            if (findDeadlock || findTerminal) {
+                searchFrom();
+            }
+        }
+
+        /**
+         * @return Whether the search is over
+         */
+        private boolean searchFrom() {
+            if (++configurations % TIMEOUT_CHECK_INTERVAL == 0 && timeoutReached.getAsBoolean()) {
+                timedOut = true;
+                return true;
+            }
+
+            int enabled = enabledEvent();
+            if (enabled < 0) {
+                return dead();
+            }
+
+            // The enabled event stays in the configuration ...
+            if (!excluded.get(enabled) && !cutoffs.get(enabled)) {
+                add(enabled);
+                boolean done = searchFrom();
+                remove(enabled);
+                if (done) {
+                    return true;
+                }
+            }
+
+            // ... or an event consuming one of its conditions takes its place
+            boolean wasExcluded = excluded.get(enabled);
+            excluded.set(enabled);
+            List<Integer> tried = new ArrayList<>();
+            boolean done = false;
+            for (int condition : presets.get(enabled)) {
+                for (int rival : conditionConsumers.get(condition)) {
+                    if (rival == enabled || cutoffs.get(rival) || excluded.get(rival)) {
+                        continue;
+                    }
+                    BitSet causes = (BitSet) localConfigurations.get(rival).clone();
+                    causes.andNot(configuration);
+                    if (!canAdd(causes)) {
+                        continue;
+                    }
+                    for (int event = causes.nextSetBit(0); event >= 0; event = causes.nextSetBit(event + 1)) {
+                        add(event);
+                    }
+                    done = searchFrom();
+                    for (int event = causes.previousSetBit(causes.length()); event >= 0;
+                         event = causes.previousSetBit(event - 1)) {
+                        remove(event);
+                    }
+                    if (done) {
+                        break;
+                    }
+                    // Later alternatives cover the configurations without this rival
+                    excluded.set(rival);
+                    tried.add(rival);
+                }
+                if (done) {
+                    break;
+                }
+            }
+            for (int rival : tried) {
+                excluded.clear(rival);
+            }
+            excluded.set(enabled, wasExcluded);
+            return done;
+        }
+
+        /**
+         * An event enabled by the current cut, preferring excluded ones, which leave a single choice; -1 if none
+         */
+        private int enabledEvent() {
+            int found = -1;
+            for (int condition = cut.nextSetBit(0); condition >= 0; condition = cut.nextSetBit(condition + 1)) {
+                for (int event : conditionConsumers.get(condition)) {
+                    if (isEnabled(event)) {
+                        if (excluded.get(event)) {
+                            return event;
+                        }
+                        if (found < 0 || event < found) {
+                            found = event;
+                        }
+                    }
+                }
+            }
+            return found;
+        }
+
+        private boolean isEnabled(int event) {
+            for (int condition : presets.get(event)) {
+                if (!cut.get(condition)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Whether events not yet in the configuration can join it: none excluded and none
+         * consuming a condition the configuration already consumed
+         */
+        private boolean canAdd(BitSet events) {
+            if (events.intersects(excluded)) {
+                return false;
+            }
+            for (int event = events.nextSetBit(0); event >= 0; event = events.nextSetBit(event + 1)) {
+                for (int condition : presets.get(event)) {
+                    if (consumed.get(condition)) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        private void add(int event) {
+            configuration.set(event);
+            for (int condition : presets.get(event)) {
+                cut.clear(condition);
+                consumed.set(condition);
+            }
+            for (int condition : postsets.get(event)) {
+                cut.set(condition);
+            }
+        }
+
+        private void remove(int event) {
+            configuration.clear(event);
+            for (int condition : postsets.get(event)) {
+                cut.clear(condition);
+            }
+            for (int condition : presets.get(event)) {
+                consumed.clear(condition);
+                cut.set(condition);
+            }
+        }
+
+        /**
+         * Record a dead configuration; the search is over once every wanted kind is found
+         */
+        private boolean dead() {
+            Run run = run(configuration);
+            if (terminal.test(run.getTokens())) {
+                if (findTerminal) {
+                    terminalRun = run;
+                    findTerminal = false;
+                }
+            } else if (findDeadlock) {
+                deadlock = run;
+                findDeadlock = false;
+            }
+            return !findDeadlock && !findTerminal;
+        }
+    }
+
+    /**
+     * Firing sequence of a configuration, its events in the order they were added, and the marking it reaches
+     */
+    private Run run(BitSet events) {
+        int[] tokens = net.initialTokenVector();
+        int[] transitions = new int[events.cardinality()];
+        int count = 0;
+        for (int event = events.nextSetBit(0); event >= 0; event = events.nextSetBit(event + 1)) {
+            transitions[count++] = eventTransition.get(event);
+            net.fireInPlace(eventTransition.get(event), tokens);
+        }
+        return new Run(transitions, tokens);
+    }
+
+    /**
+     * A firing sequence from the initial marking and the marking it reaches
+     */
+    public static final class Run {
+        private final int[] transitions;
+        private final int[] tokens;
+
+        Run(int[] transitions, int[] tokens) {
+            this.transitions = transitions;
+            this.tokens = tokens;
+        }
+
+        public int[] getTransitions() { return transitions.clone(); }
+        public int[] getTokens() { return tokens.clone(); }
+    }
+
+    /**
+     * Outcome of the dead configuration search
+     */
+    public static final class DeadRuns {
+        private final Run deadlock;
+        private final Run terminal;
+        private final boolean timeout;
+        private final int configurationsExamined;
+
+        DeadRuns(Run deadlock, Run terminal, boolean timeout, int configurationsExamined) {
+            this.deadlock = deadlock;
+            this.terminal = terminal;
+            this.timeout = timeout;
+            this.configurationsExamined = configurationsExamined;
+        }
+
+        /** Run to a dead marking that is not terminal, or null if none was found */
+        public Run getDeadlock() { return deadlock; }
+        /** Run to a dead terminal marking, or null if none was found */
+        public Run getTerminal() { return terminal; }
+        /** Whether the timeout cut the search short, leaving the missing runs undecided */
+        public boolean isTimeout() { return timeout; }
+        public int getConfigurationsExamined() { return configurationsExamined; }
+    }
+}
@@ -0,0 +1,229 @@
+package core.petri.validation;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import core.petri.PetriNet;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+
+/**
+ * Bounded cache of validation results keyed by Petri net content hash and validation config.
+ *
+ * The same workflow is typically re-validated on every pull request, so results are kept in a
+ * local Caffeine cache with size and time-to-live eviction, backed by an optional shared
+ * second tier such as Redis. Concurrent requests for the same key are coalesced: the first
+ * caller validates on its own thread and the others wait for its result.
+ *
+ * Results that depend on wall-clock time (any check that ran into the timeout) and error
+ * results are handed to waiting callers but not retained.
+ *
+ * @author Obvian Labs
+ * @since POC Phase 1
+ */
+public class ValidationResultCache implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(ValidationResultCache.class);
+
+    /**
+     * Shared cache tier consulted after a local miss
+     */
+    public interface SecondTier {
+        /**
+         * @return The cached result, or null on a miss
+         */
+        PetriNetValidationResult get(String key);
+
+        void put(String key, PetriNetValidationResult result, Duration ttl);
+    }
+
+    private final AsyncCache<CacheKey, PetriNetValidationResult> cache;
+    private final Duration ttl;
+    private final SecondTier secondTier;
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder secondTierHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    public ValidationResultCache(long maximumSize, Duration ttl, SecondTier secondTier) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .buildAsync();
+        this.ttl = ttl;
+        this.secondTier = secondTier;
+    }
+
+    /**
+     * Return the cached result for a net and config, validating on a miss.
+     *
+     * @param petriNet the Petri net to validate
+     * @param config validation configuration, part of the cache key
+     * @param validator computes the result on a miss
+     * @return cached or freshly computed validation result
+     */
+    public PetriNetValidationResult get(PetriNet petriNet, PetriNetValidationResult.ValidationConfig config,
+                                        BiFunction<PetriNet, PetriNetValidationResult.ValidationConfig, PetriNetValidationResult> validator) {
+        String contentHash = petriNet.getContentHash();
+        if (contentHash == null) {
+            return validator.apply(petriNet, config);
+        }
+
+        CacheKey key = new CacheKey(petriNet.getId(), contentHash, config);
+        CompletableFuture<PetriNetValidationResult> pending = new CompletableFuture<>();
+        CompletableFuture<PetriNetValidationResult> existing = cache.asMap().putIfAbsent(key, pending);
+        if (existing != null) {
+            if (existing.isDone()) {
+                localHits.increment();
+            } else {
+                coalesced.increment();
+            }
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                // The leading request failed; validate independently rather than propagate its error
+                return validator.apply(petriNet, config);
+            }
+        }
+
+        try {
+            PetriNetValidationResult result = loadSecondTier(key);
+            if (result != null) {
+                secondTierHits.increment();
+            } else {
+                misses.increment();
+                result = validator.apply(petriNet, config);
+                if (isCacheable(result)) {
+                    storeSecondTier(key, result);
+                }
+            }
+
+            pending.complete(result);
+            if (!isCacheable(result)) {
+                cache.asMap().remove(key, pending);
+            }
+            return result;
+
+        } catch (RuntimeException | Error e) {
+            cache.asMap().remove(key, pending);
+            pending.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Drop every locally cached result
+     */
+    public void invalidateAll() {
+        cache.synchronous().invalidateAll();
+    }
+
+    public long getLocalHitCount() { return localHits.sum(); }
+    public long getSecondTierHitCount() { return secondTierHits.sum(); }
+    public long getMissCount() { return misses.sum(); }
+    public long getCoalescedCount() { return coalesced.sum(); }
+    public long getSize() { return cache.synchronous().estimatedSize(); }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("petri.validation.cache.requests", localHits, LongAdder::sum)
+                .tag("result", "hit").tag("tier", "local")
+                .description("Validation requests answered from the local cache")
+                .register(registry);
+        FunctionCounter.builder("petri.validation.cache.requests", secondTierHits, LongAdder::sum)
+                .tag("result", "hit").tag("tier", "second")
+                .description("Validation requests answered from the second cache tier")
+                .register(registry);
+        FunctionCounter.builder("petri.validation.cache.requests", misses, LongAdder::sum)
+                .tag("result", "miss").tag("tier", "none")
+                .description("Validation requests that ran a validation")
+                .register(registry);
+        FunctionCounter.builder("petri.validation.cache.requests", coalesced, LongAdder::sum)
+                .tag("result", "coalesced").tag("tier", "local")
+                .description("Validation requests that waited for an identical in-flight validation")
+                .register(registry);
+        Gauge.builder("petri.validation.cache.size", this, ValidationResultCache::getSize)
+                .description("Estimated number of locally cached validation results")
+                .register(registry);
+    }
+
+    private PetriNetValidationResult loadSecondTier(CacheKey key) {
+        if (secondTier == null) {
+            return null;
+        }
+        try {
+            return secondTier.get(key.asString());
+        } catch (Exception e) {
+            logger.warn("Second tier lookup failed for {}: {}", key.asString(), e.getMessage());
+            return null;
+        }
+    }
+
+    private void storeSecondTier(CacheKey key, PetriNetValidationResult result) {
+        if (secondTier == null) {
+            return;
+        }
+        try {
+            secondTier.put(key.asString(), result, ttl);
+        } catch (Exception e) {
+            logger.warn("Second tier store failed for {}: {}", key.asString(), e.getMessage());
+        }
+    }
+
+    /**
+     * Whether a result is a deterministic function of net and config
+     */
+    private static boolean isCacheable(PetriNetValidationResult result) {
+        if (result == null || result.getChecks().isEmpty()) {
+            return false; // Validation error results carry no checks
+        }
+        return result.getChecks().values().stream()
+                .noneMatch(check -> check.getStatus() == PetriNetValidationResult.PetriValidationStatus.INCONCLUSIVE_TIMEOUT);
+    }
+
+    /**
+     * Cache key: net ID (echoed in results), content hash and validation config
+     */
+    private static final class CacheKey {
+        private final String netId;
+        private final String contentHash;
+        private final PetriNetValidationResult.ValidationConfig config;
+
+        CacheKey(String netId, String contentHash, PetriNetValidationResult.ValidationConfig config) {
+            this.netId = netId;
+            this.contentHash = contentHash;
+            this.config = config;
+        }
+
+        String asString() {
+            return netId + ":" + contentHash + ":" + config;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            CacheKey that = (CacheKey) o;
+            return Objects.equals(netId, that.netId) &&
+                   contentHash.equals(that.contentHash) &&
+                   config.equals(that.config);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(netId, contentHash, config);
+        }
+    }
+}
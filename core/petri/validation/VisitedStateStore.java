@@ -0,0 +1,61 @@
+package core.petri.validation;
+
+import core.petri.CompactMarking;
+import core.petri.CompiledPetriNet;
+
+import java.io.Closeable;
+import java.nio.file.Path;
+
+/**
+ * Set of visited markings used by state space exploration, mapping each marking to the
+ * ID of its state in the witness tree.
+ *
+ * The heap backend is a plain hash map. The off-heap backends keep markings outside
+ * the Java heap so very large explorations neither exhaust the heap nor add GC pauses.
+ *
+ * @author Obvian Labs
+ * @since POC Phase 1
+ */
+public interface VisitedStateStore extends Closeable {
+
+    int NOT_FOUND = -1;
+
+    /**
+     * Record a marking with its state ID unless it is already present.
+     *
+     * @return The existing state ID, or {@link #NOT_FOUND} if the marking was added
+     */
+    int putIfAbsent(CompactMarking marking, int stateId);
+
+    /**
+     * @return The state ID of a visited marking, or {@link #NOT_FOUND}
+     */
+    int get(CompactMarking marking);
+
+    /**
+     * Number of markings stored
+     */
+    long size();
+
+    /**
+     * Release the memory and any temporary files held by the store
+     */
+    @Override
+    void close();
+
+    /**
+     * Create a store for the given storage backend, placing temporary files in the
+     * directory when the backend is memory-mapped.
+     */
+    static VisitedStateStore create(PetriNetValidationResult.StateStorage storage, CompiledPetriNet net,
+                                    Path directory) {
+        switch (storage) {
+            case OFF_HEAP:
+                return new OffHeapVisitedStateStore(net, null);
+            case MEMORY_MAPPED:
+                return new OffHeapVisitedStateStore(net, directory);
+            default:
+                return new HeapVisitedStateStore();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/* Copyright (c) 2025 Rishabh Pathak. Licensed under the MIT License. */
+
+package core.petri;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for CompactMarking
+ *
+ * Tests cover:
+ * - Successor computation equivalent to PetriNet.fireTransition
+ * - Incrementally maintained hash and canonical packing widths
+ * - Equality only within one compiled net
+ * - JSON shape identical to Marking
+ *
+ * @author Obvian Labs
+ * @since POC Phase 1
+ */
+@DisplayName("CompactMarking Tests")
+class CompactMarkingTest {
+
+  private PetriNet petriNet;
+  private CompiledPetriNet compiled;
+
+  @BeforeEach
+  void setUp() {
+    petriNet =
+        PetriNet.builder()
+            .name("Producer")
+            .addPlace(new Place("source"))
+            .addPlace(new Place("sink"))
+            .addTransition(new Transition("produce"))
+            .addArc("source", "produce")
+            .addArc("produce", "sink", 200)
+            .addInitialToken("source", 2)
+            .build();
+    compiled = petriNet.compile();
+  }
+
+  @Test
+  @DisplayName("Should fire transitions like PetriNet and widen packing on overflow")
+  void shouldFireAndWiden() {
+    CompactMarking initial = CompactMarking.initial(compiled);
+    int produce = compiled.transitionIndex("produce");
+
+    CompactMarking next = initial.fire(produce).fire(produce);
+
+    assertThat(initial.getWidth()).isEqualTo(1);
+    assertThat(next.getWidth()).isEqualTo(2);
+    assertThat(next.get(compiled.placeIndex("sink"))).isEqualTo(400);
+    Marking expected =
+        petriNet.fireTransition(
+            "produce", petriNet.fireTransition("produce", petriNet.getInitialMarking()));
+    assertThat(next.toMarking()).isEqualTo(expected);
+  }
+
+  @Test
+  @DisplayName("Should keep incremental hash consistent with a freshly built marking")
+  void shouldMaintainIncrementalHash() {
+    CompactMarking fired = CompactMarking.initial(compiled).fire(compiled.transitionIndex("produce"));
+    CompactMarking rebuilt = CompactMarking.of(compiled, fired.toMarking());
+
+    assertThat(fired).isEqualTo(rebuilt);
+    assertThat(fired.hashCode()).isEqualTo(rebuilt.hashCode());
+    assertThat(fired).isNotEqualTo(CompactMarking.initial(compiled));
+  }
+
+  @Test
+  @DisplayName("Should narrow packing when a firing drains the largest counts")
+  void shouldNarrowAfterDraining() {
+    PetriNet drain =
+        PetriNet.builder()
+            .addPlace(new Place("source"))
+            .addPlace(new Place("sink"))
+            .addTransition(new Transition("drain"))
+            .addArc("sink", "drain", 300)
+            .addInitialToken("sink", 400)
+            .build();
+    CompiledPetriNet net = drain.compile();
+    CompactMarking initial = CompactMarking.initial(net);
+
+    CompactMarking drained = initial.fire(net.transitionIndex("drain"));
+
+    assertThat(initial.getWidth()).isEqualTo(2);
+    assertThat(drained.getWidth()).isEqualTo(1);
+    assertThat(drained).isEqualTo(CompactMarking.of(net, drained.toTokenVector()));
+    assertThat(drained.hashCode())
+        .isEqualTo(CompactMarking.of(net, drained.toTokenVector()).hashCode());
+  }
+
+  @Test
+  @DisplayName("Should not compare equal to markings of another net")
+  void shouldNotEqualMarkingsOfAnotherNet() {
+    PetriNet other =
+        PetriNet.builder()
+            .addPlace(new Place("source"))
+            .addPlace(new Place("sink"))
+            .addInitialToken("source", 2)
+            .build();
+
+    assertThat(CompactMarking.initial(other.compile())).isNotEqualTo(CompactMarking.initial(compiled));
+  }
+
+  @Test
+  @DisplayName("Should serialize with the same JSON shape as Marking")
+  void shouldSerializeLikeMarking() throws Exception {
+    ObjectMapper mapper = new ObjectMapper();
+
+    assertThat(mapper.writeValueAsString(CompactMarking.initial(compiled)))
+        .isEqualTo(mapper.writeValueAsString(petriNet.getInitialMarking()));
+  }
+}
@@ -0,0 +1,111 @@
+/* Copyright (c) 2025 Rishabh Pathak. Licensed under the MIT License. */
+
+package core.petri;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for CompiledPetriNet
+ *
+ * Tests cover:
+ * - Dense index interning for places and transitions
+ * - Precomputed pre/post incidence and capacity handling
+ * - Firing semantics equivalent to PetriNet string-based API
+ * - Marking conversion round trips
+ *
+ * @author Obvian Labs
+ * @since POC Phase 1
+ */
+@DisplayName("CompiledPetriNet Tests")
+class CompiledPetriNetTest {
+
+  private PetriNet petriNet;
+  private CompiledPetriNet compiled;
+
+  @BeforeEach
+  void setUp() {
+    petriNet =
+        PetriNet.builder()
+            .name("Fork Join")
+            .addPlace(new Place("start"))
+            .addPlace(new Place("left"))
+            .addPlace(new Place("right", "Right", 1))
+            .addPlace(new Place("end"))
+            .addTransition(new Transition("fork"))
+            .addTransition(new Transition("join"))
+            .addArc("start", "fork")
+            .addArc("fork", "left")
+            .addArc("fork", "right")
+            .addArc("left", "join")
+            .addArc("right", "join")
+            .addArc("join", "end", 2)
+            .addInitialToken("start", 1)
+            .build();
+    compiled = petriNet.compile();
+  }
+
+  @Test
+  @DisplayName("Should intern place and transition IDs to dense indices")
+  void shouldInternIds() {
+    assertThat(compiled.getPlaceCount()).isEqualTo(4);
+    assertThat(compiled.getTransitionCount()).isEqualTo(2);
+    assertThat(compiled.placeId(compiled.placeIndex("right"))).isEqualTo("right");
+    assertThat(compiled.transitionId(compiled.transitionIndex("join"))).isEqualTo("join");
+    assertThat(compiled.placeIndex("missing")).isEqualTo(-1);
+    assertThat(compiled.transitionIndex("missing")).isEqualTo(-1);
+  }
+
+  @Test
+  @DisplayName("Should cache compiled net on the PetriNet")
+  void shouldCacheCompiledNet() {
+    assertThat(petriNet.compile()).isSameAs(compiled);
+  }
+
+  @Test
+  @DisplayName("Should precompute incidence and producer/consumer structure")
+  void shouldPrecomputeIncidence() {
+    int fork = compiled.transitionIndex("fork");
+    int join = compiled.transitionIndex("join");
+    int end = compiled.placeIndex("end");
+
+    assertThat(compiled.inputPlaces(fork)).containsExactly(compiled.placeIndex("start"));
+    assertThat(compiled.outputPlaces(fork))
+        .containsExactly(compiled.placeIndex("left"), compiled.placeIndex("right"));
+    assertThat(compiled.outputWeights(join)).containsExactly(2);
+    assertThat(compiled.producers(end)).containsExactly(join);
+    assertThat(compiled.consumers(end)).isEmpty();
+    assertThat(compiled.capacity(compiled.placeIndex("right"))).isEqualTo(1);
+    assertThat(compiled.capacity(end)).isEqualTo(CompiledPetriNet.UNBOUNDED);
+  }
+
+  @Test
+  @DisplayName("Should fire transitions with the same semantics as PetriNet")
+  void shouldFireLikePetriNet() {
+    int[] tokens = compiled.initialTokenVector();
+    int fork = compiled.transitionIndex("fork");
+    int join = compiled.transitionIndex("join");
+
+    assertThat(compiled.enabledTransitions(tokens)).containsExactly(fork);
+    int[] afterFork = compiled.fire(fork, tokens);
+    assertThat(compiled.toMarking(afterFork))
+        .isEqualTo(petriNet.fireTransition("fork", petriNet.getInitialMarking()));
+
+    int[] afterJoin = compiled.fire(join, afterFork);
+    assertThat(afterJoin[compiled.placeIndex("end")]).isEqualTo(2);
+    assertThat(compiled.isTerminal(afterJoin)).isTrue();
+    assertThat(tokens[compiled.placeIndex("start")]).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should block firing when an output place is at capacity")
+  void shouldRespectCapacity() {
+    int[] tokens = compiled.toTokenVector(Marking.builder().addTokens("start", 1).addTokens("right", 1).build());
+
+    assertThat(compiled.isEnabled(compiled.transitionIndex("fork"), tokens)).isFalse();
+    assertThat(petriNet.isEnabled("fork", compiled.toMarking(tokens))).isFalse();
+  }
+}
@@ -0,0 +1,107 @@
+/* Copyright (c) 2025 Rishabh Pathak. Licensed under the MIT License. */
+
+package core.petri;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for PetriNetDelta
+ *
+ * Tests cover:
+ * - Adding places, transitions, arcs and tokens in order
+ * - Removing elements together with their arcs and tokens
+ * - Rejection of edits that do not apply to the base net
+ *
+ * @author Obvian Labs
+ * @since POC Phase 1
+ */
+@DisplayName("PetriNetDelta Tests")
+class PetriNetDeltaTest {
+
+  private static PetriNet linearNet() {
+    return PetriNet.builder()
+        .name("Linear")
+        .addPlace(new Place("p_start"))
+        .addPlace(new Place("p_done"))
+        .addTransition(new Transition("t_run"))
+        .addArc("p_start", "t_run")
+        .addArc("t_run", "p_done")
+        .addInitialToken("p_start", 1)
+        .build();
+  }
+
+  @Test
+  @DisplayName("Should apply additions in order to a new net")
+  void shouldApplyAdditions() {
+    PetriNet base = linearNet();
+
+    PetriNet edited =
+        PetriNetDelta.builder()
+            .addPlace(new Place("p_retry"))
+            .addTransition(new Transition("t_retry"))
+            .addArc("p_done", "t_retry")
+            .addArc("t_retry", "p_retry")
+            .addTokens("p_start", 2)
+            .build()
+            .applyTo(base);
+
+    assertThat(edited.getPlaces()).extracting(Place::getId)
+        .containsExactly("p_start", "p_done", "p_retry");
+    assertThat(edited.getTransitions()).extracting(Transition::getId)
+        .containsExactly("t_run", "t_retry");
+    assertThat(edited.getArcs()).hasSize(4);
+    assertThat(edited.getInitialMarking().getTokens("p_start")).isEqualTo(3);
+    assertThat(edited.getName()).isEqualTo("Linear");
+    assertThat(edited.getId()).isNotEqualTo(base.getId());
+    assertThat(base.getPlaces()).hasSize(2);
+  }
+
+  @Test
+  @DisplayName("Should remove elements with their arcs and tokens")
+  void shouldRemoveElements() {
+    PetriNet edited =
+        PetriNetDelta.builder()
+            .removePlace("p_start")
+            .removeArc("t_run", "p_done")
+            .build()
+            .applyTo(linearNet());
+
+    assertThat(edited.getPlaces()).extracting(Place::getId).containsExactly("p_done");
+    assertThat(edited.getArcs()).isEmpty();
+    assertThat(edited.getInitialMarking().getTokens()).isEmpty();
+
+    PetriNet withoutTransition =
+        PetriNetDelta.builder().removeTransition("t_run").removeTokens("p_start", 1).build()
+            .applyTo(linearNet());
+    assertThat(withoutTransition.getArcs()).isEmpty();
+    assertThat(withoutTransition.getInitialMarking().getTokens()).isEqualTo(Map.of());
+  }
+
+  @Test
+  @DisplayName("Should reject edits that do not apply to the base net")
+  void shouldRejectInvalidEdits() {
+    PetriNet base = linearNet();
+
+    assertThatThrownBy(() -> PetriNetDelta.builder().addPlace(new Place("t_run")).build().applyTo(base))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("already exists");
+    assertThatThrownBy(() -> PetriNetDelta.builder().addArc("p_start", "p_done").build().applyTo(base))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("place and transition");
+    assertThatThrownBy(() -> PetriNetDelta.builder().addArc("p_start", "t_run").build().applyTo(base))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> PetriNetDelta.builder().removeArc("t_run", "p_start").build().applyTo(base))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> PetriNetDelta.builder().removeTokens("p_start", 2).build().applyTo(base))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> PetriNetDelta.builder().addTokens("p_missing", 1).build().applyTo(base))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("does not exist");
+    assertThatThrownBy(() -> PetriNetDelta.builder().addTokens("p_start", 0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,170 @@
+/* Copyright (c) 2025 Rishabh Pathak. Licensed under the MIT License. */
+
+package core.petri.simulation;
+
+import static org.assertj.core.api.Assertions.*;
+
+import core.petri.CompiledPetriNet;
+import core.petri.PetriNet;
+import core.petri.Place;
+import core.petri.Transition;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for DeltaTrace
+ *
+ * Tests cover:
+ * - Lazily rebuilt events matching the events of eager single steps
+ * - Random access to markings through keyframes
+ * - Ring buffer eviction of the oldest steps
+ * - Rejection of out-of-order steps
+ * - Event views that keep their steps after the trace drops or adds steps
+ *
+ * @author Obvian Labs
+ * @since POC Phase 1
+ */
+@DisplayName("DeltaTrace Tests")
+class DeltaTraceTest {
+
+  private PetriTokenSimulator simulator;
+  private PetriNet petriNet;
+  private CompiledPetriNet net;
+  private SimulationConfig config;
+
+  @BeforeEach
+  void setUp() {
+    simulator =
+        new PetriTokenSimulator(Clock.fixed(Instant.parse("2024-01-01T12:00:00Z"), ZoneId.systemDefault()));
+    // A worker that finishes or aborts each job, logging finished ones, until the step limit
+    petriNet =
+        PetriNet.builder()
+            .name("Worker")
+            .addPlace(new Place("p_idle"))
+            .addPlace(new Place("p_busy"))
+            .addPlace(new Place("p_log"))
+            .addTransition(new Transition("t_start"))
+            .addTransition(new Transition("t_finish"))
+            .addTransition(new Transition("t_abort"))
+            .addArc("p_idle", "t_start")
+            .addArc("t_start", "p_busy")
+            .addArc("p_busy", "t_finish")
+            .addArc("t_finish", "p_idle")
+            .addArc("t_finish", "p_log")
+            .addArc("p_busy", "t_abort")
+            .addArc("t_abort", "p_idle")
+            .addInitialToken("p_idle", 1)
+            .build();
+    net = petriNet.compile();
+    config = SimulationConfig.builder().seed(42L).maxSteps(300).build();
+  }
+
+  @Test
+  @DisplayName("Should rebuild the events of eager single steps")
+  void shouldRebuildEagerEvents() {
+    // Given
+    SimulationState state = simulator.openSession(petriNet, config).getState();
+    List<TraceEvent> eager = new ArrayList<>();
+    SimulationStepResult step = simulator.step(state, config);
+    while (step.isSuccess()) {
+      eager.add(step.getEvent());
+      step = simulator.step(state, config);
+    }
+
+    // When
+    List<TraceEvent> rebuilt = simulator.simulate(petriNet, config).getTrace();
+
+    // Then
+    assertThat(rebuilt).hasSize(300);
+    for (int i = 0; i < eager.size(); i++) {
+      TraceEvent expected = eager.get(i);
+      TraceEvent actual = rebuilt.get(i);
+      assertThat(actual.getSequenceNumber()).isEqualTo(expected.getSequenceNumber());
+      assertThat(actual.getTransition()).isEqualTo(expected.getTransition());
+      assertThat(actual.getTimestamp()).isEqualTo(expected.getTimestamp());
+      assertThat(actual.getFromPlaces()).isEqualTo(expected.getFromPlaces());
+      assertThat(actual.getToPlaces()).isEqualTo(expected.getToPlaces());
+      assertThat(actual.getTokenId()).isEqualTo(expected.getTokenId());
+      assertThat(actual.getEnabled()).isEqualTo(expected.getEnabled());
+      assertThat(actual.getMarkingBefore()).isEqualTo(expected.getMarkingBefore());
+      assertThat(actual.getMarkingAfter()).isEqualTo(expected.getMarkingAfter());
+      assertThat(actual.getReason()).isEqualTo(expected.getReason());
+    }
+  }
+
+  @Test
+  @DisplayName("Should rebuild markings from keyframes in any order")
+  void shouldRebuildMarkingsInAnyOrder() {
+    // Given
+    DeltaTrace trace = new DeltaTrace(1000, 16);
+    SimulationSession session = simulator.openSession(petriNet, config, trace);
+
+    // When
+    List<TraceEvent> events = simulator.run(session).getTrace();
+
+    // Then
+    assertThat(trace.getKeyframeCount()).isEqualTo(300 / 16);
+    assertThat(trace.markingAt(0)).isEqualTo(petriNet.getInitialMarking());
+    assertThat(trace.markingAt(300)).isEqualTo(session.getState().currentMarking);
+    for (int sequenceNumber = 299; sequenceNumber >= 1; sequenceNumber -= 7) {
+      assertThat(trace.markingAt(sequenceNumber))
+          .isEqualTo(events.get(sequenceNumber - 1).getMarkingAfter());
+    }
+    assertThat(events.get(150).getMarkingBefore()).isEqualTo(trace.markingAt(150));
+  }
+
+  @Test
+  @DisplayName("Should keep only the most recent steps in a bounded trace")
+  void shouldEvictOldestSteps() {
+    // Given
+    DeltaTrace trace = new DeltaTrace(50, 8);
+    SimulationSession session = simulator.openSession(petriNet, config, trace);
+
+    // When
+    SimulationResult result = simulator.run(session);
+
+    // Then
+    assertThat(trace.size()).isEqualTo(50);
+    assertThat(trace.getFirstSequence()).isEqualTo(251);
+    assertThat(trace.getLastSequence()).isEqualTo(300);
+    assertThat(result.getTrace()).hasSize(50);
+    assertThat(result.getTrace().get(0).getSequenceNumber()).isEqualTo(251);
+    assertThat(trace.markingAt(300)).isEqualTo(result.getFinalMarking());
+    assertThat(trace.markingAt(250)).isEqualTo(result.getTrace().get(0).getMarkingBefore());
+    assertThatThrownBy(() -> trace.markingAt(249)).isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @Test
+  @DisplayName("Should reject steps out of order and keep dropped steps in earlier views")
+  void shouldRejectOutOfOrderAndKeepViewSnapshots() {
+    // Given
+    DeltaTrace trace = new DeltaTrace(2, 4);
+    int[] tokens = net.initialTokenVector();
+    trace.begin("sim-test", net, config, tokens);
+    int start = net.transitionIndex("t_start");
+    int abort = net.transitionIndex("t_abort");
+    Instant now = Instant.parse("2024-01-01T12:00:00Z");
+
+    // When
+    net.fireInPlace(start, tokens);
+    trace.fired(1, start, now, tokens);
+    List<TraceEvent> view = trace.events();
+    net.fireInPlace(abort, tokens);
+    trace.fired(2, abort, now, tokens);
+    net.fireInPlace(start, tokens);
+    trace.fired(3, start, now, tokens);
+
+    // Then
+    assertThatThrownBy(() -> trace.fired(5, abort, now, tokens))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThat(view).extracting(TraceEvent::getTransition).containsExactly("t_start");
+    assertThat(view.get(0).getMarkingBefore()).isEqualTo(net.toMarking(net.initialTokenVector()));
+    assertThat(trace.events()).extracting(TraceEvent::getTransition).containsExactly("t_abort", "t_start");
+  }
+}
@@ -0,0 +1,114 @@
+/* Copyright (c) 2025 Rishabh Pathak. Licensed under the MIT License. */
+
+package core.petri.simulation;
+
+import static org.assertj.core.api.Assertions.*;
+
+import core.petri.CompiledPetriNet;
+import core.petri.Marking;
+import core.petri.PetriNet;
+import core.petri.Place;
+import core.petri.Transition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for EnabledTransitionTracker
+ *
+ * Tests cover:
+ * - Enabled transitions reported in transition ID order
+ * - Incremental updates matching a full rescan after each firing
+ * - Capacity-guarded producers re-checked when an output place fills up
+ * - Tracking a bare token vector without markings
+ *
+ * @author Obvian Labs
+ * @since POC Phase 1
+ */
+@DisplayName("EnabledTransitionTracker Tests")
+class EnabledTransitionTrackerTest {
+
+  private PetriNet petriNet;
+  private CompiledPetriNet compiled;
+
+  @BeforeEach
+  void setUp() {
+    petriNet =
+        PetriNet.builder()
+            .name("Bounded Buffer")
+            .addPlace(new Place("ready"))
+            .addPlace(new Place("buffer", "Buffer", 1))
+            .addPlace(new Place("done"))
+            .addTransition(new Transition("produce"))
+            .addTransition(new Transition("consume"))
+            .addArc("ready", "produce")
+            .addArc("produce", "buffer")
+            .addArc("buffer", "consume")
+            .addArc("consume", "done")
+            .addInitialToken("ready", 2)
+            .build();
+    compiled = petriNet.compile();
+  }
+
+  @Test
+  @DisplayName("Should match a full rescan after every firing")
+  void shouldMatchFullRescan() {
+    Marking marking = petriNet.getInitialMarking();
+    EnabledTransitionTracker tracker = new EnabledTransitionTracker(compiled, marking);
+
+    while (tracker.hasEnabledTransition()) {
+      assertThat(tracker.enabledTransitionIds())
+          .containsExactlyElementsOf(
+              petriNet.getEnabledTransitions(marking).stream()
+                  .map(Transition::getId)
+                  .sorted()
+                  .toList());
+
+      int transition = tracker.enabledTransitions()[0];
+      marking = compiled.fire(transition, marking);
+      tracker.fire(transition, marking);
+    }
+
+    assertThat(marking.getTokens("done")).isEqualTo(2);
+    assertThat(tracker.isSyncedWith(marking)).isTrue();
+  }
+
+  @Test
+  @DisplayName("Should disable producers when a capacity-bound output place fills")
+  void shouldRecheckCapacityGuardedProducers() {
+    Marking marking = petriNet.getInitialMarking();
+    EnabledTransitionTracker tracker = new EnabledTransitionTracker(compiled, marking);
+    int produce = compiled.transitionIndex("produce");
+
+    tracker.fire(produce, compiled.fire(produce, marking));
+
+    assertThat(tracker.isEnabled(produce)).isFalse();
+    assertThat(tracker.enabledTransitionIds()).containsExactly("consume");
+  }
+
+  @Test
+  @DisplayName("Should reject firing a disabled transition")
+  void shouldRejectDisabledTransition() {
+    EnabledTransitionTracker tracker =
+        new EnabledTransitionTracker(compiled, petriNet.getInitialMarking());
+
+    assertThatThrownBy(() -> tracker.fire(compiled.transitionIndex("consume"), new Marking()))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("consume");
+  }
+
+  @Test
+  @DisplayName("Should track a token vector without markings")
+  void shouldTrackTokenVector() {
+    int[] tokens = compiled.initialTokenVector();
+    EnabledTransitionTracker tracker = new EnabledTransitionTracker(compiled, tokens);
+    int produce = compiled.transitionIndex("produce");
+
+    tracker.fire(produce);
+
+    assertThat(tokens).isEqualTo(compiled.initialTokenVector());
+    assertThat(tracker.getTokens(compiled.placeIndex("buffer"))).isEqualTo(1);
+    assertThat(tracker.getEnabledCount()).isEqualTo(1);
+    assertThat(tracker.enabledTransition(0)).isEqualTo(compiled.transitionIndex("consume"));
+  }
+}
@@ -0,0 +1,133 @@
+/* Copyright (c) 2025 Rishabh Pathak. Licensed under the MIT License. */
+
+package core.petri.simulation;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import core.petri.PetriNet;
+import core.petri.Place;
+import core.petri.Transition;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for NdjsonTraceSink
+ *
+ * Tests cover:
+ * - One JSON object per line for the start, every step and periodic keyframes
+ * - Markings rebuilt from the streamed deltas matching the simulation
+ * - Streaming a trace to a file
+ *
+ * @author Obvian Labs
+ * @since POC Phase 1
+ */
+@DisplayName("NdjsonTraceSink Tests")
+class NdjsonTraceSinkTest {
+
+  private final ObjectMapper mapper = new ObjectMapper();
+  private PetriTokenSimulator simulator;
+  private PetriNet petriNet;
+  private SimulationConfig config;
+
+  @BeforeEach
+  void setUp() {
+    simulator =
+        new PetriTokenSimulator(Clock.fixed(Instant.parse("2024-01-01T12:00:00Z"), ZoneId.systemDefault()));
+    petriNet =
+        PetriNet.builder()
+            .name("Worker")
+            .addPlace(new Place("p_idle"))
+            .addPlace(new Place("p_busy"))
+            .addPlace(new Place("p_log"))
+            .addTransition(new Transition("t_start"))
+            .addTransition(new Transition("t_finish"))
+            .addTransition(new Transition("t_abort"))
+            .addArc("p_idle", "t_start")
+            .addArc("t_start", "p_busy")
+            .addArc("p_busy", "t_finish")
+            .addArc("t_finish", "p_idle")
+            .addArc("t_finish", "p_log")
+            .addArc("p_busy", "t_abort")
+            .addArc("t_abort", "p_idle")
+            .addInitialToken("p_idle", 1)
+            .build();
+    config = SimulationConfig.builder().seed(7L).maxSteps(40).build();
+  }
+
+  @Test
+  @DisplayName("Should stream steps and keyframes that rebuild the final marking")
+  void shouldStreamStepsAndKeyframes() throws Exception {
+    // Given
+    StringWriter output = new StringWriter();
+    NdjsonTraceSink sink = new NdjsonTraceSink(output, 10);
+
+    // When
+    SimulationResult result = simulator.run(simulator.openSession(petriNet, config, sink));
+    List<JsonNode> lines = new ArrayList<>();
+    for (String line : output.toString().split("\n")) {
+      lines.add(mapper.readTree(line));
+    }
+
+    // Then
+    assertThat(result.getTrace()).isEmpty();
+    assertThat(lines).hasSize(1 + 40 + 4);
+    JsonNode begin = lines.get(0);
+    assertThat(begin.get("type").asText()).isEqualTo("begin");
+    assertThat(begin.get("seed").asLong()).isEqualTo(7L);
+    assertThat(begin.get("marking").get("p_idle").asInt()).isEqualTo(1);
+
+    Map<String, Integer> marking = new HashMap<>();
+    marking.put("p_idle", 1);
+    int steps = 0;
+    for (JsonNode line : lines.subList(1, lines.size())) {
+      if (line.get("type").asText().equals("step")) {
+        assertThat(line.get("sequenceNumber").asInt()).isEqualTo(++steps);
+        Iterator<Map.Entry<String, JsonNode>> delta = line.get("delta").fields();
+        while (delta.hasNext()) {
+          Map.Entry<String, JsonNode> change = delta.next();
+          marking.merge(change.getKey(), change.getValue().asInt(), Integer::sum);
+        }
+      } else {
+        assertThat(line.get("type").asText()).isEqualTo("keyframe");
+        assertThat(line.get("sequenceNumber").asInt()).isEqualTo(steps);
+        assertThat(steps % 10).isZero();
+        marking.values().removeIf(tokens -> tokens == 0);
+        assertThat(mapper.convertValue(line.get("marking"), Map.class)).isEqualTo(marking);
+      }
+    }
+    marking.values().removeIf(tokens -> tokens == 0);
+    assertThat(marking).isEqualTo(result.getFinalMarking().getTokens());
+  }
+
+  @Test
+  @DisplayName("Should stream a trace to a file")
+  void shouldStreamToFile(@TempDir Path directory) throws Exception {
+    // Given
+    Path file = directory.resolve("trace.ndjson");
+
+    // When
+    try (NdjsonTraceSink sink = NdjsonTraceSink.toFile(file)) {
+      simulator.run(simulator.openSession(petriNet, config, sink));
+    }
+
+    // Then
+    List<String> lines = Files.readAllLines(file);
+    assertThat(lines).hasSize(1 + 40);
+    assertThat(mapper.readTree(lines.get(40)).get("transition").asText()).startsWith("t_");
+  }
+}
@@ -7,9 +7,18 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import core.petri.*;
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -25,6 +34,11 @@ import org.junit.jupiter.api.Test;
  * - Step-by-step execution
  * - Trace generation
  * - Interactive mode simulation
+ * - Monte Carlo batches matching single seeded runs
+ * - Timed simulation of delays, timeouts and retry backoff on a virtual clock
+ * - Limits on the retries of timed simulation
+ * - Concurrent sessions with independent seeds and controls
+ * - Session progress published consistently to other threads
  * - Error handling and edge cases
  *
  * @author Obvian Labs
@@ -540,4 +554,441 @@ class PetriTokenSimulatorTest {
       assertThat(result.getFinalMarking().getTokens("source")).isEqualTo(2);
     }
   }
+
+  @Nested
+  @DisplayName("Batch Simulation Tests")
+  class BatchSimulationTests {
+
+    /** Review that may be rejected; a rejection is revised at most twice, then gets stuck */
+    private PetriNet createReviewNet() {
+      return PetriNet.builder()
+          .name("Review With Revisions")
+          .addPlace(new Place("p_start"))
+          .addPlace(new Place("p_review"))
+          .addPlace(new Place("p_rejected"))
+          .addPlace(new Place("p_budget"))
+          .addPlace(new Place("p_done"))
+          .addTransition(new Transition("t_submit"))
+          .addTransition(new Transition("t_approve"))
+          .addTransition(new Transition("t_reject"))
+          .addTransition(new Transition("t_revise"))
+          .addArc("p_start", "t_submit")
+          .addArc("t_submit", "p_review")
+          .addArc("p_review", "t_approve")
+          .addArc("t_approve", "p_done")
+          .addArc("p_review", "t_reject")
+          .addArc("t_reject", "p_rejected")
+          .addArc("p_rejected", "t_revise")
+          .addArc("p_budget", "t_revise")
+          .addArc("t_revise", "p_start")
+          .addInitialToken("p_start", 1)
+          .addInitialToken("p_budget", 2)
+          .build();
+    }
+
+    @Test
+    @DisplayName("Should aggregate the same runs as seeded single simulations")
+    void shouldMatchSeededSimulations() {
+      // Given
+      PetriNet petriNet = createReviewNet();
+      int runs = 200;
+      int deadlocked = 0;
+      int totalSteps = 0;
+      Map<String, Long> firings = new HashMap<>();
+      for (int run = 0; run < runs; run++) {
+        SimulationResult result = simulator.simulate(
+                petriNet, SimulationConfig.forTesting(PetriTokenSimulator.batchSeed(100L, run)));
+        if (result.getFinalMarking().getTokens("p_rejected") > 0) {
+          deadlocked++;
+        }
+        totalSteps += result.getStepsExecuted();
+        for (TraceEvent event : result.getTrace()) {
+          firings.merge(event.getTransition(), 1L, Long::sum);
+        }
+      }
+
+      // When
+      SimulationStatistics statistics =
+          simulator.simulateBatch(petriNet, SimulationConfig.forTesting(100L), runs, 1);
+
+      // Then
+      assertThat(statistics.getRuns()).isEqualTo(runs);
+      assertThat(statistics.getDeadlocked()).isEqualTo(deadlocked);
+      assertThat(statistics.getCompleted()).isEqualTo(runs - deadlocked);
+      assertThat(statistics.getDeadlockProbability()).isEqualTo((double) deadlocked / runs);
+      assertThat(statistics.getMeanSteps() * runs).isCloseTo(totalSteps, within(1e-6));
+      assertThat(statistics.getFiringCounts()).containsAllEntriesOf(firings);
+    }
+
+    @Test
+    @DisplayName("Should produce the same statistics regardless of parallelism")
+    void shouldBeIndependentOfParallelism() {
+      // Given
+      PetriNet petriNet = createReviewNet();
+      SimulationConfig config = SimulationConfig.forTesting(7L);
+
+      // When
+      SimulationStatistics sequential = simulator.simulateBatch(petriNet, config, 5000, 1);
+      SimulationStatistics parallel = simulator.simulateBatch(petriNet, config, 5000, 4);
+
+      // Then
+      assertThat(parallel.getDeadlocked()).isEqualTo(sequential.getDeadlocked());
+      assertThat(parallel.getFiringCounts()).isEqualTo(sequential.getFiringCounts());
+      assertThat(parallel.getStepPercentile(90)).isEqualTo(sequential.getStepPercentile(90));
+      // Three rejections in a row: (1/2)^3
+      assertThat(sequential.getDeadlockProbability()).isCloseTo(0.125, within(0.02));
+      assertThat(sequential.getStepPercentile(0)).isEqualTo(2);
+      assertThat(sequential.getStepPercentile(100)).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("Should keep batch memory independent of the step limit and worker count")
+    void shouldAcceptUnboundedStepLimitAndWorkers() {
+      // Given
+      PetriNet petriNet = createReviewNet();
+      SimulationConfig bounded = SimulationConfig.forTesting(7L);
+      SimulationConfig unbounded =
+          SimulationConfig.builder().seed(7L).maxSteps(Integer.MAX_VALUE).build();
+
+      // When
+      SimulationStatistics expected = simulator.simulateBatch(petriNet, bounded, 1000, 1);
+      SimulationStatistics statistics =
+          simulator.simulateBatch(petriNet, unbounded, 1000, Integer.MAX_VALUE);
+
+      // Then
+      assertThat(statistics.getMaxSteps()).isEqualTo(Integer.MAX_VALUE);
+      assertThat(statistics.getDeadlocked()).isEqualTo(expected.getDeadlocked());
+      assertThat(statistics.getStepPercentile(50)).isEqualTo(expected.getStepPercentile(50));
+      assertThat(statistics.getMeanSteps()).isCloseTo(expected.getMeanSteps(), within(1e-9));
+    }
+
+    @Test
+    @DisplayName("Should reject batches in interactive mode")
+    void shouldRejectInteractiveBatches() {
+      assertThatThrownBy(
+              () -> simulator.simulateBatch(createReviewNet(), SimulationConfig.defaultInteractive(), 10, 1))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+
+  @Nested
+  @DisplayName("Timed Simulation Tests")
+  class TimedSimulationTests {
+
+    @Test
+    @DisplayName("Should compute the makespan of parallel branches on the virtual clock")
+    void shouldComputeMakespanOfParallelBranches() {
+      // Given
+      PetriNet petriNet = PetriNet.builder()
+          .name("Parallel Build")
+          .addPlace(new Place("p_start"))
+          .addPlace(new Place("p_a"))
+          .addPlace(new Place("p_b"))
+          .addPlace(new Place("p_a_done"))
+          .addPlace(new Place("p_b_done"))
+          .addPlace(new Place("p_done"))
+          .addTransition(new Transition("t_split"))
+          .addTransition(Transition.builder("t_compile").delay(7_200_000L).build())
+          .addTransition(Transition.builder("t_test").delay(10_800_000L).timeout(14_400_000L).build())
+          .addTransition(Transition.builder("t_release").delay(1_800_000L).build())
+          .addArc("p_start", "t_split")
+          .addArc("t_split", "p_a")
+          .addArc("t_split", "p_b")
+          .addArc("p_a", "t_compile")
+          .addArc("t_compile", "p_a_done")
+          .addArc("p_b", "t_test")
+          .addArc("t_test", "p_b_done")
+          .addArc("p_a_done", "t_release")
+          .addArc("p_b_done", "t_release")
+          .addArc("t_release", "p_done")
+          .addInitialToken("p_start", 1)
+          .build();
+
+      // When
+      TimedSimulationResult result = simulator.simulateTimed(petriNet, SimulationConfig.forTesting(1L));
+
+      // Then
+      assertThat(result.getStatus()).isEqualTo(SimulationResult.SimulationStatus.COMPLETED);
+      assertThat(result.getMakespan()).isEqualTo(Duration.ofMinutes(210));
+      assertThat(result.getCompletedFirings()).isEqualTo(4);
+      assertThat(result.getTimeouts()).isZero();
+      assertThat(result.getMeanLatencies())
+          .containsEntry("t_split", Duration.ZERO)
+          .containsEntry("t_compile", Duration.ofHours(2))
+          .containsEntry("t_test", Duration.ofHours(3))
+          .containsEntry("t_release", Duration.ofMinutes(30));
+      assertThat(result.getFinalMarking().getTokens("p_done")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should time out attempts and retry them after the policy's backoff")
+    void shouldRetryTimedOutAttemptsWithBackoff() {
+      // Given
+      PetriNet petriNet = PetriNet.builder()
+          .name("Slow Call")
+          .addPlace(new Place("p_start"))
+          .addPlace(new Place("p_done"))
+          .addTransition(Transition.builder("t_call")
+              .delay(5_000L)
+              .timeout(1_000L)
+              .retryPolicy(2, 2.0, 1_000L, 30_000L)
+              .build())
+          .addArc("p_start", "t_call")
+          .addArc("t_call", "p_done")
+          .addInitialToken("p_start", 1)
+          .build();
+
+      // When
+      TimedSimulationResult result = simulator.simulateTimed(petriNet, SimulationConfig.forTesting(1L));
+
+      // Then: attempts time out at 1s, 3s and 6s after backoffs of 1s and 2s
+      assertThat(result.getStatus()).isEqualTo(SimulationResult.SimulationStatus.DEADLOCKED);
+      assertThat(result.getMakespan()).isEqualTo(Duration.ofSeconds(6));
+      assertThat(result.getTimeouts()).isEqualTo(3);
+      assertThat(result.getRetries()).isEqualTo(2);
+      assertThat(result.getFailedFirings()).isEqualTo(1);
+      assertThat(result.getCompletedFirings()).isZero();
+      assertThat(result.getFinalMarking().getTokens()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should cap the backoff of long retry policies and reject unbounded ones")
+    void shouldBoundRetryPolicies() {
+      // Given
+      PetriNet longPolicy = createCallNet(PetriTokenSimulator.MAX_TIMED_RETRIES);
+      PetriNet unbounded = createCallNet(Integer.MAX_VALUE);
+
+      // When
+      TimedSimulationResult result = simulator.simulateTimed(longPolicy, SimulationConfig.forTesting(1L));
+
+      // Then: 1001 timeouts, backoffs of 1s to 16s and then 995 of the 30s maximum
+      long expectedMs = 1_001 * 1_000L + 31_000L + 995 * 30_000L;
+      assertThat(result.getMakespan()).isEqualTo(Duration.ofMillis(expectedMs));
+      assertThat(result.getRetries()).isEqualTo(PetriTokenSimulator.MAX_TIMED_RETRIES);
+      assertThat(result.getFailedFirings()).isEqualTo(1);
+      assertThatThrownBy(() -> simulator.simulateTimed(unbounded, SimulationConfig.forTesting(1L)))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageContaining("t_call");
+    }
+
+    @Test
+    @DisplayName("Should estimate latencies of exponential delays over simulated hours")
+    void shouldEstimateExponentialLatencies() {
+      // Given: a worker that handles 20000 jobs of one minute on average
+      PetriNet petriNet = PetriNet.builder()
+          .name("Worker Loop")
+          .addPlace(new Place("p_idle"))
+          .addTransition(Transition.builder("t_job").exponentialDelay(60_000L).build())
+          .addArc("p_idle", "t_job")
+          .addArc("t_job", "p_idle")
+          .addInitialToken("p_idle", 1)
+          .build();
+      SimulationConfig config = SimulationConfig.builder().seed(5L).maxSteps(20_000).build();
+
+      // When
+      TimedSimulationResult first = simulator.simulateTimed(petriNet, config);
+      TimedSimulationResult second = simulator.simulateTimed(petriNet, config);
+
+      // Then
+      assertThat(first.getStatus()).isEqualTo(SimulationResult.SimulationStatus.MAX_STEPS_REACHED);
+      assertThat(first.getCompletedFirings()).isEqualTo(20_000);
+      assertThat(first.getMeanLatencies().get("t_job").toMillis()).isCloseTo(60_000L, withinPercentage(3));
+      assertThat(first.getMakespan()).isGreaterThan(Duration.ofHours(300));
+      assertThat(first.getMaxLatencies().get("t_job")).isGreaterThan(Duration.ofMinutes(5));
+      assertThat(second.getMakespan()).isEqualTo(first.getMakespan());
+    }
+
+    @Test
+    @DisplayName("Should reject interactive mode for timed simulation")
+    void shouldRejectInteractiveTimedSimulation() {
+      PetriNet petriNet = PetriNet.builder()
+          .name("Single")
+          .addPlace(new Place("p_start"))
+          .addTransition(new Transition("t_go"))
+          .addArc("p_start", "t_go")
+          .addInitialToken("p_start", 1)
+          .build();
+
+      assertThatThrownBy(() -> simulator.simulateTimed(petriNet, SimulationConfig.defaultInteractive()))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /** A call that always times out, retried with a doubling backoff of 1s up to 30s */
+    private PetriNet createCallNet(int maxRetries) {
+      return PetriNet.builder()
+          .name("Flaky Call")
+          .addPlace(new Place("p_start"))
+          .addPlace(new Place("p_done"))
+          .addTransition(Transition.builder("t_call")
+              .delay(5_000L)
+              .timeout(1_000L)
+              .retryPolicy(maxRetries, 2.0, 1_000L, 30_000L)
+              .build())
+          .addArc("p_start", "t_call")
+          .addArc("t_call", "p_done")
+          .addInitialToken("p_start", 1)
+          .build();
+    }
+  }
+
+  @Nested
+  @DisplayName("Simulation Session Tests")
+  class SimulationSessionTests {
+
+    /** Two workers racing for a shared lock; the loop never terminates on its own */
+    private PetriNet createContentionNet() {
+      PetriNet.Builder builder =
+          PetriNet.builder()
+              .name("Lock Contention")
+              .addPlace(new Place("lock"))
+              .addInitialToken("lock", 1);
+      for (String worker : List.of("a", "b")) {
+        builder
+            .addPlace(new Place(worker + "_idle"))
+            .addPlace(new Place(worker + "_busy"))
+            .addTransition(new Transition("t_acquire_" + worker))
+            .addTransition(new Transition("t_release_" + worker))
+            .addArc(worker + "_idle", "t_acquire_" + worker)
+            .addArc("lock", "t_acquire_" + worker)
+            .addArc("t_acquire_" + worker, worker + "_busy")
+            .addArc(worker + "_busy", "t_release_" + worker)
+            .addArc("t_release_" + worker, worker + "_idle")
+            .addArc("t_release_" + worker, "lock")
+            .addInitialToken(worker + "_idle", 1);
+      }
+      return builder.build();
+    }
+
+    private List<String> firedTransitions(SimulationResult result) {
+      return result.getTrace().stream().map(TraceEvent::getTransition).toList();
+    }
+
+    @Test
+    @DisplayName("Should keep seeds independent across concurrent simulations")
+    void shouldIsolateConcurrentSimulations() throws Exception {
+      // Given
+      PetriNet petriNet = createContentionNet();
+      List<List<String>> expected = new ArrayList<>();
+      for (long seed = 0; seed < 32; seed++) {
+        expected.add(firedTransitions(simulator.simulate(petriNet, SimulationConfig.forTesting(seed))));
+      }
+
+      // When
+      ExecutorService executor = Executors.newFixedThreadPool(8);
+      List<Future<List<String>>> futures = new ArrayList<>();
+      try {
+        for (long seed = 0; seed < 32; seed++) {
+          long runSeed = seed;
+          futures.add(
+              executor.submit(
+                  () -> firedTransitions(simulator.simulate(petriNet, SimulationConfig.forTesting(runSeed)))));
+        }
+
+        // Then
+        for (int i = 0; i < futures.size(); i++) {
+          assertThat(futures.get(i).get(10, TimeUnit.SECONDS)).isEqualTo(expected.get(i));
+        }
+      } finally {
+        executor.shutdownNow();
+      }
+    }
+
+    @Test
+    @DisplayName("Should pause and stop one session without affecting another")
+    void shouldControlSessionsIndependently() throws Exception {
+      // Given
+      PetriNet petriNet = createContentionNet();
+      SimulationConfig slow =
+          SimulationConfig.builder().seed(1L).maxSteps(100_000).stepDelayMs(1).build();
+      SimulationSession paused = simulator.openSession(petriNet, slow);
+      SimulationSession other = simulator.openSession(petriNet, SimulationConfig.forTesting(2L));
+      paused.pause();
+
+      // When
+      CompletableFuture<SimulationResult> pausedRun = CompletableFuture.supplyAsync(() -> simulator.run(paused));
+      SimulationResult otherResult = simulator.run(other);
+
+      // Then
+      assertThat(otherResult.getStatus()).isEqualTo(SimulationResult.SimulationStatus.MAX_STEPS_REACHED);
+      assertThat(otherResult.getStepsExecuted()).isEqualTo(500);
+      Thread.sleep(50);
+      assertThat(paused.getProgress().getStepsExecuted()).isZero();
+      assertThat(pausedRun).isNotDone();
+      assertThatThrownBy(() -> simulator.step(paused)).isInstanceOf(IllegalStateException.class);
+
+      paused.resume();
+      paused.stop();
+      SimulationResult pausedResult = pausedRun.get(10, TimeUnit.SECONDS);
+      assertThat(pausedResult.getStatus()).isEqualTo(SimulationResult.SimulationStatus.STOPPED);
+      assertThat(simulator.isStopped()).isFalse();
+      assertThatThrownBy(() -> simulator.step(paused))
+          .isInstanceOf(IllegalStateException.class)
+          .hasMessageContaining("stopped");
+    }
+
+    @Test
+    @DisplayName("Should not let a simulator-wide stop affect later runs")
+    @SuppressWarnings("deprecation")
+    void shouldNotKeepSimulatorWideStop() {
+      // Given
+      PetriNet petriNet = createContentionNet();
+      simulator.stop();
+
+      // When
+      SimulationResult result = simulator.simulate(petriNet, SimulationConfig.forTesting(2L));
+      SimulationStatistics statistics =
+          simulator.simulateBatch(petriNet, SimulationConfig.forTesting(2L), 10, 1);
+      TimedSimulationResult timed = simulator.simulateTimed(petriNet, SimulationConfig.forTesting(2L));
+
+      // Then
+      assertThat(simulator.isStopped()).isTrue();
+      assertThat(result.getStatus()).isEqualTo(SimulationResult.SimulationStatus.MAX_STEPS_REACHED);
+      assertThat(statistics.getRuns()).isEqualTo(10);
+      assertThat(timed.getStatus()).isNotEqualTo(SimulationResult.SimulationStatus.STOPPED);
+    }
+
+    @Test
+    @DisplayName("Should step a session with its own seeded selection")
+    void shouldStepSessionsDeterministically() {
+      // Given
+      PetriNet petriNet = createContentionNet();
+      SimulationResult reference = simulator.simulate(petriNet, SimulationConfig.forTesting(9L));
+      SimulationSession session = simulator.openSession(petriNet, SimulationConfig.forTesting(9L));
+
+      // When
+      List<String> stepped = new ArrayList<>();
+      for (int i = 0; i < 20; i++) {
+        stepped.add(simulator.step(session).getEvent().getTransition());
+      }
+
+      // Then
+      assertThat(stepped).isEqualTo(firedTransitions(reference).subList(0, 20));
+      assertThat(session.getState().stepsExecuted).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("Should publish step count and marking together while running")
+    void shouldPublishConsistentProgress() throws Exception {
+      // Given
+      PetriNet petriNet = createContentionNet();
+      SimulationConfig config = SimulationConfig.builder().seed(4L).maxSteps(20_000).build();
+      SimulationResult reference = simulator.simulate(petriNet, config);
+      List<Marking> markings = new ArrayList<>();
+      markings.add(petriNet.getInitialMarking());
+      reference.getTrace().forEach(event -> markings.add(event.getMarkingAfter()));
+      SimulationSession session = simulator.openSession(petriNet, config);
+
+      // When
+      CompletableFuture<SimulationResult> run = CompletableFuture.supplyAsync(() -> simulator.run(session));
+      while (!run.isDone()) {
+        SimulationSession.Progress progress = session.getProgress();
+
+        // Then
+        assertThat(progress.getCurrentMarking()).isEqualTo(markings.get(progress.getStepsExecuted()));
+      }
+      run.get(10, TimeUnit.SECONDS);
+      assertThat(session.getProgress().getStepsExecuted()).isEqualTo(20_000);
+      assertThat(session.getProgress().getCurrentMarking()).isEqualTo(reference.getFinalMarking());
+    }
+  }
 }
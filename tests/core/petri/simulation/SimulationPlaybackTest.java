@@ -0,0 +1,142 @@
+/* Copyright (c) 2025 Rishabh Pathak. Licensed under the MIT License. */
+
+package core.petri.simulation;
+
+import static org.assertj.core.api.Assertions.*;
+
+import core.petri.PetriNet;
+import core.petri.Place;
+import core.petri.Transition;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for SimulationPlayback
+ *
+ * Tests cover:
+ * - One step per interval for a client that keeps up
+ * - Skipping to the latest due step for a client that falls behind
+ * - Independent pacing of clients replaying one result
+ * - Full-speed computation without the configured step delay
+ *
+ * @author Obvian Labs
+ * @since POC Phase 1
+ */
+@DisplayName("SimulationPlayback Tests")
+class SimulationPlaybackTest {
+
+  private static final long START = 1_000L;
+  private static final long INTERVAL = 100L;
+
+  private PetriTokenSimulator simulator;
+  private PetriNet petriNet;
+  private SimulationResult result;
+
+  @BeforeEach
+  void setUp() {
+    simulator =
+        new PetriTokenSimulator(Clock.fixed(Instant.parse("2024-01-01T12:00:00Z"), ZoneId.systemDefault()));
+    petriNet =
+        PetriNet.builder()
+            .name("Worker")
+            .addPlace(new Place("p_idle"))
+            .addPlace(new Place("p_busy"))
+            .addTransition(new Transition("t_start"))
+            .addTransition(new Transition("t_finish"))
+            .addArc("p_idle", "t_start")
+            .addArc("t_start", "p_busy")
+            .addArc("p_busy", "t_finish")
+            .addArc("t_finish", "p_idle")
+            .addInitialToken("p_idle", 1)
+            .build();
+    result = simulator.simulate(petriNet, SimulationConfig.builder().seed(42L).maxSteps(10).build());
+  }
+
+  @Test
+  @DisplayName("Should deliver one step per interval to a client that keeps up")
+  void shouldDeliverOneStepPerInterval() {
+    // Given
+    SimulationPlayback playback = new SimulationPlayback(result, INTERVAL, START);
+
+    // When / Then
+    assertThat(playback.next(START - 1)).isNull();
+    for (int step = 1; step <= 10; step++) {
+      long now = START + (step - 1) * INTERVAL;
+      SimulationPlayback.Frame frame = playback.next(now);
+      assertThat(frame.getEvent().getSequenceNumber()).isEqualTo(step);
+      assertThat(frame.getSkippedSteps()).isZero();
+      assertThat(frame.isLast()).isEqualTo(step == 10);
+      assertThat(playback.next(now + INTERVAL - 1)).isNull();
+    }
+    assertThat(playback.isFinished()).isTrue();
+    assertThat(playback.getSkipped()).isZero();
+    assertThat(playback.next(START + 100 * INTERVAL)).isNull();
+  }
+
+  @Test
+  @DisplayName("Should skip to the latest due step when a client falls behind")
+  void shouldSkipToLatestStep() {
+    // Given
+    SimulationPlayback playback = new SimulationPlayback(result, INTERVAL, START);
+    playback.next(START);
+
+    // When
+    SimulationPlayback.Frame late = playback.next(START + 4 * INTERVAL + 50);
+    SimulationPlayback.Frame last = playback.next(START + 60 * INTERVAL);
+
+    // Then
+    assertThat(late.getEvent().getSequenceNumber()).isEqualTo(5);
+    assertThat(late.getSkippedSteps()).isEqualTo(3);
+    assertThat(late.getEvent().getMarkingAfter()).isEqualTo(result.getTrace().get(4).getMarkingAfter());
+    assertThat(last.getEvent().getSequenceNumber()).isEqualTo(10);
+    assertThat(last.getSkippedSteps()).isEqualTo(4);
+    assertThat(last.isLast()).isTrue();
+    assertThat(last.getEvent().getMarkingAfter()).isEqualTo(result.getFinalMarking());
+    assertThat(playback.getSkipped()).isEqualTo(7);
+    assertThat(playback.getDelivered()).isEqualTo(10);
+  }
+
+  @Test
+  @DisplayName("Should pace clients replaying one result independently")
+  void shouldPaceClientsIndependently() {
+    // Given
+    SimulationPlayback fast = new SimulationPlayback(result, INTERVAL, START);
+    SimulationPlayback slow = new SimulationPlayback(result, 10 * INTERVAL, START);
+
+    // When
+    long now = START + 9 * INTERVAL;
+    fast.next(now);
+    slow.next(now);
+
+    // Then
+    assertThat(fast.isFinished()).isTrue();
+    assertThat(slow.getDelivered()).isEqualTo(1);
+    assertThat(slow.getSkipped()).isZero();
+    assertThatThrownBy(() -> new SimulationPlayback(result, 0, START))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  @DisplayName("Should compute a run at full speed without the step delay")
+  void shouldComputeWithoutStepDelay() {
+    // Given
+    SimulationConfig animated =
+        SimulationConfig.builder().seed(42L).maxSteps(10).stepDelayMs(500).build();
+
+    // When
+    long started = System.nanoTime();
+    SimulationResult computed = simulator.simulate(petriNet, animated.withStepDelayMs(0));
+    long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+
+    // Then
+    assertThat(animated.withStepDelayMs(0).getStepDelayMs()).isZero();
+    assertThat(animated.withStepDelayMs(0).getSeed()).isEqualTo(42L);
+    assertThat(elapsedMs).isLessThan(5_000);
+    assertThat(computed.getFinalMarking()).isEqualTo(result.getFinalMarking());
+    assertThat(computed.getStepsExecuted()).isEqualTo(10);
+  }
+}
@@ -0,0 +1,96 @@
+/* Copyright (c) 2025 Rishabh Pathak. Licensed under the MIT License. */
+
+package core.petri.simulation;
+
+import static org.assertj.core.api.Assertions.*;
+
+import core.petri.PetriNet;
+import core.petri.Place;
+import core.petri.Transition;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for SimulationSessionRegistry
+ *
+ * Tests cover:
+ * - Sessions addressable by ID until closed
+ * - Closing stops the session
+ * - Limit on the number of open sessions
+ * - Expiry of unused sessions, which frees their slots
+ *
+ * @author Obvian Labs
+ * @since POC Phase 1
+ */
+@DisplayName("SimulationSessionRegistry Tests")
+class SimulationSessionRegistryTest {
+
+  private SimulationSessionRegistry registry;
+  private PetriNet petriNet;
+
+  @BeforeEach
+  void setUp() {
+    registry = new SimulationSessionRegistry(new PetriTokenSimulator(), 2);
+    petriNet =
+        PetriNet.builder()
+            .name("Single Step")
+            .addPlace(new Place("p_start"))
+            .addPlace(new Place("p_done"))
+            .addTransition(new Transition("t_finish"))
+            .addArc("p_start", "t_finish")
+            .addArc("t_finish", "p_done")
+            .addInitialToken("p_start", 1)
+            .build();
+  }
+
+  @Test
+  @DisplayName("Should find open sessions by ID until they are closed")
+  void shouldFindSessionsUntilClosed() {
+    SimulationSession session = registry.open(petriNet, SimulationConfig.forTesting(1L));
+
+    assertThat(registry.getSession(session.getId())).containsSame(session);
+    assertThat(registry.getSimulator().step(session).isSuccess()).isTrue();
+    assertThat(registry.getSession(session.getId()).get().getState().currentMarking.getTokens("p_done"))
+        .isEqualTo(1);
+
+    assertThat(registry.close(session.getId())).isTrue();
+    assertThat(session.isStopped()).isTrue();
+    assertThat(registry.getSession(session.getId())).isEmpty();
+    assertThat(registry.close(session.getId())).isFalse();
+  }
+
+  @Test
+  @DisplayName("Should refuse sessions beyond the limit")
+  void shouldLimitOpenSessions() {
+    SimulationSession first = registry.open(petriNet, SimulationConfig.forTesting(1L));
+    registry.open(petriNet, SimulationConfig.forTesting(2L));
+
+    assertThatThrownBy(() -> registry.open(petriNet, SimulationConfig.forTesting(3L)))
+        .isInstanceOf(IllegalStateException.class);
+    assertThat(registry.getSessionCount()).isEqualTo(2);
+
+    registry.close(first.getId());
+    assertThat(registry.open(petriNet, SimulationConfig.forTesting(3L)).getId()).isNotEqualTo(first.getId());
+  }
+
+  @Test
+  @DisplayName("Should stop unused sessions and free their slots when they expire")
+  void shouldExpireUnusedSessions() throws Exception {
+    // Given
+    SimulationSessionRegistry expiring =
+        new SimulationSessionRegistry(new PetriTokenSimulator(), 1, Duration.ofMillis(50));
+    SimulationSession abandoned = expiring.open(petriNet, SimulationConfig.forTesting(1L));
+
+    // When
+    Thread.sleep(100);
+    SimulationSession next = expiring.open(petriNet, SimulationConfig.forTesting(2L));
+
+    // Then
+    assertThat(abandoned.isStopped()).isTrue();
+    assertThat(expiring.getSession(abandoned.getId())).isEmpty();
+    assertThat(expiring.getSession(next.getId())).containsSame(next);
+    assertThat(expiring.getSessionCount()).isEqualTo(1);
+  }
+}
@@ -0,0 +1,104 @@
+/* Copyright (c) 2025 Rishabh Pathak. Licensed under the MIT License. */
+
+package core.petri.simulation;
+
+import static org.assertj.core.api.Assertions.*;
+
+import core.petri.CompiledPetriNet;
+import core.petri.PetriNet;
+import core.petri.Place;
+import core.petri.Transition;
+import core.petri.simulation.SimulationResult.SimulationStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for SimulationStatistics
+ *
+ * Tests cover:
+ * - Nearest-rank step percentiles from the step histogram
+ * - Merging partial aggregates into the same totals as recording in one place
+ * - Rejection of outcomes and merges that cannot be aggregated
+ *
+ * @author Obvian Labs
+ * @since POC Phase 1
+ */
+@DisplayName("SimulationStatistics Tests")
+class SimulationStatisticsTest {
+
+  private CompiledPetriNet net;
+  private int approve;
+  private int reject;
+
+  @BeforeEach
+  void setUp() {
+    net =
+        PetriNet.builder()
+            .name("Approval")
+            .addPlace(new Place("p_start"))
+            .addPlace(new Place("p_done"))
+            .addPlace(new Place("p_rejected"))
+            .addTransition(new Transition("t_reject"))
+            .addTransition(new Transition("t_approve"))
+            .addArc("p_start", "t_approve")
+            .addArc("t_approve", "p_done")
+            .addArc("p_start", "t_reject")
+            .addArc("t_reject", "p_rejected")
+            .addInitialToken("p_start", 1)
+            .build()
+            .compile();
+    approve = net.transitionIndex("t_approve");
+    reject = net.transitionIndex("t_reject");
+  }
+
+  @Test
+  @DisplayName("Should report nearest-rank step percentiles")
+  void shouldReportStepPercentiles() {
+    SimulationStatistics statistics = new SimulationStatistics(net, 10);
+    for (int steps = 1; steps <= 10; steps++) {
+      statistics.recordRun(SimulationStatus.COMPLETED, steps);
+    }
+
+    assertThat(statistics.getStepPercentile(0)).isEqualTo(1);
+    assertThat(statistics.getStepPercentile(50)).isEqualTo(5);
+    assertThat(statistics.getStepPercentile(91)).isEqualTo(10);
+    assertThat(statistics.getMeanSteps()).isEqualTo(5.5);
+    assertThat(new SimulationStatistics(net, 10).getStepPercentile(50)).isZero();
+  }
+
+  @Test
+  @DisplayName("Should merge partial aggregates into the same totals")
+  void shouldMergePartialAggregates() {
+    SimulationStatistics left = new SimulationStatistics(net, 5);
+    left.recordFiring(approve);
+    left.recordRun(SimulationStatus.COMPLETED, 1);
+    SimulationStatistics right = new SimulationStatistics(net, 5);
+    right.recordFiring(reject);
+    right.recordRun(SimulationStatus.DEADLOCKED, 1);
+    right.recordRun(SimulationStatus.MAX_STEPS_REACHED, 5);
+
+    SimulationStatistics merged = left.merge(right);
+
+    assertThat(merged.getRuns()).isEqualTo(3);
+    assertThat(merged.getDeadlockProbability()).isEqualTo(1.0 / 3);
+    assertThat(merged.getMaxStepsReached()).isEqualTo(1);
+    // Reported in transition ID order
+    assertThat(merged.getFiringCounts()).containsExactly(entry("t_approve", 1L), entry("t_reject", 1L));
+    assertThat(merged.getFiringFrequencies()).containsEntry("t_reject", 1.0 / 3);
+    assertThat(merged.getStepPercentile(100)).isEqualTo(5);
+  }
+
+  @Test
+  @DisplayName("Should reject outcomes and merges it cannot aggregate")
+  void shouldRejectInvalidInput() {
+    SimulationStatistics statistics = new SimulationStatistics(net, 5);
+
+    assertThatThrownBy(() -> statistics.recordRun(SimulationStatus.STOPPED, 0))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> statistics.merge(new SimulationStatistics(net, 6)))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> statistics.getStepPercentile(101))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,66 @@
+/* Copyright (c) 2025 Rishabh Pathak. Licensed under the MIT License. */
+
+package core.petri.validation;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for BitstateTable
+ *
+ * Tests cover:
+ * - Visited markings being recognised on later lookups
+ * - Coverage estimate near 1.0 for a sparsely filled table
+ * - Coverage estimate dropping once the table saturates
+ *
+ * @author Obvian Labs
+ * @since POC Phase 1
+ */
+@DisplayName("BitstateTable Tests")
+class BitstateTableTest {
+
+  @Test
+  @DisplayName("Should report markings as new only once")
+  void shouldRecogniseVisitedMarkings() {
+    BitstateTable table = new BitstateTable(1 << 20);
+
+    assertThat(table.add(new int[] {1, 0, 2})).isTrue();
+    assertThat(table.add(new int[] {0, 1, 2})).isTrue();
+    assertThat(table.add(new int[] {1, 0, 2})).isFalse();
+    assertThat(table.getInserted()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("Should estimate full coverage for a sparsely filled table")
+  void shouldEstimateFullCoverageWhenSparse() {
+    BitstateTable table = new BitstateTable(1 << 20);
+    for (int i = 0; i < 2000; i++) {
+      table.add(new int[] {i, i % 3});
+    }
+
+    assertThat(table.getInserted()).isEqualTo(2000);
+    assertThat(table.estimatedCoverage()).isGreaterThan(0.9999);
+  }
+
+  @Test
+  @DisplayName("Should estimate partial coverage once the table saturates")
+  void shouldEstimatePartialCoverageWhenSaturated() {
+    // 512 bits cannot hold 2000 markings without collisions
+    BitstateTable table = new BitstateTable(64);
+    for (int i = 0; i < 2000; i++) {
+      table.add(new int[] {i, i % 3});
+    }
+
+    assertThat(table.getInserted()).isLessThan(2000);
+    assertThat(table.getFillRatio()).isGreaterThan(0.9);
+    assertThat(table.estimatedCoverage()).isLessThan(0.5);
+  }
+
+  @Test
+  @DisplayName("Should reject tables smaller than one word")
+  void shouldRejectTinyTables() {
+    assertThatThrownBy(() -> new BitstateTable(4)).isInstanceOf(IllegalArgumentException.class);
+  }
+}
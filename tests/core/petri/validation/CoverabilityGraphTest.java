@@ -0,0 +1,117 @@
+/* Copyright (c) 2025 Rishabh Pathak. Licensed under the MIT License. */
+
+package core.petri.validation;
+
+import static org.assertj.core.api.Assertions.*;
+
+import core.petri.PetriNet;
+import core.petri.Place;
+import core.petri.Transition;
+import java.time.Instant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for CoverabilityGraph
+ *
+ * Tests cover:
+ * - ω-acceleration proving unboundedness with few nodes
+ * - Exact per-place bounds for bounded nets with large token counts
+ * - Capacity-constrained places kept exact
+ *
+ * @author Obvian Labs
+ * @since POC Phase 1
+ */
+@DisplayName("CoverabilityGraph Tests")
+class CoverabilityGraphTest {
+
+  private static CoverabilityGraph.Result analyze(PetriNet net, int maxNodes) {
+    return new CoverabilityGraph(net.compile()).analyze(maxNodes, Instant.now().plusSeconds(10));
+  }
+
+  @Test
+  @DisplayName("Should prove unboundedness through ω-acceleration")
+  void shouldDetectUnboundedPlace() {
+    PetriNet net =
+        PetriNet.builder()
+            .name("Generator")
+            .addPlace(new Place("p"))
+            .addPlace(new Place("q"))
+            .addTransition(new Transition("gen"))
+            .addArc("p", "gen")
+            .addArc("gen", "p")
+            .addArc("gen", "q")
+            .addInitialToken("p", 1)
+            .build();
+
+    CoverabilityGraph.Result result = analyze(net, 200);
+
+    assertThat(result.isComplete()).isTrue();
+    assertThat(result.isBounded()).isFalse();
+    assertThat(result.getUnboundedPlaces()).containsExactly("q");
+    assertThat(result.getPlaceBounds()).containsEntry("p", 1).doesNotContainKey("q");
+    assertThat(result.getNodesExplored()).isLessThan(5);
+  }
+
+  @Test
+  @DisplayName("Should report exact bounds for a bounded net with many tokens")
+  void shouldComputeExactBounds() {
+    PetriNet net =
+        PetriNet.builder()
+            .name("Transfer")
+            .addPlace(new Place("source"))
+            .addPlace(new Place("sink"))
+            .addTransition(new Transition("move"))
+            .addArc("source", "move")
+            .addArc("move", "sink", 2)
+            .addInitialToken("source", 500)
+            .build();
+
+    CoverabilityGraph.Result result = analyze(net, 1000);
+
+    assertThat(result.isBounded()).isTrue();
+    assertThat(result.getPlaceBounds()).containsEntry("source", 500).containsEntry("sink", 1000);
+  }
+
+  @Test
+  @DisplayName("Should not accelerate capacity-constrained places")
+  void shouldRespectCapacity() {
+    PetriNet net =
+        PetriNet.builder()
+            .name("Bounded Buffer")
+            .addPlace(new Place("ready"))
+            .addPlace(new Place("buffer", "Buffer", 3))
+            .addTransition(new Transition("produce"))
+            .addArc("ready", "produce")
+            .addArc("produce", "ready")
+            .addArc("produce", "buffer")
+            .addInitialToken("ready", 1)
+            .build();
+
+    CoverabilityGraph.Result result = analyze(net, 200);
+
+    assertThat(result.isBounded()).isTrue();
+    assertThat(result.getPlaceBounds()).containsEntry("buffer", 3);
+  }
+
+  @Test
+  @DisplayName("Should be inconclusive when the node budget runs out on a bounded net")
+  void shouldStopAtNodeBudget() {
+    PetriNet net =
+        PetriNet.builder()
+            .name("Transfer")
+            .addPlace(new Place("source"))
+            .addPlace(new Place("sink"))
+            .addTransition(new Transition("move"))
+            .addArc("source", "move")
+            .addArc("move", "sink")
+            .addInitialToken("source", 50)
+            .build();
+
+    CoverabilityGraph.Result result = analyze(net, 10);
+
+    assertThat(result.isComplete()).isFalse();
+    assertThat(result.isBounded()).isFalse();
+    assertThat(result.getUnboundedPlaces()).isEmpty();
+  }
+}
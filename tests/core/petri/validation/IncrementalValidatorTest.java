@@ -0,0 +1,206 @@
+/* Copyright (c) 2025 Rishabh Pathak. Licensed under the MIT License. */
+
+package core.petri.validation;
+
+import static org.assertj.core.api.Assertions.*;
+
+import core.petri.PetriNet;
+import core.petri.PetriNetDelta;
+import core.petri.Place;
+import core.petri.Transition;
+import core.petri.validation.PetriNetValidationResult.CheckType;
+import core.petri.validation.PetriNetValidationResult.PetriValidationStatus;
+import core.petri.validation.PetriNetValidationResult.ValidationConfig;
+import java.time.Duration;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for IncrementalValidator
+ *
+ * Tests cover:
+ * - Behavioural results reused for edits that keep the state space, structural check re-run
+ * - Behavioural checks re-run for edits that change it and for a different config
+ * - Chained edits on edited nets
+ * - Unknown base nets and invalid edits
+ * - Base nets keyed by content rather than by caller-supplied IDs
+ *
+ * @author Obvian Labs
+ * @since POC Phase 1
+ */
+@DisplayName("IncrementalValidator Tests")
+class IncrementalValidatorTest {
+
+  // t_never waits on a place that is never marked, so it is dead
+  private static PetriNet netWithDeadTransition() {
+    return PetriNet.builder()
+        .name("Dead branch")
+        .addPlace(new Place("p_start"))
+        .addPlace(new Place("p_blocked"))
+        .addPlace(new Place("p_done"))
+        .addTransition(new Transition("t_run"))
+        .addTransition(new Transition("t_never"))
+        .addArc("p_start", "t_run")
+        .addArc("t_run", "p_done")
+        .addArc("p_blocked", "t_never")
+        .addArc("t_never", "p_done")
+        .addInitialToken("p_start", 1)
+        .build();
+  }
+
+  private static IncrementalValidator newValidator(PetriNetValidator validator) {
+    return new IncrementalValidator(validator, 100, Duration.ofMinutes(5));
+  }
+
+  private static void assertMatchesFullValidation(IncrementalValidator.Result result) {
+    PetriNetValidationResult full = new PetriNetValidator().validate(result.getPetriNet(), null);
+    PetriNetValidationResult incremental = result.getValidationResult();
+
+    assertThat(incremental.getPetriNetId()).isEqualTo(result.getPetriNet().getId());
+    assertThat(incremental.getChecks()).containsOnlyKeys(full.getChecks().keySet());
+    for (CheckType check : full.getChecks().keySet()) {
+      assertThat(incremental.getChecks().get(check).getStatus())
+          .as(check.name())
+          .isEqualTo(full.getChecks().get(check).getStatus());
+    }
+    assertThat(incremental.getHints()).isEqualTo(full.getHints());
+  }
+
+  @Test
+  @DisplayName("Should reuse behavioural checks for edits that keep the state space")
+  void shouldReuseBehaviouralChecks() {
+    IncrementalValidator validator = newValidator(new PetriNetValidator());
+    PetriNet base = netWithDeadTransition();
+    IncrementalValidator.Result initial = validator.validate(base, null);
+    assertThat(initial.getReusedChecks()).isEmpty();
+    assertThat(initial.getValidationResult().getChecks().get(CheckType.LIVENESS_CHECK).getDetails())
+        .containsEntry("deadTransitions", List.of("t_never"));
+
+    IncrementalValidator.Result edited =
+        validator.validate(
+            initial.getNetId(),
+            PetriNetDelta.builder()
+                .addPlace(new Place("p_audit"))
+                .addArc("t_never", "p_audit")
+                .addArc("p_start", "t_never")
+                .build(),
+            null);
+
+    assertThat(edited.getReusedChecks())
+        .containsExactlyInAnyOrder(
+            CheckType.DEADLOCK_DETECTION,
+            CheckType.REACHABILITY_ANALYSIS,
+            CheckType.LIVENESS_CHECK,
+            CheckType.BOUNDEDNESS_CHECK);
+    assertThat(edited.getNetId()).isNotEqualTo(initial.getNetId());
+    assertMatchesFullValidation(edited);
+
+    // The structural check still sees the new place
+    IncrementalValidator.Result orphan =
+        validator.validate(
+            edited.getNetId(),
+            PetriNetDelta.builder().addPlace(new Place("p_orphan")).build(),
+            null);
+    assertThat(orphan.getReusedChecks()).contains(CheckType.LIVENESS_CHECK);
+    assertThat(orphan.getValidationResult().getChecks().get(CheckType.STRUCTURAL_VALIDATION).getStatus())
+        .isEqualTo(PetriValidationStatus.FAIL);
+    assertMatchesFullValidation(orphan);
+  }
+
+  @Test
+  @DisplayName("Should re-run behavioural checks for edits that change the state space")
+  void shouldRerunBehaviouralChecks() {
+    IncrementalValidator validator = newValidator(new PetriNetValidator());
+    String baseNetId = validator.validate(netWithDeadTransition(), null).getNetId();
+
+    IncrementalValidator.Result marked =
+        validator.validate(baseNetId, PetriNetDelta.builder().addTokens("p_blocked", 1).build(), null);
+    assertThat(marked.getReusedChecks()).isEmpty();
+    assertThat(marked.getValidationResult().getChecks().get(CheckType.LIVENESS_CHECK).getStatus())
+        .isEqualTo(PetriValidationStatus.PASS);
+    assertMatchesFullValidation(marked);
+
+    // An output arc of a live transition puts tokens where there were none
+    IncrementalValidator.Result fed =
+        validator.validate(
+            baseNetId,
+            PetriNetDelta.builder().addPlace(new Place("p_side")).addArc("t_run", "p_side").build(),
+            null);
+    assertThat(fed.getReusedChecks()).isEmpty();
+    assertMatchesFullValidation(fed);
+
+    IncrementalValidator.Result reconfigured =
+        validator.validate(
+            baseNetId,
+            PetriNetDelta.builder().addPlace(new Place("p_audit")).build(),
+            new ValidationConfig(100, 30000, null));
+    assertThat(reconfigured.getReusedChecks()).isEmpty();
+    assertThat(reconfigured.getValidationResult().getConfig().getKBound()).isEqualTo(100);
+  }
+
+  @Test
+  @DisplayName("Should reject unknown base nets and invalid edits")
+  void shouldRejectUnknownBaseNets() {
+    IncrementalValidator validator = newValidator(new PetriNetValidator());
+    PetriNet base = netWithDeadTransition();
+    PetriNetDelta delta = PetriNetDelta.builder().addPlace(new Place("p_audit")).build();
+
+    assertThatThrownBy(() -> validator.validate(base.getId(), delta, null))
+        .isInstanceOf(NoSuchElementException.class);
+
+    String baseNetId = validator.validate(base, null).getNetId();
+    assertThatThrownBy(
+            () -> validator.validate(
+                baseNetId, PetriNetDelta.builder().addArc("p_start", "p_done").build(), null))
+        .isInstanceOf(IllegalArgumentException.class);
+
+    validator.invalidateAll();
+    assertThatThrownBy(() -> validator.validate(baseNetId, delta, null))
+        .isInstanceOf(NoSuchElementException.class);
+  }
+
+  @Test
+  @DisplayName("Should key base nets by content, not by the ID the caller supplied")
+  void shouldKeyBaseNetsByContent() {
+    IncrementalValidator validator = newValidator(new PetriNetValidator());
+    PetriNet first =
+        PetriNet.builder()
+            .id("shared")
+            .name("Dead branch")
+            .addPlace(new Place("p_start"))
+            .addPlace(new Place("p_done"))
+            .addTransition(new Transition("t_run"))
+            .addArc("p_start", "t_run")
+            .addArc("t_run", "p_done")
+            .addInitialToken("p_start", 1)
+            .build();
+    PetriNet second =
+        PetriNet.builder()
+            .id("shared")
+            .name("Stuck")
+            .addPlace(new Place("p_start"))
+            .addPlace(new Place("p_wait"))
+            .addPlace(new Place("p_done"))
+            .addTransition(new Transition("t_run"))
+            .addArc("p_start", "t_run")
+            .addArc("p_wait", "t_run")
+            .addArc("t_run", "p_done")
+            .addInitialToken("p_start", 1)
+            .build();
+
+    String firstNetId = validator.validate(first, null).getNetId();
+    String secondNetId = validator.validate(second, null).getNetId();
+    assertThat(firstNetId).isNotEqualTo(secondNetId).isNotEqualTo("shared");
+    assertThat(validator.getSize()).isEqualTo(2);
+
+    // Edits to the first net still see its own state space
+    IncrementalValidator.Result edited =
+        validator.validate(firstNetId, PetriNetDelta.builder().addPlace(new Place("p_audit")).build(), null);
+    assertThat(edited.getPetriNet().getPlace("p_wait")).isEmpty();
+    assertThat(edited.getValidationResult().getChecks().get(CheckType.DEADLOCK_DETECTION).getStatus())
+        .isEqualTo(PetriValidationStatus.PASS);
+    assertMatchesFullValidation(edited);
+  }
+}
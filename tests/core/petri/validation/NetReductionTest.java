@@ -0,0 +1,142 @@
+/* Copyright (c) 2025 Rishabh Pathak. Licensed under the MIT License. */
+
+package core.petri.validation;
+
+import static org.assertj.core.api.Assertions.*;
+
+import core.petri.CompiledPetriNet;
+import core.petri.Marking;
+import core.petri.PetriNet;
+import core.petri.Place;
+import core.petri.Transition;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for NetReduction
+ *
+ * Tests cover:
+ * - Series fusion of place-transition chains with witness paths expanded
+ * - Parallel places and transitions mapped back to the elements they duplicate
+ * - Self-loop places restored as constant tokens
+ * - Protected places and nets no rule applies to
+ *
+ * @author Obvian Labs
+ * @since POC Phase 1
+ */
+@DisplayName("NetReduction Tests")
+class NetReductionTest {
+
+  private static CompiledPetriNet chain(int steps) {
+    PetriNet.Builder builder = PetriNet.builder().name("Chain " + steps).addPlace(new Place("s0"));
+    for (int step = 1; step <= steps; step++) {
+      builder
+          .addPlace(new Place("s" + step))
+          .addTransition(new Transition("t" + step))
+          .addArc("s" + (step - 1), "t" + step)
+          .addArc("t" + step, "s" + step);
+    }
+    return builder.addInitialToken("s0", 1).build().compile();
+  }
+
+  @Test
+  @DisplayName("Should fuse chains and expand witness paths")
+  void shouldFuseChains() {
+    CompiledPetriNet net = chain(4);
+
+    NetReduction reduction = NetReduction.reduce(net, place -> net.placeId(place).equals("s4"));
+
+    CompiledPetriNet reduced = reduction.getReducedNet();
+    assertThat(reduced.getTransitionCount()).isEqualTo(1);
+    assertThat(reduced.transitionId(0)).isEqualTo("t1");
+    assertThat(reduction.getRemovedPlaces()).isEqualTo(3);
+    assertThat(reduction.getRemovedTransitions()).isEqualTo(3);
+    assertThat(reduction.expandPath(List.of("t1"))).containsExactly("t1", "t2", "t3", "t4");
+    assertThat(reduction.represented(0)).containsExactlyInAnyOrder(0, 1, 2, 3);
+
+    int[] tokens = reduced.fire(0, reduced.initialTokenVector());
+    assertThat(reduction.expandMarking(reduced.toMarking(tokens)))
+        .isEqualTo(new Marking(Map.of("s4", 1)));
+  }
+
+  @Test
+  @DisplayName("Should remove parallel places and transitions")
+  void shouldRemoveParallelElements() {
+    // a and a_copy are fed and drained together; t_alt duplicates t_go
+    CompiledPetriNet net =
+        PetriNet.builder()
+            .name("Duplicates")
+            .addPlace(new Place("p_start"))
+            .addPlace(new Place("a"))
+            .addPlace(new Place("a_copy"))
+            .addPlace(new Place("p_done"))
+            .addTransition(new Transition("t_split"))
+            .addTransition(new Transition("t_go"))
+            .addTransition(new Transition("t_alt"))
+            .addArc("p_start", "t_split")
+            .addArc("t_split", "a")
+            .addArc("t_split", "a_copy")
+            .addArc("a", "t_go")
+            .addArc("a_copy", "t_go")
+            .addArc("a", "t_alt")
+            .addArc("a_copy", "t_alt")
+            .addArc("t_go", "p_done")
+            .addArc("t_alt", "p_done")
+            .addInitialToken("p_start", 1)
+            .build()
+            .compile();
+
+    NetReduction reduction =
+        NetReduction.reduce(net, place -> net.placeId(place).startsWith("p_done"));
+
+    CompiledPetriNet reduced = reduction.getReducedNet();
+    assertThat(reduced.getTransitionCount()).isEqualTo(1);
+    assertThat(reduction.expandPath(List.of("t_split"))).containsExactly("t_split", "t_go");
+    assertThat(reduction.represented(0))
+        .containsExactlyInAnyOrder(
+            net.transitionIndex("t_split"),
+            net.transitionIndex("t_go"),
+            net.transitionIndex("t_alt"));
+    assertThat(reduction.hasPermanentlyMarkedPlace()).isFalse();
+  }
+
+  @Test
+  @DisplayName("Should restore self-loop places as constant tokens")
+  void shouldRemoveSelfLoopPlaces() {
+    // The lock is taken and returned by every step, so it never restricts firing
+    CompiledPetriNet net =
+        PetriNet.builder()
+            .name("Lock")
+            .addPlace(new Place("p_start"))
+            .addPlace(new Place("lock"))
+            .addPlace(new Place("p_done"))
+            .addTransition(new Transition("t_work"))
+            .addArc("p_start", "t_work")
+            .addArc("lock", "t_work")
+            .addArc("t_work", "lock")
+            .addArc("t_work", "p_done")
+            .addInitialToken("p_start", 1)
+            .addInitialToken("lock", 1)
+            .build()
+            .compile();
+
+    NetReduction reduction =
+        NetReduction.reduce(net, place -> net.placeId(place).startsWith("p_done"));
+
+    CompiledPetriNet reduced = reduction.getReducedNet();
+    assertThat(reduced.getPlaceCount()).isEqualTo(2);
+    assertThat(reduction.hasPermanentlyMarkedPlace()).isTrue();
+    assertThat(reduction.expandMarking(reduced.toMarking(reduced.initialTokenVector())))
+        .isEqualTo(new Marking(Map.of("p_start", 1, "lock", 1)));
+  }
+
+  @Test
+  @DisplayName("Should keep protected places and return null when nothing reduces")
+  void shouldKeepProtectedPlaces() {
+    CompiledPetriNet net = chain(1);
+
+    assertThat(NetReduction.reduce(net, place -> true)).isNull();
+  }
+}
@@ -0,0 +1,100 @@
+/* Copyright (c) 2025 Rishabh Pathak. Licensed under the MIT License. */
+
+package core.petri.validation;
+
+import static org.assertj.core.api.Assertions.*;
+
+import core.petri.CompactMarking;
+import core.petri.CompiledPetriNet;
+import core.petri.PetriNet;
+import core.petri.Place;
+import core.petri.Transition;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for OffHeapVisitedStateStore
+ *
+ * Tests cover:
+ * - Returning the first state ID recorded for a marking
+ * - Agreement with a heap map across table resizes and token widths
+ * - Memory-mapped files placed in the given directory and removed on close
+ *
+ * @author Obvian Labs
+ * @since POC Phase 1
+ */
+@DisplayName("OffHeapVisitedStateStore Tests")
+class OffHeapVisitedStateStoreTest {
+
+  @TempDir Path tempDir;
+
+  private static CompiledPetriNet net(int places) {
+    PetriNet.Builder builder = PetriNet.builder().name("Places " + places);
+    for (int i = 0; i < places; i++) {
+      builder.addPlace(new Place("p" + i));
+    }
+    return builder.addTransition(new Transition("t")).addArc("p0", "t").build().compile();
+  }
+
+  @Test
+  @DisplayName("Should keep the first state ID for a marking")
+  void shouldKeepFirstStateId() {
+    CompiledPetriNet net = net(3);
+    try (OffHeapVisitedStateStore store = new OffHeapVisitedStateStore(net, null)) {
+      CompactMarking marking = CompactMarking.of(net, new int[] {1, 0, 2});
+
+      assertThat(store.putIfAbsent(marking, 7)).isEqualTo(VisitedStateStore.NOT_FOUND);
+      assertThat(store.putIfAbsent(CompactMarking.of(net, new int[] {1, 0, 2}), 9)).isEqualTo(7);
+      assertThat(store.get(marking)).isEqualTo(7);
+      assertThat(store.get(CompactMarking.of(net, new int[] {0, 1, 2})))
+          .isEqualTo(VisitedStateStore.NOT_FOUND);
+      assertThat(store.size()).isEqualTo(1);
+    }
+  }
+
+  @Test
+  @DisplayName("Should agree with a heap map across resizes and token widths")
+  void shouldMatchHeapMap() {
+    CompiledPetriNet net = net(6);
+    Map<CompactMarking, Integer> expected = new HashMap<>();
+    try (OffHeapVisitedStateStore store = new OffHeapVisitedStateStore(net, null)) {
+      for (int i = 0; i < 200_000; i++) {
+        // Every seventh marking needs wider token counts than a byte
+        int scale = i % 7 == 0 ? 70_000 : 3;
+        int[] tokens = new int[6];
+        for (int place = 0; place < tokens.length; place++) {
+          tokens[place] = (i * 31 + place * 17) % scale;
+        }
+        CompactMarking marking = CompactMarking.of(net, tokens);
+        Integer previous = expected.putIfAbsent(marking, i);
+
+        assertThat(store.putIfAbsent(marking, i))
+            .isEqualTo(previous != null ? previous : VisitedStateStore.NOT_FOUND);
+      }
+
+      assertThat(store.size()).isEqualTo(expected.size());
+      expected.forEach((marking, stateId) -> assertThat(store.get(marking)).isEqualTo(stateId));
+    }
+  }
+
+  @Test
+  @DisplayName("Should place memory-mapped files in the directory and remove them on close")
+  void shouldRemoveMappedFilesOnClose() throws Exception {
+    CompiledPetriNet net = net(2);
+    OffHeapVisitedStateStore store = new OffHeapVisitedStateStore(net, tempDir);
+    store.putIfAbsent(CompactMarking.of(net, new int[] {1, 1}), 0);
+
+    assertThat(store.get(CompactMarking.of(net, new int[] {1, 1}))).isZero();
+    assertThat(store.getFootprintBytes()).isPositive();
+
+    store.close();
+    try (var files = Files.list(tempDir)) {
+      assertThat(files).isEmpty();
+    }
+  }
+}
@@ -0,0 +1,900 @@
+/* Copyright (c) 2025 Rishabh Pathak. Licensed under the MIT License. */
+
+package core.petri.validation;
+
+import static org.assertj.core.api.Assertions.*;
+
+import core.petri.CompiledPetriNet;
+import core.petri.PetriNet;
+import core.petri.Place;
+import core.petri.Transition;
+import core.petri.validation.PetriNetValidationResult.CheckType;
+import core.petri.validation.PetriNetValidationResult.LivenessLevel;
+import core.petri.validation.PetriNetValidationResult.NetClass;
+import core.petri.validation.PetriNetValidationResult.PetriValidationStatus;
+import core.petri.validation.PetriNetValidationResult.StateStorage;
+import core.petri.validation.PetriNetValidationResult.ValidationConfig;
+import java.math.BigInteger;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for PetriNetValidator
+ *
+ * Tests cover:
+ * - Single-pass exploration shared by all state-space checks
+ * - k-bound applied to distinct markings
+ * - Deadlock counter-examples with witness paths
+ * - Parallel exploration matching sequential verdicts and witnesses
+ * - Structural decisions for conflict-free nets and P-invariant covered nets
+ * - Stubborn-set reduction deciding wide fork-joins within the k-bound
+ * - Bitstate search beyond the k-bound with replayable deadlock witnesses, within a maximum table size
+ * - A total bitstate budget shared by concurrent validations
+ * - Off-heap and memory-mapped state storage matching heap verdicts
+ * - Liveness levels and livelocks from the components of the reachability graph
+ * - Deadlock detection left undecided where livelocks go unchecked
+ * - Net reduction exploring fewer markings with witnesses mapped to original elements
+ * - Deadlock freedom proven from siphons and traps when exploration would exhaust the bound
+ * - State machines, marked graphs and sound free-choice workflow nets decided by their class
+ *
+ * @author Obvian Labs
+ * @since POC Phase 1
+ */
+@DisplayName("PetriNetValidator Tests")
+class PetriNetValidatorTest {
+
+  private PetriNetValidator validator;
+
+  @BeforeEach
+  void setUp() {
+    validator = new PetriNetValidator();
+  }
+
+  /**
+   * Fork-join over the given number of branches. The optional skip transition competes with
+   * t_fork for p_start, which rules out the structural shortcut without adding new markings.
+   * It also holds a lock it never releases, which makes the net not free-choice, so the
+   * markings are still explored rather than decided by the net's class.
+   */
+  private static PetriNet forkJoin(int branches, boolean withSkip) {
+    PetriNet.Builder builder =
+        PetriNet.builder()
+            .name("Fork Join " + branches)
+            .addPlace(new Place("p_start"))
+            .addPlace(new Place("p_done"))
+            .addTransition(new Transition("t_fork"))
+            .addTransition(new Transition("t_join"))
+            .addArc("p_start", "t_fork")
+            .addArc("t_join", "p_done")
+            .addInitialToken("p_start", 1);
+    if (withSkip) {
+      builder
+          .addPlace(new Place("lock"))
+          .addTransition(new Transition("t_skip"))
+          .addArc("p_start", "t_skip")
+          .addArc("lock", "t_skip")
+          .addArc("t_skip", "lock")
+          .addArc("t_skip", "p_done")
+          .addInitialToken("lock", 1);
+    }
+    for (int i = 0; i < branches; i++) {
+      builder
+          .addPlace(new Place("a" + i))
+          .addPlace(new Place("b" + i))
+          .addTransition(new Transition("w" + i))
+          .addArc("t_fork", "a" + i)
+          .addArc("a" + i, "w" + i)
+          .addArc("w" + i, "b" + i)
+          .addArc("b" + i, "t_join");
+    }
+    return builder.build();
+  }
+
+  @Test
+  @DisplayName("Should explore each reachable marking once for all checks")
+  void shouldExploreStateSpaceOnce() {
+    // 1 initial + 2^3 interleavings of the branches + 1 final marking
+    PetriNetValidationResult result =
+        validator.validate(forkJoin(3, true), new ValidationConfig(200, 30000, null));
+
+    assertThat(result.getStatesExplored()).isEqualTo(10);
+    assertThat(result.getCheckResult(CheckType.DEADLOCK_DETECTION))
+        .hasValueSatisfying(
+            check -> assertThat(check.getDetails()).containsEntry("statesExplored", 10));
+    assertThat(result.getCheckResult(CheckType.REACHABILITY_ANALYSIS))
+        .hasValueSatisfying(check -> assertThat(check.isPassed()).isTrue());
+  }
+
+  @Test
+  @DisplayName("Should apply k-bound to distinct markings rather than per check")
+  void shouldApplyBoundToDistinctMarkings() {
+    // 258 reachable markings fit within a bound that four separate passes would exhaust
+    PetriNetValidationResult result =
+        validator.validate(forkJoin(8, true), new ValidationConfig(300, 30000, null));
+
+    assertThat(result.getStatesExplored()).isEqualTo(258);
+    assertThat(result.getInconclusiveChecks()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Should report deadlock with witness path")
+  void shouldReportDeadlockWithWitness() {
+    PetriNet net =
+        PetriNet.builder()
+            .name("Missing Input")
+            .addPlace(new Place("a"))
+            .addPlace(new Place("b"))
+            .addPlace(new Place("c"))
+            .addPlace(new Place("p_done"))
+            .addTransition(new Transition("t1"))
+            .addTransition(new Transition("t2"))
+            .addArc("a", "t1")
+            .addArc("t1", "b")
+            .addArc("b", "t2")
+            .addArc("c", "t2")
+            .addArc("t2", "p_done")
+            .addInitialToken("a", 1)
+            .build();
+
+    PetriNetValidationResult result =
+        validator.validate(
+            net, new ValidationConfig(200, 30000, EnumSet.of(CheckType.DEADLOCK_DETECTION)));
+
+    assertThat(result.getCheckResult(CheckType.DEADLOCK_DETECTION))
+        .hasValueSatisfying(
+            check -> assertThat(check.getStatus()).isEqualTo(PetriValidationStatus.FAIL));
+    assertThat(result.getCounterExample().getPathToFailure()).containsExactly("t1");
+    assertThat(result.getCounterExample().getFailingMarking().getTokens("b")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should produce identical results with parallel exploration")
+  void shouldMatchSequentialWithParallelExploration() {
+    PetriNet net = forkJoin(6, true);
+
+    for (int kBound : new int[] {17, 200}) {
+      PetriNetValidationResult sequential =
+          validator.validate(net, ValidationConfig.builder().kBound(kBound).build());
+      PetriNetValidationResult parallel =
+          validator.validate(net, ValidationConfig.builder().kBound(kBound).parallelism(4).build());
+
+      assertThat(parallel.getStatesExplored()).isEqualTo(sequential.getStatesExplored());
+      for (CheckType type : sequential.getChecks().keySet()) {
+        assertThat(parallel.getChecks().get(type).getStatus())
+            .isEqualTo(sequential.getChecks().get(type).getStatus());
+        assertThat(parallel.getChecks().get(type).getDetails())
+            .isEqualTo(sequential.getChecks().get(type).getDetails());
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("Should choose the same deadlock witness in parallel exploration")
+  void shouldChooseDeterministicWitnessInParallel() {
+    PetriNet net =
+        PetriNet.builder()
+            .name("Two Branch Deadlock")
+            .addPlace(new Place("start"))
+            .addPlace(new Place("left"))
+            .addPlace(new Place("right"))
+            .addPlace(new Place("key"))
+            .addPlace(new Place("p_done"))
+            .addTransition(new Transition("go_left"))
+            .addTransition(new Transition("go_right"))
+            .addTransition(new Transition("left_finish"))
+            .addTransition(new Transition("right_finish"))
+            .addArc("start", "go_left")
+            .addArc("start", "go_right")
+            .addArc("go_left", "left")
+            .addArc("go_right", "right")
+            .addArc("left", "left_finish")
+            .addArc("key", "left_finish")
+            .addArc("right", "right_finish")
+            .addArc("key", "right_finish")
+            .addArc("left_finish", "p_done")
+            .addArc("right_finish", "p_done")
+            .addInitialToken("start", 1)
+            .build();
+
+    ValidationConfig config =
+        ValidationConfig.builder()
+            .enabledChecks(EnumSet.of(CheckType.DEADLOCK_DETECTION))
+            .parallelism(4)
+            .build();
+
+    // Both branches deadlock; BFS order makes the left branch the witness every time
+    for (int run = 0; run < 5; run++) {
+      assertThat(validator.validate(net, config).getCounterExample().getPathToFailure())
+          .containsExactly("go_left");
+    }
+  }
+
+  @Test
+  @DisplayName("Should decide conflict-free acyclic nets from a single run")
+  void shouldDecideConflictFreeNetStructurally() {
+    // 2^8 interleavings collapse to one run of 10 firings, well within a bound of 20
+    PetriNetValidationResult result =
+        validator.validate(forkJoin(8, false), new ValidationConfig(20, 30000, null));
+
+    assertThat(result.getStatesExplored()).isEqualTo(11);
+    assertThat(result.getInconclusiveChecks()).isEmpty();
+    assertThat(result.getCheckResult(CheckType.REACHABILITY_ANALYSIS))
+        .hasValueSatisfying(check -> assertThat(check.isPassed()).isTrue());
+    assertThat(result.getCheckResult(CheckType.LIVENESS_CHECK))
+        .hasValueSatisfying(check -> assertThat(check.isPassed()).isTrue());
+  }
+
+  @Test
+  @DisplayName("Should prove boundedness from P-invariants without exploration")
+  void shouldProveBoundednessFromInvariants() {
+    PetriNet net =
+        PetriNet.builder()
+            .name("Token Ring")
+            .addPlace(new Place("idle"))
+            .addPlace(new Place("busy"))
+            .addTransition(new Transition("acquire"))
+            .addTransition(new Transition("release"))
+            .addArc("idle", "acquire")
+            .addArc("acquire", "busy")
+            .addArc("busy", "release")
+            .addArc("release", "idle")
+            .addInitialToken("idle", 1000)
+            .build();
+
+    PetriNetValidationResult result =
+        validator.validate(
+            net, new ValidationConfig(10, 30000, EnumSet.of(CheckType.BOUNDEDNESS_CHECK)));
+
+    assertThat(result.getCheckResult(CheckType.BOUNDEDNESS_CHECK))
+        .hasValueSatisfying(
+            check -> {
+              assertThat(check.getStatus()).isEqualTo(PetriValidationStatus.PASS);
+              assertThat(check.getDetails()).containsEntry("statesExplored", 0);
+            });
+  }
+
+  @Test
+  @DisplayName("Should decide wide fork-joins with partial-order reduction")
+  void shouldDecideWideForkJoinWithPartialOrderReduction() {
+    PetriNet net = forkJoin(10, true);
+
+    PetriNetValidationResult full =
+        validator.validate(net, ValidationConfig.builder().partialOrderReduction(false).build());
+    PetriNetValidationResult reduced =
+        validator.validate(net, ValidationConfig.builder().partialOrderReduction(true).build());
+
+    // 2^10 interleavings exhaust the bound; one branch order per state suffices
+    assertThat(full.getInconclusiveChecks()).isNotEmpty();
+    assertThat(reduced.getInconclusiveChecks()).isEmpty();
+    assertThat(reduced.getStatesExplored()).isLessThan(20);
+    for (CheckType type :
+        EnumSet.of(
+            CheckType.DEADLOCK_DETECTION,
+            CheckType.REACHABILITY_ANALYSIS,
+            CheckType.LIVENESS_CHECK)) {
+      assertThat(reduced.getCheckResult(type))
+          .hasValueSatisfying(check -> assertThat(check.isPassed()).isTrue());
+    }
+  }
+
+  @Test
+  @DisplayName("Should find deadlocks beyond the k-bound with bitstate search")
+  void shouldFindDeadlockBeyondBoundWithBitstateSearch() {
+    // The join waits on an approval that never arrives once all ten branches are done
+    PetriNet.Builder builder =
+        PetriNet.builder()
+            .name("Unapproved Join")
+            .addPlace(new Place("p_start"))
+            .addPlace(new Place("p_done"))
+            .addPlace(new Place("approval"))
+            .addTransition(new Transition("t_fork"))
+            .addTransition(new Transition("t_skip"))
+            .addTransition(new Transition("t_join"))
+            .addArc("p_start", "t_fork")
+            .addArc("p_start", "t_skip")
+            .addArc("t_skip", "p_done")
+            .addArc("approval", "t_join")
+            .addArc("t_join", "p_done")
+            .addInitialToken("p_start", 1);
+    for (int i = 0; i < 10; i++) {
+      builder
+          .addPlace(new Place("a" + i))
+          .addPlace(new Place("b" + i))
+          .addTransition(new Transition("w" + i))
+          .addArc("t_fork", "a" + i)
+          .addArc("a" + i, "w" + i)
+          .addArc("w" + i, "b" + i)
+          .addArc("b" + i, "t_join");
+    }
+    PetriNet net = builder.build();
+    EnumSet<CheckType> checks = EnumSet.of(CheckType.DEADLOCK_DETECTION);
+
+    PetriNetValidationResult exact =
+        validator.validate(net, new ValidationConfig(200, 30000, checks));
+    PetriNetValidationResult bitstate =
+        validator.validate(
+            net, ValidationConfig.builder().enabledChecks(checks).bitstateMemoryMb(1).build());
+
+    assertThat(exact.getInconclusiveChecks()).isNotEmpty();
+    assertThat(bitstate.getCheckResult(CheckType.DEADLOCK_DETECTION))
+        .hasValueSatisfying(
+            check -> {
+              assertThat(check.getStatus()).isEqualTo(PetriValidationStatus.FAIL);
+              assertThat(check.getDetails()).containsEntry("bitstate", true);
+              assertThat((Double) check.getDetails().get("estimatedCoverage")).isGreaterThan(0.99);
+            });
+
+    // Replay the witness from the initial marking to the reported dead marking
+    CompiledPetriNet compiled = net.compile();
+    int[] tokens = compiled.initialTokenVector();
+    for (String transitionId : bitstate.getCounterExample().getPathToFailure()) {
+      int transition = compiled.transitionIndex(transitionId);
+      assertThat(compiled.isEnabled(transition, tokens)).isTrue();
+      compiled.fireInPlace(transition, tokens);
+    }
+    assertThat(compiled.enabledTransitions(tokens)).isEmpty();
+    assertThat(tokens)
+        .containsExactly(compiled.toTokenVector(bitstate.getCounterExample().getFailingMarking()));
+
+    // Tables above the server-side maximum are rejected before any allocation
+    assertThatThrownBy(
+            () ->
+                new PetriNetValidator(null, 1)
+                    .validate(
+                        net,
+                        ValidationConfig.builder().enabledChecks(checks).bitstateMemoryMb(2).build()))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("maximum of 1 MB");
+  }
+
+  @Test
+  @DisplayName("Should reject bitstate tables beyond the budget left by concurrent validations")
+  void shouldShareBitstateBudgetAcrossValidations() throws Exception {
+    // Twenty switches sharing a mutex: a million markings and no structural shortcut
+    PetriNet.Builder builder =
+        PetriNet.builder().name("Switches").addPlace(new Place("mutex")).addInitialToken("mutex", 1);
+    for (int i = 0; i < 20; i++) {
+      builder
+          .addPlace(new Place("on" + i))
+          .addPlace(new Place("off" + i))
+          .addTransition(new Transition("t_on" + i))
+          .addTransition(new Transition("t_off" + i))
+          .addArc("off" + i, "t_on" + i)
+          .addArc("mutex", "t_on" + i)
+          .addArc("t_on" + i, "on" + i)
+          .addArc("t_on" + i, "mutex")
+          .addArc("on" + i, "t_off" + i)
+          .addArc("t_off" + i, "off" + i)
+          .addInitialToken("off" + i, 1);
+    }
+    PetriNet net = builder.build();
+    PetriNetValidator budgeted = new PetriNetValidator(null, 2, 3);
+    ValidationConfig config =
+        ValidationConfig.builder()
+            .enabledChecks(EnumSet.of(CheckType.DEADLOCK_DETECTION))
+            .kBound(Integer.MAX_VALUE)
+            .maxTimeMs(2000)
+            .bitstateMemoryMb(2)
+            .build();
+
+    // The first search holds its table until it times out
+    CompletableFuture<PetriNetValidationResult> holding =
+        CompletableFuture.supplyAsync(() -> budgeted.validate(net, config));
+    while (budgeted.availableBitstateMemoryMb() == 3) {
+      Thread.onSpinWait();
+    }
+
+    assertThatThrownBy(() -> budgeted.validate(net, config))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("1 MB left of the 3 MB total");
+    assertThat(budgeted.validate(net, config.toBuilder().bitstateMemoryMb(1).maxTimeMs(100).build()))
+        .isNotNull();
+    assertThat(holding.get()).isNotNull();
+    assertThat(budgeted.availableBitstateMemoryMb()).isEqualTo(3);
+
+    assertThatThrownBy(() -> new PetriNetValidator(null, 4, 3))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("below the per-request maximum");
+  }
+
+  @Test
+  @DisplayName("Should produce identical results with off-heap state storage")
+  void shouldMatchHeapWithOffHeapStateStorage() {
+    PetriNet net = forkJoin(8, true);
+
+    for (int kBound : new int[] {17, 300}) {
+      PetriNetValidationResult heap =
+          validator.validate(net, ValidationConfig.builder().kBound(kBound).build());
+      for (StateStorage storage : EnumSet.of(StateStorage.OFF_HEAP, StateStorage.MEMORY_MAPPED)) {
+        PetriNetValidationResult offHeap =
+            validator.validate(
+                net, ValidationConfig.builder().kBound(kBound).stateStorage(storage).build());
+
+        assertThat(offHeap.getStatesExplored()).isEqualTo(heap.getStatesExplored());
+        for (CheckType type : heap.getChecks().keySet()) {
+          assertThat(offHeap.getChecks().get(type).getStatus())
+              .isEqualTo(heap.getChecks().get(type).getStatus());
+          assertThat(offHeap.getChecks().get(type).getDetails())
+              .isEqualTo(heap.getChecks().get(type).getDetails());
+        }
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("Should report liveness levels of a cyclic net")
+  void shouldReportLivenessLevels() {
+    PetriNet net =
+        PetriNet.builder()
+            .name("Ring")
+            .addPlace(new Place("p1"))
+            .addPlace(new Place("p2"))
+            .addTransition(new Transition("t1"))
+            .addTransition(new Transition("t2"))
+            .addArc("p1", "t1")
+            .addArc("t1", "p2")
+            .addArc("p2", "t2")
+            .addArc("t2", "p1")
+            .addInitialToken("p1", 1)
+            .build();
+
+    PetriNetValidationResult result =
+        validator.validate(
+            net, new ValidationConfig(200, 30000, EnumSet.of(CheckType.LIVENESS_CHECK)));
+
+    assertThat(result.getCheckResult(CheckType.LIVENESS_CHECK))
+        .hasValueSatisfying(
+            check -> {
+              assertThat(check.isPassed()).isTrue();
+              assertThat(check.getDetails())
+                  .containsEntry(
+                      "livenessLevels", Map.of("t1", LivenessLevel.L4, "t2", LivenessLevel.L4));
+            });
+  }
+
+  @Test
+  @DisplayName("Should report livelocks as deadlock failures with a witness")
+  void shouldReportLivelockWithWitness() {
+    // After t_loop the token cycles between l1 and l2 and can never reach p_done
+    PetriNet net =
+        PetriNet.builder()
+            .name("Retry Loop")
+            .addPlace(new Place("p_start"))
+            .addPlace(new Place("l1"))
+            .addPlace(new Place("l2"))
+            .addPlace(new Place("p_done"))
+            .addTransition(new Transition("t_loop"))
+            .addTransition(new Transition("t_finish"))
+            .addTransition(new Transition("t_retry"))
+            .addTransition(new Transition("t_back"))
+            .addArc("p_start", "t_loop")
+            .addArc("t_loop", "l1")
+            .addArc("l1", "t_retry")
+            .addArc("t_retry", "l2")
+            .addArc("l2", "t_back")
+            .addArc("t_back", "l1")
+            .addArc("p_start", "t_finish")
+            .addArc("t_finish", "p_done")
+            .addInitialToken("p_start", 1)
+            .build();
+
+    for (int parallelism : new int[] {1, 4}) {
+      PetriNetValidationResult result =
+          validator.validate(net, ValidationConfig.builder().parallelism(parallelism).build());
+
+      assertThat(result.getCheckResult(CheckType.DEADLOCK_DETECTION))
+          .hasValueSatisfying(
+              check -> {
+                assertThat(check.getStatus()).isEqualTo(PetriValidationStatus.FAIL);
+                assertThat(check.getDetails()).containsEntry("livelockMarkings", 2);
+              });
+      assertThat(result.getCounterExample().getPathToFailure()).containsExactly("t_loop");
+      assertThat(result.getCounterExample().getFailingMarking().getTokens("l1")).isEqualTo(1);
+      assertThat(result.getCheckResult(CheckType.LIVENESS_CHECK))
+          .hasValueSatisfying(
+              check ->
+                  assertThat(check.getDetails())
+                      .containsEntry(
+                          "livenessLevels",
+                          Map.of(
+                              "t_loop", LivenessLevel.L1,
+                              "t_finish", LivenessLevel.L1,
+                              "t_retry", LivenessLevel.L3,
+                              "t_back", LivenessLevel.L3)));
+    }
+  }
+
+  @Test
+  @DisplayName("Should not pass deadlock detection on a livelock under partial-order or bitstate search")
+  void shouldLeaveLivelocksUndecidedWithoutGraph() {
+    // The retry loop of the livelock test, which the default search fails
+    PetriNet net =
+        PetriNet.builder()
+            .name("Retry Loop")
+            .addPlace(new Place("p_start"))
+            .addPlace(new Place("l1"))
+            .addPlace(new Place("l2"))
+            .addPlace(new Place("p_done"))
+            .addTransition(new Transition("t_loop"))
+            .addTransition(new Transition("t_finish"))
+            .addTransition(new Transition("t_retry"))
+            .addTransition(new Transition("t_back"))
+            .addArc("p_start", "t_loop")
+            .addArc("t_loop", "l1")
+            .addArc("l1", "t_retry")
+            .addArc("t_retry", "l2")
+            .addArc("l2", "t_back")
+            .addArc("t_back", "l1")
+            .addArc("p_start", "t_finish")
+            .addArc("t_finish", "p_done")
+            .addInitialToken("p_start", 1)
+            .build();
+
+    for (ValidationConfig config :
+        List.of(
+            ValidationConfig.builder().partialOrderReduction(true).build(),
+            ValidationConfig.builder().bitstateMemoryMb(1).build())) {
+      PetriNetValidationResult result = validator.validate(net, config);
+
+      assertThat(result.getCheckResult(CheckType.DEADLOCK_DETECTION))
+          .hasValueSatisfying(
+              check -> {
+                assertThat(check.getStatus()).isEqualTo(PetriValidationStatus.INCONCLUSIVE_BOUND);
+                assertThat(check.getMessage()).contains("Livelocks not checked");
+              });
+    }
+  }
+
+  @Test
+  @DisplayName("Should explore the reduced net and report witnesses on the original net")
+  void shouldReportOriginalWitnessWithNetReduction() {
+    // A five-step pipeline whose last step waits for an approval that never arrives
+    PetriNet.Builder builder =
+        PetriNet.builder()
+            .name("Pipeline")
+            .addPlace(new Place("s0"))
+            .addPlace(new Place("approval"))
+            .addPlace(new Place("p_done"))
+            .addTransition(new Transition("t_final"))
+            .addArc("approval", "t_final")
+            .addArc("t_final", "p_done")
+            .addInitialToken("s0", 1);
+    for (int step = 1; step <= 5; step++) {
+      builder
+          .addPlace(new Place("s" + step))
+          .addTransition(new Transition("t" + step))
+          .addArc("s" + (step - 1), "t" + step)
+          .addArc("t" + step, "s" + step);
+    }
+    PetriNet net = builder.addArc("s5", "t_final").build();
+    EnumSet<CheckType> checks = EnumSet.of(CheckType.DEADLOCK_DETECTION, CheckType.LIVENESS_CHECK);
+
+    PetriNetValidationResult full =
+        validator.validate(
+            net, ValidationConfig.builder().enabledChecks(checks).netReduction(false).build());
+    PetriNetValidationResult reduced =
+        validator.validate(
+            net, ValidationConfig.builder().enabledChecks(checks).netReduction(true).build());
+
+    assertThat(reduced.getStatesExplored()).isLessThan(full.getStatesExplored());
+    assertThat(reduced.getCounterExample().getPathToFailure())
+        .containsExactly("t1", "t2", "t3", "t4", "t5");
+    assertThat(reduced.getCounterExample().getFailingMarking())
+        .isEqualTo(full.getCounterExample().getFailingMarking());
+    assertThat(reduced.getCheckResult(CheckType.LIVENESS_CHECK))
+        .hasValueSatisfying(
+            check -> assertThat(check.getDetails()).containsEntry("deadTransitions", List.of("t_final")));
+  }
+
+  @Test
+  @DisplayName("Should prove deadlock freedom from siphons and traps without exploring")
+  void shouldProveDeadlockFreedomStructurally() {
+    // 2^12 interleavings exceed the bound, but every siphon holding p_done contains p_start
+    PetriNet net = forkJoin(12, true);
+
+    PetriNetValidationResult deadlockOnly =
+        validator.validate(
+            net, new ValidationConfig(200, 30000, EnumSet.of(CheckType.DEADLOCK_DETECTION)));
+    PetriNetValidationResult all = validator.validate(net, new ValidationConfig(200, 30000, null));
+
+    assertThat(deadlockOnly.getStatesExplored()).isZero();
+    assertThat(deadlockOnly.getCheckResult(CheckType.DEADLOCK_DETECTION))
+        .hasValueSatisfying(
+            check -> {
+              assertThat(check.getStatus()).isEqualTo(PetriValidationStatus.PASS);
+              assertThat(check.getDetails()).containsKey("siphonsExamined");
+            });
+    assertThat(all.getCheckResult(CheckType.DEADLOCK_DETECTION))
+        .hasValueSatisfying(check -> assertThat(check.isPassed()).isTrue());
+    assertThat(all.getCheckResult(CheckType.LIVENESS_CHECK))
+        .hasValueSatisfying(check -> assertThat(check.getStatus()).isEqualTo(PetriValidationStatus.INCONCLUSIVE_BOUND));
+  }
+
+  @Test
+  @DisplayName("Should decide sound free-choice workflow nets without exploring")
+  void shouldDecideSoundWorkflowNetByClass() {
+    // Without the lock the skip is a free choice, so the rank theorem proves soundness
+    PetriNet.Builder builder =
+        PetriNet.builder()
+            .name("Review Or Skip")
+            .addPlace(new Place("p_start"))
+            .addPlace(new Place("p_done"))
+            .addTransition(new Transition("t_fork"))
+            .addTransition(new Transition("t_join"))
+            .addTransition(new Transition("t_skip"))
+            .addArc("p_start", "t_fork")
+            .addArc("p_start", "t_skip")
+            .addArc("t_skip", "p_done")
+            .addArc("t_join", "p_done")
+            .addInitialToken("p_start", 1);
+    for (int i = 0; i < 12; i++) {
+      builder
+          .addPlace(new Place("a" + i))
+          .addPlace(new Place("b" + i))
+          .addTransition(new Transition("w" + i))
+          .addArc("t_fork", "a" + i)
+          .addArc("a" + i, "w" + i)
+          .addArc("w" + i, "b" + i)
+          .addArc("b" + i, "t_join");
+    }
+
+    PetriNetValidationResult result =
+        validator.validate(builder.build(), new ValidationConfig(200, 30000, null));
+
+    assertThat(result.getStatesExplored()).isZero();
+    assertThat(result.getInconclusiveChecks()).isEmpty();
+    assertThat(result.getCheckResult(CheckType.STRUCTURAL_VALIDATION))
+        .hasValueSatisfying(
+            check -> assertThat(check.getDetails()).containsEntry("netClass", NetClass.FREE_CHOICE));
+    for (CheckType type :
+        EnumSet.of(
+            CheckType.DEADLOCK_DETECTION,
+            CheckType.REACHABILITY_ANALYSIS,
+            CheckType.LIVENESS_CHECK)) {
+      assertThat(result.getCheckResult(type))
+          .hasValueSatisfying(
+              check -> {
+                assertThat(check.isPassed()).isTrue();
+                assertThat(check.getDetails()).containsEntry("algorithm", "free-choice rank theorem");
+              });
+    }
+  }
+
+  @Test
+  @DisplayName("Should decide state machines and live marked graphs by their class")
+  void shouldDecideStateMachinesAndMarkedGraphsByClass() {
+    // Two tokens circulate independently; a bound of one marking cannot hold them
+    PetriNet ring =
+        PetriNet.builder()
+            .name("Ring")
+            .addPlace(new Place("p1"))
+            .addPlace(new Place("p2"))
+            .addTransition(new Transition("t1"))
+            .addTransition(new Transition("t2"))
+            .addArc("p1", "t1")
+            .addArc("t1", "p2")
+            .addArc("p2", "t2")
+            .addArc("t2", "p1")
+            .addInitialToken("p1", 2)
+            .build();
+    // Both processes hold a token, so every circuit through t_sync is marked
+    PetriNet rounds =
+        PetriNet.builder()
+            .name("Synchronised Rounds")
+            .addPlace(new Place("a_ready"))
+            .addPlace(new Place("a_done"))
+            .addPlace(new Place("b_ready"))
+            .addPlace(new Place("b_done"))
+            .addTransition(new Transition("t_sync"))
+            .addTransition(new Transition("t_a"))
+            .addTransition(new Transition("t_b"))
+            .addArc("a_ready", "t_sync")
+            .addArc("b_ready", "t_sync")
+            .addArc("t_sync", "a_done")
+            .addArc("t_sync", "b_done")
+            .addArc("a_done", "t_a")
+            .addArc("t_a", "a_ready")
+            .addArc("b_done", "t_b")
+            .addArc("t_b", "b_ready")
+            .addInitialToken("a_ready", 1)
+            .addInitialToken("b_ready", 1)
+            .build();
+    EnumSet<CheckType> checks = EnumSet.of(CheckType.DEADLOCK_DETECTION, CheckType.LIVENESS_CHECK);
+
+    PetriNetValidationResult stateMachine =
+        validator.validate(ring, new ValidationConfig(1, 30000, checks));
+    PetriNetValidationResult markedGraph =
+        validator.validate(rounds, new ValidationConfig(1, 30000, checks));
+
+    assertThat(stateMachine.getInconclusiveChecks()).isEmpty();
+    assertThat(stateMachine.getCheckResult(CheckType.LIVENESS_CHECK))
+        .hasValueSatisfying(
+            check -> {
+              assertThat(check.isPassed()).isTrue();
+              assertThat(check.getDetails())
+                  .containsEntry("algorithm", "state machine token reachability");
+            });
+    assertThat(markedGraph.getInconclusiveChecks()).isEmpty();
+    assertThat(markedGraph.getCheckResult(CheckType.DEADLOCK_DETECTION))
+        .hasValueSatisfying(check -> assertThat(check.isPassed()).isTrue());
+    assertThat(markedGraph.getCheckResult(CheckType.LIVENESS_CHECK))
+        .hasValueSatisfying(
+            check -> {
+              assertThat(check.getDetails()).containsEntry("algorithm", "marked graph circuits");
+              assertThat(check.getDetails())
+                  .containsEntry(
+                      "livenessLevels",
+                      Map.of(
+                          "t_sync", LivenessLevel.L4,
+                          "t_a", LivenessLevel.L4,
+                          "t_b", LivenessLevel.L4));
+            });
+  }
+
+  @Test
+  @DisplayName("Should check temporal properties and reject malformed ones")
+  void shouldCheckTemporalProperties() {
+    PetriNet net =
+        PetriNet.builder()
+            .name("Approval")
+            .addPlace(new Place("p_submitted"))
+            .addPlace(new Place("p_review"))
+            .addPlace(new Place("p_done"))
+            .addTransition(new Transition("t_review"))
+            .addTransition(new Transition("t_revise"))
+            .addTransition(new Transition("t_approve"))
+            .addArc("p_submitted", "t_review")
+            .addArc("t_review", "p_review")
+            .addArc("p_review", "t_revise")
+            .addArc("t_revise", "p_submitted")
+            .addArc("p_review", "t_approve")
+            .addArc("t_approve", "p_done")
+            .addInitialToken("p_submitted", 1)
+            .build();
+    List<String> properties = List.of("AG EF marked(p_done)", "F marked(p_done)");
+
+    PetriNetValidationResult result =
+        validator.validate(
+            net,
+            ValidationConfig.builder()
+                .enabledChecks(EnumSet.of(CheckType.TEMPORAL_PROPERTY_CHECK))
+                .properties(properties)
+                .build());
+
+    assertThat(result.getCheckResult(CheckType.TEMPORAL_PROPERTY_CHECK))
+        .hasValueSatisfying(
+            check -> {
+              assertThat(check.isFailed()).isTrue();
+              assertThat(check.getMessage()).contains("F marked(p_done)");
+              @SuppressWarnings("unchecked")
+              List<Map<String, Object>> details =
+                  (List<Map<String, Object>>) check.getDetails().get("properties");
+              assertThat(details).extracting(property -> property.get("status"))
+                  .containsExactly(PetriValidationStatus.PASS, PetriValidationStatus.FAIL);
+              // Revising forever never finishes
+              assertThat(details.get(1).get("path")).isEqualTo(List.of("t_review"));
+              assertThat(details.get(1).get("cycle")).isEqualTo(List.of("t_revise", "t_review"));
+            });
+    assertThat(result.getHints()).anyMatch(hint -> hint.contains("F marked(p_done)"));
+    assertThatThrownBy(
+            () -> ValidationConfig.builder().properties(List.of("G (")).build())
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  @DisplayName("Should decide concurrent nets on an unfolding prefix")
+  void shouldDecideOnUnfoldingPrefix() {
+    // 2^20 interleavings exceed the bound; the prefix has one event per transition occurrence
+    PetriNet.Builder builder =
+        PetriNet.builder()
+            .name("Fork Join With Failure")
+            .addPlace(new Place("p_start"))
+            .addPlace(new Place("p_done"))
+            .addPlace(new Place("p_failed"))
+            .addTransition(new Transition("t_fork"))
+            .addTransition(new Transition("t_join"))
+            .addTransition(new Transition("t_fail"))
+            .addArc("p_start", "t_fork")
+            .addArc("t_join", "p_done")
+            .addArc("t_fail", "p_failed")
+            .addInitialToken("p_start", 1);
+    for (int i = 0; i < 20; i++) {
+      builder
+          .addPlace(new Place("a" + i))
+          .addPlace(new Place("b" + i))
+          .addTransition(new Transition("w" + i))
+          .addArc("t_fork", "a" + i)
+          .addArc("a" + i, "w" + i)
+          .addArc("w" + i, "b" + i)
+          .addArc("b" + i, "t_join");
+    }
+    PetriNet net = builder.addArc("a7", "t_fail").build();
+
+    PetriNetValidationResult explored = validator.validate(net, new ValidationConfig(200, 30000, null));
+    PetriNetValidationResult unfolded =
+        validator.validate(
+            net, ValidationConfig.builder().unfolding(true).build());
+
+    assertThat(explored.getInconclusiveChecks()).isNotEmpty();
+    assertThat(unfolded.getInconclusiveChecks()).isEmpty();
+    assertThat(unfolded.getCheckResult(CheckType.DEADLOCK_DETECTION))
+        .hasValueSatisfying(
+            check -> {
+              assertThat(check.isFailed()).isTrue();
+              assertThat(check.getDetails()).containsEntry("algorithm", "unfolding prefix");
+            });
+    assertThat(unfolded.getCounterExample().getPathToFailure())
+        .startsWith("t_fork")
+        .contains("t_fail")
+        .doesNotContain("w7", "t_join");
+    assertThat(unfolded.getCounterExample().getFailingMarking().getTokens("p_failed")).isEqualTo(1);
+    assertThat(unfolded.getCheckResult(CheckType.REACHABILITY_ANALYSIS))
+        .hasValueSatisfying(check -> assertThat(check.isPassed()).isTrue());
+  }
+
+  @Test
+  @DisplayName("Should decide every check symbolically beyond the explicit bound")
+  void shouldDecideSymbolically() {
+    // 3^30 markings, each branch deploying or failing; any failure blocks the join
+    PetriNet.Builder builder =
+        PetriNet.builder()
+            .name("Fork Join With Failures")
+            .addPlace(new Place("p_start"))
+            .addPlace(new Place("p_done"))
+            .addTransition(new Transition("t_fork"))
+            .addTransition(new Transition("t_join"))
+            .addArc("p_start", "t_fork")
+            .addArc("t_join", "p_done")
+            .addInitialToken("p_start", 1);
+    for (int i = 0; i < 30; i++) {
+      builder
+          .addPlace(new Place("a" + i))
+          .addPlace(new Place("b" + i))
+          .addPlace(new Place("failed" + i))
+          .addTransition(new Transition("w" + i))
+          .addTransition(new Transition("f" + i))
+          .addArc("t_fork", "a" + i)
+          .addArc("a" + i, "w" + i)
+          .addArc("w" + i, "b" + i)
+          .addArc("a" + i, "f" + i)
+          .addArc("f" + i, "failed" + i)
+          .addArc("b" + i, "t_join");
+    }
+    PetriNet net = builder.build();
+
+    PetriNetValidationResult result =
+        validator.validate(
+            net, ValidationConfig.builder().symbolic(true).build());
+
+    assertThat(result.getCheckResult(CheckType.DEADLOCK_DETECTION))
+        .hasValueSatisfying(
+            check -> {
+              assertThat(check.isFailed()).isTrue();
+              assertThat(check.getDetails())
+                  .containsEntry("algorithm", "symbolic saturation")
+                  .containsEntry("reachableMarkings", BigInteger.valueOf(3).pow(30).add(BigInteger.TWO));
+            });
+    CompiledPetriNet compiled = net.compile();
+    int[] tokens = compiled.initialTokenVector();
+    for (String transitionId : result.getCounterExample().getPathToFailure()) {
+      tokens = compiled.fire(compiled.transitionIndex(transitionId), tokens);
+    }
+    assertThat(compiled.toMarking(tokens)).isEqualTo(result.getCounterExample().getFailingMarking());
+    assertThat(compiled.hasEnabledTransition(tokens)).isFalse();
+    assertThat(result.getCheckResult(CheckType.REACHABILITY_ANALYSIS))
+        .hasValueSatisfying(check -> assertThat(check.isPassed()).isTrue());
+    assertThat(result.getCheckResult(CheckType.LIVENESS_CHECK))
+        .hasValueSatisfying(check -> assertThat(check.isPassed()).isTrue());
+    assertThat(
+            validator
+                .validate(net, new ValidationConfig(200, 30000, null))
+                .getCheckResult(CheckType.REACHABILITY_ANALYSIS))
+        .hasValueSatisfying(
+            check -> assertThat(check.getStatus()).isEqualTo(PetriValidationStatus.INCONCLUSIVE_BOUND));
+  }
+}
@@ -0,0 +1,88 @@
+/* Copyright (c) 2025 Rishabh Pathak. Licensed under the MIT License. */
+
+package core.petri.validation;
+
+import static org.assertj.core.api.Assertions.*;
+
+import core.petri.validation.PetriNetValidationResult.LivenessLevel;
+import java.util.BitSet;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for ReachabilityGraph
+ *
+ * Tests cover:
+ * - Liveness levels from dead to live
+ * - Livelocks as cyclic bottom components without terminal markings
+ * - Components of long chains without recursion
+ *
+ * @author Obvian Labs
+ * @since POC Phase 1
+ */
+@DisplayName("ReachabilityGraph Tests")
+class ReachabilityGraphTest {
+
+  @Test
+  @DisplayName("Should assign liveness levels from the components")
+  void shouldAssignLivenessLevels() {
+    // 0 -t0-> 1 <-t1/t2-> 2, and 0 -t3-> 3 where 3 loops on t1 only
+    ReachabilityGraph graph = new ReachabilityGraph();
+    graph.addEdge(0, 1, 0);
+    graph.addEdge(1, 2, 1);
+    graph.addEdge(2, 1, 2);
+    graph.addEdge(0, 3, 3);
+    graph.addEdge(3, 3, 1);
+
+    ReachabilityGraph.Analysis analysis = graph.analyze(4, 5, new BitSet());
+
+    assertThat(analysis.getComponentCount()).isEqualTo(3);
+    assertThat(analysis.getBottomComponentCount()).isEqualTo(2);
+    assertThat(analysis.getLivenessLevel(0)).isEqualTo(LivenessLevel.L1);
+    assertThat(analysis.getLivenessLevel(1)).isEqualTo(LivenessLevel.L4);
+    assertThat(analysis.getLivenessLevel(2)).isEqualTo(LivenessLevel.L3);
+    assertThat(analysis.getLivenessLevel(3)).isEqualTo(LivenessLevel.L1);
+    assertThat(analysis.getLivenessLevel(4)).isEqualTo(LivenessLevel.L0);
+  }
+
+  @Test
+  @DisplayName("Should report cyclic bottom components without terminal markings as livelocks")
+  void shouldReportLivelocks() {
+    // 0 -> 1 (terminal, dead); 0 -> 2 <-> 3; 0 -> 4 <-> 5 where 5 is terminal
+    ReachabilityGraph graph = new ReachabilityGraph();
+    graph.addEdge(0, 1, 0);
+    graph.addEdge(0, 2, 1);
+    graph.addEdge(2, 3, 2);
+    graph.addEdge(3, 2, 3);
+    graph.addEdge(0, 4, 4);
+    graph.addEdge(4, 5, 2);
+    graph.addEdge(5, 4, 3);
+    BitSet terminal = new BitSet();
+    terminal.set(1);
+    terminal.set(5);
+
+    ReachabilityGraph.Analysis analysis = graph.analyze(6, 5, terminal);
+
+    assertThat(analysis.getLivelockCount()).isEqualTo(1);
+    assertThat(analysis.getLivelockState(0)).isEqualTo(2);
+    assertThat(analysis.getLivelockSize(0)).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("Should analyse long chains without recursion")
+  void shouldAnalyseLongChains() {
+    int states = 200_000;
+    ReachabilityGraph graph = new ReachabilityGraph();
+    for (int state = 0; state + 1 < states; state++) {
+      graph.addEdge(state, state + 1, 0);
+    }
+    graph.addEdge(states - 1, 0, 1);
+
+    ReachabilityGraph.Analysis analysis = graph.analyze(states, 2, new BitSet());
+
+    assertThat(analysis.getComponentCount()).isEqualTo(1);
+    assertThat(analysis.getLivenessLevel(0)).isEqualTo(LivenessLevel.L4);
+    assertThat(analysis.getLivenessLevel(1)).isEqualTo(LivenessLevel.L4);
+    assertThat(analysis.getLivelockCount()).isEqualTo(1);
+  }
+}
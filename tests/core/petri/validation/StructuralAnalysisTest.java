@@ -0,0 +1,328 @@
+/* Copyright (c) 2025 Rishabh Pathak. Licensed under the MIT License. */
+
+package core.petri.validation;
+
+import static org.assertj.core.api.Assertions.*;
+
+import core.petri.CompiledPetriNet;
+import core.petri.PetriNet;
+import core.petri.Place;
+import core.petri.Transition;
+import core.petri.validation.PetriNetValidationResult.NetClass;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for StructuralAnalysis
+ *
+ * Tests cover:
+ * - Minimal P- and T-invariants from the Farkas algorithm
+ * - Token bounds implied by P-invariants
+ * - Canonical runs of acyclic conflict-free nets
+ * - Siphon-trap property for deadlock freedom
+ * - Net classes, live marked graphs and sound free-choice workflow nets
+ *
+ * @author Obvian Labs
+ * @since POC Phase 1
+ */
+@DisplayName("StructuralAnalysis Tests")
+class StructuralAnalysisTest {
+
+  private static PetriNet producerConsumer() {
+    return PetriNet.builder()
+        .name("Producer Consumer")
+        .addPlace(new Place("ready"))
+        .addPlace(new Place("full"))
+        .addPlace(new Place("empty"))
+        .addPlace(new Place("waiting"))
+        .addTransition(new Transition("produce"))
+        .addTransition(new Transition("consume"))
+        .addArc("ready", "produce")
+        .addArc("empty", "produce", 2)
+        .addArc("produce", "full", 2)
+        .addArc("produce", "waiting")
+        .addArc("waiting", "consume")
+        .addArc("full", "consume", 2)
+        .addArc("consume", "empty", 2)
+        .addArc("consume", "ready")
+        .addInitialToken("ready", 1)
+        .addInitialToken("empty", 4)
+        .build();
+  }
+
+  @Test
+  @DisplayName("Should compute minimal P- and T-invariants")
+  void shouldComputeInvariants() {
+    StructuralAnalysis analysis = new StructuralAnalysis(producerConsumer().compile());
+
+    // Places: ready, full, empty, waiting
+    assertThat(analysis.placeInvariants())
+        .containsExactlyInAnyOrder(
+            new int[] {1, 0, 0, 1},
+            new int[] {0, 1, 1, 0},
+            new int[] {2, 1, 0, 0},
+            new int[] {0, 0, 1, 2});
+    assertThat(analysis.transitionInvariants()).containsExactly(new int[] {1, 1});
+  }
+
+  @Test
+  @DisplayName("Should bound every place covered by a P-invariant")
+  void shouldBoundCoveredPlaces() {
+    StructuralAnalysis analysis = new StructuralAnalysis(producerConsumer().compile());
+
+    // 2·ready + full = 2 caps the buffer at one production even though empty holds 4
+    assertThat(analysis.invariantBounds()).containsExactly(1, 2, 4, 1);
+  }
+
+  @Test
+  @DisplayName("Should not bound places outside every P-invariant")
+  void shouldNotBoundUncoveredPlaces() {
+    PetriNet net =
+        PetriNet.builder()
+            .name("Generator")
+            .addPlace(new Place("p"))
+            .addPlace(new Place("q"))
+            .addTransition(new Transition("gen"))
+            .addArc("p", "gen")
+            .addArc("gen", "p")
+            .addArc("gen", "q")
+            .addInitialToken("p", 1)
+            .build();
+
+    assertThat(new StructuralAnalysis(net.compile()).invariantBounds()).isNull();
+  }
+
+  @Test
+  @DisplayName("Should fire each transition as often as its inputs allow in topological order")
+  void shouldBuildCanonicalRun() {
+    PetriNet net =
+        PetriNet.builder()
+            .name("Split")
+            .addPlace(new Place("p_start"))
+            .addPlace(new Place("work"))
+            .addPlace(new Place("p_done"))
+            .addTransition(new Transition("split"))
+            .addTransition(new Transition("finish"))
+            .addArc("p_start", "split")
+            .addArc("split", "work", 3)
+            .addArc("work", "finish")
+            .addArc("finish", "p_done")
+            .addInitialToken("p_start", 1)
+            .build();
+    CompiledPetriNet compiled = net.compile();
+    StructuralAnalysis analysis = new StructuralAnalysis(compiled);
+    int split = compiled.transitionIndex("split");
+    int finish = compiled.transitionIndex("finish");
+
+    assertThat(analysis.conflictFreeRun(10)).containsExactly(split, finish, finish, finish);
+    assertThat(analysis.conflictFreeRun(3)).isNull();
+  }
+
+  @Test
+  @DisplayName("Should not build a run for cyclic or conflicting nets")
+  void shouldRejectCyclicAndConflictingNets() {
+    assertThat(new StructuralAnalysis(producerConsumer().compile()).topologicalOrder()).isNull();
+
+    PetriNet choice =
+        PetriNet.builder()
+            .name("Choice")
+            .addPlace(new Place("p_start"))
+            .addPlace(new Place("p_done"))
+            .addTransition(new Transition("left"))
+            .addTransition(new Transition("right"))
+            .addArc("p_start", "left")
+            .addArc("p_start", "right")
+            .addArc("left", "p_done")
+            .addArc("right", "p_done")
+            .addInitialToken("p_start", 1)
+            .build();
+    StructuralAnalysis analysis = new StructuralAnalysis(choice.compile());
+
+    assertThat(analysis.isConflictFree()).isFalse();
+    assertThat(analysis.conflictFreeRun(10)).isNull();
+  }
+
+  /**
+   * Choice between a direct finish and a join that also needs the given extra input place.
+   */
+  private static CompiledPetriNet choiceWithJoin(boolean extraInputMarked) {
+    PetriNet.Builder builder =
+        PetriNet.builder()
+            .name("Choice With Join")
+            .addPlace(new Place("p_start"))
+            .addPlace(new Place("a"))
+            .addPlace(new Place("extra"))
+            .addPlace(new Place("p_done"))
+            .addTransition(new Transition("t_skip"))
+            .addTransition(new Transition("t_work"))
+            .addTransition(new Transition("t_join"))
+            .addArc("p_start", "t_skip")
+            .addArc("t_skip", "p_done")
+            .addArc("p_start", "t_work")
+            .addArc("t_work", "a")
+            .addArc("a", "t_join")
+            .addArc("extra", "t_join")
+            .addArc("t_join", "p_done")
+            .addInitialToken("p_start", 1);
+    if (extraInputMarked) {
+      builder.addInitialToken("extra", 1);
+    }
+    return builder.build().compile();
+  }
+
+  @Test
+  @DisplayName("Should find a marked trap in every siphon containing the terminal places")
+  void shouldEstablishSiphonTrapProperty() {
+    CompiledPetriNet net = choiceWithJoin(true);
+
+    Integer examined =
+        new StructuralAnalysis(net).siphonTrapProperty(place -> net.placeId(place).equals("p_done"));
+
+    assertThat(examined).isNotNull().isPositive();
+  }
+
+  @Test
+  @DisplayName("Should reject siphons without a marked trap and non-ordinary nets")
+  void shouldRejectUnmarkedSiphons() {
+    // {p_done, extra} is a siphon that never gains a token, so t_join can deadlock
+    CompiledPetriNet net = choiceWithJoin(false);
+
+    assertThat(
+            new StructuralAnalysis(net)
+                .siphonTrapProperty(place -> net.placeId(place).equals("p_done")))
+        .isNull();
+    assertThat(new StructuralAnalysis(producerConsumer().compile()).isOrdinary()).isFalse();
+    assertThat(new StructuralAnalysis(producerConsumer().compile()).siphonTrapProperty(place -> false))
+        .isNull();
+  }
+
+  /**
+   * Two processes that synchronise on every round; each place has one producer and one consumer
+   */
+  private static CompiledPetriNet synchronisedRounds(boolean marked) {
+    PetriNet.Builder builder =
+        PetriNet.builder()
+            .name("Synchronised Rounds")
+            .addPlace(new Place("a_ready"))
+            .addPlace(new Place("a_done"))
+            .addPlace(new Place("b_ready"))
+            .addPlace(new Place("b_done"))
+            .addTransition(new Transition("t_sync"))
+            .addTransition(new Transition("t_a"))
+            .addTransition(new Transition("t_b"))
+            .addArc("a_ready", "t_sync")
+            .addArc("b_ready", "t_sync")
+            .addArc("t_sync", "a_done")
+            .addArc("t_sync", "b_done")
+            .addArc("a_done", "t_a")
+            .addArc("t_a", "a_ready")
+            .addArc("b_done", "t_b")
+            .addArc("t_b", "b_ready")
+            .addInitialToken("a_ready", 1);
+    if (marked) {
+      builder.addInitialToken("b_ready", 1);
+    }
+    return builder.build().compile();
+  }
+
+  /**
+   * Workflow that either runs two steps in parallel or chooses one of them before a join
+   * waiting for both, which can never fire
+   */
+  private static CompiledPetriNet splitAndJoin(boolean parallel) {
+    PetriNet.Builder builder =
+        PetriNet.builder()
+            .name("Split And Join")
+            .addPlace(new Place("p_start"))
+            .addPlace(new Place("x"))
+            .addPlace(new Place("y"))
+            .addPlace(new Place("p_done"))
+            .addTransition(new Transition("t_join"))
+            .addArc("x", "t_join")
+            .addArc("y", "t_join")
+            .addArc("t_join", "p_done")
+            .addInitialToken("p_start", 1);
+    if (parallel) {
+      builder
+          .addTransition(new Transition("t_split"))
+          .addArc("p_start", "t_split")
+          .addArc("t_split", "x")
+          .addArc("t_split", "y");
+    } else {
+      builder
+          .addTransition(new Transition("t_x"))
+          .addTransition(new Transition("t_y"))
+          .addArc("p_start", "t_x")
+          .addArc("t_x", "x")
+          .addArc("p_start", "t_y")
+          .addArc("t_y", "y");
+    }
+    return builder.build().compile();
+  }
+
+  @Test
+  @DisplayName("Should classify state machines, marked graphs and free-choice nets")
+  void shouldClassifyNets() {
+    CompiledPetriNet ring =
+        PetriNet.builder()
+            .name("Ring")
+            .addPlace(new Place("p1"))
+            .addPlace(new Place("p2"))
+            .addTransition(new Transition("t1"))
+            .addTransition(new Transition("t2"))
+            .addArc("p1", "t1")
+            .addArc("t1", "p2")
+            .addArc("p2", "t2")
+            .addArc("t2", "p1")
+            .addInitialToken("p1", 2)
+            .build()
+            .compile();
+    // t_both competes with t_one for p but also needs q
+    CompiledPetriNet asymmetricChoice =
+        PetriNet.builder()
+            .name("Asymmetric Choice")
+            .addPlace(new Place("p"))
+            .addPlace(new Place("q"))
+            .addPlace(new Place("p_done"))
+            .addTransition(new Transition("t_one"))
+            .addTransition(new Transition("t_both"))
+            .addArc("p", "t_one")
+            .addArc("t_one", "p_done")
+            .addArc("p", "t_both")
+            .addArc("q", "t_both")
+            .addArc("t_both", "p_done")
+            .addInitialToken("p", 1)
+            .addInitialToken("q", 1)
+            .build()
+            .compile();
+
+    assertThat(new StructuralAnalysis(ring).netClass()).isEqualTo(NetClass.STATE_MACHINE);
+    assertThat(new StructuralAnalysis(ring).stateMachineReach(0)).hasToString("{0, 1}");
+    assertThat(new StructuralAnalysis(synchronisedRounds(true)).netClass())
+        .isEqualTo(NetClass.MARKED_GRAPH);
+    assertThat(new StructuralAnalysis(splitAndJoin(false)).netClass())
+        .isEqualTo(NetClass.FREE_CHOICE);
+    assertThat(new StructuralAnalysis(asymmetricChoice).netClass()).isEqualTo(NetClass.GENERAL);
+    assertThat(new StructuralAnalysis(producerConsumer().compile()).netClass())
+        .isEqualTo(NetClass.GENERAL);
+  }
+
+  @Test
+  @DisplayName("Should decide marked graph liveness from marked circuits")
+  void shouldDecideLiveMarkedGraphs() {
+    // Without a token in b_ready the circuit through t_sync and t_b is empty
+    assertThat(new StructuralAnalysis(synchronisedRounds(true)).isLiveMarkedGraph()).isTrue();
+    assertThat(new StructuralAnalysis(synchronisedRounds(false)).isLiveMarkedGraph()).isFalse();
+  }
+
+  @Test
+  @DisplayName("Should prove soundness of free-choice workflow nets with the rank theorem")
+  void shouldProveSoundFreeChoiceWorkflowNets() {
+    assertThat(new StructuralAnalysis(splitAndJoin(true)).isSoundFreeChoiceWorkflowNet()).isTrue();
+    assertThat(new StructuralAnalysis(splitAndJoin(false)).isSoundFreeChoiceWorkflowNet())
+        .isFalse();
+    // Two source places make it no workflow net
+    assertThat(new StructuralAnalysis(choiceWithJoin(true)).isSoundFreeChoiceWorkflowNet())
+        .isFalse();
+  }
+}
@@ -0,0 +1,92 @@
+/* Copyright (c) 2025 Rishabh Pathak. Licensed under the MIT License. */
+
+package core.petri.validation;
+
+import static org.assertj.core.api.Assertions.*;
+
+import core.petri.CompiledPetriNet;
+import core.petri.PetriNet;
+import core.petri.Place;
+import core.petri.Transition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for StubbornSets
+ *
+ * Tests cover:
+ * - Independent branches reduced to a single transition
+ * - Conflicting transitions kept together
+ * - Goal transitions pulling in the transitions that can enable them
+ *
+ * @author Obvian Labs
+ * @since POC Phase 1
+ */
+@DisplayName("StubbornSets Tests")
+class StubbornSetsTest {
+
+  /** Two independent branches a→ta→x and b→tb→y, plus tc competing with tb for b */
+  private static CompiledPetriNet branches() {
+    return PetriNet.builder()
+        .name("Branches")
+        .addPlace(new Place("a"))
+        .addPlace(new Place("b"))
+        .addPlace(new Place("x"))
+        .addPlace(new Place("y"))
+        .addTransition(new Transition("ta"))
+        .addTransition(new Transition("tb"))
+        .addTransition(new Transition("tc"))
+        .addTransition(new Transition("tx"))
+        .addArc("a", "ta")
+        .addArc("ta", "x")
+        .addArc("b", "tb")
+        .addArc("b", "tc")
+        .addArc("tb", "y")
+        .addArc("tc", "y")
+        .addArc("x", "tx")
+        .addArc("y", "tx")
+        .addInitialToken("a", 1)
+        .addInitialToken("b", 1)
+        .build()
+        .compile();
+  }
+
+  @Test
+  @DisplayName("Should fire a single independent transition when no goal is open")
+  void shouldReduceIndependentBranches() {
+    CompiledPetriNet net = branches();
+    int[] tokens = net.initialTokenVector();
+
+    int[] reduced =
+        new StubbornSets(net).reduce(tokens, net.enabledTransitions(tokens), transition -> false);
+
+    assertThat(reduced).containsExactly(net.transitionIndex("ta"));
+  }
+
+  @Test
+  @DisplayName("Should keep conflicting transitions together")
+  void shouldKeepConflicts() {
+    CompiledPetriNet net = branches();
+    int[] tokens = net.initialTokenVector();
+    int tb = net.transitionIndex("tb");
+
+    int[] reduced =
+        new StubbornSets(net).reduce(tokens, net.enabledTransitions(tokens), t -> t == tb);
+
+    assertThat(reduced).containsExactlyInAnyOrder(tb, net.transitionIndex("tc"));
+  }
+
+  @Test
+  @DisplayName("Should include the enablers of a disabled goal")
+  void shouldFollowGoalScapegoat() {
+    CompiledPetriNet net = branches();
+    int[] tokens = net.initialTokenVector();
+    int tx = net.transitionIndex("tx");
+
+    int[] reduced =
+        new StubbornSets(net).reduce(tokens, net.enabledTransitions(tokens), t -> t == tx);
+
+    // tx waits on x first, so only ta needs to be explored to keep tx reachable
+    assertThat(reduced).containsExactly(net.transitionIndex("ta"));
+  }
+}
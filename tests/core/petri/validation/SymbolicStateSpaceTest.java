@@ -0,0 +1,186 @@
+/* Copyright (c) 2025 Rishabh Pathak. Licensed under the MIT License. */
+
+package core.petri.validation;
+
+import static org.assertj.core.api.Assertions.*;
+
+import core.petri.CompiledPetriNet;
+import core.petri.PetriNet;
+import core.petri.Place;
+import core.petri.Transition;
+import java.math.BigInteger;
+import java.util.Arrays;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for SymbolicStateSpace and DecisionDiagram
+ *
+ * Tests cover:
+ * - Canonical set operations on decision diagrams
+ * - Saturation encoding exponentially many markings in linearly many nodes
+ * - Dead markings, backward reachability and replayable witness paths
+ * - Bottom components of cyclic nets
+ * - Incomplete results at the node and token limits
+ *
+ * @author Obvian Labs
+ * @since POC Phase 1
+ */
+@DisplayName("SymbolicStateSpace Tests")
+class SymbolicStateSpaceTest {
+
+  /** p_start forks into n branches that each deploy or fail; deployed branches join into p_done */
+  private static CompiledPetriNet fanOut(int branches) {
+    PetriNet.Builder builder =
+        PetriNet.builder()
+            .name("Fan-out")
+            .addPlace(new Place("p_start"))
+            .addPlace(new Place("p_done"))
+            .addTransition(new Transition("t_fork"))
+            .addTransition(new Transition("t_join"))
+            .addArc("p_start", "t_fork")
+            .addArc("t_join", "p_done")
+            .addInitialToken("p_start", 1);
+    for (int branch = 0; branch < branches; branch++) {
+      builder
+          .addPlace(new Place("ready_" + branch))
+          .addPlace(new Place("deployed_" + branch))
+          .addPlace(new Place("failed_" + branch))
+          .addTransition(new Transition("t_deploy_" + branch))
+          .addTransition(new Transition("t_fail_" + branch))
+          .addArc("t_fork", "ready_" + branch)
+          .addArc("ready_" + branch, "t_deploy_" + branch)
+          .addArc("t_deploy_" + branch, "deployed_" + branch)
+          .addArc("ready_" + branch, "t_fail_" + branch)
+          .addArc("t_fail_" + branch, "failed_" + branch)
+          .addArc("deployed_" + branch, "t_join");
+    }
+    return builder.build().compile();
+  }
+
+  private static SymbolicStateSpace explore(CompiledPetriNet net) {
+    return SymbolicStateSpace.explore(net, 100_000, 100, () -> false);
+  }
+
+  @Test
+  @DisplayName("Should keep decision diagrams canonical under set operations")
+  void shouldKeepSetsCanonical() {
+    DecisionDiagram diagram = new DecisionDiagram(3);
+    int a = diagram.singleton(new int[] {0, 1, 2});
+    int b = diagram.singleton(new int[] {2, 1, 0});
+    int both = diagram.union(a, b);
+
+    assertThat(diagram.union(b, a)).isEqualTo(both);
+    assertThat(diagram.count(both)).isEqualTo(BigInteger.TWO);
+    assertThat(diagram.contains(both, new int[] {2, 1, 0})).isTrue();
+    assertThat(diagram.contains(both, new int[] {0, 1, 0})).isFalse();
+    assertThat(diagram.intersect(both, a)).isEqualTo(a);
+    assertThat(diagram.minus(both, a)).isEqualTo(b);
+    assertThat(diagram.minus(a, a)).isEqualTo(DecisionDiagram.EMPTY);
+    // Smallest value from the top level down
+    assertThat(diagram.pick(both)).containsExactly(2, 1, 0);
+    assertThat(diagram.restrict(both, new int[] {1, 0, 0}, new int[] {2, 1, 0})).isEqualTo(b);
+    assertThat(diagram.maxValues(both)).containsExactly(2, 1, 2);
+  }
+
+  @Test
+  @DisplayName("Should encode exponentially many markings in linearly many nodes")
+  void shouldSaturateConcurrentBranches() {
+    SymbolicStateSpace small = explore(fanOut(10));
+    SymbolicStateSpace large = explore(fanOut(60));
+
+    // Before the fork, done, and three states per branch in between
+    assertThat(small.isComplete()).isTrue();
+    assertThat(small.count(small.reachable())).isEqualTo(BigInteger.valueOf(3).pow(10).add(BigInteger.TWO));
+    assertThat(large.isComplete()).isTrue();
+    assertThat(large.count(large.reachable())).isEqualTo(BigInteger.valueOf(3).pow(60).add(BigInteger.TWO));
+    assertThat(large.getReachableSize()).isLessThan(7 * small.getReachableSize());
+  }
+
+  @Test
+  @DisplayName("Should select dead markings and find replayable paths to them")
+  void shouldFindPathsToDeadMarkings() {
+    CompiledPetriNet net = fanOut(20);
+    SymbolicStateSpace space = explore(net);
+    int done = net.placeIndex("p_done");
+    int[] doneMin = new int[net.getPlaceCount()];
+    int[] noMax = new int[net.getPlaceCount()];
+    doneMin[done] = 1;
+    Arrays.fill(noMax, Integer.MAX_VALUE);
+    int terminal = space.restrict(space.reachable(), doneMin, noMax);
+
+    int stuck = space.minus(space.dead(), terminal);
+    int[] path = space.witnessPath(stuck);
+
+    // Every combination of failed branches, except none failing, gets stuck
+    assertThat(space.count(stuck)).isEqualTo(BigInteger.TWO.pow(20).subtract(BigInteger.ONE));
+    assertThat(space.count(terminal)).isEqualTo(BigInteger.ONE);
+    int[] tokens = net.initialTokenVector();
+    for (int transition : path) {
+      assertThat(net.isEnabled(transition, tokens)).isTrue();
+      tokens = net.fire(transition, tokens);
+    }
+    assertThat(net.hasEnabledTransition(tokens)).isFalse();
+    assertThat(tokens[done]).isZero();
+    assertThat(space.canReach(terminal)).isNotEqualTo(space.reachable());
+    assertThat(space.canReach(space.dead())).isEqualTo(space.reachable());
+    assertThat(space.enabled(net.transitionIndex("t_join"))).isNotEqualTo(DecisionDiagram.EMPTY);
+  }
+
+  @Test
+  @DisplayName("Should find the bottom component a run cannot leave")
+  void shouldFindBottomComponents() {
+    CompiledPetriNet net =
+        PetriNet.builder()
+            .name("Retry Loop")
+            .addPlace(new Place("p_start"))
+            .addPlace(new Place("l1"))
+            .addPlace(new Place("l2"))
+            .addPlace(new Place("p_done"))
+            .addTransition(new Transition("t_loop"))
+            .addTransition(new Transition("t_finish"))
+            .addTransition(new Transition("t_retry"))
+            .addTransition(new Transition("t_back"))
+            .addArc("p_start", "t_loop")
+            .addArc("t_loop", "l1")
+            .addArc("l1", "t_retry")
+            .addArc("t_retry", "l2")
+            .addArc("l2", "t_back")
+            .addArc("t_back", "l1")
+            .addArc("p_start", "t_finish")
+            .addArc("t_finish", "p_done")
+            .addInitialToken("p_start", 1)
+            .build()
+            .compile();
+    SymbolicStateSpace space = explore(net);
+
+    int livelocked = space.minus(space.reachable(), space.canReach(space.dead()));
+    int component = space.bottomComponent(livelocked);
+
+    // The retry cycle between l1 and l2 never reaches p_done
+    assertThat(space.count(space.reachable())).isEqualTo(BigInteger.valueOf(4));
+    assertThat(component).isEqualTo(livelocked);
+    assertThat(space.reachableFrom(component)).isEqualTo(component);
+    assertThat(space.markings(component, 10))
+        .extracting(tokens -> tokens[net.placeIndex("l1")] + tokens[net.placeIndex("l2")])
+        .containsExactly(1, 1);
+    assertThat(space.witnessPath(component)).startsWith(net.transitionIndex("t_loop"));
+  }
+
+  @Test
+  @DisplayName("Should stop incomplete at the node and token limits")
+  void shouldStopAtLimits() {
+    CompiledPetriNet generator =
+        PetriNet.builder()
+            .name("Generator")
+            .addPlace(new Place("p_count"))
+            .addTransition(new Transition("t_gen"))
+            .addArc("t_gen", "p_count")
+            .build()
+            .compile();
+
+    assertThat(SymbolicStateSpace.explore(generator, 100_000, 50, () -> false).isComplete()).isFalse();
+    assertThat(SymbolicStateSpace.explore(fanOut(20), 20, 100, () -> false).isComplete()).isFalse();
+    assertThat(SymbolicStateSpace.explore(fanOut(20), 100_000, 100, () -> true).isTimeout()).isTrue();
+  }
+}
@@ -0,0 +1,166 @@
+/* Copyright (c) 2025 Rishabh Pathak. Licensed under the MIT License. */
+
+package core.petri.validation;
+
+import static org.assertj.core.api.Assertions.*;
+
+import core.petri.CompiledPetriNet;
+import core.petri.PetriNet;
+import core.petri.Place;
+import core.petri.Transition;
+import core.petri.validation.PetriNetValidationResult.PetriValidationStatus;
+import core.petri.validation.PetriNetValidationResult.StateStorage;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for TemporalPropertyChecker and TemporalFormula
+ *
+ * Tests cover:
+ * - Parsing LTL and CTL formulas and rejecting malformed ones
+ * - LTL violations reported as a path followed by a repeated cycle
+ * - CTL labelling, with early decisions and witness paths for AG
+ * - Inconclusive results when the state bound is reached
+ *
+ * @author Obvian Labs
+ * @since POC Phase 1
+ */
+@DisplayName("TemporalPropertyChecker Tests")
+class TemporalPropertyCheckerTest {
+
+  /** A client requests and waits for a response; the server may retry forever instead */
+  private static CompiledPetriNet requests() {
+    return PetriNet.builder()
+        .name("Requests")
+        .addPlace(new Place("p_idle"))
+        .addPlace(new Place("p_waiting"))
+        .addTransition(new Transition("t_request"))
+        .addTransition(new Transition("t_respond"))
+        .addTransition(new Transition("t_retry"))
+        .addArc("p_idle", "t_request")
+        .addArc("t_request", "p_waiting")
+        .addArc("p_waiting", "t_respond")
+        .addArc("t_respond", "p_idle")
+        .addArc("p_waiting", "t_retry")
+        .addArc("t_retry", "p_waiting")
+        .addInitialToken("p_idle", 1)
+        .build()
+        .compile();
+  }
+
+  private static TemporalPropertyChecker checker(CompiledPetriNet net, int stateBound) {
+    return new TemporalPropertyChecker(net, StateStorage.HEAP, stateBound, () -> false);
+  }
+
+  @Test
+  @DisplayName("Should parse LTL and CTL formulas")
+  void shouldParseFormulas() {
+    TemporalFormula response = TemporalFormula.parse("G (fired(t_request) -> F fired(t_respond))");
+    TemporalFormula recovery = TemporalFormula.parse("AG EF marked(p_idle)");
+    TemporalFormula until = TemporalFormula.parse("A[tokens(p_idle) >= 1 U marked(p_waiting)]");
+
+    assertThat(response.isCtl()).isFalse();
+    assertThat(response.toString()).isEqualTo("G (!fired(t_request) || F fired(t_respond))");
+    assertThat(response.atoms())
+        .extracting(TemporalFormula.Atom::getElement)
+        .containsExactly("t_request", "t_respond");
+    assertThat(recovery.isCtl()).isTrue();
+    assertThat(recovery.getKind()).isEqualTo(TemporalFormula.Kind.AG);
+    assertThat(until.getKind()).isEqualTo(TemporalFormula.Kind.AU);
+    assertThat(until.getLeft()).isEqualTo(TemporalFormula.parse("marked(p_idle)"));
+  }
+
+  @Test
+  @DisplayName("Should reject malformed formulas")
+  void shouldRejectMalformedFormulas() {
+    for (String text :
+        List.of("", "G (", "marked(p) U", "tokens(p) > x", "G marked(p) marked(q)", "E[marked(p)]")) {
+      assertThatThrownBy(() -> TemporalFormula.parse(text))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+    assertThatThrownBy(() -> TemporalFormula.parse("AG F marked(p)"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("path quantifier");
+    assertThatThrownBy(() -> checker(requests(), 100).check(TemporalFormula.parse("G marked(p_missing)")))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("p_missing");
+  }
+
+  @Test
+  @DisplayName("Should report an LTL violation as a path and a cycle")
+  void shouldReportLtlViolationAsLasso() {
+    TemporalPropertyChecker checker = checker(requests(), 100);
+
+    TemporalPropertyChecker.PropertyResult response =
+        checker.check(TemporalFormula.parse("G (fired(t_request) -> F fired(t_respond))"));
+    TemporalPropertyChecker.PropertyResult invariant =
+        checker.check(TemporalFormula.parse("G (marked(p_idle) || marked(p_waiting))"));
+    TemporalPropertyChecker.PropertyResult retries =
+        checker.check(TemporalFormula.parse("G (fired(t_retry) -> X (fired(t_retry) || fired(t_respond)))"));
+
+    // Retrying forever after a request never responds
+    assertThat(response.getStatus()).isEqualTo(PetriValidationStatus.FAIL);
+    assertThat(response.getPath()).startsWith("t_request").doesNotContain("t_respond");
+    assertThat(response.getCycle()).containsExactly("t_retry");
+    assertThat(response.getMarking().getTokens("p_waiting")).isEqualTo(1);
+    assertThat(invariant.getStatus()).isEqualTo(PetriValidationStatus.PASS);
+    assertThat(invariant.getStatesExplored()).isEqualTo(2);
+    assertThat(retries.getStatus()).isEqualTo(PetriValidationStatus.PASS);
+  }
+
+  @Test
+  @DisplayName("Should label CTL formulas over the marking graph")
+  void shouldCheckCtlFormulas() {
+    TemporalPropertyChecker checker = checker(requests(), 100);
+
+    TemporalPropertyChecker.PropertyResult waitingNever =
+        checker.check(TemporalFormula.parse("AG tokens(p_waiting) <= 0"));
+
+    assertThat(checker.check(TemporalFormula.parse("AG EF marked(p_idle)")).getStatus())
+        .isEqualTo(PetriValidationStatus.PASS);
+    assertThat(checker.check(TemporalFormula.parse("AF marked(p_waiting)")).getStatus())
+        .isEqualTo(PetriValidationStatus.PASS);
+    assertThat(checker.check(TemporalFormula.parse("A[marked(p_idle) U marked(p_waiting)]")).getStatus())
+        .isEqualTo(PetriValidationStatus.PASS);
+    assertThat(checker.check(TemporalFormula.parse("EF deadlock")).getStatus())
+        .isEqualTo(PetriValidationStatus.FAIL);
+    assertThat(checker.check(TemporalFormula.parse("EG !fired(t_respond)")).getStatus())
+        .isEqualTo(PetriValidationStatus.PASS);
+    assertThat(waitingNever.getStatus()).isEqualTo(PetriValidationStatus.FAIL);
+    assertThat(waitingNever.getPath()).containsExactly("t_request");
+    assertThat(waitingNever.getMarking().getTokens("p_waiting")).isEqualTo(1);
+
+    TemporalPropertyChecker.PropertyResult response =
+        checker.check(TemporalFormula.parse("AG (fired(t_request) -> AF fired(t_respond))"));
+    assertThat(response.getStatus()).isEqualTo(PetriValidationStatus.FAIL);
+    assertThat(response.getPath()).containsExactly("t_request");
+  }
+
+  @Test
+  @DisplayName("Should be inconclusive when the state bound cuts the search")
+  void shouldBeInconclusiveAtStateBound() {
+    CompiledPetriNet generator =
+        PetriNet.builder()
+            .name("Generator")
+            .addPlace(new Place("p_count"))
+            .addTransition(new Transition("t_gen"))
+            .addArc("t_gen", "p_count")
+            .build()
+            .compile();
+    TemporalPropertyChecker checker = checker(generator, 10);
+
+    TemporalPropertyChecker.PropertyResult bounded =
+        checker.check(TemporalFormula.parse("AG tokens(p_count) < 5"));
+
+    assertThat(checker.check(TemporalFormula.parse("G tokens(p_count) >= 0")).getStatus())
+        .isEqualTo(PetriValidationStatus.INCONCLUSIVE_BOUND);
+    assertThat(checker.check(TemporalFormula.parse("AG EF tokens(p_count) == 0")).getStatus())
+        .isEqualTo(PetriValidationStatus.INCONCLUSIVE_BOUND);
+    // Violations and witnesses found within the bound are still definitive
+    assertThat(bounded.getStatus()).isEqualTo(PetriValidationStatus.FAIL);
+    assertThat(bounded.getPath()).hasSize(5);
+    assertThat(checker.check(TemporalFormula.parse("EF tokens(p_count) >= 5")).getStatus())
+        .isEqualTo(PetriValidationStatus.PASS);
+  }
+}
@@ -0,0 +1,176 @@
+/* Copyright (c) 2025 Rishabh Pathak. Licensed under the MIT License. */
+
+package core.petri.validation;
+
+import static org.assertj.core.api.Assertions.*;
+
+import core.petri.CompiledPetriNet;
+import core.petri.PetriNet;
+import core.petri.Place;
+import core.petri.Transition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for Unfolding
+ *
+ * Tests cover:
+ * - Prefix size linear in the number of concurrent branches
+ * - Cut-off events closing cycles
+ * - Dead configurations found as deadlock and terminal runs
+ * - Rejection of nets that are not safe
+ *
+ * @author Obvian Labs
+ * @since POC Phase 1
+ */
+@DisplayName("Unfolding Tests")
+class UnfoldingTest {
+
+  /** p_start forks into n branches that each run one step and join into p_done */
+  private static CompiledPetriNet fanOut(int branches) {
+    PetriNet.Builder builder =
+        PetriNet.builder()
+            .name("Fan-out")
+            .addPlace(new Place("p_start"))
+            .addPlace(new Place("p_done"))
+            .addTransition(new Transition("t_fork"))
+            .addTransition(new Transition("t_join"))
+            .addArc("p_start", "t_fork")
+            .addArc("t_join", "p_done")
+            .addInitialToken("p_start", 1);
+    for (int branch = 0; branch < branches; branch++) {
+      builder
+          .addPlace(new Place("ready_" + branch))
+          .addPlace(new Place("deployed_" + branch))
+          .addTransition(new Transition("t_deploy_" + branch))
+          .addArc("t_fork", "ready_" + branch)
+          .addArc("ready_" + branch, "t_deploy_" + branch)
+          .addArc("t_deploy_" + branch, "deployed_" + branch)
+          .addArc("deployed_" + branch, "t_join");
+    }
+    return builder.build().compile();
+  }
+
+  @Test
+  @DisplayName("Should unfold concurrent branches into one event each")
+  void shouldUnfoldConcurrentBranchesLinearly() {
+    CompiledPetriNet net = fanOut(30);
+
+    Unfolding unfolding = Unfolding.unfold(net, 1000, () -> false);
+
+    // 2^30 interleavings, 32 events
+    assertThat(unfolding.isComplete()).isTrue();
+    assertThat(unfolding.getEventCount()).isEqualTo(32);
+    assertThat(unfolding.getCutoffCount()).isZero();
+    assertThat(unfolding.occurringTransitions()).containsOnly(true);
+    Unfolding.Run done = unfolding.runMarking(place -> net.placeId(place).equals("p_done"));
+    assertThat(done.getTransitions()).hasSize(32);
+    assertThat(done.getTokens()[net.placeIndex("p_done")]).isEqualTo(1);
+
+    Unfolding truncated = Unfolding.unfold(net, 10, () -> false);
+    assertThat(truncated.isComplete()).isFalse();
+    assertThat(truncated.getEventCount()).isEqualTo(10);
+  }
+
+  @Test
+  @DisplayName("Should cut off events that return to an earlier marking")
+  void shouldCutOffCycles() {
+    CompiledPetriNet ring =
+        PetriNet.builder()
+            .name("Ring")
+            .addPlace(new Place("p0"))
+            .addPlace(new Place("p1"))
+            .addTransition(new Transition("t_forward"))
+            .addTransition(new Transition("t_back"))
+            .addArc("p0", "t_forward")
+            .addArc("t_forward", "p1")
+            .addArc("p1", "t_back")
+            .addArc("t_back", "p0")
+            .addInitialToken("p0", 1)
+            .build()
+            .compile();
+
+    Unfolding unfolding = Unfolding.unfold(ring, 1000, () -> false);
+
+    assertThat(unfolding.isComplete()).isTrue();
+    assertThat(unfolding.getEventCount()).isEqualTo(2);
+    assertThat(unfolding.getCutoffCount()).isEqualTo(1);
+    assertThat(unfolding.findDeadRuns(tokens -> false, true, false, () -> false).getDeadlock())
+        .isNull();
+  }
+
+  @Test
+  @DisplayName("Should find dead configurations behind conflicts")
+  void shouldFindDeadRuns() {
+    // A concurrent audit runs alongside a choice between finishing and getting stuck
+    CompiledPetriNet net =
+        PetriNet.builder()
+            .name("Choice")
+            .addPlace(new Place("p_start"))
+            .addPlace(new Place("p_approved"))
+            .addPlace(new Place("p_rejected"))
+            .addPlace(new Place("p_audit"))
+            .addPlace(new Place("p_audited"))
+            .addPlace(new Place("p_done"))
+            .addTransition(new Transition("t_approve"))
+            .addTransition(new Transition("t_reject"))
+            .addTransition(new Transition("t_audit"))
+            .addTransition(new Transition("t_finish"))
+            .addArc("p_start", "t_approve")
+            .addArc("p_start", "t_reject")
+            .addArc("t_approve", "p_approved")
+            .addArc("t_reject", "p_rejected")
+            .addArc("p_audit", "t_audit")
+            .addArc("t_audit", "p_audited")
+            .addArc("p_approved", "t_finish")
+            .addArc("p_audited", "t_finish")
+            .addArc("t_finish", "p_done")
+            .addInitialToken("p_start", 1)
+            .addInitialToken("p_audit", 1)
+            .build()
+            .compile();
+    int done = net.placeIndex("p_done");
+
+    Unfolding.DeadRuns runs =
+        Unfolding.unfold(net, 1000, () -> false)
+            .findDeadRuns(tokens -> tokens[done] > 0, true, true, () -> false);
+
+    assertThat(runs.isTimeout()).isFalse();
+    assertThat(runs.getDeadlock().getTransitions())
+        .containsExactlyInAnyOrder(net.transitionIndex("t_reject"), net.transitionIndex("t_audit"));
+    assertThat(runs.getDeadlock().getTokens()[net.placeIndex("p_rejected")]).isEqualTo(1);
+    assertThat(runs.getTerminal().getTransitions()).hasSize(3);
+    assertThat(runs.getTerminal().getTokens()[done]).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should not unfold nets that are not safe")
+  void shouldRejectUnsafeNets() {
+    CompiledPetriNet overflow =
+        PetriNet.builder()
+            .name("Overflow")
+            .addPlace(new Place("p0"))
+            .addPlace(new Place("p1"))
+            .addTransition(new Transition("t"))
+            .addArc("p0", "t")
+            .addArc("t", "p1")
+            .addInitialToken("p0", 1)
+            .addInitialToken("p1", 1)
+            .build()
+            .compile();
+    CompiledPetriNet weighted =
+        PetriNet.builder()
+            .name("Weighted")
+            .addPlace(new Place("p0"))
+            .addPlace(new Place("p1"))
+            .addTransition(new Transition("t"))
+            .addArc("p0", "t")
+            .addArc("t", "p1", 2)
+            .addInitialToken("p0", 1)
+            .build()
+            .compile();
+
+    assertThat(Unfolding.unfold(overflow, 1000, () -> false)).isNull();
+    assertThat(Unfolding.unfold(weighted, 1000, () -> false)).isNull();
+  }
+}
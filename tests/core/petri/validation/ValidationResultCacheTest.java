@@ -0,0 +1,194 @@
+/* Copyright (c) 2025 Rishabh Pathak. Licensed under the MIT License. */
+
+package core.petri.validation;
+
+import static org.assertj.core.api.Assertions.*;
+
+import core.petri.PetriNet;
+import core.petri.Place;
+import core.petri.Transition;
+import core.petri.validation.PetriNetValidationResult.ValidationConfig;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for ValidationResultCache
+ *
+ * Tests cover:
+ * - Hits for structurally identical nets under the same config
+ * - Misses when the config changes
+ * - Coalescing of concurrent identical requests
+ * - Timeout and error results not being retained
+ * - Second tier lookup and store
+ *
+ * @author Obvian Labs
+ * @since POC Phase 1
+ */
+@DisplayName("ValidationResultCache Tests")
+class ValidationResultCacheTest {
+
+  private static PetriNet linearNet() {
+    return PetriNet.builder()
+        .name("Linear")
+        .addPlace(new Place("p_start"))
+        .addPlace(new Place("p_done"))
+        .addTransition(new Transition("t_run"))
+        .addArc("p_start", "t_run")
+        .addArc("t_run", "p_done")
+        .addInitialToken("p_start", 1)
+        .build();
+  }
+
+  private static ValidationResultCache newCache(ValidationResultCache.SecondTier secondTier) {
+    return new ValidationResultCache(100, Duration.ofMinutes(5), secondTier);
+  }
+
+  @Test
+  @DisplayName("Should return the cached result for a rebuilt identical net")
+  void shouldHitForIdenticalNet() {
+    ValidationResultCache cache = newCache(null);
+    PetriNetValidator validator = new PetriNetValidator(cache);
+
+    PetriNetValidationResult first = validator.validate(linearNet(), null);
+    PetriNetValidationResult second = validator.validate(linearNet(), null);
+
+    assertThat(second).isSameAs(first);
+    assertThat(cache.getMissCount()).isEqualTo(1);
+    assertThat(cache.getLocalHitCount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should miss when the validation config differs")
+  void shouldMissForDifferentConfig() {
+    ValidationResultCache cache = newCache(null);
+    PetriNetValidator validator = new PetriNetValidator(cache);
+
+    validator.validate(linearNet(), ValidationConfig.defaultConfig());
+    validator.validate(linearNet(), new ValidationConfig(100, 30000, null));
+
+    assertThat(cache.getMissCount()).isEqualTo(2);
+    assertThat(cache.getSize()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("Should run a single validation for concurrent identical requests")
+  void shouldCoalesceConcurrentRequests() throws Exception {
+    ValidationResultCache cache = newCache(null);
+    AtomicInteger runs = new AtomicInteger();
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    PetriNet net = linearNet();
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      Future<PetriNetValidationResult> leader =
+          executor.submit(
+              () ->
+                  cache.get(
+                      net,
+                      ValidationConfig.defaultConfig(),
+                      (petriNet, config) -> {
+                        runs.incrementAndGet();
+                        started.countDown();
+                        try {
+                          release.await();
+                        } catch (InterruptedException e) {
+                          Thread.currentThread().interrupt();
+                        }
+                        return new PetriNetValidator().validate(petriNet, config);
+                      }));
+      assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+      List<Future<PetriNetValidationResult>> followers = new ArrayList<>();
+      for (int i = 0; i < 3; i++) {
+        followers.add(
+            executor.submit(
+                () ->
+                    cache.get(
+                        net,
+                        ValidationConfig.defaultConfig(),
+                        (petriNet, config) -> {
+                          runs.incrementAndGet();
+                          return new PetriNetValidator().validate(petriNet, config);
+                        })));
+      }
+      // Followers block on the leader's pending result
+      while (cache.getCoalescedCount() < 3) {
+        Thread.sleep(10);
+      }
+      release.countDown();
+
+      PetriNetValidationResult result = leader.get(5, TimeUnit.SECONDS);
+      for (Future<PetriNetValidationResult> follower : followers) {
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isSameAs(result);
+      }
+      assertThat(runs.get()).isEqualTo(1);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  @DisplayName("Should not retain timeout or error results")
+  void shouldNotRetainNonDeterministicResults() {
+    ValidationResultCache cache = newCache(null);
+    PetriNet net = linearNet();
+
+    PetriNetValidationResult timedOut =
+        PetriNetValidationResult.builder()
+            .petriNetId(net.getId())
+            .addCheck(
+                PetriNetValidationResult.CheckType.DEADLOCK_DETECTION,
+                PetriNetValidationResult.PetriValidationStatus.INCONCLUSIVE_TIMEOUT,
+                "Timed out")
+            .build();
+    cache.get(net, ValidationConfig.defaultConfig(), (petriNet, config) -> timedOut);
+    cache.get(
+        net,
+        ValidationConfig.defaultConfig(),
+        (petriNet, config) -> PetriNetValidationResult.failure(petriNet.getId(), "error", null));
+
+    assertThat(cache.getSize()).isZero();
+    assertThat(cache.getMissCount()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("Should consult and populate the second tier")
+  void shouldUseSecondTier() {
+    Map<String, PetriNetValidationResult> shared = new HashMap<>();
+    ValidationResultCache.SecondTier secondTier =
+        new ValidationResultCache.SecondTier() {
+          @Override
+          public PetriNetValidationResult get(String key) {
+            return shared.get(key);
+          }
+
+          @Override
+          public void put(String key, PetriNetValidationResult result, Duration ttl) {
+            shared.put(key, result);
+          }
+        };
+
+    PetriNetValidationResult computed = new PetriNetValidator(newCache(secondTier)).validate(linearNet(), null);
+    assertThat(shared).hasSize(1).containsValue(computed);
+
+    // A second node with an empty local tier reads the shared result
+    ValidationResultCache otherNode = newCache(secondTier);
+    PetriNetValidationResult fetched = new PetriNetValidator(otherNode).validate(linearNet(), null);
+
+    assertThat(fetched).isSameAs(computed);
+    assertThat(otherNode.getSecondTierHitCount()).isEqualTo(1);
+    assertThat(otherNode.getMissCount()).isZero();
+  }
+}